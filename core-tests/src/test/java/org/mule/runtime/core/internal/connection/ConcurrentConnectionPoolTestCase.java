@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Thread.State.WAITING;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentConnectionPoolTestCase extends AbstractMuleContextTestCase {
+
+  private static final int MAX_ACTIVE = 2;
+
+  private ConnectionProvider<Object> connectionProvider;
+  private ConcurrentConnectionPool<Object> pool;
+  private ExecutorService executor;
+
+  @Before
+  public void before() throws Exception {
+    connectionProvider = mock(ConnectionProvider.class);
+    when(connectionProvider.connect()).thenAnswer(i -> mock(Lifecycle.class));
+    when(connectionProvider.validate(any())).thenReturn(ConnectionValidationResult.success());
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void after() throws Exception {
+    executor.shutdownNow();
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  public void returnedConnectionIsReused() throws Exception {
+    initPool(new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, 0, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE));
+
+    Object connection = pool.borrowObject();
+    assertThat(pool.getActive(), is(1));
+    pool.returnObject(connection);
+    assertThat(pool.getActive(), is(0));
+    assertThat(pool.getIdle(), is(1));
+
+    assertThat(pool.borrowObject(), is(sameInstance(connection)));
+    verify(connectionProvider).connect();
+    assertThat(pool.getWaitTime().getCount(), is(2L));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void exhaustedFails() throws Exception {
+    initPool(new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, 0, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE));
+
+    pool.borrowObject();
+    pool.borrowObject();
+    pool.borrowObject();
+  }
+
+  @Test
+  public void exhaustedWaitsForReturn() throws Exception {
+    initPool(new PoolingProfile(1, 1, 0, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    Object connection = pool.borrowObject();
+    Future<Object> waiting = borrowFromExecutor();
+    pool.returnObject(connection);
+
+    assertThat(waiting.get(RECEIVE_TIMEOUT, MILLISECONDS), is(sameInstance(connection)));
+  }
+
+  @Test
+  public void exhaustedWaitsForInvalidation() throws Exception {
+    initPool(new PoolingProfile(1, 1, 0, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    Object connection = pool.borrowObject();
+    Future<Object> waiting = borrowFromExecutor();
+    pool.invalidateObject(connection);
+
+    assertThat(waiting.get(RECEIVE_TIMEOUT, MILLISECONDS), is(not(sameInstance(connection))));
+    verify(connectionProvider).disconnect(connection);
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void exhaustedWaitTimesOut() throws Exception {
+    initPool(new PoolingProfile(1, 1, 10, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE));
+
+    pool.borrowObject();
+    pool.borrowObject();
+  }
+
+  @Test
+  public void warmUp() throws Exception {
+    initPool(new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, 0, WHEN_EXHAUSTED_FAIL, INITIALISE_ALL));
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> pool.getIdle() == MAX_ACTIVE));
+    pool.borrowObject();
+    pool.borrowObject();
+    verify(connectionProvider, times(MAX_ACTIVE)).connect();
+  }
+
+  @Test
+  public void maxIdle() throws Exception {
+    initPool(new PoolingProfile(MAX_ACTIVE, 1, 0, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE));
+
+    Object connection1 = pool.borrowObject();
+    Object connection2 = pool.borrowObject();
+    pool.returnObject(connection1);
+    pool.returnObject(connection2);
+
+    assertThat(pool.getIdle(), is(1));
+    verify(connectionProvider).disconnect(connection2);
+  }
+
+  @Test
+  public void closeDestroysIdleConnections() throws Exception {
+    initPool(new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, 0, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE));
+
+    Object idle = pool.borrowObject();
+    Object borrowed = pool.borrowObject();
+    pool.returnObject(idle);
+
+    pool.close();
+    verify(connectionProvider).disconnect(idle);
+    verify(connectionProvider, never()).disconnect(borrowed);
+
+    pool.returnObject(borrowed);
+    verify(connectionProvider).disconnect(borrowed);
+  }
+
+  private Future<Object> borrowFromExecutor() {
+    AtomicReference<Thread> borrower = new AtomicReference<>();
+    Future<Object> borrowed = executor.submit(() -> {
+      borrower.set(currentThread());
+      return pool.borrowObject();
+    });
+
+    new PollingProber().check(new JUnitLambdaProbe(() -> borrower.get() != null && borrower.get().getState() == WAITING));
+    return borrowed;
+  }
+
+  private void initPool(PoolingProfile poolingProfile) {
+    pool = new ConcurrentConnectionPool<>(connectionProvider, poolingProfile,
+                                          muleContext.getSchedulerService().ioScheduler());
+    pool.start();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase.POST_INVOKE;
+import static org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase.PRE_INVOKE;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.FlowTraceRecord;
+import org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+@SmallTest
+public class SampledFlowTraceRecorderTestCase extends AbstractMuleTestCase {
+
+  private final Component processor = mock(Component.class);
+
+  @Test
+  public void recordAndDrain() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(1, 16);
+    recorder.setEnabled(true);
+    CoreEvent event = newEvent();
+    recorder.record(event, processor, PRE_INVOKE);
+    recorder.record(event, processor, POST_INVOKE);
+
+    List<FlowTraceRecord> records = new ArrayList<>();
+    assertThat(recorder.drain(records::add), is(2));
+    assertThat(phases(records), contains(PRE_INVOKE, POST_INVOKE));
+    assertThat(records.get(0).getEventId(), is(event.getContext().getId()));
+    assertThat(records.get(0).getProcessor(), sameInstance(processor));
+
+    assertThat(recorder.drain(records::add), is(0));
+  }
+
+  @Test
+  public void fullBufferDropsRecords() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(1, 4);
+    recorder.setEnabled(true);
+    CoreEvent event = newEvent();
+    for (int i = 0; i < 6; ++i) {
+      recorder.record(event, processor, PRE_INVOKE);
+    }
+
+    assertThat(recorder.getDropped(), is(2L));
+    assertThat(recorder.drain(record -> {
+    }), is(4));
+
+    // Draining frees the buffer
+    recorder.record(event, processor, PRE_INVOKE);
+    assertThat(recorder.drain(record -> {
+    }), is(1));
+  }
+
+  @Test
+  public void recordsFromOtherThreads() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(1, 16);
+    recorder.setEnabled(true);
+    CoreEvent event = newEvent();
+    Thread thread = new Thread(() -> recorder.record(event, processor, PRE_INVOKE));
+    thread.start();
+    thread.join();
+    recorder.record(event, processor, PRE_INVOKE);
+
+    assertThat(recorder.drain(record -> {
+    }), is(2));
+  }
+
+  @Test
+  public void disabledDoesNotRecord() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(1, 16);
+    CoreEvent event = newEvent();
+    recorder.record(event, processor, PRE_INVOKE);
+
+    assertThat(recorder.drain(record -> {
+    }), is(0));
+  }
+
+  @Test
+  public void disposeDiscardsRecords() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(1, 16);
+    recorder.setEnabled(true);
+    CoreEvent event = newEvent();
+    recorder.record(event, processor, PRE_INVOKE);
+    recorder.dispose();
+
+    assertThat(recorder.isEnabled(), is(false));
+    assertThat(recorder.drain(record -> {
+    }), is(0));
+
+    // The buffer of this thread was closed, so it is not used again even if the recorder is enabled
+    recorder.setEnabled(true);
+    recorder.record(event, processor, PRE_INVOKE);
+    assertThat(recorder.drain(record -> {
+    }), is(0));
+  }
+
+  @Test
+  public void sampling() throws Exception {
+    SampledFlowTraceRecorder recorder = new SampledFlowTraceRecorder(0.1, 16);
+    int events = 2000;
+    int sampled = 0;
+    for (int i = 0; i < events; ++i) {
+      if (recorder.isSampled(newEvent())) {
+        ++sampled;
+      }
+    }
+    assertThat(sampled, allOf(greaterThan(events / 20), lessThan(events / 5)));
+  }
+
+  private List<Phase> phases(List<FlowTraceRecord> records) {
+    List<Phase> phases = new ArrayList<>();
+    records.forEach(record -> phases.add(record.getPhase()));
+    return phases;
+  }
+}
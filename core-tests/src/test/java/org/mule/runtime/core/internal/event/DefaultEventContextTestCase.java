@@ -63,6 +63,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -605,6 +606,32 @@ public class DefaultEventContextTestCase extends AbstractMuleContextTestCase {
     assertThat(callbacks, contains("onResponse", "onComplete", "onTerminated"));
   }
 
+  @Test
+  @Description("Parent EventContext completes and terminates exactly once when its child contexts complete concurrently.")
+  public void concurrentChildrenCompletion() throws Exception {
+    final int children = 1000;
+    AtomicInteger completions = new AtomicInteger();
+    AtomicInteger terminations = new AtomicInteger();
+    parent.onComplete((response, throwable) -> completions.incrementAndGet());
+    parent.onTerminated((response, throwable) -> terminations.incrementAndGet());
+
+    List<BaseEventContext> childContexts = new ArrayList<>();
+    for (int i = 0; i < children; ++i) {
+      childContexts.add(child(child(parent, empty()), empty()));
+    }
+
+    CoreEvent event = testEvent();
+    parent.success(event);
+    childContexts.parallelStream().forEach(childContext -> {
+      childContext.success(event);
+      childContext.getParentContext().get().success(event);
+    });
+
+    assertThat(completions.get(), is(1));
+    assertThat(terminations.get(), is(1));
+    assertParent(is(event), is(nullValue()), true, true);
+  }
+
   private void assertParent(Matcher<Object> eventMatcher, Matcher<Object> errorMatcher, boolean complete, boolean terminated) {
     assertThat(parentResultValue.get(), eventMatcher);
     assertThat(parentErrorValue.get(), errorMatcher);
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.Long.MAX_VALUE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.BUCKET_COUNT;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.bucketIndex;
+import static org.mule.runtime.core.internal.management.stats.LatencyHistogram.bucketUpperBound;
+
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram.Snapshot;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import org.junit.Test;
+
+public class LatencyHistogramTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void emptySnapshot() {
+    Snapshot snapshot = new LatencyHistogram().snapshot();
+    assertThat(snapshot.getCount(), is(0L));
+    assertThat(snapshot.getMean(), is(0L));
+    assertThat(snapshot.getValueAtPercentile(99), is(0L));
+  }
+
+  @Test
+  public void bucketsCoverAllValues() {
+    assertThat(bucketIndex(0), is(0));
+    assertThat(bucketIndex(MAX_VALUE), is(BUCKET_COUNT - 1));
+    assertThat(bucketUpperBound(BUCKET_COUNT - 1), is(MAX_VALUE));
+
+    for (long value = 1; value < 100000; value = value * 3 / 2 + 1) {
+      int index = bucketIndex(value);
+      assertThat(bucketUpperBound(index), greaterThanOrEqualTo(value));
+      assertThat(bucketUpperBound(index - 1), lessThan(value));
+    }
+  }
+
+  @Test
+  public void percentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 1000; ++i) {
+      histogram.record(i);
+    }
+
+    Snapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(1000L));
+    assertThat(snapshot.getMax(), is(1000L));
+    assertThat(snapshot.getMean(), is(500L));
+    assertThat(snapshot.getValueAtPercentile(50), allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(500L * 9 / 8)));
+    assertThat(snapshot.getValueAtPercentile(99), allOf(greaterThanOrEqualTo(990L), lessThanOrEqualTo(1000L)));
+    assertThat(snapshot.getValueAtPercentile(100), is(1000L));
+  }
+
+  @Test
+  public void snapshotAndReset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10);
+    histogram.record(-5);
+
+    Snapshot snapshot = histogram.snapshotAndReset();
+    assertThat(snapshot.getCount(), is(2L));
+    assertThat(snapshot.getTotal(), is(10L));
+    assertThat(histogram.snapshot().getCount(), is(0L));
+  }
+}
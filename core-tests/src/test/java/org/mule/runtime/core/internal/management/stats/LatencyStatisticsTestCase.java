@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mule.runtime.core.api.event.EventContextFactory.create;
+
+import org.mule.runtime.core.api.exception.NullExceptionHandler;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import org.junit.Test;
+
+public class LatencyStatisticsTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void intervalSnapshot() {
+    LatencyStatistics statistics = new LatencyStatistics("flow");
+    statistics.record(10);
+    statistics.recordError(20);
+
+    assertThat(statistics.snapshotInterval().getCount(), is(2L));
+    assertThat(statistics.snapshotInterval().getCount(), is(0L));
+
+    statistics.record(30);
+    assertThat(statistics.snapshotInterval().getMax(), is(30L));
+    assertThat(statistics.getCount(), is(3L));
+    assertThat(statistics.getErrors(), is(1L));
+    assertThat(statistics.snapshot().getMax(), is(30L));
+  }
+
+  @Test
+  public void clearedWithAllStatistics() {
+    AllStatistics allStatistics = new AllStatistics();
+    LatencyStatistics statistics = allStatistics.getFlowLatencyStatistics("flow");
+    assertThat(allStatistics.getFlowLatencyStatistics("flow"), is(sameInstance(statistics)));
+    assertThat(allStatistics.getFlowLatencyStatistics(), contains(statistics));
+
+    statistics.recordError(10);
+    allStatistics.clear();
+    assertThat(statistics.getCount(), is(0L));
+    assertThat(statistics.getErrors(), is(0L));
+  }
+
+  @Test
+  public void inFlightOnlyRecordedWhenEnabled() {
+    AllStatistics allStatistics = new AllStatistics();
+    LatencyStatistics statistics = allStatistics.getProcessorLatencyStatistics("flow/processors/0");
+    InFlightLatencyRecorder recorder = new InFlightLatencyRecorder(allStatistics, statistics);
+
+    BaseEventContext first = newEventContext();
+    BaseEventContext second = newEventContext();
+
+    recorder.start(first);
+    recorder.success(first);
+    assertThat(statistics.getCount(), is(0L));
+
+    allStatistics.setEnabled(true);
+    recorder.start(first);
+    recorder.start(second);
+    recorder.success(first);
+    recorder.error(second);
+    recorder.success(newEventContext());
+    assertThat(statistics.getCount(), is(2L));
+    assertThat(statistics.getErrors(), is(1L));
+  }
+
+  private BaseEventContext newEventContext() {
+    return (BaseEventContext) create("id", LatencyStatisticsTestCase.class.getName(), TEST_CONNECTOR_LOCATION,
+                                     NullExceptionHandler.getInstance());
+  }
+}
@@ -11,13 +11,21 @@ import static java.util.Optional.empty;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.core.api.management.stats.RouterStatistics.TYPE_OUTBOUND;
+import static org.mule.runtime.core.internal.routing.ChoiceRouter.OTHERWISE_ROUTE;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
 import static org.mule.tck.util.MuleContextUtils.eventBuilder;
 
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.management.stats.RouterStatistics;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
@@ -118,6 +126,66 @@ public class ChoiceRouterTestCase extends AbstractReactiveProcessorTestCase {
     assertThat(process(choiceRouter, zapEvent()).getMessage().getPayload().getValue(), is("zap:bar"));
   }
 
+  @Test
+  public void testDecisionTable() throws Exception {
+    choiceRouter.addRoute(payloadPazExpression(), newChain(empty(), new TestMessageProcessor("paz")));
+    choiceRouter.addRoute(payloadZapExpression(), newChain(empty(), new TestMessageProcessor("bar")));
+    choiceRouter.addRoute("payload == 'zap'", newChain(empty(), new TestMessageProcessor("unreachable")));
+    choiceRouter.setDefaultRoute(newChain(empty(), new TestMessageProcessor("default")));
+    choiceRouter.setMuleContext(muleContext);
+    choiceRouter.initialise();
+
+    assertThat(DecisionTable.compile(choiceRouter.getConditionalMessageProcessors()).isPresent(), is(true));
+    assertThat(process(choiceRouter, zapEvent()).getMessage().getPayload().getValue(), is("zap:bar"));
+    assertThat(process(choiceRouter, fooEvent()).getMessage().getPayload().getValue(), is("foo:default"));
+  }
+
+  @Test
+  public void testDecisionTableNonStringSelector() throws Exception {
+    choiceRouter.addRoute("payload == 'a'", newChain(empty(), new TestMessageProcessor("a")));
+    choiceRouter.addRoute("payload == 'b'", newChain(empty(), new TestMessageProcessor("b")));
+    choiceRouter.setMuleContext(muleContext);
+    choiceRouter.initialise();
+
+    CoreEvent inputEvent = eventBuilder(muleContext).message(of(1)).build();
+    assertThat(process(choiceRouter, inputEvent), is(inputEvent));
+  }
+
+  @Test
+  public void testDecisionTableBypassedAfterNonStringSelector() throws Exception {
+    choiceRouter.addRoute("payload == 'a'", newChain(empty(), new TestMessageProcessor("a")));
+    choiceRouter.addRoute("payload == 'b'", newChain(empty(), new TestMessageProcessor("b")));
+    DecisionTable table = DecisionTable.compile(choiceRouter.getConditionalMessageProcessors()).get();
+    ExpressionManager expressionManager = spy(muleContext.getExpressionManager());
+
+    CoreEvent nonStringEvent = eventBuilder(muleContext).message(of(1)).build();
+    assertThat(table.select(nonStringEvent, expressionManager, TEST_CONNECTOR_LOCATION).isDecided(), is(false));
+    assertThat(table.isBypassed(), is(true));
+
+    CoreEvent stringEvent = eventBuilder(muleContext).message(of("a")).build();
+    assertThat(table.select(stringEvent, expressionManager, TEST_CONNECTOR_LOCATION).isDecided(), is(false));
+    verify(expressionManager, times(1)).evaluate(anyString(), any(CoreEvent.class), any(ComponentLocation.class));
+  }
+
+  @Test
+  public void testRouteHits() throws Exception {
+    RouterStatistics statistics = new RouterStatistics(TYPE_OUTBOUND);
+    statistics.setEnabled(true);
+    choiceRouter.addRoute(payloadZapExpression(), newChain(empty(), new TestMessageProcessor("bar")));
+    choiceRouter.addRoute(payloadPazExpression(), newChain(empty(), new TestMessageProcessor("paz")));
+    choiceRouter.setRouterStatistics(statistics);
+    choiceRouter.setMuleContext(muleContext);
+    choiceRouter.initialise();
+
+    process(choiceRouter, zapEvent());
+    process(choiceRouter, zapEvent());
+    process(choiceRouter, fooEvent());
+
+    assertThat(statistics.getRouteHits(payloadZapExpression()), is(2L));
+    assertThat(statistics.getRouteHits(payloadPazExpression()), is(0L));
+    assertThat(statistics.getRouteHits(OTHERWISE_ROUTE), is(1L));
+  }
+
   protected CoreEvent fooEvent() throws MuleException {
     return eventBuilder(muleContext).message(of("foo")).build();
   }
@@ -25,6 +25,7 @@ import org.mule.runtime.api.store.PartitionableObjectStore;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.util.UUID;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.routing.correlation.InMemoryEventGroupLogFactory;
 import org.mule.runtime.core.internal.util.store.DefaultObjectStoreFactoryBean;
 import org.mule.runtime.core.privileged.event.PrivilegedEvent;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
@@ -268,6 +269,23 @@ public class EventGroupTestCase extends AbstractMuleContextTestCase {
     verify(objectStore).disposePartition(anyString());
   }
 
+  @Test
+  public void eventsLog() throws Exception {
+    EventGroup eventGroup = new EventGroup(UUID.getUUID(), muleContext);
+    eventGroup.initEventsLog(new InMemoryEventGroupLogFactory());
+
+    eventGroup.addEvent(eventBuilder(muleContext).message(Message.of("foo1")).build());
+    eventGroup.addEvent(eventBuilder(muleContext).message(Message.of("foo2")).build());
+    assertThat(eventGroup.size(), is(2));
+
+    CoreEvent[] events = eventGroup.toArray(true);
+    assertThat(events[0].getMessage().getPayload().getValue(), is("foo1"));
+    assertThat(events[1].getMessage().getPayload().getValue(), is("foo2"));
+
+    eventGroup.clear();
+    assertThat(eventGroup.size(), is(0));
+  }
+
   private static class MyEventGroup extends EventGroup {
 
     private static final long serialVersionUID = 1L;
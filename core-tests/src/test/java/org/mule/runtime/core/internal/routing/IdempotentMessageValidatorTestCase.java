@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.rules.ExpectedException.none;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -216,5 +217,78 @@ public class IdempotentMessageValidatorTestCase extends AbstractMuleContextTestC
     assertThat(idempotent.getObjectStore(), is(notNullValue()));
   }
 
+  @Test
+  public void filterSkipsStoreLookupForNewIds() throws Exception {
+    InMemoryObjectStore<String> store = new InMemoryObjectStore<>();
+    store.store("2", "2");
+    idempotent.setObjectStore(store);
+    idempotent.setFilterFalsePositiveRate(0.01);
+    idempotent.initialise();
+    idempotent.start();
+    try {
+      assertThat(idempotent.process(eventWithCorrelationId("1")), is(notNullValue()));
+      assertThat(store.contains("1"), is(true));
+      assertThat(idempotent.getFilterHits(), is(1L));
+
+      // Loaded from the store when started
+      try {
+        idempotent.process(eventWithCorrelationId("2"));
+        fail("Expected a duplicate message");
+      } catch (ValidationException e) {
+        assertThat(idempotent.getFilterMisses(), is(1L));
+      }
+    } finally {
+      idempotent.stop();
+    }
+  }
+
+  @Test
+  public void filterWithBatchedPersistence() throws Exception {
+    InMemoryObjectStore<String> store = new InMemoryObjectStore<>();
+    idempotent.setObjectStore(store);
+    idempotent.setFilterFalsePositiveRate(0.01);
+    idempotent.setPersistenceBatchSize(10);
+    idempotent.initialise();
+    idempotent.start();
+
+    assertThat(idempotent.process(eventWithCorrelationId("1")), is(notNullValue()));
+    try {
+      idempotent.process(eventWithCorrelationId("1"));
+      fail("Expected a duplicate message");
+    } catch (ValidationException e) {
+      // expected
+    }
+
+    idempotent.stop();
+    assertThat(store.contains("1"), is(true));
+  }
 
+  @Test
+  public void filterStoppedWithPendingIds() throws Exception {
+    InMemoryObjectStore<String> store = new InMemoryObjectStore<>();
+    idempotent.setObjectStore(store);
+    idempotent.setFilterFalsePositiveRate(0.01);
+    idempotent.setPersistenceBatchSize(10);
+    idempotent.initialise();
+    idempotent.start();
+
+    assertThat(idempotent.process(eventWithCorrelationId("1")), is(notNullValue()));
+    idempotent.stop();
+
+    // Events still in flight once stopped go to the store, where the pending IDs were flushed
+    assertThat(idempotent.process(eventWithCorrelationId("2")), is(notNullValue()));
+    assertThat(store.contains("2"), is(true));
+    try {
+      idempotent.process(eventWithCorrelationId("1"));
+      fail("Expected a duplicate message");
+    } catch (ValidationException e) {
+      // expected
+    }
+  }
+
+  private CoreEvent eventWithCorrelationId(String correlationId) {
+    final BaseEventContext context = mock(BaseEventContext.class);
+    when(context.getCorrelationId()).thenReturn(correlationId);
+    return CoreEvent.builder(context).message(of("OK")).build();
+  }
 }
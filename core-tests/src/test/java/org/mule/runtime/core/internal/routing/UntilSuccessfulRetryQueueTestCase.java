@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.message.Message.of;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.time.TimeoutService;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+import org.mule.tck.core.util.store.InMemoryObjectStore;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@SmallTest
+public class UntilSuccessfulRetryQueueTestCase extends AbstractMuleTestCase {
+
+  private static final int MAX_IN_FLIGHT = 3;
+
+  private final UntilSuccessfulRetryQueue queue =
+      new UntilSuccessfulRetryQueue(new InMemoryObjectStore<>(), mock(TimeoutService.class), mock(Scheduler.class),
+                                    MAX_IN_FLIGHT);
+
+  @Test
+  public void heldBackUntilSlotReleased() {
+    for (int i = 0; i < MAX_IN_FLIGHT; ++i) {
+      queue.reserveSlot().block();
+    }
+
+    AtomicBoolean reserved = new AtomicBoolean();
+    queue.reserveSlot().subscribe(v -> {
+    }, e -> {
+    }, () -> reserved.set(true));
+    assertThat(reserved.get(), is(false));
+    assertThat(queue.getWaitingForCapacity(), is(1));
+
+    queue.releaseSlot();
+    assertThat(reserved.get(), is(true));
+    assertThat(queue.getReservedSlots(), is(MAX_IN_FLIGHT));
+  }
+
+  @Test
+  public void cancelledWaiterDoesNotTakeSlot() {
+    for (int i = 0; i < MAX_IN_FLIGHT; ++i) {
+      queue.reserveSlot().block();
+    }
+
+    Disposable waiter = queue.reserveSlot().subscribe();
+    waiter.dispose();
+    assertThat(queue.getWaitingForCapacity(), is(0));
+
+    queue.releaseSlot();
+    assertThat(queue.getReservedSlots(), is(MAX_IN_FLIGHT - 1));
+  }
+
+  @Test
+  public void polledEventKeepsItsContext() throws Exception {
+    ObjectStore<CoreEvent> serializingStore = mock(ObjectStore.class);
+    TimeoutService timeoutService = mock(TimeoutService.class);
+    when(timeoutService.delay(any())).thenReturn(Mono.just(0L));
+    Scheduler scheduler = mock(Scheduler.class);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArguments()[0]).run();
+      return null;
+    }).when(scheduler).execute(any(Runnable.class));
+    UntilSuccessfulRetryQueue serializingQueue =
+        new UntilSuccessfulRetryQueue(serializingStore, timeoutService, scheduler, MAX_IN_FLIGHT);
+
+    BaseEventContext context = mock(BaseEventContext.class);
+    CoreEvent event = CoreEvent.builder(context).message(of("payload")).build();
+    // What a store that serializes the events gives back, detached from the context the caller waits on
+    CoreEvent deserialized = CoreEvent.builder(mock(BaseEventContext.class)).message(of("payload")).build();
+    when(serializingStore.retrieve(anyString())).thenReturn(deserialized);
+    when(serializingStore.remove(anyString())).thenReturn(deserialized);
+
+    String key = serializingQueue.offer(event).block();
+    CoreEvent polled = serializingQueue.poll(key, 0).block();
+    assertThat(polled.getContext(), sameInstance(context));
+    assertThat(polled.getMessage(), sameInstance(deserialized.getMessage()));
+    assertThat(serializingQueue.remove(key).block().getContext(), sameInstance(context));
+  }
+
+  @Test
+  public void capNeverExceededConcurrently() throws Exception {
+    int events = 200;
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(events);
+    ExecutorService executor = newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < events; ++i) {
+        executor.submit(() -> queue.reserveSlot().subscribe(null, null, () -> {
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          inFlight.decrementAndGet();
+          queue.releaseSlot();
+          done.countDown();
+        }));
+      }
+      assertThat(done.await(10, SECONDS), is(true));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(maxInFlight.get(), lessThanOrEqualTo(MAX_IN_FLIGHT));
+    assertThat(queue.getReservedSlots(), is(0));
+  }
+}
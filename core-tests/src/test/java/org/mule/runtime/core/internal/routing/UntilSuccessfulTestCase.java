@@ -10,8 +10,12 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -30,6 +34,7 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
 import org.mule.runtime.core.api.transaction.Transaction;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.privileged.processor.InternalProcessor;
+import org.mule.tck.core.util.store.InMemoryObjectStore;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import org.junit.After;
@@ -191,6 +196,60 @@ public class UntilSuccessfulTestCase extends AbstractMuleContextTestCase {
     assertEquals(60 * 1000, untilSuccessful.getMillisBetweenRetries());
   }
 
+  @Test
+  public void testTemporaryDeliveryFailureWithRetryQueue() throws Exception {
+    untilSuccessful = buildUntilSuccessful(10L);
+    untilSuccessful.setBackoffMultiplier(2);
+    untilSuccessful.setJitterFactor(0.5);
+    untilSuccessful.setMaxInFlightRetries(10);
+    untilSuccessful.setObjectStore(new InMemoryObjectStore<>());
+    targetMessageProcessor.setNumberOfFailuresToSimulate(untilSuccessful.getMaxRetries());
+    untilSuccessful.setMuleContext(muleContext);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    final CoreEvent testEvent = eventBuilder(muleContext).message(of("ERROR")).build();
+    assertSame(testEvent.getMessage(), untilSuccessful.process(testEvent).getMessage());
+    assertTargetEventReceived(testEvent);
+    assertEquals(targetMessageProcessor.getEventCount(), untilSuccessful.getMaxRetries() + 1);
+    assertThat(untilSuccessful.getRetryQueueDepth(), is(0));
+  }
+
+  @Test
+  public void testPermanentDeliveryFailureWithRetryQueue() throws Exception {
+    untilSuccessful = buildUntilSuccessful(10L);
+    untilSuccessful.setBackoffMultiplier(2);
+    untilSuccessful.setObjectStore(new InMemoryObjectStore<>());
+    targetMessageProcessor.setNumberOfFailuresToSimulate(Integer.MAX_VALUE);
+    untilSuccessful.setMuleContext(muleContext);
+    untilSuccessful.initialise();
+    untilSuccessful.start();
+
+    final CoreEvent testEvent = eventBuilder(muleContext).message(of("ERROR")).build();
+    expected.expect(MessagingException.class);
+    expected.expectCause(instanceOf(RetryPolicyExhaustedException.class));
+    try {
+      untilSuccessful.process(testEvent);
+    } finally {
+      assertEquals(1 + untilSuccessful.getMaxRetries(), targetMessageProcessor.getEventCount());
+      assertThat(untilSuccessful.getRetryQueueDepth(), is(0));
+    }
+  }
+
+  @Test
+  public void testExponentialBackoffWithJitter() throws Exception {
+    untilSuccessful.setMillisBetweenRetries(100);
+    untilSuccessful.setBackoffMultiplier(2);
+    untilSuccessful.setMaxMillisBetweenRetries(300);
+
+    assertThat(untilSuccessful.getDelayForRetry(1), is(100L));
+    assertThat(untilSuccessful.getDelayForRetry(2), is(200L));
+    assertThat(untilSuccessful.getDelayForRetry(3), is(300L));
+
+    untilSuccessful.setJitterFactor(0.1);
+    assertThat(untilSuccessful.getDelayForRetry(2), allOf(greaterThanOrEqualTo(180L), lessThanOrEqualTo(220L)));
+  }
+
   private void assertTargetEventReceived(CoreEvent request) throws MuleException {
     assertThat(targetMessageProcessor.getEventReceived(), not(nullValue()));
     assertLogicallyEqualEvents(request, targetMessageProcessor.getEventReceived());
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.correlation;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mule.tck.util.MuleContextUtils.eventBuilder;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileEventGroupLogFactoryTestCase extends AbstractMuleContextTestCase {
+
+  private static final String GROUP_KEY = "group/1";
+
+  @Rule
+  public TemporaryFolder logsFolder = new TemporaryFolder();
+
+  private FileEventGroupLogFactory logFactory;
+
+  @Override
+  protected void doSetUp() throws Exception {
+    logFactory = createLogFactory();
+  }
+
+  @Override
+  protected void doTearDown() throws Exception {
+    logFactory.dispose();
+  }
+
+  @Test
+  public void appendAndReadInArrivalOrder() throws Exception {
+    EventGroupLog log = logFactory.open(GROUP_KEY);
+    log.append(event("foo1"));
+    log.append(event("foo2"));
+    log.append(event("foo3"));
+
+    assertThat(log.size(), is(3));
+    assertThat(payloads(log.readAll()), contains("foo1", "foo2", "foo3"));
+    assertThat(logFactory.open(GROUP_KEY), sameInstance(log));
+  }
+
+  @Test
+  public void recoverAfterRestart() throws Exception {
+    EventGroupLog log = logFactory.open(GROUP_KEY);
+    log.append(event("foo1"));
+    log.append(event("foo2"));
+    logFactory.dispose();
+
+    logFactory = createLogFactory();
+    log = logFactory.open(GROUP_KEY);
+    assertThat(log.size(), is(2));
+    log.append(event("foo3"));
+    assertThat(payloads(log.readAll()), contains("foo1", "foo2", "foo3"));
+  }
+
+  @Test
+  public void discardIncompleteRecord() throws Exception {
+    EventGroupLog log = logFactory.open(GROUP_KEY);
+    log.append(event("foo1"));
+    log.append(event("foo2"));
+    logFactory.dispose();
+
+    File logFile = logsFolder.getRoot().listFiles()[0];
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(logFile, "rw")) {
+      randomAccessFile.setLength(randomAccessFile.length() - 1);
+    }
+
+    logFactory = createLogFactory();
+    log = logFactory.open(GROUP_KEY);
+    assertThat(log.size(), is(1));
+    assertThat(payloads(log.readAll()), contains("foo1"));
+  }
+
+  @Test
+  public void clear() throws Exception {
+    EventGroupLog log = logFactory.open(GROUP_KEY);
+    log.append(event("foo1"));
+    log.clear();
+
+    assertThat(log.size(), is(0));
+    assertThat(logsFolder.getRoot().listFiles().length, is(0));
+    assertThat(logFactory.open(GROUP_KEY).readAll(), is(empty()));
+  }
+
+  private FileEventGroupLogFactory createLogFactory() {
+    return new FileEventGroupLogFactory(logsFolder.getRoot(), muleContext.getObjectSerializer().getInternalProtocol());
+  }
+
+  private CoreEvent event(String payload) throws Exception {
+    return eventBuilder(muleContext).message(Message.of(payload)).build();
+  }
+
+  private List<Object> payloads(List<CoreEvent> events) {
+    return events.stream().map(event -> event.getMessage().getPayload().getValue()).collect(toList());
+  }
+}
@@ -54,6 +54,7 @@ import org.mule.runtime.core.api.util.func.CheckedConsumer;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.time.HashedWheelTimeoutService;
 import org.mule.runtime.core.privileged.processor.InternalProcessor;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
@@ -85,6 +86,7 @@ public abstract class AbstractForkJoinStrategyTestCase extends AbstractMuleConte
   protected ForkJoinStrategy strategy;
   protected ProcessingStrategy processingStrategy;
   protected Scheduler scheduler;
+  protected HashedWheelTimeoutService timeoutService;
   protected ErrorType timeoutErrorType;
 
   @Before
@@ -93,6 +95,8 @@ public abstract class AbstractForkJoinStrategyTestCase extends AbstractMuleConte
     when(processingStrategy.onPipeline(any(ReactiveProcessor.class)))
         .thenAnswer(invocation -> invocation.getArgumentAt(0, ReactiveProcessor.class));
     scheduler = muleContext.getSchedulerService().ioScheduler();
+    timeoutService = new HashedWheelTimeoutService();
+    timeoutService.setMuleContext(muleContext);
     timeoutErrorType = muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get();
     setupConcurrentProcessingStrategy();
     strategy = createStrategy(processingStrategy, Integer.MAX_VALUE, true, MAX_VALUE);
@@ -101,6 +105,7 @@ public abstract class AbstractForkJoinStrategyTestCase extends AbstractMuleConte
   @After
   public void tearDown() {
     scheduler.stop();
+    timeoutService.dispose();
   }
 
   protected abstract ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
@@ -34,7 +34,7 @@ public class CollectListForkJoinStrategyTestCase extends AbstractForkJoinStrateg
   protected ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
                                             long timeout) {
     return new CollectListForkJoinStrategyFactory().createForkJoinStrategy(processingStrategy, concurrency, delayErrors, timeout,
-                                                                           scheduler,
+                                                                           timeoutService,
                                                                            timeoutErrorType);
   }
 
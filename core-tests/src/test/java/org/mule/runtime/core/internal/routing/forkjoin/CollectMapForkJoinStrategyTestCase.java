@@ -35,7 +35,7 @@ public class CollectMapForkJoinStrategyTestCase extends AbstractForkJoinStrategy
   protected ForkJoinStrategy createStrategy(ProcessingStrategy processingStrategy, int concurrency, boolean delayErrors,
                                             long timeout) {
     return new CollectMapForkJoinStrategyFactory().createForkJoinStrategy(processingStrategy, concurrency, delayErrors, timeout,
-                                                                          scheduler,
+                                                                          timeoutService,
                                                                           timeoutErrorType);
   }
 
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.api.config.i18n.CoreMessages.authNoCredentials;
+
+import org.mule.runtime.api.security.Authentication;
+import org.mule.runtime.api.security.DefaultMuleAuthentication;
+import org.mule.runtime.api.security.UnauthorisedException;
+import org.mule.runtime.core.api.security.DefaultMuleCredentials;
+import org.mule.runtime.core.api.security.SecurityProvider;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class AuthenticationCacheTestCase extends AbstractMuleTestCase {
+
+  private final SecurityProvider provider = mock(SecurityProvider.class);
+  private final Authentication authenticated = mock(Authentication.class);
+  private final DefaultMuleSecurityManager securityManager = new DefaultMuleSecurityManager();
+  private final AuthenticationCache cache = new AuthenticationCache(60000, 60000, 10);
+
+  @Before
+  public void before() throws Exception {
+    when(provider.getName()).thenReturn("provider");
+    when(provider.supports(any())).thenReturn(true);
+    securityManager.addProvider(provider);
+    securityManager.setAuthenticationCache(cache);
+  }
+
+  @Test
+  public void cachesSuccessfulAuthentication() throws Exception {
+    when(authenticated.getPrincipal()).thenReturn("user");
+    when(authenticated.getCredentials()).thenReturn("secret");
+    when(authenticated.getProperties()).thenReturn(singletonMap("role", "admin"));
+    when(provider.authenticate(any())).thenReturn(authenticated);
+
+    // The provider's result is stripped of its credentials as the cached one is
+    Authentication provided = securityManager.authenticate(authentication("user", "secret"));
+    assertThat(provided, not(sameInstance(authenticated)));
+    assertThat(provided.getPrincipal(), is("user"));
+    assertThat(provided.getCredentials(), is(nullValue()));
+    assertThat(provided.getProperties(), hasEntry("role", "admin"));
+
+    Authentication cached = securityManager.authenticate(authentication("user", "secret"));
+    assertThat(cached, not(sameInstance(provided)));
+    assertThat(cached.getPrincipal(), is("user"));
+    assertThat(cached.getCredentials(), is(nullValue()));
+    assertThat(cached.getProperties(), hasEntry("role", "admin"));
+
+    // Each request gets its own copy
+    cached.getProperties().put("role", "guest");
+    Authentication otherCached = securityManager.authenticate(authentication("user", "secret"));
+    assertThat(otherCached, not(sameInstance(cached)));
+    assertThat(otherCached.getProperties(), hasEntry("role", "admin"));
+
+    verify(provider, times(1)).authenticate(any());
+    assertThat(cache.getHits(), is(2L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test
+  public void differentCredentialsAreAuthenticatedAgain() throws Exception {
+    when(provider.authenticate(any())).thenReturn(authenticated);
+
+    securityManager.authenticate(authentication("user", "secret"));
+    securityManager.authenticate(authentication("user", "other"));
+    securityManager.authenticate(authentication("other", "secret"));
+
+    verify(provider, times(3)).authenticate(any());
+    assertThat(cache.getHits(), is(0L));
+  }
+
+  @Test
+  public void cachesRejectedAuthentication() throws Exception {
+    UnauthorisedException rejection = new UnauthorisedException(authNoCredentials());
+    when(provider.authenticate(any())).thenThrow(rejection);
+
+    assertRejected(rejection);
+    // The rejection itself is not kept, only the fact that there was one
+    assertThat(rejectionCause(), not(sameInstance(rejection)));
+
+    verify(provider, times(1)).authenticate(any());
+    assertThat(cache.getNegativeHits(), is(1L));
+  }
+
+  @Test
+  public void doesNotCacheOtherFailures() throws Exception {
+    RuntimeException failure = new IllegalStateException("unavailable");
+    when(provider.authenticate(any())).thenThrow(failure);
+
+    assertRejected(failure);
+    assertRejected(failure);
+
+    verify(provider, times(2)).authenticate(any());
+  }
+
+  @Test
+  public void invalidatePrincipal() throws Exception {
+    when(provider.authenticate(any())).thenReturn(authenticated);
+
+    securityManager.authenticate(authentication("user", "secret"));
+    securityManager.authenticate(authentication("other", "secret"));
+    cache.invalidate("user");
+    securityManager.authenticate(authentication("user", "secret"));
+    securityManager.authenticate(authentication("other", "secret"));
+
+    verify(provider, times(3)).authenticate(any());
+  }
+
+  @Test
+  public void removingProviderInvalidatesAll() throws Exception {
+    when(provider.authenticate(any())).thenReturn(authenticated);
+
+    securityManager.authenticate(authentication("user", "secret"));
+    securityManager.removeProvider("provider");
+    securityManager.addProvider(provider);
+    securityManager.authenticate(authentication("user", "secret"));
+
+    verify(provider, times(2)).authenticate(any());
+  }
+
+  private void assertRejected(Exception cause) throws Exception {
+    assertThat(rejectionCause(), sameInstance(cause));
+  }
+
+  private Throwable rejectionCause() throws Exception {
+    try {
+      securityManager.authenticate(authentication("user", "wrong"));
+      fail("Authentication should have been rejected");
+      return null;
+    } catch (UnauthorisedException e) {
+      return e.getCause();
+    }
+  }
+
+  private Authentication authentication(String username, String password) {
+    return new DefaultMuleAuthentication(new DefaultMuleCredentials(username, password.toCharArray()));
+  }
+}
@@ -6,12 +6,19 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThat;
 
 import org.mule.runtime.core.internal.security.PasswordBasedEncryptionStrategy;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
 import org.junit.Test;
 
 public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
@@ -28,4 +35,25 @@ public class PbeEncryptionStrategyTestCase extends AbstractMuleTestCase {
     String s = new String(pbe.decrypt(b, null), "UTF-8");
     assertEquals("hello", s);
   }
+
+  @Test
+  public void streamingRoundTripEncryption() throws Exception {
+    PasswordBasedEncryptionStrategy pbe = new PasswordBasedEncryptionStrategy();
+    pbe.setPassword("test");
+    pbe.setStreaming(true);
+    pbe.initialise();
+
+    byte[] data = new byte[100000];
+    new Random().nextBytes(data);
+
+    byte[] encrypted;
+    try (InputStream encryptedStream = pbe.encrypt(new ByteArrayInputStream(data), null)) {
+      encrypted = toByteArray(encryptedStream);
+    }
+    // Streamed and in memory encryption are interchangeable
+    assertThat(pbe.decrypt(encrypted, null), is(data));
+    try (InputStream decryptedStream = pbe.decrypt(new ByteArrayInputStream(pbe.encrypt(data, null)), null)) {
+      assertThat(toByteArray(decryptedStream), is(data));
+    }
+  }
 }
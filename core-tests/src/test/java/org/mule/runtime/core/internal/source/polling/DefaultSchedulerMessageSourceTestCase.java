@@ -6,16 +6,24 @@
  */
 package org.mule.runtime.core.internal.source.polling;
 
+import static java.lang.Thread.currentThread;
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mule.runtime.api.component.AbstractComponent.LOCATION_KEY;
 import static org.mule.runtime.api.component.location.ConfigurationComponentLocator.REGISTRY_KEY;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.CATCH_UP;
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.COALESCE;
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.SKIP;
 import static org.mule.tck.MuleTestUtils.APPLE_FLOW;
 import static org.mule.tck.MuleTestUtils.createAndRegisterFlow;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -25,8 +33,11 @@ import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.core.api.source.scheduler.FixedFrequencyScheduler;
 import org.mule.runtime.core.internal.source.scheduler.DefaultSchedulerMessageSource;
+import org.mule.runtime.core.internal.source.scheduler.OverrunPolicy;
+import org.mule.runtime.core.internal.source.scheduler.SchedulerSourceStatistics;
 import org.mule.tck.SensingNullMessageProcessor;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
 import org.mule.tck.probe.PollingProber;
 import org.mule.tck.probe.Probe;
 
@@ -35,6 +46,8 @@ import org.junit.Test;
 import org.slf4j.Logger;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultSchedulerMessageSourceTestCase extends AbstractMuleContextTestCase {
@@ -88,7 +101,8 @@ public class DefaultSchedulerMessageSourceTestCase extends AbstractMuleContextTe
 
     schedulerMessageSource.start();
 
-    verify(pollScheduler.get()).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+    // Fixed frequency schedules are driven by the shared timer
+    verify(pollScheduler.get(), never()).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
 
     schedulerMessageSource.stop();
     schedulerMessageSource.dispose();
@@ -96,6 +110,69 @@ public class DefaultSchedulerMessageSourceTestCase extends AbstractMuleContextTe
     verify(pollScheduler.get()).stop();
   }
 
+  @Test
+  public void fixedFrequencyFromSharedTimer() throws Exception {
+    DefaultSchedulerMessageSource schedulerMessageSource = createMessageSource(scheduler(100), false);
+    SensingNullMessageProcessor flow = getSensingNullMessageProcessor();
+    schedulerMessageSource.setListener(flow);
+    schedulerMessageSource.setMaxJitter(50);
+
+    schedulerMessageSource.start();
+
+    new PollingProber(RECEIVE_TIMEOUT, 50)
+        .check(new JUnitLambdaProbe(() -> schedulerMessageSource.getStatistics().getExecutedRuns() >= 2));
+    assertThat(schedulerMessageSource.getStatistics().getLag().getCount(), greaterThanOrEqualTo(2L));
+  }
+
+  @Test
+  public void skipOverrun() throws Exception {
+    assertOverrun(SKIP, 1, 2);
+  }
+
+  @Test
+  public void coalesceOverrun() throws Exception {
+    assertOverrun(COALESCE, 2, 1);
+  }
+
+  @Test
+  public void catchUpOverrun() throws Exception {
+    assertOverrun(CATCH_UP, 3, 0);
+  }
+
+  private void assertOverrun(OverrunPolicy overrunPolicy, long expectedExecuted, long expectedSkipped) throws Exception {
+    DefaultSchedulerMessageSource schedulerMessageSource = createMessageSource(scheduler(), true);
+    schedulerMessageSource.setOverrunPolicy(overrunPolicy);
+
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger executed = new AtomicInteger();
+    schedulerMessageSource.setListener(event -> {
+      executed.incrementAndGet();
+      running.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+      }
+      return event;
+    });
+
+    schedulerMessageSource.trigger();
+    running.await();
+    schedulerMessageSource.trigger();
+    schedulerMessageSource.trigger();
+
+    SchedulerSourceStatistics statistics = schedulerMessageSource.getStatistics();
+    if (expectedSkipped > 0) {
+      new PollingProber(RECEIVE_TIMEOUT, 50).check(new JUnitLambdaProbe(() -> statistics.getSkippedRuns() == expectedSkipped));
+    }
+    release.countDown();
+
+    new PollingProber(RECEIVE_TIMEOUT, 50).check(new JUnitLambdaProbe(() -> executed.get() == expectedExecuted));
+    assertThat(statistics.getExecutedRuns(), is(expectedExecuted));
+    assertThat(statistics.getSkippedRuns(), is(expectedSkipped));
+  }
+
   private DefaultSchedulerMessageSource schedulerMessageSource;
 
   @After
@@ -105,17 +182,27 @@ public class DefaultSchedulerMessageSourceTestCase extends AbstractMuleContextTe
   }
 
   private DefaultSchedulerMessageSource createMessageSource() throws Exception {
+    return createMessageSource(scheduler(), false);
+  }
+
+  private DefaultSchedulerMessageSource createMessageSource(FixedFrequencyScheduler scheduler,
+                                                            boolean disallowConcurrentExecution)
+      throws Exception {
     createAndRegisterFlow(muleContext, APPLE_FLOW, componentLocator);
     schedulerMessageSource =
-        new DefaultSchedulerMessageSource(muleContext, scheduler(), false);
+        new DefaultSchedulerMessageSource(muleContext, scheduler, disallowConcurrentExecution);
     schedulerMessageSource.setAnnotations(getAppleFlowComponentLocationAnnotations());
     schedulerMessageSource.initialise();
     return schedulerMessageSource;
   }
 
   private FixedFrequencyScheduler scheduler() {
+    return scheduler(1000);
+  }
+
+  private FixedFrequencyScheduler scheduler(long frequency) {
     FixedFrequencyScheduler factory = new FixedFrequencyScheduler();
-    factory.setFrequency(1000);
+    factory.setFrequency(frequency);
     return factory;
   }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.time;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class HashedWheelTimeoutServiceTestCase extends AbstractMuleContextTestCase {
+
+  private HashedWheelTimeoutService timeoutService;
+
+  @Override
+  protected void doSetUp() throws Exception {
+    // A small wheel so the tests also cover timeouts that need more than one turn of the wheel
+    timeoutService = new HashedWheelTimeoutService(5, MILLISECONDS, 8);
+    timeoutService.setMuleContext(muleContext);
+  }
+
+  @Override
+  protected void doTearDown() throws Exception {
+    timeoutService.dispose();
+  }
+
+  @Test
+  public void expiresAfterDelay() throws Exception {
+    CountDownLatch latch = new CountDownLatch(1);
+    long start = nanoTime();
+    Timeout timeout = timeoutService.schedule(latch::countDown, 100, MILLISECONDS);
+
+    assertThat(latch.await(RECEIVE_TIMEOUT, MILLISECONDS), is(true));
+    assertThat(NANOSECONDS.toMillis(nanoTime() - start), greaterThanOrEqualTo(100L));
+    assertThat(timeout.isExpired(), is(true));
+    assertThat(timeout.cancel(), is(false));
+    assertThat(timeoutService.getActiveTimeouts(), is(0));
+  }
+
+  @Test
+  public void cancelledNeverExpires() throws Exception {
+    AtomicInteger expired = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(1);
+
+    Timeout cancelled = timeoutService.schedule(expired::incrementAndGet, 20, MILLISECONDS);
+    assertThat(cancelled.cancel(), is(true));
+    assertThat(cancelled.isCancelled(), is(true));
+    timeoutService.schedule(latch::countDown, 60, MILLISECONDS);
+
+    assertThat(latch.await(RECEIVE_TIMEOUT, MILLISECONDS), is(true));
+    assertThat(expired.get(), is(0));
+    assertThat(timeoutService.getActiveTimeouts(), is(0));
+  }
+
+  @Test
+  public void manyTimeouts() throws Exception {
+    int count = 10000;
+    CountDownLatch latch = new CountDownLatch(count / 2);
+    for (int i = 0; i < count; ++i) {
+      Timeout timeout = timeoutService.schedule(latch::countDown, i % 200, MILLISECONDS);
+      if (i % 2 == 0) {
+        timeout.cancel();
+      }
+    }
+
+    assertThat(latch.await(RECEIVE_TIMEOUT, MILLISECONDS), is(true));
+    assertThat(timeoutService.getActiveTimeouts(), is(0));
+  }
+
+  @Test
+  public void delay() {
+    assertThat(timeoutService.delay(Duration.ofMillis(20)).block(), is(0L));
+  }
+}
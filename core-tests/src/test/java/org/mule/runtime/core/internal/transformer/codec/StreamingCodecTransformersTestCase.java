@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.CURSOR_STREAM_PROVIDER;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.core.api.util.StringUtils.toHexString;
+import static org.mule.runtime.core.internal.transformer.codec.Base64Encoder.BASE64;
+import static org.mule.runtime.core.internal.transformer.codec.HexEncoder.HEX;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.api.transformer.TransformerException;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class StreamingCodecTransformersTestCase extends AbstractMuleContextTestCase {
+
+  private static final int CONTENT_SIZE = 100 * 1024 + 1;
+
+  private final byte[] content = new byte[CONTENT_SIZE];
+
+  public StreamingCodecTransformersTestCase() {
+    new Random(1).nextBytes(content);
+  }
+
+  @Test
+  public void base64Stream() throws Exception {
+    Transformer encoder = lookup(Base64Encoder.NAME);
+    assertThat(encoder, instanceOf(Base64Encoder.class));
+    assertThat(encoder.getReturnDataType().getMediaType(), equalTo(BASE64));
+
+    byte[] encoded = read(encoder.transform(new ByteArrayInputStream(content)));
+    assertThat(encoded, equalTo(Base64.getEncoder().encode(content)));
+
+    Transformer decoder = lookup(Base64Decoder.NAME);
+    assertThat(decoder, instanceOf(Base64Decoder.class));
+    // Line breaks are ignored
+    assertThat(read(decoder.transform(new ByteArrayInputStream(Base64.getMimeEncoder().encode(content)))), equalTo(content));
+  }
+
+  @Test
+  public void base64Bytes() throws Exception {
+    byte[] encoded = read(lookup(Base64Encoder.NAME).transform(content));
+    assertThat(encoded, equalTo(Base64.getEncoder().encode(content)));
+    assertThat(read(lookup(Base64Decoder.NAME).transform(encoded)), equalTo(content));
+  }
+
+  @Test
+  public void hexStream() throws Exception {
+    Transformer encoder = lookup(HexEncoder.NAME);
+    assertThat(encoder, instanceOf(HexEncoder.class));
+    assertThat(encoder.getReturnDataType().getMediaType(), equalTo(HEX));
+
+    byte[] encoded = read(encoder.transform(new ByteArrayInputStream(content)));
+    assertThat(new String(encoded, US_ASCII), equalTo(toHexString(content)));
+
+    Transformer decoder = lookup(HexDecoder.NAME);
+    assertThat(decoder, instanceOf(HexDecoder.class));
+    assertThat(read(decoder.transform(new ByteArrayInputStream(encoded))), equalTo(content));
+  }
+
+  @Test
+  public void hexString() throws Exception {
+    Transformer decoder = lookup(HexDecoder.NAME);
+    assertThat(read(decoder.transform("CAFE babe")), equalTo(new byte[] {(byte) 0xca, (byte) 0xfe, (byte) 0xba, (byte) 0xbe}));
+  }
+
+  @Test(expected = TransformerException.class)
+  public void invalidHex() throws Exception {
+    lookup(HexDecoder.NAME).transform("cafe0".getBytes(US_ASCII));
+  }
+
+  @Test
+  public void plainStreamsAreNotEncoded() throws Exception {
+    assertThat(lookup(INPUT_STREAM, BYTE_ARRAY), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+    assertThat(lookup(STRING, INPUT_STREAM), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+  }
+
+  @Test
+  public void bytesToStreamIsNotEncoded() throws Exception {
+    assertThat(lookup(BYTE_ARRAY, INPUT_STREAM), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+  }
+
+  @Test
+  public void streamToStreamIsNotEncoded() throws Exception {
+    assertThat(lookup(INPUT_STREAM, INPUT_STREAM), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+    assertThat(lookup(CURSOR_STREAM_PROVIDER, INPUT_STREAM), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+  }
+
+  @Test
+  public void encodingResolvedByResultMediaType() throws Exception {
+    assertThat(lookup(INPUT_STREAM, encoded(INPUT_STREAM, BASE64)), instanceOf(Base64Encoder.class));
+    assertThat(lookup(BYTE_ARRAY, encoded(INPUT_STREAM, BASE64)), instanceOf(Base64Encoder.class));
+    assertThat(lookup(CURSOR_STREAM_PROVIDER, encoded(INPUT_STREAM, HEX)), instanceOf(HexEncoder.class));
+  }
+
+  @Test
+  public void decodingResolvedBySourceMediaType() throws Exception {
+    assertThat(lookup(encoded(INPUT_STREAM, BASE64), INPUT_STREAM), instanceOf(Base64Decoder.class));
+    assertThat(lookup(encoded(STRING, HEX), INPUT_STREAM), instanceOf(HexDecoder.class));
+  }
+
+  @Test
+  public void encodedStreamIsNotDecodedToOtherTypes() throws Exception {
+    assertThat(lookup(encoded(INPUT_STREAM, BASE64), BYTE_ARRAY), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+  }
+
+  @Test
+  public void encodedStreamIsNotEncodedAgain() throws Exception {
+    DataType encoded = encoded(BYTE_ARRAY, BASE64);
+    assertThat(lookup(encoded, encoded(INPUT_STREAM, BASE64)), not(instanceOf(AbstractStreamingCodecTransformer.class)));
+  }
+
+  private static DataType encoded(DataType dataType, MediaType mediaType) {
+    return DataType.builder(dataType).mediaType(mediaType).build();
+  }
+
+  private Transformer lookup(String name) {
+    return ((MuleContextWithRegistries) muleContext).getRegistry().lookupTransformer(name);
+  }
+
+  private Transformer lookup(DataType source, DataType result) throws TransformerException {
+    return ((MuleContextWithRegistries) muleContext).getRegistry().lookupTransformer(source, result);
+  }
+
+  private static byte[] read(Object stream) throws Exception {
+    try (InputStream in = (InputStream) stream) {
+      return IOUtils.toByteArray(in);
+    }
+  }
+}
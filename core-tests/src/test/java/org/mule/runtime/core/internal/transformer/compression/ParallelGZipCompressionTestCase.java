@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.api.util.compression.GZipCompression;
+import org.mule.runtime.core.api.util.compression.ParallelGZipCompression;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class ParallelGZipCompressionTestCase extends AbstractMuleTestCase {
+
+  private static final int BLOCK_SIZE = 64 * 1024;
+
+  private final ExecutorService executor = newFixedThreadPool(4);
+  private final ParallelGZipCompression compression = new ParallelGZipCompression(executor, BLOCK_SIZE, 3);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void emptyStream() throws Exception {
+    assertRoundTrip(compression, new byte[0]);
+  }
+
+  @Test
+  public void smallerThanBlock() throws Exception {
+    assertRoundTrip(compression, data(1000));
+  }
+
+  @Test
+  public void exactBlocks() throws Exception {
+    assertRoundTrip(compression, data(BLOCK_SIZE * 4));
+  }
+
+  @Test
+  public void manyBlocks() throws Exception {
+    assertRoundTrip(compression, data(BLOCK_SIZE * 10 + 123));
+  }
+
+  @Test
+  public void rejectedBlocksCompressedByReader() throws Exception {
+    ParallelGZipCompression rejecting = new ParallelGZipCompression(task -> {
+      throw new RejectedExecutionException();
+    }, BLOCK_SIZE, 3);
+    assertRoundTrip(rejecting, data(BLOCK_SIZE * 3 + 1));
+  }
+
+  @Test
+  public void byteArrays() throws Exception {
+    byte[] data = data(BLOCK_SIZE * 3 + 1);
+    byte[] compressed = compression.compressByteArray(data);
+
+    assertThat(compression.isCompressed(compressed), is(true));
+    assertThat(new GZipCompression().uncompressByteArray(compressed), is(data));
+  }
+
+  private void assertRoundTrip(ParallelGZipCompression compression, byte[] data) throws Exception {
+    byte[] compressed;
+    try (InputStream compressedStream = compression.compressInputStream(new ByteArrayInputStream(data))) {
+      compressed = toByteArray(compressedStream);
+    }
+
+    try (InputStream uncompressed = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      assertThat(toByteArray(uncompressed), is(data));
+    }
+  }
+
+  private byte[] data(int length) {
+    // Compressible data, so back references across blocks are exercised
+    Random random = new Random(length);
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; ++i) {
+      data[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return data;
+  }
+}
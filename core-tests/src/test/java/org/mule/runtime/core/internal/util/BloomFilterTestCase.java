@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class BloomFilterTestCase extends AbstractMuleTestCase {
+
+  private static final int EXPECTED_INSERTIONS = 10000;
+
+  @Test
+  public void noFalseNegatives() {
+    BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, 0.01);
+    for (int i = 0; i < EXPECTED_INSERTIONS; ++i) {
+      filter.put("id-" + i);
+    }
+    for (int i = 0; i < EXPECTED_INSERTIONS; ++i) {
+      assertThat(filter.mightContain("id-" + i), is(true));
+      assertThat(filter.put("id-" + i), is(false));
+    }
+    assertThat(filter.isSaturated(), is(false));
+  }
+
+  @Test
+  public void falsePositiveRate() {
+    BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, 0.01);
+    for (int i = 0; i < EXPECTED_INSERTIONS; ++i) {
+      filter.put("id-" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < EXPECTED_INSERTIONS; ++i) {
+      if (filter.mightContain("other-" + i)) {
+        ++falsePositives;
+      }
+    }
+    // Allow some slack over the configured 1%
+    assertThat(falsePositives, lessThan(EXPECTED_INSERTIONS * 2 / 100));
+  }
+
+  @Test
+  public void saturation() {
+    BloomFilter filter = new BloomFilter(10, 0.01);
+    for (int i = 0; i < 20; ++i) {
+      filter.put("id-" + i);
+    }
+    assertThat(filter.isSaturated(), is(true));
+  }
+}
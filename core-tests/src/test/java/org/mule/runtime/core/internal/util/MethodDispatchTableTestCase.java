@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class MethodDispatchTableTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expected = ExpectedException.none();
+
+  private final MethodDispatchTable dispatchTable = new MethodDispatchTable(Counter.class);
+
+  @Test
+  public void invokeWithoutArguments() throws Throwable {
+    DefaultCounter counter = new DefaultCounter();
+    assertThat(dispatchTable.invoke(Counter.class.getMethod("increment"), counter, null), is(nullValue()));
+    assertThat(counter.value, is(1));
+  }
+
+  @Test
+  public void invokeWithPrimitives() throws Throwable {
+    DefaultCounter counter = new DefaultCounter();
+    assertThat(dispatchTable.invoke(Counter.class.getMethod("add", int.class), counter, new Object[] {3}), is(3));
+  }
+
+  @Test
+  public void exceptionNotWrapped() throws Throwable {
+    expected.expect(IOException.class);
+    dispatchTable.invoke(Counter.class.getMethod("fail"), new DefaultCounter(), null);
+  }
+
+  @Test
+  public void methodNotInTable() throws Throwable {
+    List<String> list = new ArrayList<>();
+    dispatchTable.invoke(List.class.getMethod("add", Object.class), list, new Object[] {"value"});
+    assertThat(list.size(), is(1));
+  }
+
+  @Test
+  public void methodOfNonPublicType() throws Throwable {
+    MethodDispatchTable nonPublicDispatchTable = new MethodDispatchTable(NonPublicCounter.class);
+    DefaultCounter counter = new DefaultCounter();
+    counter.increment();
+    nonPublicDispatchTable.invoke(NonPublicCounter.class.getMethod("reset"), counter, null);
+    assertThat(counter.value, is(0));
+  }
+
+  public interface Counter {
+
+    void increment();
+
+    int add(int delta);
+
+    void fail() throws IOException;
+  }
+
+  interface NonPublicCounter {
+
+    void reset();
+  }
+
+  public static class DefaultCounter implements Counter, NonPublicCounter {
+
+    private int value;
+
+    @Override
+    public void increment() {
+      ++value;
+    }
+
+    @Override
+    public int add(int delta) {
+      value += delta;
+      return value;
+    }
+
+    @Override
+    public void fail() throws IOException {
+      throw new IOException();
+    }
+
+    @Override
+    public void reset() {
+      value = 0;
+    }
+  }
+}
@@ -17,6 +17,12 @@ public class MuleDeploymentProperties {
   public static final String MULE_LAZY_INIT_ENABLE_XML_VALIDATIONS_DEPLOYMENT_PROPERTY =
       MULE_LAZY_INIT_DEPLOYMENT_PROPERTY + ".enableXmlValidations";
   public static final String MULE_LAZY_CONNECTIONS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".lazyConnections";
+  /**
+   * Defers the creation of the flows without a message source of an application until they are first referenced.
+   *
+   * @since 4.2
+   */
+  public static final String MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY = DEPLOYMENT_PROPERTY_PREFIX + ".lazyFlows";
 
   private MuleDeploymentProperties() {}
 }
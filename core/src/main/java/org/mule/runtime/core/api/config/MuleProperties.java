@@ -149,6 +149,7 @@ public class MuleProperties {
   public static final String OBJECT_EXTENSION_MANAGER = "_muleExtensionManager";
   public static final String OBJECT_EXTENSION_OAUTH_MANAGER = "extensions.oauth.manager";
   public static final String OBJECT_TIME_SUPPLIER = "_muleTimeSupplier";
+  public static final String OBJECT_TIMEOUT_SERVICE = "_muleTimeoutService";
   public static final String OBJECT_CONNECTION_MANAGER = "_muleConnectionManager";
   public static final String OBJECT_EXCEPTION_LOCATION_PROVIDER = "_muleExceptionLocationProvider";
   public static final String OBJECT_MESSAGE_PROCESSING_FLOW_TRACE_MANAGER = "_muleMessageProcessingFlowTraceManager";
@@ -199,6 +200,7 @@ public class MuleProperties {
   public static final String MULE_FORCE_CONSOLE_LOG = SYSTEM_PROPERTY_PREFIX + "forceConsoleLog";
   public static final String MULE_LOG_CONTEXT_DISPOSE_DELAY_MILLIS = SYSTEM_PROPERTY_PREFIX + "log.context.dispose.delay.millis";
   public static final String MULE_FLOW_TRACE = SYSTEM_PROPERTY_PREFIX + "flowTrace";
+  public static final String MULE_FLOW_TRACE_SAMPLING_RATE = SYSTEM_PROPERTY_PREFIX + "flowTrace.samplingRate";
   public static final String MULE_LOG_VERBOSE_CLASSLOADING = SYSTEM_PROPERTY_PREFIX + "classloading.verbose";
   public static final String MULE_MEL_AS_DEFAULT = SYSTEM_PROPERTY_PREFIX + "test.mel.default";
   public static final String MULE_DISABLE_RESPONSE_TIMEOUT = SYSTEM_PROPERTY_PREFIX + "timeout.disable";
@@ -8,10 +8,12 @@ package org.mule.runtime.core.api.management.stats;
 
 import org.mule.api.annotation.NoExtend;
 import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
+import org.mule.runtime.core.internal.management.stats.LatencyStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <code>AllStatistics</code> TODO
@@ -23,6 +25,8 @@ public class AllStatistics {
   private long startTime;
   private ApplicationStatistics appStats;
   private Map<String, FlowConstructStatistics> flowConstructStats = new HashMap<String, FlowConstructStatistics>();
+  private final Map<String, LatencyStatistics> flowLatencyStats = new ConcurrentHashMap<>();
+  private final Map<String, LatencyStatistics> processorLatencyStats = new ConcurrentHashMap<>();
 
   /**
    * 
@@ -38,6 +42,8 @@ public class AllStatistics {
     for (FlowConstructStatistics statistics : getServiceStatistics()) {
       statistics.clear();
     }
+    flowLatencyStats.values().forEach(LatencyStatistics::clear);
+    processorLatencyStats.values().forEach(LatencyStatistics::clear);
     startTime = System.currentTimeMillis();
   }
 
@@ -76,6 +82,7 @@ public class AllStatistics {
   public synchronized void remove(FlowConstructStatistics stat) {
     if (stat != null) {
       flowConstructStats.remove(stat.getName());
+      flowLatencyStats.remove(stat.getName());
     }
   }
 
@@ -86,4 +93,40 @@ public class AllStatistics {
   public FlowConstructStatistics getApplicationStatistics() {
     return appStats;
   }
+
+  /**
+   * Provides the latency distribution of the executions of a flow, creating it the first time it is requested.
+   * <p>
+   * Unlike the {@link FlowConstructStatistics}, the returned object may be updated and read without locking.
+   *
+   * @param flowName the name of the flow.
+   * @return the latency statistics of the flow.
+   */
+  public LatencyStatistics getFlowLatencyStatistics(String flowName) {
+    return flowLatencyStats.computeIfAbsent(flowName, LatencyStatistics::new);
+  }
+
+  /**
+   * Provides the latency distribution of the executions of a processor, creating it the first time it is requested.
+   *
+   * @param processorLocation the location of the processor in the application.
+   * @return the latency statistics of the processor.
+   */
+  public LatencyStatistics getProcessorLatencyStatistics(String processorLocation) {
+    return processorLatencyStats.computeIfAbsent(processorLocation, LatencyStatistics::new);
+  }
+
+  /**
+   * @return the latency statistics of all the flows being measured.
+   */
+  public Collection<LatencyStatistics> getFlowLatencyStatistics() {
+    return flowLatencyStats.values();
+  }
+
+  /**
+   * @return the latency statistics of all the processors being measured.
+   */
+  public Collection<LatencyStatistics> getProcessorLatencyStatistics() {
+    return processorLatencyStats.values();
+  }
 }
@@ -13,6 +13,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <code>RouterStatistics</code> TODO
@@ -37,6 +39,7 @@ public class RouterStatistics implements Statistics {
   private long totalRouted;
   private long totalReceived;
   private Map routed;
+  private final Map<String, LongAdder> routeHits = new ConcurrentHashMap<>();
   private int type;
 
   public synchronized void clear() {
@@ -45,6 +48,7 @@ public class RouterStatistics implements Statistics {
     totalReceived = 0;
     caughtInCatchAll = 0;
     routed.clear();
+    routeHits.clear();
   }
 
   /**
@@ -112,6 +116,21 @@ public class RouterStatistics implements Statistics {
     totalReceived++;
   }
 
+  /**
+   * Increment the hits of a route. Unlike {@link #incrementRoutedMessage(Object)}, this does not lock, so it may be called for
+   * every event routed.
+   *
+   * @param route the name of the route
+   * @since 4.2
+   */
+  public void incrementRouteHit(String route) {
+    LongAdder hits = routeHits.get(route);
+    if (hits == null) {
+      hits = routeHits.computeIfAbsent(route, k -> new LongAdder());
+    }
+    hits.increment();
+  }
+
   /**
    * Increment no routed message
    */
@@ -168,6 +187,25 @@ public class RouterStatistics implements Statistics {
     }
   }
 
+  /**
+   * @return the hits of the given route.
+   * @since 4.2
+   */
+  public final long getRouteHits(String route) {
+    LongAdder hits = routeHits.get(route);
+    return hits == null ? 0 : hits.sum();
+  }
+
+  /**
+   * @return the hits of each route that was hit.
+   * @since 4.2
+   */
+  public Map<String, Long> getRouteHits() {
+    Map<String, Long> hits = new HashMap<>();
+    routeHits.forEach((route, adder) -> hits.put(route, adder.sum()));
+    return hits;
+  }
+
   public boolean isInbound() {
     return type == TYPE_INBOUND;
   }
@@ -9,6 +9,7 @@ package org.mule.runtime.core.api.security;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_SECURITY_MANAGER;
 import org.mule.api.annotation.NoExtend;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.security.AuthenticationCache;
 import org.mule.runtime.core.internal.security.DefaultMuleSecurityManager;
 import org.mule.runtime.dsl.api.component.AbstractComponentFactory;
 
@@ -23,6 +24,9 @@ import javax.inject.Inject;
  * In case the security manager has no name or the name is the same as the default one provided by the {@code MuleContext} then
  * the configured values will be added only to the security manager, otherwise a new security manager will be registered under the
  * provided name but the addition of providers will be done to both, the new security manager and the default one.
+ * <p>
+ * When an {@code authenticationCacheTtl} is configured, the outcome of the authentications performed by the configured security
+ * manager is cached, see {@link AuthenticationCache}.
  *
  * @since 4.0
  */
@@ -33,6 +37,9 @@ public class MuleSecurityManagerConfigurator extends AbstractComponentFactory<Se
   private List<EncryptionStrategy> encryptionStrategies = new ArrayList<>();
   private MuleContext muleContext;
   private String name = OBJECT_SECURITY_MANAGER;
+  private long authenticationCacheTtl = 0;
+  private long authenticationCacheNegativeTtl = 0;
+  private int authenticationCacheMaxSize = 1000;
 
   public void setName(String name) {
     this.name = name;
@@ -51,6 +58,18 @@ public class MuleSecurityManagerConfigurator extends AbstractComponentFactory<Se
     this.encryptionStrategies = encryptionStrategies;
   }
 
+  public void setAuthenticationCacheTtl(long authenticationCacheTtl) {
+    this.authenticationCacheTtl = authenticationCacheTtl;
+  }
+
+  public void setAuthenticationCacheNegativeTtl(long authenticationCacheNegativeTtl) {
+    this.authenticationCacheNegativeTtl = authenticationCacheNegativeTtl;
+  }
+
+  public void setAuthenticationCacheMaxSize(int authenticationCacheMaxSize) {
+    this.authenticationCacheMaxSize = authenticationCacheMaxSize;
+  }
+
   @Override
   public SecurityManager doGetObject() throws Exception {
     List<SecurityManager> securityManagers = new ArrayList<>();
@@ -70,6 +89,12 @@ public class MuleSecurityManagerConfigurator extends AbstractComponentFactory<Se
       });
     });
 
+    if (authenticationCacheTtl > 0 && factorySecurityManager instanceof DefaultMuleSecurityManager) {
+      ((DefaultMuleSecurityManager) factorySecurityManager)
+          .setAuthenticationCache(new AuthenticationCache(authenticationCacheTtl, authenticationCacheNegativeTtl,
+                                                          authenticationCacheMaxSize));
+    }
+
     return factorySecurityManager;
   }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.util.compression;
+
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+import static org.apache.commons.io.IOUtils.copy;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.core.internal.transformer.compression.ParallelGZIPCompressorInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.io.output.ByteArrayOutputStream;
+
+/**
+ * <code>ParallelGZipCompression</code> is a CompressionStrategy implementation producing the same GZip format as
+ * {@link GZipCompression}, but splitting the data to compress in blocks that are compressed concurrently.
+ * <p>
+ * Data is compressed on the given {@link Executor}, typically the CPU intensive scheduler of the
+ * {@link org.mule.runtime.api.scheduler.SchedulerService}. Only a bounded amount of blocks are compressed ahead of the consumer
+ * of the compressed stream, so large streams are compressed with constant memory. Data smaller than a block and uncompression are
+ * handled as in {@link GZipCompression}.
+ *
+ * @since 4.2
+ */
+public final class ParallelGZipCompression implements CompressionStrategy {
+
+  public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+  private final GZipCompression gzipCompression = new GZipCompression();
+  private final Executor executor;
+  private final int blockSize;
+  private final int maxInFlightBlocks;
+
+  /**
+   * Creates a new strategy with blocks of {@link #DEFAULT_BLOCK_SIZE}, compressing twice as many blocks ahead as available
+   * processors.
+   *
+   * @param executor the executor to compress the blocks on.
+   */
+  public ParallelGZipCompression(Executor executor) {
+    this(executor, DEFAULT_BLOCK_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new strategy.
+   *
+   * @param executor the executor to compress the blocks on.
+   * @param blockSize the size of the blocks the data is split in.
+   * @param maxInFlightBlocks the maximum amount of blocks compressed ahead of the consumer of a compressed stream.
+   */
+  public ParallelGZipCompression(Executor executor, int blockSize, int maxInFlightBlocks) {
+    checkArgument(executor != null, "executor cannot be null");
+    checkArgument(blockSize > 0, "blockSize must be greater than 0");
+    checkArgument(maxInFlightBlocks > 0, "maxInFlightBlocks must be greater than 0");
+    this.executor = executor;
+    this.blockSize = blockSize;
+    this.maxInFlightBlocks = maxInFlightBlocks;
+  }
+
+  @Override
+  public boolean isCompressed(byte[] bytes) throws IOException {
+    return gzipCompression.isCompressed(bytes);
+  }
+
+  @Override
+  public byte[] compressByteArray(byte[] bytes) throws IOException {
+    if (bytes == null || bytes.length <= blockSize || isCompressed(bytes)) {
+      return gzipCompression.compressByteArray(bytes);
+    }
+
+    try (InputStream compressed = compressInputStream(new ByteArrayInputStream(bytes))) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream(GZipCompression.DEFAULT_BUFFER_SIZE);
+      copy(compressed, baos);
+      return baos.toByteArray();
+    }
+  }
+
+  @Override
+  public InputStream compressInputStream(InputStream is) throws IOException {
+    return new ParallelGZIPCompressorInputStream(is, executor, blockSize, maxInFlightBlocks, DEFAULT_COMPRESSION);
+  }
+
+  @Override
+  public byte[] uncompressByteArray(byte[] bytes) throws IOException {
+    return gzipCompression.uncompressByteArray(bytes);
+  }
+
+  @Override
+  public InputStream uncompressInputStream(InputStream is) throws IOException {
+    return gzipCompression.uncompressInputStream(is);
+  }
+}
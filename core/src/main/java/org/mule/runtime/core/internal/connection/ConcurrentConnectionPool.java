@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.pool.BaseObjectPool;
+import org.slf4j.Logger;
+
+/**
+ * Pool of connections which doesn't lock when a connection is borrowed or returned, as opposed to the {@code GenericObjectPool}
+ * of commons-pool.
+ * <p>
+ * Idle connections are kept in a concurrent stack, so the most recently used ones are borrowed first, and the size of the pool is
+ * bounded by compare-and-set on a counter. Only borrowers that find the pool exhausted with
+ * {@link PoolingProfile#WHEN_EXHAUSTED_WAIT} park, until a connection is returned or destroyed.
+ * <p>
+ * Everything else happens in a background task on the given {@link Scheduler}, which warms the pool up on start according to the
+ * {@link PoolingProfile#getInitialisationPolicy() initialisation policy}, validates and evicts idle connections, and adapts the
+ * amount of connections the pool keeps open to the time borrowers had to wait: when borrowing gets slow, connections are created
+ * ahead of the requests that need them, and when it doesn't, the extra connections are left to eviction.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.2
+ */
+final class ConcurrentConnectionPool<C> extends BaseObjectPool<C> implements ConnectionPoolStatistics {
+
+  private static final Logger LOGGER = getLogger(ConcurrentConnectionPool.class);
+
+  static final long DEFAULT_MAINTENANCE_INTERVAL_MILLIS = 5000;
+
+  /**
+   * Borrowing slower than this is a sign that the pool should keep more connections open.
+   */
+  private static final long SLOW_BORROW_NANOS = MILLISECONDS.toNanos(1);
+  private static final double SLOW_BORROW_PERCENTILE = 90;
+
+  private final ConnectionProvider<C> connectionProvider;
+  private final Scheduler scheduler;
+  private final int maxActive;
+  private final int maxIdle;
+  private final long maxWaitNanos;
+  private final int exhaustedAction;
+  private final int minIdle;
+  private final long minEvictionNanos;
+  private final long maintenanceIntervalMillis;
+
+  private final Deque<IdleConnection<C>> idle = new ConcurrentLinkedDeque<>();
+  private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+  // Connections created and not destroyed yet, including the ones being created
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LatencyHistogram waitTime = new LatencyHistogram();
+  private final LatencyHistogram recentWaitTime = new LatencyHistogram();
+  private volatile int targetSize;
+
+  private ScheduledFuture<?> maintenanceTask;
+
+  /**
+   * Creates a new instance
+   *
+   * @param connectionProvider the {@link ConnectionProvider} used to create, validate and destroy the connections
+   * @param poolingProfile the {@link PoolingProfile} which configures the pool
+   * @param scheduler the {@link Scheduler} to run the maintenance of the pool in. It is stopped when the pool is closed.
+   */
+  ConcurrentConnectionPool(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile, Scheduler scheduler) {
+    this.connectionProvider = connectionProvider;
+    this.scheduler = scheduler;
+    this.maxActive = poolingProfile.getMaxActive();
+    this.maxIdle = poolingProfile.getMaxIdle();
+    this.maxWaitNanos = MILLISECONDS.toNanos(poolingProfile.getMaxWait());
+    this.exhaustedAction = poolingProfile.getExhaustedAction();
+    this.minIdle = warmUpSize(poolingProfile);
+    this.minEvictionNanos = MILLISECONDS.toNanos(poolingProfile.getMinEvictionMillis());
+    this.maintenanceIntervalMillis = poolingProfile.getEvictionCheckIntervalMillis() > 0
+        ? poolingProfile.getEvictionCheckIntervalMillis()
+        : DEFAULT_MAINTENANCE_INTERVAL_MILLIS;
+    this.targetSize = minIdle;
+  }
+
+  private int warmUpSize(PoolingProfile poolingProfile) {
+    int initialisationPolicy = poolingProfile.getInitialisationPolicy();
+    int warmUpSize = initialisationPolicy == INITIALISE_ALL ? poolingProfile.getMaxIdle()
+        : initialisationPolicy == INITIALISE_ONE ? 1 : 0;
+    return maxActive > 0 ? min(max(warmUpSize, 0), maxActive) : max(warmUpSize, 0);
+  }
+
+  /**
+   * Warms the pool up and starts its maintenance, without waiting for the connections to be created.
+   */
+  void start() {
+    if (minIdle > 0) {
+      scheduler.execute(this::fill);
+    }
+    maintenanceTask =
+        scheduler.scheduleWithFixedDelay(this::maintain, maintenanceIntervalMillis, maintenanceIntervalMillis, MILLISECONDS);
+  }
+
+  @Override
+  public C borrowObject() throws Exception {
+    assertOpen();
+    long start = nanoTime();
+    C connection = tryAcquire();
+    if (connection == null) {
+      connection = acquireExhausted(start);
+    }
+
+    active.incrementAndGet();
+    long wait = nanoTime() - start;
+    waitTime.record(wait);
+    recentWaitTime.record(wait);
+    return connection;
+  }
+
+  private C tryAcquire() throws Exception {
+    IdleConnection<C> idleConnection = idle.pollFirst();
+    if (idleConnection != null) {
+      idleCount.decrementAndGet();
+      return idleConnection.connection;
+    }
+    return reserve() ? create() : null;
+  }
+
+  private C acquireExhausted(long start) throws Exception {
+    if (exhaustedAction == WHEN_EXHAUSTED_GROW) {
+      size.incrementAndGet();
+      return create();
+    }
+    if (exhaustedAction == WHEN_EXHAUSTED_FAIL) {
+      throw new NoSuchElementException("Pool exhausted");
+    }
+
+    Thread waiter = currentThread();
+    waiters.add(waiter);
+    try {
+      while (true) {
+        // Registered as a waiter before retrying, so a connection returned from now on unparks this thread
+        C connection = tryAcquire();
+        if (connection != null) {
+          return connection;
+        }
+        assertOpen();
+
+        if (maxWaitNanos > 0) {
+          long remaining = start + maxWaitNanos - nanoTime();
+          if (remaining <= 0) {
+            throw new NoSuchElementException("Timeout waiting for idle object");
+          }
+          parkNanos(this, remaining);
+        } else {
+          park(this);
+        }
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+      }
+    } finally {
+      waiters.remove(waiter);
+      // Several connections may have been returned while only this thread was signaled
+      if (!idle.isEmpty()) {
+        signal();
+      }
+    }
+  }
+
+  private boolean reserve() {
+    while (true) {
+      int current = size.get();
+      if (maxActive > 0 && current >= maxActive) {
+        return false;
+      }
+      if (size.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private C create() throws Exception {
+    boolean created = false;
+    try {
+      C connection = connectionProvider.connect();
+      created = true;
+      return connection;
+    } finally {
+      if (!created) {
+        size.decrementAndGet();
+        signal();
+      }
+    }
+  }
+
+  @Override
+  public void returnObject(C connection) throws Exception {
+    active.decrementAndGet();
+    addIdle(connection);
+  }
+
+  private void addIdle(C connection) {
+    if (isClosed() || (maxIdle >= 0 && idleCount.get() >= maxIdle)) {
+      destroy(connection);
+      return;
+    }
+
+    idle.offerFirst(new IdleConnection<>(connection, nanoTime()));
+    idleCount.incrementAndGet();
+    if (isClosed()) {
+      // Raced with close
+      destroyIdle();
+    }
+    signal();
+  }
+
+  @Override
+  public void invalidateObject(C connection) throws Exception {
+    active.decrementAndGet();
+    destroy(connection);
+  }
+
+  private void destroy(C connection) {
+    size.decrementAndGet();
+    try {
+      connectionProvider.disconnect(connection);
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found trying to disconnect connection of type " + connection.getClass().getName(), e);
+    } finally {
+      signal();
+    }
+  }
+
+  private void destroyIdle() {
+    IdleConnection<C> idleConnection;
+    while ((idleConnection = idle.pollFirst()) != null) {
+      idleCount.decrementAndGet();
+      destroy(idleConnection.connection);
+    }
+  }
+
+  private void signal() {
+    Thread waiter = waiters.peek();
+    if (waiter != null) {
+      unpark(waiter);
+    }
+  }
+
+  /**
+   * Adapts the target size, evicts and validates the idle connections and then creates the missing ones.
+   */
+  private void maintain() {
+    if (isClosed()) {
+      return;
+    }
+    try {
+      adaptTargetSize();
+      checkIdle();
+      fill();
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found maintaining the connection pool", e);
+    }
+  }
+
+  private void adaptTargetSize() {
+    Snapshot recentWaits = recentWaitTime.snapshotAndReset();
+    int upperBound = maxActive > 0 ? maxActive : Integer.MAX_VALUE;
+    if (recentWaits.getCount() > 0 && recentWaits.getValueAtPercentile(SLOW_BORROW_PERCENTILE) > SLOW_BORROW_NANOS) {
+      int current = max(targetSize, size.get());
+      targetSize = (int) min(upperBound, (long) current + max(1, current / 4));
+    } else if (targetSize > minIdle && idleCount.get() > 0) {
+      targetSize--;
+    }
+  }
+
+  private void checkIdle() {
+    List<IdleConnection<C>> checked = new ArrayList<>();
+    long now = nanoTime();
+    int toCheck = idleCount.get();
+    for (int i = 0; i < toCheck; ++i) {
+      // Oldest first, the ones borrowers are less likely to take meanwhile
+      IdleConnection<C> idleConnection = idle.pollLast();
+      if (idleConnection == null) {
+        break;
+      }
+      idleCount.decrementAndGet();
+
+      if (isEvictable(idleConnection, now) || !isValid(idleConnection.connection)) {
+        destroy(idleConnection.connection);
+      } else {
+        checked.add(idleConnection);
+      }
+    }
+
+    // Put them back in the same order, behind the ones returned in the meantime
+    for (int i = checked.size() - 1; i >= 0; --i) {
+      idle.offerLast(checked.get(i));
+      idleCount.incrementAndGet();
+    }
+    if (!checked.isEmpty()) {
+      if (isClosed()) {
+        destroyIdle();
+      }
+      signal();
+    }
+  }
+
+  private boolean isEvictable(IdleConnection<C> idleConnection, long now) {
+    return minEvictionNanos > 0 && now - idleConnection.idleSince > minEvictionNanos && size.get() > max(minIdle, targetSize);
+  }
+
+  private boolean isValid(C connection) {
+    try {
+      ConnectionValidationResult result = connectionProvider.validate(connection);
+      return result != null && result.isValid();
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void fill() {
+    while (!isClosed() && size.get() < targetSize && (maxIdle < 0 || idleCount.get() < maxIdle) && reserve()) {
+      C connection;
+      try {
+        connection = create();
+      } catch (Exception e) {
+        LOGGER.warn("Exception was found creating a connection to warm the pool up", e);
+        return;
+      }
+      addIdle(connection);
+    }
+  }
+
+  /**
+   * Closes the pool, destroying its idle connections. Connections borrowed at this point are destroyed when returned.
+   */
+  @Override
+  public void close() throws Exception {
+    super.close();
+    if (maintenanceTask != null) {
+      maintenanceTask.cancel(false);
+    }
+    scheduler.stop();
+    destroyIdle();
+    waiters.forEach(waiter -> unpark(waiter));
+  }
+
+  @Override
+  public int getNumIdle() {
+    return idleCount.get();
+  }
+
+  @Override
+  public int getNumActive() {
+    return active.get();
+  }
+
+  @Override
+  public int getActive() {
+    return active.get();
+  }
+
+  @Override
+  public int getIdle() {
+    return idleCount.get();
+  }
+
+  @Override
+  public int getTargetSize() {
+    return targetSize;
+  }
+
+  @Override
+  public Snapshot getWaitTime() {
+    return waitTime.snapshot();
+  }
+
+  private static final class IdleConnection<C> {
+
+    private final C connection;
+    private final long idleSince;
+
+    private IdleConnection(C connection, long idleSince) {
+      this.connection = connection;
+      this.idleSince = idleSince;
+    }
+  }
+}
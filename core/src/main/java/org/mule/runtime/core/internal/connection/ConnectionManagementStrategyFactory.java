@@ -6,9 +6,11 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.Boolean.getBoolean;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.CACHED;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.NONE;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.POOLING;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.connection.util.ConnectionProviderUtils.unwrapProviderWrapper;
 
 import org.mule.runtime.api.config.PoolingProfile;
@@ -26,8 +28,14 @@ import org.mule.runtime.api.meta.model.connection.ConnectionManagementType;
  */
 final class ConnectionManagementStrategyFactory {
 
+  /**
+   * System property to pool connections in a {@link ConcurrentConnectionPool} instead of a commons-pool one.
+   */
+  static final String CONCURRENT_CONNECTION_POOL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.concurrentPool";
+
   private final PoolingProfile defaultPoolingProfile;
   private final MuleContext muleContext;
+  private final boolean concurrentPool = getBoolean(CONCURRENT_CONNECTION_POOL_PROPERTY);
 
   /**
    * Creates a new instance
@@ -80,7 +88,7 @@ final class ConnectionManagementStrategyFactory {
         : new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile,
                                                     (PoolingListener<C>) unwrapProviderWrapper(connectionProvider,
                                                                                                PoolingConnectionProvider.class),
-                                                    muleContext);
+                                                    muleContext, concurrentPool);
   }
 
   private <C> ConnectionManagementType getManagementType(ConnectionProvider<C> connectionProvider) {
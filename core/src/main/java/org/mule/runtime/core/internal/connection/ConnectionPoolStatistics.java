@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram.Snapshot;
+
+/**
+ * Point in time metrics of a pool of connections.
+ *
+ * @since 4.2
+ */
+public interface ConnectionPoolStatistics {
+
+  /**
+   * @return the amount of connections currently borrowed from the pool.
+   */
+  int getActive();
+
+  /**
+   * @return the amount of connections currently idle in the pool.
+   */
+  int getIdle();
+
+  /**
+   * @return the amount of connections the pool currently aims to keep open, between the ones it warms up on start and its
+   *         maximum size.
+   */
+  int getTargetSize();
+
+  /**
+   * @return the distribution of the time, in nanoseconds, that borrowing a connection took, including the time to create it or
+   *         to wait for one to be returned.
+   */
+  Snapshot getWaitTime();
+}
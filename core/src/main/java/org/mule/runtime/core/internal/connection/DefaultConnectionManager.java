@@ -27,12 +27,9 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.internal.retry.ReconnectionConfig;
 import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -40,6 +37,9 @@ import org.slf4j.Logger;
 
 /**
  * Implementation of {@link ConnectionManager} which manages connections opened on a specific application.
+ * <p>
+ * The {@link ConnectionManagementStrategy strategies} are kept in a concurrent map keyed by the identity of their owners, so
+ * obtaining a connection, which happens on every operation execution, doesn't lock.
  *
  * @since 4.0
  */
@@ -47,10 +47,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
 
   private static final Logger LOGGER = getLogger(DefaultConnectionManager.class);
 
-  private final Map<Reference<Object>, ConnectionManagementStrategy> connections = new HashMap<>();
-  private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-  private final Lock readLock = readWriteLock.readLock();
-  private final Lock writeLock = readWriteLock.writeLock();
+  private final Map<Reference<Object>, ConnectionManagementStrategy> connections = new ConcurrentHashMap<>();
   private final MuleContext muleContext;
   private final RetryPolicyTemplate retryPolicyTemplate;
   private final PoolingProfile defaultPoolingProfile;
@@ -82,15 +79,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
     connectionProvider = new DefaultConnectionProviderWrapper<>(connectionProvider, muleContext);
     ConnectionManagementStrategy<C> managementStrategy = managementStrategyFactory.getStrategy(connectionProvider);
 
-    ConnectionManagementStrategy<C> previous;
-
-    writeLock.lock();
-    try {
-      previous = connections.put(new Reference<>(owner), managementStrategy);
-    } finally {
-      writeLock.unlock();
-    }
-
+    ConnectionManagementStrategy<C> previous = connections.put(new Reference<>(owner), managementStrategy);
     if (previous != null) {
       close(previous);
     }
@@ -154,14 +143,11 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
       final Object config = configurationInstance.getValue();
       ConnectionHandler<Object> connectionHandler;
       try {
-        readLock.lock();
-        try {
-          connectionHandler = hasBinding(config)
-              ? getConnection(config)
-              : managementStrategyFactory.getStrategy(connectionProvider).getConnectionHandler();
-        } finally {
-          readLock.unlock();
-        }
+        // Looked up once, so the binding can't go away between checking for it and using it
+        ConnectionManagementStrategy<Object> managementStrategy = connections.get(new Reference<>(config));
+        connectionHandler = managementStrategy != null
+            ? managementStrategy.getConnectionHandler()
+            : managementStrategyFactory.getStrategy(connectionProvider).getConnectionHandler();
       } catch (ConnectionException e) {
         return failure(e.getMessage(), e.getErrorType().orElse(null), e);
       }
@@ -208,14 +194,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
   // TODO: MULE-9082
   @Override
   public void unbind(Object config) {
-    ConnectionManagementStrategy managementStrategy;
-    writeLock.lock();
-    try {
-      managementStrategy = connections.remove(new Reference<>(config));
-    } finally {
-      writeLock.unlock();
-    }
-
+    ConnectionManagementStrategy managementStrategy = connections.remove(new Reference<>(config));
     if (managementStrategy != null) {
       close(managementStrategy);
     }
@@ -226,14 +205,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
    */
   @Override
   public <C> ConnectionHandler<C> getConnection(Object config) throws ConnectionException {
-    ConnectionManagementStrategy<C> handlingStrategy = null;
-    readLock.lock();
-    try {
-      handlingStrategy = connections.get(new Reference<>(config));
-    } finally {
-      readLock.unlock();
-    }
-
+    ConnectionManagementStrategy<C> handlingStrategy = connections.get(new Reference<>(config));
     if (handlingStrategy == null) {
       throw new ConnectionException("No ConnectionProvider has been registered for owner " + config);
     }
@@ -248,13 +220,12 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter
    */
   @Override
   public void stop() throws MuleException {
-    writeLock.lock();
-    try {
-      connections.values().stream().forEach(this::close);
-      connections.clear();
-    } finally {
-      writeLock.unlock();
-    }
+    // Each binding is closed by whoever removes it, so one unbound concurrently isn't closed twice
+    connections.forEach((owner, managementStrategy) -> {
+      if (connections.remove(owner, managementStrategy)) {
+        close(managementStrategy);
+      }
+    });
   }
 
   // TODO: MULE-9082
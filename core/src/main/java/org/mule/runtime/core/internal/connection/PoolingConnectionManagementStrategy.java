@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
@@ -17,6 +19,7 @@ import org.mule.runtime.api.exception.DefaultMuleException;
 import org.mule.runtime.core.api.MuleContext;
 
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.apache.commons.pool.ObjectPool;
 import org.apache.commons.pool.PoolableObjectFactory;
@@ -44,10 +47,24 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
    */
   PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
                                       PoolingListener<C> poolingListener, MuleContext muleContext) {
+    this(connectionProvider, poolingProfile, poolingListener, muleContext, false);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param connectionProvider the {@link ConnectionProvider} used to manage the connections
+   * @param poolingProfile the {@link PoolingProfile} which configures the {@link #pool}
+   * @param poolingListener a {@link PoolingListener}
+   * @param muleContext the application's {@link MuleContext}
+   * @param concurrentPool whether to use a {@link ConcurrentConnectionPool} instead of a {@link GenericObjectPool}
+   */
+  PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
+                                      PoolingListener<C> poolingListener, MuleContext muleContext, boolean concurrentPool) {
     super(connectionProvider, muleContext);
     this.poolingProfile = poolingProfile;
     this.poolingListener = poolingListener;
-    pool = createPool();
+    pool = concurrentPool ? createConcurrentPool() : createPool();
   }
 
   /**
@@ -109,10 +126,25 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     return genericPool;
   }
 
+  private ObjectPool<C> createConcurrentPool() {
+    ConcurrentConnectionPool<C> concurrentPool =
+        new ConcurrentConnectionPool<>(connectionProvider, poolingProfile, muleContext.getSchedulerService()
+            .ioScheduler(muleContext.getSchedulerBaseConfig().withName("ConnectionPool-maintenance")));
+    concurrentPool.start();
+    return concurrentPool;
+  }
+
   public PoolingProfile getPoolingProfile() {
     return poolingProfile;
   }
 
+  /**
+   * @return the metrics of the pool, if it is a {@link ConcurrentConnectionPool}.
+   */
+  public Optional<ConnectionPoolStatistics> getStatistics() {
+    return pool instanceof ConnectionPoolStatistics ? of((ConnectionPoolStatistics) pool) : empty();
+  }
+
   private class ObjectFactoryAdapter implements PoolableObjectFactory<C> {
 
     @Override
@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.construct;
 
 import static com.google.common.base.Functions.identity;
 import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.unmodifiableList;
 import static org.mule.runtime.api.notification.EnrichedNotificationInfo.createInfo;
 import static org.mule.runtime.api.notification.PipelineMessageNotification.PROCESS_COMPLETE;
@@ -45,6 +46,7 @@ import org.mule.runtime.core.api.processor.strategy.ProcessingStrategyFactory;
 import org.mule.runtime.core.api.source.MessageSource;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.management.stats.LatencyStatistics;
 import org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 import org.mule.runtime.core.privileged.processor.MessageProcessorBuilder;
@@ -86,6 +88,7 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
   private Sink sink;
   private final int maxConcurrency;
   private final ComponentInitialStateManager componentInitialStateManager;
+  private LatencyStatistics latencyStatistics;
 
   public AbstractPipeline(String name, MuleContext muleContext, MessageSource source, List<Processor> processors,
                           Optional<FlowExceptionHandler> exceptionListener,
@@ -184,6 +187,9 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
   protected void doInitialise() throws MuleException {
     super.doInitialise();
 
+    if (muleContext.getStatistics() != null) {
+      latencyStatistics = muleContext.getStatistics().getFlowLatencyStatistics(getName());
+    }
     pipeline = createPipeline();
 
     if (source != null) {
@@ -267,6 +273,7 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
                                                                  AbstractPipeline.this.getName(), PROCESS_START));
 
       long startTime = currentTimeMillis();
+      long startNanos = nanoTime();
 
       BaseEventContext baseEventContext = ((BaseEventContext) event.getContext());
       baseEventContext.onComplete((response, throwable) -> {
@@ -280,6 +287,13 @@ public abstract class AbstractPipeline extends AbstractFlowConstruct implements
         }
         fireCompleteNotification(response, messagingException);
         baseEventContext.getProcessingTime().ifPresent(time -> time.addFlowExecutionBranchTime(startTime));
+        if (latencyStatistics != null && getStatistics().isEnabled()) {
+          if (throwable != null) {
+            latencyStatistics.recordError(nanoTime() - startNanos);
+          } else {
+            latencyStatistics.record(nanoTime() - startNanos);
+          }
+        }
       });
     };
   }
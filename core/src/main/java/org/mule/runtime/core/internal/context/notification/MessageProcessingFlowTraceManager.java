@@ -6,9 +6,14 @@
  */
 package org.mule.runtime.core.internal.context.notification;
 
+import static java.lang.Double.parseDouble;
+import static java.lang.System.getProperty;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.core.api.config.DefaultMuleConfiguration.isFlowTrace;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_FLOW_TRACE_SAMPLING_RATE;
+import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.component.Component;
 import org.mule.runtime.api.event.EventContext;
 import org.mule.runtime.api.lifecycle.Disposable;
@@ -17,8 +22,10 @@ import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.notification.EnrichedNotificationInfo;
 import org.mule.runtime.api.notification.MessageProcessorNotification;
 import org.mule.runtime.api.notification.PipelineMessageNotification;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.DefaultMuleConfiguration;
+import org.mule.runtime.core.api.config.MuleProperties;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.context.notification.FlowCallStack;
 import org.mule.runtime.core.api.context.notification.FlowStackElement;
@@ -34,25 +41,53 @@ import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.spi.LoggerContext;
+import org.slf4j.Logger;
 
 /**
  * Manager for handling message processing troubleshooting data.
+ * <p>
+ * When {@link MuleProperties#MULE_FLOW_TRACE_SAMPLING_RATE} is set, the processors executed for a sample of the events are
+ * recorded by a {@link SampledFlowTraceRecorder} and logged asynchronously, instead of updating the {@link ProcessorsTrace} of
+ * every event as each processor is invoked.
  */
 public class MessageProcessingFlowTraceManager extends LocationExecutionContextProvider
     implements FlowTraceManager, MuleContextAware, Initialisable, Disposable {
 
   public static final String FLOW_STACK_INFO_KEY = "FlowStack";
 
+  private static final Logger LOGGER = getLogger(MessageProcessingFlowTraceManager.class);
+
+  private static final int SAMPLED_TRACE_BUFFER_CAPACITY = 4096;
+  private static final long SAMPLED_TRACE_PUBLISH_INTERVAL_MILLIS = 500;
+
   private final FlowNotificationTextDebugger pipelineProcessorDebugger;
   private final MessageProcessorTextDebugger messageProcessorTextDebugger;
+  private final SampledFlowTraceRecorder sampledRecorder;
 
   private MuleContext muleContext;
+  private Scheduler sampledTracePublisher;
 
   private PropertyChangeListener logConfigChangeListener = evt -> handleNotificationListeners();
 
   public MessageProcessingFlowTraceManager() {
     messageProcessorTextDebugger = new MessageProcessorTextDebugger(this);
     pipelineProcessorDebugger = new FlowNotificationTextDebugger(this);
+    sampledRecorder = createSampledRecorder();
+  }
+
+  private static SampledFlowTraceRecorder createSampledRecorder() {
+    String samplingRate = getProperty(MULE_FLOW_TRACE_SAMPLING_RATE);
+    if (samplingRate == null) {
+      return null;
+    }
+
+    try {
+      return new SampledFlowTraceRecorder(parseDouble(samplingRate), SAMPLED_TRACE_BUFFER_CAPACITY);
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Invalid value '{}' for {}, sampled flow trace disabled: {}", samplingRate, MULE_FLOW_TRACE_SAMPLING_RATE,
+                  e.getMessage());
+      return null;
+    }
   }
 
   @Override
@@ -68,6 +103,13 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
     }
 
     handleNotificationListeners();
+
+    if (sampledRecorder != null) {
+      sampledTracePublisher = muleContext.getSchedulerService()
+          .customScheduler(muleContext.getSchedulerBaseConfig().withName("flowTrace.publisher").withMaxConcurrentTasks(1));
+      sampledTracePublisher.scheduleWithFixedDelay(this::publishSampledTrace, SAMPLED_TRACE_PUBLISH_INTERVAL_MILLIS,
+                                                   SAMPLED_TRACE_PUBLISH_INTERVAL_MILLIS, MILLISECONDS);
+    }
   }
 
   @Override
@@ -78,12 +120,54 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
     }
 
     removeNotificationListeners();
+
+    if (sampledTracePublisher != null) {
+      sampledTracePublisher.stop();
+      sampledTracePublisher = null;
+      publishSampledTrace();
+    }
+    if (sampledRecorder != null) {
+      sampledRecorder.dispose();
+    }
+  }
+
+  /**
+   * @return the recorder of the sampled flow trace, or {@code null} if the flow trace is not sampled.
+   */
+  public SampledFlowTraceRecorder getSampledRecorder() {
+    return sampledRecorder;
+  }
+
+  private void publishSampledTrace() {
+    try {
+      sampledRecorder.drain(record -> {
+        if (LOGGER.isDebugEnabled()) {
+          Component processor = record.getProcessor();
+          LOGGER.debug("{} {} {} {}", record.getTimestamp(), record.getEventId(), record.getPhase(),
+                       resolveProcessorRepresentation(muleContext.getConfiguration().getId(),
+                                                      processor.getLocation() != null ? processor.getLocation().getLocation()
+                                                          : null,
+                                                      processor));
+        }
+      });
+    } catch (Exception e) {
+      LOGGER.warn("Could not publish the sampled flow trace", e);
+    }
   }
 
   protected void handleNotificationListeners() {
+    if (sampledRecorder != null) {
+      // The sampled records are only logged at debug level, so there is no point in taking them otherwise
+      sampledRecorder.setEnabled(DefaultMuleConfiguration.isFlowTrace() && LOGGER.isDebugEnabled());
+    }
     if (!muleContext.getNotificationManager().isDisposed()) {
       if (DefaultMuleConfiguration.isFlowTrace()) {
-        muleContext.getNotificationManager().addListener(messageProcessorTextDebugger);
+        if (sampledRecorder == null) {
+          muleContext.getNotificationManager().addListener(messageProcessorTextDebugger);
+        } else {
+          // The processors are recorded by the chains directly into the sampled recorder
+          muleContext.getNotificationManager().removeListener(messageProcessorTextDebugger);
+        }
         muleContext.getNotificationManager().addListener(pipelineProcessorDebugger);
       } else {
         removeNotificationListeners();
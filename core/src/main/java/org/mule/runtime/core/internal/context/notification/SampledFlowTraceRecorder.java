@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.ceil;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.currentThread;
+import static java.lang.ThreadLocal.withInitial;
+import static java.util.Arrays.fill;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Records the processors executed for a sample of the events, to be published asynchronously.
+ * <p>
+ * Whether an event is sampled only depends on the id of its root context, so all the processors executed for a sampled event are
+ * recorded, including the ones of the flows it calls. Each thread records in its own ring buffer, without locking nor formatting
+ * anything, and the records are {@link #drain(Consumer) drained} later from another thread. When the ring buffer of a thread is
+ * full, its records are dropped until it is drained.
+ * <p>
+ * Nothing is recorded until the recorder is {@link #setEnabled(boolean) enabled}. The ring buffers are referenced by the threads
+ * that recorded in them, which may outlive the artifact, so they are emptied when the recorder is {@link #dispose() disposed}.
+ *
+ * @since 4.2
+ */
+public final class SampledFlowTraceRecorder {
+
+  /**
+   * The point in the execution of a processor where a {@link FlowTraceRecord} was taken.
+   */
+  public enum Phase {
+    PRE_INVOKE, POST_INVOKE, ERROR
+  }
+
+  private static final int SAMPLING_RESOLUTION = 0x10000;
+
+  private final int samplingThreshold;
+  private final int bufferCapacity;
+  private final Queue<RingBuffer> buffers = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<RingBuffer> threadBuffer = withInitial(this::newBuffer);
+  private final LongAdder dropped = new LongAdder();
+  private volatile boolean enabled;
+
+  /**
+   * Creates a new recorder.
+   *
+   * @param samplingRate the fraction of the events to record, greater than 0 and up to 1.
+   * @param bufferCapacity the amount of records each thread may hold until they are drained. Rounded down to a power of 2.
+   */
+  public SampledFlowTraceRecorder(double samplingRate, int bufferCapacity) {
+    checkArgument(samplingRate > 0 && samplingRate <= 1, "samplingRate must be greater than 0 and up to 1");
+    checkArgument(bufferCapacity > 0, "bufferCapacity must be greater than 0");
+    this.samplingThreshold = (int) ceil(samplingRate * SAMPLING_RESOLUTION);
+    this.bufferCapacity = highestOneBit(bufferCapacity);
+  }
+
+  /**
+   * @param event the event to check.
+   * @return whether the processors executed for the given event are recorded.
+   */
+  public boolean isSampled(CoreEvent event) {
+    String rootId = ((BaseEventContext) event.getContext()).getRootContext().getId();
+    return (mix(rootId.hashCode()) & (SAMPLING_RESOLUTION - 1)) < samplingThreshold;
+  }
+
+  /**
+   * Records the execution of a processor for the given event, if it is sampled.
+   *
+   * @param event the event being processed.
+   * @param processor the processor being executed.
+   * @param phase the point in the execution of the processor.
+   */
+  public void record(CoreEvent event, Component processor, Phase phase) {
+    if (enabled && isSampled(event)
+        && !threadBuffer.get().offer(event.getContext().getId(), processor, phase, currentTimeMillis())) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * Hands the records taken so far to the given consumer. Must not be called concurrently.
+   *
+   * @param consumer the consumer of the records.
+   * @return the amount of records drained.
+   */
+  public int drain(Consumer<FlowTraceRecord> consumer) {
+    int drained = 0;
+    Iterator<RingBuffer> iterator = buffers.iterator();
+    while (iterator.hasNext()) {
+      RingBuffer buffer = iterator.next();
+      boolean ownerAlive = buffer.owner.get() != null;
+      drained += buffer.drain(consumer);
+      if (!ownerAlive) {
+        // Nothing else will be recorded in this buffer
+        iterator.remove();
+      }
+    }
+    return drained;
+  }
+
+  /**
+   * @param enabled whether the processors executed for the sampled events are recorded.
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @return whether the processors executed for the sampled events are recorded.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Stops recording and discards the records not drained yet, releasing the references the ring buffers of each thread hold to
+   * processors.
+   */
+  public void dispose() {
+    enabled = false;
+    for (RingBuffer buffer : buffers) {
+      buffer.close();
+    }
+    buffers.clear();
+  }
+
+  /**
+   * @return the amount of records dropped because the buffer of the recording thread was full.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  private RingBuffer newBuffer() {
+    RingBuffer buffer = new RingBuffer(currentThread(), bufferCapacity);
+    buffers.add(buffer);
+    return buffer;
+  }
+
+  private static int mix(int hash) {
+    // Finalizer of MurmurHash3
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  /**
+   * Ring buffer with a single producer, the thread that owns it, and a single consumer, the one draining the recorder.
+   */
+  private static final class RingBuffer {
+
+    private final WeakReference<Thread> owner;
+    private final int mask;
+    private final String[] eventIds;
+    private final Component[] processors;
+    private final Phase[] phases;
+    private final long[] timestamps;
+
+    // Only written by the owner, which publishes the slots it writes by moving the head
+    private final AtomicLong head = new AtomicLong();
+    // Only written by the consumer, which frees the slots it reads by moving the tail
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean closed;
+
+    private RingBuffer(Thread owner, int capacity) {
+      this.owner = new WeakReference<>(owner);
+      this.mask = capacity - 1;
+      this.eventIds = new String[capacity];
+      this.processors = new Component[capacity];
+      this.phases = new Phase[capacity];
+      this.timestamps = new long[capacity];
+    }
+
+    private boolean offer(String eventId, Component processor, Phase phase, long timestamp) {
+      if (closed) {
+        return false;
+      }
+
+      long currentHead = head.get();
+      if (currentHead - tail.get() > mask) {
+        return false;
+      }
+
+      int index = (int) currentHead & mask;
+      eventIds[index] = eventId;
+      processors[index] = processor;
+      phases[index] = phase;
+      timestamps[index] = timestamp;
+      head.lazySet(currentHead + 1);
+      if (closed) {
+        // Closed while writing, the references must not outlive the recorder
+        eventIds[index] = null;
+        processors[index] = null;
+      }
+      return true;
+    }
+
+    private void close() {
+      closed = true;
+      fill(eventIds, null);
+      fill(processors, null);
+    }
+
+    private int drain(Consumer<FlowTraceRecord> consumer) {
+      long currentTail = tail.get();
+      long currentHead = head.get();
+      for (long position = currentTail; position < currentHead; ++position) {
+        int index = (int) position & mask;
+        consumer.accept(new FlowTraceRecord(eventIds[index], processors[index], phases[index], timestamps[index]));
+        eventIds[index] = null;
+        processors[index] = null;
+        tail.lazySet(position + 1);
+      }
+      return (int) (currentHead - currentTail);
+    }
+  }
+
+  /**
+   * The execution of a processor for a sampled event.
+   */
+  public static final class FlowTraceRecord {
+
+    private final String eventId;
+    private final Component processor;
+    private final Phase phase;
+    private final long timestamp;
+
+    private FlowTraceRecord(String eventId, Component processor, Phase phase, long timestamp) {
+      this.eventId = eventId;
+      this.processor = processor;
+      this.phase = phase;
+      this.timestamp = timestamp;
+    }
+
+    /**
+     * @return the id of the context of the event.
+     */
+    public String getEventId() {
+      return eventId;
+    }
+
+    /**
+     * @return the processor executed.
+     */
+    public Component getProcessor() {
+      return processor;
+    }
+
+    /**
+     * @return the point in the execution of the processor.
+     */
+    public Phase getPhase() {
+      return phase;
+    }
+
+    /**
+     * @return when the record was taken, in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+      return timestamp;
+    }
+  }
+}
@@ -26,48 +26,72 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-import reactor.core.publisher.Mono;
-import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.MonoProcessor;
 
 /**
  * Base class for implementations of {@link BaseEventContext}
  *
  * @since 4.0
  */
-abstract class AbstractEventContext implements BaseEventContext {
+abstract class AbstractEventContext implements BaseEventContext, InFlightExecutions {
 
   private static final int STATE_READY = 0;
   private static final int STATE_RESPONSE = 1;
-  private static final int STATE_COMPLETE = 2;
-  private static final int STATE_TERMINATED = 3;
+  private static final int STATE_COMPLETING = 2;
+  private static final int STATE_COMPLETE = 3;
+  private static final int STATE_TERMINATING = 4;
+  private static final int STATE_TERMINATED = 5;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEventContext.class);
   private static final FlowExceptionHandler NULL_EXCEPTION_HANDLER = NullExceptionHandler.getInstance();
 
-  private transient final List<BaseEventContext> childContexts = new ArrayList<>();
+  /**
+   * Replaces the result once the context is terminated, so the event is not retained and a response cannot be set again.
+   */
+  private static final Either<Throwable, CoreEvent> TERMINATED_RESULT = right(null);
+
+  /**
+   * Marks a stack of callbacks that has already been signaled. Callbacks registered after that are signaled right away.
+   */
+  private static final Node CLOSED = new Node(null, null);
+
+  private static final AtomicIntegerFieldUpdater<AbstractEventContext> STATE =
+      AtomicIntegerFieldUpdater.newUpdater(AbstractEventContext.class, "state");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Either> RESULT =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Either.class, "result");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Node> CHILD_CONTEXTS =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Node.class, "childContexts");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Node> ON_RESPONSE =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Node.class, "onResponseConsumers");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Node> ON_COMPLETION =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Node.class, "onCompletionConsumers");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, Node> ON_TERMINATED =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, Node.class, "onTerminatedConsumers");
+  private static final AtomicReferenceFieldUpdater<AbstractEventContext, ConcurrentHashMap> EXECUTION_START_TIMES =
+      AtomicReferenceFieldUpdater.newUpdater(AbstractEventContext.class, ConcurrentHashMap.class, "executionStartTimes");
+
   private transient final FlowExceptionHandler exceptionHandler;
   private transient final CompletableFuture<Void> externalCompletion;
-  private transient final List<BiConsumer<CoreEvent, Throwable>> onResponseConsumerList = new ArrayList<>();
-  private transient final List<BiConsumer<CoreEvent, Throwable>> onCompletionConsumerList = new ArrayList<>();
-  private transient final List<BiConsumer<CoreEvent, Throwable>> onTerminatedConsumerList = new ArrayList<>();
 
-  private ReadWriteLock childContextsReadWriteLock = new ReentrantReadWriteLock();
+  // Lock-free stacks, see Node
+  private transient volatile Node childContexts;
+  private transient volatile Node onResponseConsumers;
+  private transient volatile Node onCompletionConsumers;
+  private transient volatile Node onTerminatedConsumers;
 
   private volatile int state = STATE_READY;
   private volatile Either<Throwable, CoreEvent> result;
 
-  private final Set<ResponsePublisher> responsePublishers = new HashSet<>();
+  // Created on first use, as most contexts are processed without measuring executions
+  private transient volatile ConcurrentHashMap<Object, Long> executionStartTimes;
 
   protected FlowCallStack flowCallStack = new DefaultFlowCallStack();
 
@@ -92,12 +116,12 @@ abstract class AbstractEventContext implements BaseEventContext {
   }
 
   void addChildContext(BaseEventContext childContext) {
-    childContextsReadWriteLock.writeLock().lock();
-    try {
-      childContexts.add(childContext);
-    } finally {
-      childContextsReadWriteLock.writeLock().unlock();
-    }
+    Node node = new Node(childContext, null);
+    Node head;
+    do {
+      head = childContexts;
+      node.next = head;
+    } while (!CHILD_CONTEXTS.compareAndSet(this, head, node));
   }
 
   /**
@@ -169,60 +193,98 @@ abstract class AbstractEventContext implements BaseEventContext {
     }
   }
 
-  private synchronized void responseDone(Either<Throwable, CoreEvent> result) {
-    this.result = result;
-    responsePublishers.forEach(rp -> rp.result = result);
+  private void responseDone(Either<Throwable, CoreEvent> result) {
+    // Only the first result is taken into account
+    if (!RESULT.compareAndSet(this, null, result)) {
+      return;
+    }
+    signalConsumers(ON_RESPONSE);
+    // The state is changed after signaling, so completion is never signaled before the response
     state = STATE_RESPONSE;
-    onResponseConsumerList.stream().forEach(consumer -> signalConsumerSilently(consumer));
     tryComplete();
   }
 
   protected void tryComplete() {
-    boolean allChildrenComplete;
+    if (state != STATE_RESPONSE || !allChildrenComplete() || !STATE.compareAndSet(this, STATE_RESPONSE, STATE_COMPLETING)) {
+      return;
+    }
 
-    childContextsReadWriteLock.readLock().lock();
-    try {
-      allChildrenComplete = childContexts.stream().allMatch(context -> context.isComplete());
-    } finally {
-      childContextsReadWriteLock.readLock().unlock();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(this + " completed.");
     }
+    signalConsumers(ON_COMPLETION);
+    state = STATE_COMPLETE;
 
-    synchronized (this) {
-      if (state == STATE_RESPONSE && allChildrenComplete) {
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug(this + " completed.");
-        }
-        this.state = STATE_COMPLETE;
-        onCompletionConsumerList.forEach(consumer -> signalConsumerSilently(consumer));
-        getParentContext().ifPresent(context -> {
-          if (context instanceof AbstractEventContext) {
-            ((AbstractEventContext) context).tryComplete();
-          }
-        });
-        tryTerminate();
+    getParentContext().ifPresent(context -> {
+      if (context instanceof AbstractEventContext) {
+        ((AbstractEventContext) context).tryComplete();
       }
-    }
+    });
+    tryTerminate();
   }
 
-  protected synchronized void tryTerminate() {
-    if (this.state == STATE_COMPLETE && (externalCompletion == null || externalCompletion.isDone())) {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug(this + " terminated.");
+  private boolean allChildrenComplete() {
+    for (Node node = childContexts; node != null; node = node.next) {
+      if (!((BaseEventContext) node.value).isComplete()) {
+        return false;
       }
-      this.state = STATE_TERMINATED;
+    }
+    return true;
+  }
 
-      onTerminatedConsumerList.forEach(consumer -> signalConsumerSilently(consumer));
+  protected void tryTerminate() {
+    if (state != STATE_COMPLETE || (externalCompletion != null && !externalCompletion.isDone())
+        || !STATE.compareAndSet(this, STATE_COMPLETE, STATE_TERMINATING)) {
+      return;
+    }
 
-      childContextsReadWriteLock.writeLock().lock();
-      try {
-        this.childContexts.clear();
-      } finally {
-        childContextsReadWriteLock.writeLock().unlock();
-      }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(this + " terminated.");
+    }
+    signalConsumers(ON_TERMINATED);
+    childContexts = null;
+    result = TERMINATED_RESULT;
+    state = STATE_TERMINATED;
+  }
+
+  /**
+   * Closes the given stack of callbacks and signals the callbacks it had, in the order they were registered.
+   */
+  private void signalConsumers(AtomicReferenceFieldUpdater<AbstractEventContext, Node> consumers) {
+    Node node = consumers.getAndSet(this, CLOSED);
+    if (node == CLOSED) {
+      return;
+    }
 
-      result = null;
-      responsePublishers.clear();
+    // Reverse the stack, no other thread can reach these nodes anymore
+    Node reversed = null;
+    while (node != null) {
+      Node next = node.next;
+      node.next = reversed;
+      reversed = node;
+      node = next;
     }
+
+    for (node = reversed; node != null; node = node.next) {
+      signalConsumerSilently((BiConsumer<CoreEvent, Throwable>) node.value);
+    }
+  }
+
+  /**
+   * Adds a consumer to the given stack of callbacks, or signals it right away if that stack was already signaled.
+   */
+  private void registerConsumer(AtomicReferenceFieldUpdater<AbstractEventContext, Node> consumers,
+                                BiConsumer<CoreEvent, Throwable> consumer) {
+    Node node = new Node(requireNonNull(consumer), null);
+    Node head;
+    do {
+      head = consumers.get(this);
+      if (head == CLOSED) {
+        signalConsumerSilently(consumer);
+        return;
+      }
+      node.next = head;
+    } while (!consumers.compareAndSet(this, head, node));
   }
 
   private void signalConsumerSilently(BiConsumer<CoreEvent, Throwable> consumer) {
@@ -247,7 +309,7 @@ abstract class AbstractEventContext implements BaseEventContext {
   }
 
   private boolean isResponseDone() {
-    return state >= STATE_RESPONSE;
+    return result != null;
   }
 
   @Override
@@ -261,91 +323,87 @@ abstract class AbstractEventContext implements BaseEventContext {
   }
 
   @Override
-  public synchronized void onTerminated(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_TERMINATED) {
-      signalConsumerSilently(consumer);
-    }
-    onTerminatedConsumerList.add(requireNonNull(consumer));
+  public void onTerminated(BiConsumer<CoreEvent, Throwable> consumer) {
+    registerConsumer(ON_TERMINATED, consumer);
   }
 
   @Override
-  public synchronized void onComplete(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_COMPLETE) {
-      signalConsumerSilently(consumer);
-    }
-    onCompletionConsumerList.add(requireNonNull(consumer));
+  public void onComplete(BiConsumer<CoreEvent, Throwable> consumer) {
+    registerConsumer(ON_COMPLETION, consumer);
   }
 
   @Override
-  public synchronized void onResponse(BiConsumer<CoreEvent, Throwable> consumer) {
-    if (state >= STATE_RESPONSE) {
-      signalConsumerSilently(consumer);
-    }
-    onResponseConsumerList.add(requireNonNull(consumer));
+  public void onResponse(BiConsumer<CoreEvent, Throwable> consumer) {
+    registerConsumer(ON_RESPONSE, consumer);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned {@link Publisher} keeps the response, so it is available to subscribers even after this context has been
+   * terminated.
+   */
   @Override
-  public synchronized Publisher<CoreEvent> getResponsePublisher() {
+  public Publisher<CoreEvent> getResponsePublisher() {
     if (isTerminated()) {
       throw new IllegalStateException("getResponsePublisher() cannot be called after eventContext termination.");
     }
 
-    final ResponsePublisher responsePublisher = new ResponsePublisher();
-    responsePublishers.add(responsePublisher);
-    return Mono.create(responsePublisher);
+    final MonoProcessor<CoreEvent> responseProcessor = MonoProcessor.create();
+    onResponse((event, throwable) -> {
+      if (throwable != null) {
+        responseProcessor.onError(throwable);
+      } else if (event != null) {
+        responseProcessor.onNext(event);
+      } else {
+        responseProcessor.onComplete();
+      }
+    });
+    return responseProcessor;
+  }
+
+  @Override
+  public void startExecution(Object execution, long startNanos) {
+    ConcurrentHashMap<Object, Long> startTimes = executionStartTimes;
+    if (startTimes == null) {
+      EXECUTION_START_TIMES.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+      startTimes = executionStartTimes;
+    }
+    startTimes.put(execution, startNanos);
+  }
+
+  @Override
+  public long endExecution(Object execution) {
+    ConcurrentHashMap<Object, Long> startTimes = executionStartTimes;
+    Long startNanos = startTimes != null ? startTimes.remove(execution) : null;
+    return startNanos != null ? startNanos : NOT_STARTED;
   }
 
   public void forEachChild(Consumer<BaseEventContext> childConsumer) {
-    childContextsReadWriteLock.readLock().lock();
-    try {
-      for (BaseEventContext context : childContexts) {
-        if (!context.isTerminated()) {
-          childConsumer.accept(context);
-          if (context instanceof AbstractEventContext) {
-            ((AbstractEventContext) context).forEachChild(childConsumer);
-          }
+    // Children are kept in a stack, so they are visited starting from the most recent one
+    for (Node node = childContexts; node != null; node = node.next) {
+      BaseEventContext context = (BaseEventContext) node.value;
+      if (!context.isTerminated()) {
+        childConsumer.accept(context);
+        if (context instanceof AbstractEventContext) {
+          ((AbstractEventContext) context).forEachChild(childConsumer);
         }
       }
-    } finally {
-      childContextsReadWriteLock.readLock().unlock();
     }
   }
 
   /**
-   * Allows the result of the parent object to be available for the {@link Publisher} of this context's response even after the
-   * context has been terminated.
+   * Node of the lock-free stacks used for child contexts and callbacks. Nodes are pushed with a compare-and-set on the head, and
+   * callback stacks are detached all at once by swapping the head with {@link #CLOSED}.
    */
-  private final class ResponsePublisher implements Consumer<MonoSink<CoreEvent>> {
+  private static final class Node {
 
-    private volatile Either<Throwable, CoreEvent> result;
+    private final Object value;
+    private Node next;
 
-    @Override
-    public void accept(MonoSink<CoreEvent> sink) {
-      if (isResponseDone()) {
-        signalPublisherSink(sink);
-      } else {
-        synchronized (AbstractEventContext.this) {
-          if (isResponseDone()) {
-            signalPublisherSink(sink);
-          } else {
-            onResponse((event, throwable) -> {
-              if (throwable != null) {
-                sink.error(throwable);
-              } else {
-                sink.success(event);
-              }
-            });
-          }
-        }
-      }
-    }
-
-    private void signalPublisherSink(MonoSink<CoreEvent> sink) {
-      if (result.isLeft()) {
-        sink.error(result.getLeft());
-      } else {
-        sink.success(result.getRight());
-      }
+    private Node(Object value, Node next) {
+      this.value = value;
+      this.next = next;
     }
   }
 
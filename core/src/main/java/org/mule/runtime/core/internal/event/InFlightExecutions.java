@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.event;
+
+import org.mule.runtime.core.privileged.event.BaseEventContext;
+
+/**
+ * Keeps the start time of the executions in flight for a {@link BaseEventContext}.
+ * <p>
+ * Start times are held by the context itself, so those of executions that never end (for instance, because the event was
+ * filtered out) are discarded along with it.
+ *
+ * @since 4.2
+ */
+public interface InFlightExecutions {
+
+  /**
+   * Value returned by {@link #endExecution(Object)} when the execution was not started.
+   */
+  long NOT_STARTED = Long.MIN_VALUE;
+
+  /**
+   * Signals the start of an execution.
+   *
+   * @param execution the key of the execution, unique among the executions that may be in flight at the same time.
+   * @param startNanos the start time of the execution, as returned by {@link System#nanoTime()}.
+   */
+  void startExecution(Object execution, long startNanos);
+
+  /**
+   * Signals the end of an execution started with {@link #startExecution(Object, long)}.
+   *
+   * @param execution the key of the execution.
+   * @return the start time of the execution, or {@link #NOT_STARTED} if it was not started.
+   */
+  long endExecution(Object execution);
+
+}
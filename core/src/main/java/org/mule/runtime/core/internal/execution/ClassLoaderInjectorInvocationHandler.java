@@ -12,8 +12,9 @@ import static java.lang.reflect.Proxy.newProxyInstance;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.util.ClassUtils.findImplementedInterfaces;
 
+import org.mule.runtime.core.internal.util.MethodDispatchTable;
+
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 /**
@@ -26,26 +27,28 @@ public class ClassLoaderInjectorInvocationHandler implements InvocationHandler {
 
   private final ClassLoader classLoader;
   private final Object delegate;
+  private final MethodDispatchTable dispatchTable;
 
-  private ClassLoaderInjectorInvocationHandler(Object delegate, ClassLoader classLoader) {
+  private ClassLoaderInjectorInvocationHandler(Object delegate, ClassLoader classLoader, Class<?>[] interfaces) {
     this.classLoader = classLoader;
     this.delegate = delegate;
+    this.dispatchTable = new MethodDispatchTable(interfaces);
   }
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    try {
-      ClassLoader originalLoader = currentThread().getContextClassLoader();
+    Thread currentThread = currentThread();
+    ClassLoader originalLoader = currentThread.getContextClassLoader();
+    if (originalLoader == classLoader) {
+      return dispatchTable.invoke(method, delegate, args);
+    }
 
-      try {
-        currentThread().setContextClassLoader(classLoader);
+    try {
+      currentThread.setContextClassLoader(classLoader);
 
-        return method.invoke(delegate, args);
-      } finally {
-        currentThread().setContextClassLoader(originalLoader);
-      }
-    } catch (InvocationTargetException ite) {
-      throw ite.getTargetException();
+      return dispatchTable.invoke(method, delegate, args);
+    } finally {
+      currentThread.setContextClassLoader(originalLoader);
     }
   }
 
@@ -60,8 +63,9 @@ public class ClassLoaderInjectorInvocationHandler implements InvocationHandler {
     checkArgument(delegate != null, "delegate cannot be null");
     checkArgument(classLoader != null, "classloader cannot be null");
 
-    InvocationHandler handler = new ClassLoaderInjectorInvocationHandler(delegate, classLoader);
+    Class<?>[] interfaces = findImplementedInterfaces(delegate.getClass());
+    InvocationHandler handler = new ClassLoaderInjectorInvocationHandler(delegate, classLoader, interfaces);
 
-    return newProxyInstance(classLoader, findImplementedInterfaces(delegate.getClass()), handler);
+    return newProxyInstance(classLoader, interfaces, handler);
   }
 }
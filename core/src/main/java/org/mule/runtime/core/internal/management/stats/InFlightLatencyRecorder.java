@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.System.nanoTime;
+import static org.mule.runtime.core.internal.event.InFlightExecutions.NOT_STARTED;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
+import org.mule.runtime.core.internal.event.InFlightExecutions;
+
+/**
+ * Measures the executions of a processor whose start and end are signaled separately, as happens when the processor is part of a
+ * reactive stream.
+ * <p>
+ * The start time of each in-flight execution is kept by the {@link EventContext} of the event being processed, so it is
+ * discarded along with the context when the execution never ends. Executions are only measured while the statistics are enabled.
+ *
+ * @since 4.2
+ */
+public final class InFlightLatencyRecorder {
+
+  private final AllStatistics allStatistics;
+  private final LatencyStatistics latencyStatistics;
+
+  /**
+   * Creates a new recorder.
+   *
+   * @param allStatistics the statistics of the application, used to check whether they are enabled.
+   * @param latencyStatistics where to record the measured executions.
+   */
+  public InFlightLatencyRecorder(AllStatistics allStatistics, LatencyStatistics latencyStatistics) {
+    this.allStatistics = allStatistics;
+    this.latencyStatistics = latencyStatistics;
+  }
+
+  /**
+   * Signals the start of an execution.
+   *
+   * @param eventContext the context of the event being processed.
+   */
+  public void start(EventContext eventContext) {
+    if (allStatistics.isEnabled() && eventContext instanceof InFlightExecutions) {
+      ((InFlightExecutions) eventContext).startExecution(this, nanoTime());
+    }
+  }
+
+  /**
+   * Signals the successful end of an execution started with {@link #start(EventContext)}.
+   *
+   * @param eventContext the context of the event being processed.
+   */
+  public void success(EventContext eventContext) {
+    long startTime = end(eventContext);
+    if (startTime != NOT_STARTED) {
+      latencyStatistics.record(nanoTime() - startTime);
+    }
+  }
+
+  /**
+   * Signals the end with an error of an execution started with {@link #start(EventContext)}.
+   *
+   * @param eventContext the context of the event being processed.
+   */
+  public void error(EventContext eventContext) {
+    long startTime = end(eventContext);
+    if (startTime != NOT_STARTED) {
+      latencyStatistics.recordError(nanoTime() - startTime);
+    }
+  }
+
+  private long end(EventContext eventContext) {
+    return eventContext instanceof InFlightExecutions ? ((InFlightExecutions) eventContext).endExecution(this) : NOT_STARTED;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory histogram of non negative values (typically latencies in milliseconds or nanoseconds).
+ * <p>
+ * Values are recorded into logarithmic buckets: every power of two is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets,
+ * so the relative error of any reported percentile is bounded by {@code 1 / SUB_BUCKET_COUNT} regardless of the magnitude of the
+ * recorded values. Recording is lock-free and allocation-free, which makes it suitable for the hot path.
+ *
+ * @since 4.2
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a value. Negative values are recorded as {@code 0}.
+   *
+   * @param value the value to record.
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * @return the amount of recorded values.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Takes a point in time copy of the state of this histogram. Values recorded concurrently with this call may or may not be
+   * part of the returned snapshot.
+   *
+   * @return an immutable snapshot of this histogram.
+   */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; ++i) {
+      counts[i] = buckets.get(i);
+    }
+    return new Snapshot(counts, count.sum(), total.sum(), max.get());
+  }
+
+  /**
+   * Takes a snapshot of this histogram and resets it, so the next snapshot only contains values recorded after this call.
+   * <p>
+   * Values recorded concurrently with this call are not lost, but may be accounted in either this snapshot or the next one.
+   *
+   * @return an immutable snapshot of the values recorded since the previous reset.
+   */
+  public Snapshot snapshotAndReset() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; ++i) {
+      counts[i] = buckets.getAndSet(i, 0);
+    }
+    return new Snapshot(counts, count.sumThenReset(), total.sumThenReset(), max.getThenReset());
+  }
+
+  /**
+   * Clears all the recorded values.
+   */
+  public void clear() {
+    snapshotAndReset();
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = (Long.SIZE - 1 - numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long bucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * Immutable view of the values recorded by a {@link LatencyHistogram}.
+   */
+  public static final class Snapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    private Snapshot(long[] counts, long count, long total, long max) {
+      this.counts = counts;
+      this.count = count;
+      this.total = total;
+      this.max = max;
+    }
+
+    /**
+     * @return the amount of values in this snapshot.
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * @return the sum of all the values in this snapshot.
+     */
+    public long getTotal() {
+      return total;
+    }
+
+    /**
+     * @return the maximum value in this snapshot.
+     */
+    public long getMax() {
+      return max;
+    }
+
+    /**
+     * @return the mean of the values in this snapshot, or {@code 0} if it is empty.
+     */
+    public long getMean() {
+      return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Calculates the value below which the given fraction of the recorded values fall.
+     *
+     * @param percentile a number between {@code 0} and {@code 100}.
+     * @return the value at the given percentile, or {@code 0} if this snapshot is empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("percentile must be between 0 and 100, was " + percentile);
+      }
+      long bucketsTotal = 0;
+      for (long c : counts) {
+        bucketsTotal += c;
+      }
+      if (bucketsTotal == 0) {
+        return 0;
+      }
+
+      long target = Math.max(1, (long) ceil(percentile / 100 * bucketsTotal));
+      long accumulated = 0;
+      for (int i = 0; i < counts.length; ++i) {
+        accumulated += counts[i];
+        if (accumulated >= target) {
+          return min(bucketUpperBound(i), max);
+        }
+      }
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "count=" + count + ", mean=" + getMean() + ", p50=" + getValueAtPercentile(50) + ", p95="
+          + getValueAtPercentile(95) + ", p99=" + getValueAtPercentile(99) + ", max=" + max;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram.Snapshot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency distribution of the executions of a flow or a processor, in nanoseconds.
+ * <p>
+ * Keeps both a cumulative histogram, with every execution since the last {@link #clear()}, and an interval histogram that is
+ * reset each time {@link #snapshotInterval()} is called, so a periodic scraper can report the percentiles of the last period
+ * only. Recording is lock-free, so it may be done from the threads processing the events.
+ *
+ * @since 4.2
+ */
+public class LatencyStatistics {
+
+  private final String name;
+  private final LatencyHistogram histogram = new LatencyHistogram();
+  private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+  private final LongAdder errors = new LongAdder();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name the name of the flow or the location of the processor whose executions are recorded.
+   */
+  public LatencyStatistics(String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return the name of the flow or the location of the processor whose executions are recorded.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Records the duration of a successful execution.
+   *
+   * @param nanos the duration of the execution, in nanoseconds.
+   */
+  public void record(long nanos) {
+    histogram.record(nanos);
+    intervalHistogram.record(nanos);
+  }
+
+  /**
+   * Records the duration of an execution that finished with an error.
+   *
+   * @param nanos the duration of the execution, in nanoseconds.
+   */
+  public void recordError(long nanos) {
+    errors.increment();
+    record(nanos);
+  }
+
+  /**
+   * @return the amount of executions recorded since the last {@link #clear()}.
+   */
+  public long getCount() {
+    return histogram.getCount();
+  }
+
+  /**
+   * @return the amount of executions that finished with an error since the last {@link #clear()}.
+   */
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  /**
+   * @return the distribution of the executions recorded since the last {@link #clear()}.
+   */
+  public Snapshot snapshot() {
+    return histogram.snapshot();
+  }
+
+  /**
+   * @return the distribution of the executions recorded since the previous call to this method.
+   */
+  public Snapshot snapshotInterval() {
+    return intervalHistogram.snapshotAndReset();
+  }
+
+  /**
+   * Discards all the recorded executions.
+   */
+  public void clear() {
+    histogram.clear();
+    intervalHistogram.clear();
+    errors.reset();
+  }
+
+  @Override
+  public String toString() {
+    return name + ": " + histogram.snapshot() + ", errors=" + errors.sum();
+  }
+}
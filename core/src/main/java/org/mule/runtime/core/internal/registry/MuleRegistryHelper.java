@@ -136,11 +136,8 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public Transformer lookupTransformer(DataType source, DataType result) throws TransformerException {
-    //To maintain the previous behaviour, we don't want to consider the result mimeType when resolving a transformer
-    //and only find transformers with a targetType the same as or a super class of the expected one.
-    //The same could be done for the source but since if the source expected by the transformer is more generic that
-    //the provided, it will be found.
-    result = builder(result).mediaType(ANY).charset((Charset) null).build();
+    //The result mimeType is kept for the resolvers that handle specific media types, the type based one ignores it.
+    result = builder(result).charset((Charset) null).build();
 
     final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
     Transformer cachedTransformer = (Transformer) exactTransformerCache.get(dataTypePairHash);
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.registry;
 
+import static org.mule.runtime.api.metadata.MediaType.ANY;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 
 import org.mule.runtime.api.exception.MuleException;
@@ -28,6 +29,7 @@ import org.mule.runtime.core.privileged.transformer.TransformerChain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -78,6 +80,12 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
   }
 
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
+    //To maintain the previous behaviour, we don't want to consider the result mimeType when resolving a transformer
+    //and only find transformers with a targetType the same as or a super class of the expected one.
+    //The same could be done for the source but since if the source expected by the transformer is more generic that
+    //the provided, it will be found.
+    result = DataType.builder(result).mediaType(ANY).charset((Charset) null).build();
+
     Transformer transformer = exactTransformerCache.get(source.toString() + result.toString());
     if (transformer != null) {
       return transformer;
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.io.File.separator;
 import static java.lang.String.format;
 import static org.mule.runtime.api.store.ObjectStoreManager.BASE_IN_MEMORY_OBJECT_STORE_KEY;
 import static org.mule.runtime.api.store.ObjectStoreManager.BASE_PERSISTENT_OBJECT_STORE_KEY;
@@ -35,6 +36,9 @@ import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.registry.MuleRegistry;
 import org.mule.runtime.core.internal.routing.correlation.EventCorrelator;
 import org.mule.runtime.core.internal.routing.correlation.EventCorrelatorCallback;
+import org.mule.runtime.core.internal.routing.correlation.EventGroupLogFactory;
+import org.mule.runtime.core.internal.routing.correlation.FileEventGroupLogFactory;
+import org.mule.runtime.core.internal.routing.correlation.InMemoryEventGroupLogFactory;
 import org.mule.runtime.core.internal.util.store.ProvidedObjectStoreWrapper;
 import org.mule.runtime.core.internal.util.store.ProvidedPartitionableObjectStoreWrapper;
 import org.mule.runtime.core.privileged.processor.AbstractInterceptingMessageProcessor;
@@ -42,6 +46,7 @@ import org.mule.runtime.core.privileged.processor.AbstractInterceptingMessagePro
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 
+import java.io.File;
 import java.util.function.Supplier;
 
 /**
@@ -69,6 +74,9 @@ public abstract class AbstractAggregator extends AbstractInterceptingMessageProc
 
   protected String eventsObjectStoreKey;
 
+  private boolean appendLogStorage;
+  private EventGroupLogFactory eventGroupLogFactory;
+
   @Override
   public void initialise() throws InitialisationException {
     if (storePrefix == null) {
@@ -85,6 +93,20 @@ public abstract class AbstractAggregator extends AbstractInterceptingMessageProc
 
     eventCorrelator.setTimeout(timeout);
     eventCorrelator.setFailOnTimeout(isFailOnTimeout());
+    if (eventGroupLogFactory == null && appendLogStorage) {
+      eventGroupLogFactory = createEventGroupLogFactory();
+    }
+    eventCorrelator.setEventGroupLogFactory(eventGroupLogFactory);
+  }
+
+  private EventGroupLogFactory createEventGroupLogFactory() {
+    if (persistentStores) {
+      File directory = new File(muleContext.getConfiguration().getWorkingDirectory(),
+                                "aggregators" + separator + storePrefix.replaceAll("[^a-zA-Z0-9._-]", "_"));
+      return new FileEventGroupLogFactory(directory, muleContext.getObjectSerializer().getInternalProtocol());
+    } else {
+      return new InMemoryEventGroupLogFactory();
+    }
   }
 
   protected void initProcessedGroupsObjectStore() {
@@ -207,6 +229,22 @@ public abstract class AbstractAggregator extends AbstractInterceptingMessageProc
     this.persistentStores = persistentStores;
   }
 
+  /**
+   * @param appendLogStorage whether the events of each group are kept in an append-only log, in a file if
+   *        {@link #setPersistentStores(boolean) persistent stores} are used or in memory otherwise, instead of storing each
+   *        event as a separate entry of the event groups object store.
+   */
+  public void setAppendLogStorage(boolean appendLogStorage) {
+    this.appendLogStorage = appendLogStorage;
+  }
+
+  /**
+   * @param eventGroupLogFactory the factory of the logs where the events of each group are kept.
+   */
+  public void setEventGroupLogFactory(EventGroupLogFactory eventGroupLogFactory) {
+    this.eventGroupLogFactory = eventGroupLogFactory;
+  }
+
   public String getStorePrefix() {
     return storePrefix;
   }
@@ -219,5 +257,6 @@ public abstract class AbstractAggregator extends AbstractInterceptingMessageProc
   public void dispose() {
     disposeIfNeeded(processedGroupsObjectStore, LOGGER);
     disposeIfNeeded(eventGroupsObjectStore, LOGGER);
+    disposeIfNeeded(eventGroupLogFactory, LOGGER);
   }
 }
@@ -19,14 +19,13 @@ import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.message.ErrorType;
-import org.mule.runtime.api.scheduler.Scheduler;
-import org.mule.runtime.api.scheduler.SchedulerService;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.AbstractMuleObjectOwner;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.processor.Router;
 import org.mule.runtime.core.privileged.processor.Scope;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
@@ -47,7 +46,7 @@ import javax.inject.Inject;
 public abstract class AbstractForkJoinRouter extends AbstractMuleObjectOwner<MessageProcessorChain> implements Scope {
 
   @Inject
-  private SchedulerService schedulerService;
+  private TimeoutService timeoutService;
 
   @Inject
   private ConfigurationComponentLocator componentLocator;
@@ -56,7 +55,6 @@ public abstract class AbstractForkJoinRouter extends AbstractMuleObjectOwner<Mes
   private ForkJoinStrategy forkJoinStrategy;
   private long timeout = Long.MAX_VALUE;
   private Integer maxConcurrency;
-  private Scheduler timeoutScheduler;
   private ErrorType timeoutErrorType;
   private ExtendedExpressionManager expressionManager;
   private String target;
@@ -103,14 +101,13 @@ public abstract class AbstractForkJoinRouter extends AbstractMuleObjectOwner<Mes
   public void initialise() throws InitialisationException {
     super.initialise();
     expressionManager = muleContext.getExpressionManager();
-    timeoutScheduler = schedulerService.cpuLightScheduler();
     timeoutErrorType = muleContext.getErrorTypeRepository().getErrorType(TIMEOUT).get();
     maxConcurrency = maxConcurrency != null ? maxConcurrency : getDefaultMaxConcurrency();
     forkJoinStrategyFactory = forkJoinStrategyFactory != null ? forkJoinStrategyFactory : getDefaultForkJoinStrategyFactory();
 
     forkJoinStrategy =
         forkJoinStrategyFactory.createForkJoinStrategy(resolveProcessingStrategy(), maxConcurrency,
-                                                       isDelayErrors(), timeout, timeoutScheduler, timeoutErrorType);
+                                                       isDelayErrors(), timeout, timeoutService, timeoutErrorType);
   }
 
   protected ProcessingStrategy resolveProcessingStrategy() {
@@ -119,14 +116,6 @@ public abstract class AbstractForkJoinRouter extends AbstractMuleObjectOwner<Mes
         .orElse(DIRECT_PROCESSING_STRATEGY_INSTANCE);
   }
 
-  @Override
-  public void dispose() {
-    if (timeoutScheduler != null) {
-      timeoutScheduler.stop();
-    }
-    super.dispose();
-  }
-
   /**
    * Set the {@link ForkJoinStrategyFactory} to use for this router. This defines how routing pairs are processed and how results
    * are aggregated to create a single result event.
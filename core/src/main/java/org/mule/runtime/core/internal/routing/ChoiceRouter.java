@@ -6,32 +6,104 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import org.mule.runtime.core.api.el.ExpressionManager;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.RouterStatistics;
 import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.internal.routing.DecisionTable.Selection;
 import org.mule.runtime.core.privileged.routing.RoutePathNotFoundException;
 
+import java.util.List;
 import java.util.Optional;
 
 import javax.inject.Inject;
 
+import org.slf4j.Logger;
+
 /**
  * Routes the event to a single<code>MessageProcessor</code> using an expression to evaluate the event being processed and find
  * the first route that can be used.
  * <p>
  * If a default route has been configured and no match has been found, the default route will be used. Otherwise it continues the
  * execution through the next MP in the chain.
+ * <p>
+ * When all the routes compare the same selector against a literal, they are compiled into a {@link DecisionTable} so the selector
+ * is evaluated just once per event.
  */
 public class ChoiceRouter extends AbstractSelectiveRouter {
 
+  private static final Logger LOGGER = getLogger(ChoiceRouter.class);
+
+  /**
+   * Name of the route hit in the {@link RouterStatistics} when no route matches the event.
+   */
+  public static final String OTHERWISE_ROUTE = "otherwise";
+
   private ExpressionManager expressionManager;
 
+  // null until compiled, reset whenever the routes change
+  private volatile Optional<DecisionTable> decisionTable;
+
   @Override
   protected Optional<Processor> selectProcessor(CoreEvent event) {
+    Optional<MessageProcessorExpressionPair> route = selectRoute(event);
+    recordRouteHit(route.map(MessageProcessorExpressionPair::getExpression).orElse(OTHERWISE_ROUTE));
+    return route.map(MessageProcessorExpressionPair::getMessageProcessor);
+  }
+
+  private Optional<MessageProcessorExpressionPair> selectRoute(CoreEvent event) {
+    Optional<DecisionTable> table = getDecisionTable();
+    if (table.isPresent()) {
+      Selection selection = table.get().select(event, expressionManager, getLocation());
+      if (selection.isDecided()) {
+        return selection.getRoute();
+      }
+    }
+
     return getConditionalMessageProcessors().stream()
         .filter(cmp -> expressionManager.evaluateBoolean(cmp.getExpression(), event, getLocation(), false, true))
-        .findFirst()
-        .map(cmp -> cmp.getMessageProcessor());
+        .findFirst();
+  }
+
+  private Optional<DecisionTable> getDecisionTable() {
+    Optional<DecisionTable> table = decisionTable;
+    if (table == null) {
+      List<MessageProcessorExpressionPair> routes = getConditionalMessageProcessors();
+      table = DecisionTable.compile(routes);
+      if (LOGGER.isDebugEnabled()) {
+        table.ifPresent(t -> LOGGER.debug("Compiled {} routes of {} into a decision table on '{}'", routes.size(), this,
+                                          t.getSelectorExpression()));
+      }
+      decisionTable = table;
+    }
+    return table;
+  }
+
+  private void recordRouteHit(String route) {
+    RouterStatistics statistics = getRouterStatistics();
+    if (statistics != null && statistics.isEnabled()) {
+      statistics.incrementRouteHit(route);
+    }
+  }
+
+  @Override
+  public void addRoute(String expression, Processor processor) {
+    super.addRoute(expression, processor);
+    decisionTable = null;
+  }
+
+  @Override
+  public void removeRoute(Processor processor) {
+    super.removeRoute(processor);
+    decisionTable = null;
+  }
+
+  @Override
+  public void updateRoute(String expression, Processor processor) {
+    super.updateRoute(expression, processor);
+    decisionTable = null;
   }
 
   @Override
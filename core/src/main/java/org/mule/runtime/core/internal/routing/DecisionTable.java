@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.regex.Pattern.compile;
+import static org.mule.runtime.api.metadata.MediaType.ANY;
+import static org.mule.runtime.api.metadata.MediaType.TEXT;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.el.ExpressionManager;
+import org.mule.runtime.core.api.event.CoreEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces the sequential evaluation of the routes of a {@link ChoiceRouter} when all of them compare the same selector against a
+ * string literal, such as {@code #[vars.messageType == 'order']}.
+ * <p>
+ * The selector is evaluated just once and the route is looked up by its value. When the value of the selector is not a plain
+ * string, the result of the comparisons could depend on how the expression language coerces it, so no route is selected by the
+ * table and the routes have to be evaluated one by one. Since that evaluates the selector again for each route, the table is
+ * bypassed from then on and the selector is no longer evaluated upfront.
+ *
+ * @since 4.2
+ */
+final class DecisionTable {
+
+  private static final String IDENTIFIER = "[A-Za-z_][A-Za-z0-9_]*";
+
+  /**
+   * Matches {@code selector == 'literal'}, optionally enclosed in {@code #[]}. Literals with escapes or interpolations are not
+   * matched, so the literal text is the value it is compared to.
+   */
+  private static final Pattern EQUALS_LITERAL = compile("\\s*(#\\[)?\\s*(" + IDENTIFIER + "(?:\\." + IDENTIFIER + ")*)\\s*==\\s*"
+      + "(?:'([^'\\\\$]*)'|\"([^\"\\\\$]*)\")\\s*(\\])?\\s*");
+
+  private static final int MIN_ROUTES = 2;
+
+  private final String selectorExpression;
+  private final Map<String, Selection> routes;
+
+  // set once the table could not decide a route, the routes of a router are evaluated one by one from then on
+  private volatile boolean bypassed;
+
+  private DecisionTable(String selectorExpression, Map<String, Selection> routes) {
+    this.selectorExpression = selectorExpression;
+    this.routes = routes;
+  }
+
+  /**
+   * Compiles the given routes into a table, if possible.
+   *
+   * @param conditionalRoutes the routes of the router, in evaluation order.
+   * @return the table for the routes, or {@link Optional#empty()} if they do not all compare the same selector against a
+   *         literal.
+   */
+  static Optional<DecisionTable> compile(List<MessageProcessorExpressionPair> conditionalRoutes) {
+    if (conditionalRoutes.size() < MIN_ROUTES) {
+      return empty();
+    }
+
+    String selector = null;
+    Boolean enclosed = null;
+    Map<String, Selection> routes = new HashMap<>();
+    for (MessageProcessorExpressionPair route : conditionalRoutes) {
+      Matcher matcher = EQUALS_LITERAL.matcher(route.getExpression());
+      if (!matcher.matches() || (matcher.group(1) == null) != (matcher.group(5) == null)) {
+        return empty();
+      }
+
+      boolean routeEnclosed = matcher.group(1) != null;
+      if (selector == null) {
+        selector = matcher.group(2);
+        enclosed = routeEnclosed;
+      } else if (!selector.equals(matcher.group(2)) || enclosed != routeEnclosed) {
+        return empty();
+      }
+
+      String literal = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+      // The first route for a literal is the one the sequential evaluation would select
+      routes.computeIfAbsent(literal, l -> new Selection(of(route)));
+    }
+
+    return of(new DecisionTable(enclosed ? "#[" + selector + "]" : selector, routes));
+  }
+
+  /**
+   * Evaluates the selector for the given event and looks up its route.
+   *
+   * @param event the event being routed.
+   * @param expressionManager the manager to evaluate the selector with.
+   * @param location the location of the router.
+   * @return the {@link Selection} for the event, which is {@link Selection#UNDECIDED} if the table can't decide or has been
+   *         bypassed, and the routes have to be evaluated one by one.
+   */
+  Selection select(CoreEvent event, ExpressionManager expressionManager, ComponentLocation location) {
+    if (bypassed) {
+      return Selection.UNDECIDED;
+    }
+
+    TypedValue<?> selected;
+    try {
+      selected = expressionManager.evaluate(selectorExpression, event, location);
+    } catch (RuntimeException e) {
+      // Let the sequential evaluation report the failure as it would without the table
+      return bypass();
+    }
+
+    Object value = selected.getValue();
+    if (value == null) {
+      return Selection.NO_ROUTE;
+    }
+    if (!(value instanceof String) || !isPlainText(selected.getDataType().getMediaType())) {
+      return bypass();
+    }
+    return routes.getOrDefault(value, Selection.NO_ROUTE);
+  }
+
+  private Selection bypass() {
+    bypassed = true;
+    return Selection.UNDECIDED;
+  }
+
+  /**
+   * @return whether the table has been bypassed because it could not decide the route of an event.
+   */
+  boolean isBypassed() {
+    return bypassed;
+  }
+
+  private static boolean isPlainText(MediaType mediaType) {
+    return mediaType.matches(ANY) || mediaType.matches(TEXT);
+  }
+
+  String getSelectorExpression() {
+    return selectorExpression;
+  }
+
+  int size() {
+    return routes.size();
+  }
+
+  /**
+   * The outcome of looking up the route of an event in a {@link DecisionTable}.
+   */
+  static final class Selection {
+
+    /**
+     * The table can't decide the route, so the routes have to be evaluated one by one.
+     */
+    static final Selection UNDECIDED = new Selection(null);
+
+    /**
+     * No route matches the event.
+     */
+    static final Selection NO_ROUTE = new Selection(empty());
+
+    private final Optional<MessageProcessorExpressionPair> route;
+
+    private Selection(Optional<MessageProcessorExpressionPair> route) {
+      this.route = route;
+    }
+
+    /**
+     * @return whether the table decided the route of the event.
+     */
+    boolean isDecided() {
+      return this != UNDECIDED;
+    }
+
+    /**
+     * @return the selected route, or {@link Optional#empty()} if no route matches the event.
+     * @throws IllegalStateException if the table did not {@link #isDecided() decide} the route.
+     */
+    Optional<MessageProcessorExpressionPair> getRoute() {
+      if (!isDecided()) {
+        throw new IllegalStateException("The decision table did not decide the route");
+      }
+      return route;
+    }
+  }
+}
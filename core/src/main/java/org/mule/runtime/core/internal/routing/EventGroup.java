@@ -17,6 +17,8 @@ import org.mule.runtime.api.store.PartitionableObjectStore;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.config.MuleProperties;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.correlation.EventGroupLog;
+import org.mule.runtime.core.internal.routing.correlation.EventGroupLogFactory;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
 import org.mule.runtime.core.api.util.ClassUtils;
 import org.mule.runtime.core.privileged.event.DefaultMuleSession;
@@ -50,6 +52,7 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
 
   private final Object groupId;
   private transient PartitionableObjectStore<CoreEvent> eventsObjectStore;
+  private transient EventGroupLog eventsLog;
   private final String storePrefix;
   private final String eventsPartitionKey;
   private final long created;
@@ -163,7 +166,7 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
   @SuppressWarnings("unchecked")
   public Iterator<CoreEvent> iterator(boolean sortByArrival) throws ObjectStoreException {
     synchronized (this) {
-      if (eventsObjectStore.allKeys(eventsPartitionKey).isEmpty()) {
+      if (eventsLog != null ? eventsLog.size() == 0 : eventsObjectStore.allKeys(eventsPartitionKey).isEmpty()) {
         return IteratorUtils.emptyIterator();
       } else {
         return IteratorUtils.arrayIterator(this.toArray(sortByArrival));
@@ -190,6 +193,10 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
    */
   public PrivilegedEvent[] toArray(boolean sortByArrival) throws ObjectStoreException {
     synchronized (this) {
+      if (eventsLog != null) {
+        // The log is already in arrival order
+        return eventsLog.readAll().toArray(EMPTY_EVENTS_ARRAY);
+      }
       if (eventsObjectStore.allKeys(eventsPartitionKey).isEmpty()) {
         return EMPTY_EVENTS_ARRAY;
       }
@@ -213,6 +220,10 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
    */
   public void addEvent(CoreEvent event) throws ObjectStoreException {
     synchronized (this) {
+      if (eventsLog != null) {
+        eventsLog.append(event);
+        return;
+      }
       event = CoreEvent.builder(event).addVariable(MULE_ARRIVAL_ORDER_PROPERTY, ++arrivalOrderCounter).build();
       // Using both event ID and CorrelationSequence since in certain instances
       // when an event is split up, the same event IDs are used.
@@ -246,6 +257,9 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
    */
   public int size() {
     synchronized (this) {
+      if (eventsLog != null) {
+        return eventsLog.size();
+      }
       try {
         return eventsObjectStore.allKeys(eventsPartitionKey).size();
       } catch (ObjectStoreException e) {
@@ -271,6 +285,10 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
    */
   public void clear() throws ObjectStoreException {
     synchronized (this) {
+      if (eventsLog != null) {
+        eventsLog.clear();
+        return;
+      }
       eventsObjectStore.clear(eventsPartitionKey);
       eventsObjectStore.disposePartition(eventsPartitionKey);
     }
@@ -288,11 +306,12 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
       synchronized (this) {
         int currentSize;
 
-        currentSize = eventsObjectStore.allKeys(eventsPartitionKey).size();
+        currentSize = eventsLog != null ? eventsLog.size() : eventsObjectStore.allKeys(eventsPartitionKey).size();
 
         buf.append(", current events=").append(currentSize);
 
-        if (currentSize > 0) {
+        // Avoid reading the whole log just to print the ids
+        if (eventsLog == null && currentSize > 0) {
           buf.append(" [");
           Iterator<String> i = eventsObjectStore.allKeys(eventsPartitionKey).iterator();
           while (i.hasNext()) {
@@ -360,6 +379,17 @@ public class EventGroup implements Comparable<EventGroup>, Serializable, Deseria
     events.open(eventsPartitionKey);
   }
 
+  /**
+   * Makes this group keep its events in an append-only {@link EventGroupLog} instead of storing each one as a separate entry of
+   * an object store. Use instead of {@link #initEventsStore(PartitionableObjectStore)}.
+   *
+   * @param logFactory the factory of the log for this group.
+   * @throws ObjectStoreException if the log could not be opened.
+   */
+  public void initEventsLog(EventGroupLogFactory logFactory) throws ObjectStoreException {
+    this.eventsLog = logFactory.open(eventsPartitionKey);
+  }
+
   public boolean isInitialised() {
     return muleContext != null;
   }
@@ -9,8 +9,8 @@ package org.mule.runtime.core.internal.routing;
 
 import org.mule.runtime.api.message.ErrorType;
 import org.mule.runtime.api.metadata.DataType;
-import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
 
 
@@ -23,11 +23,13 @@ public interface ForkJoinStrategyFactory {
    * @param maxConcurrency maximum number of routes/parts to be processed in parallel.
    * @param delayErrors if all routers/parts should be processed regardless of errors and a {@link CompositeRoutingException}
    *        thrown or not.
+   * @param timeout the timeout to apply to each route/part.
+   * @param timeoutService the {@link TimeoutService} used to schedule the route/part timeouts.
    * @param timeoutErrorType the timeout error type.
    * @return new instance of {@link ForkJoinStrategy}
    */
   ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
-                                          long timeout, Scheduler timeoutScheduler,
+                                          long timeout, TimeoutService timeoutService,
                                           ErrorType timeoutErrorType);
 
   DataType getResultDataType();
@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Math.max;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.el.BindingContextUtils.CORRELATION_ID;
@@ -26,6 +28,7 @@ import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.store.ObjectAlreadyExistsException;
 import org.mule.runtime.api.store.ObjectStore;
 import org.mule.runtime.api.store.ObjectStoreException;
@@ -38,6 +41,17 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.util.BloomFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
 
@@ -49,12 +63,23 @@ import org.slf4j.Logger;
  * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/IdempotentReceiver.html">
  * http://www.eaipatterns.com/IdempotentReceiver.html</a>
+ * <p>
+ * When a {@link #setFilterFalsePositiveRate(double) false positive rate} is configured, the IDs of the accepted messages are also
+ * kept in an in-memory {@link BloomFilter}, and IDs the filter has definitely never seen are accepted without looking them up in
+ * the store. This assumes that this validator is the only one writing to its store. The filter is rebuilt from the keys in the
+ * store when started and whenever it holds more IDs than it was sized for. Accepted IDs may also be
+ * {@link #setPersistenceBatchSize(int) written to the store in batches}, at the cost of losing the last accepted IDs if the
+ * runtime crashes.
  */
 public class IdempotentMessageValidator extends AbstractComponent
     implements Processor, MuleContextAware, Lifecycle {
 
   private static final Logger LOGGER = getLogger(IdempotentMessageValidator.class);
 
+  private static final int DEFAULT_FILTER_EXPECTED_IDS = 100000;
+  private static final long PERSISTENCE_INTERVAL = 100;
+  private static final int ID_LOCKS = 64;
+
   protected MuleContext muleContext;
 
   protected volatile ObjectStore<String> store;
@@ -64,6 +89,29 @@ public class IdempotentMessageValidator extends AbstractComponent
   protected String idExpression = format("%s%s%s", DEFAULT_EXPRESSION_PREFIX, CORRELATION_ID, DEFAULT_EXPRESSION_POSTFIX);
   protected String valueExpression = format("%s%s%s", DEFAULT_EXPRESSION_PREFIX, CORRELATION_ID, DEFAULT_EXPRESSION_POSTFIX);
 
+  private double filterFalsePositiveRate = 0;
+  private int filterExpectedIds = DEFAULT_FILTER_EXPECTED_IDS;
+  private int persistenceBatchSize = 1;
+
+  private volatile BloomFilter filter;
+  // Filter being rebuilt, that also gets the IDs accepted while the rebuild is in progress
+  private volatile BloomFilter nextFilter;
+  private final AtomicBoolean rebuildingFilter = new AtomicBoolean();
+  private final ReentrantLock[] idLocks = new ReentrantLock[ID_LOCKS];
+  private final Map<String, String> pendingIds = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private volatile Scheduler persistenceScheduler;
+
+  private final LongAdder filterHits = new LongAdder();
+  private final LongAdder filterMisses = new LongAdder();
+  private final LongAdder filterFalsePositives = new LongAdder();
+
+  public IdempotentMessageValidator() {
+    for (int i = 0; i < ID_LOCKS; ++i) {
+      idLocks[i] = new ReentrantLock();
+    }
+  }
+
   @Override
   public void setMuleContext(MuleContext context) {
     this.muleContext = context;
@@ -98,10 +146,36 @@ public class IdempotentMessageValidator extends AbstractComponent
   @Override
   public void start() throws MuleException {
     startIfNeeded(store);
+    if (isFilterEnabled()) {
+      persistenceScheduler = muleContext.getSchedulerService().ioScheduler();
+      try {
+        rebuildFilter();
+      } catch (ObjectStoreException e) {
+        LOGGER.warn("Could not load the IDs from the ObjectStore, all IDs will be looked up in the store: " + e.getMessage());
+      }
+      if (persistenceBatchSize > 1) {
+        persistenceScheduler.scheduleWithFixedDelay(this::flushPendingIds, PERSISTENCE_INTERVAL, PERSISTENCE_INTERVAL,
+                                                    MILLISECONDS);
+      }
+    }
   }
 
   @Override
   public void stop() throws MuleException {
+    // Waits for the events being validated with the filter, so their IDs are pending by the time they are flushed
+    lockAllIds();
+    try {
+      filter = null;
+      nextFilter = null;
+    } finally {
+      unlockAllIds();
+    }
+    Scheduler scheduler = persistenceScheduler;
+    if (scheduler != null) {
+      persistenceScheduler = null;
+      scheduler.stop();
+    }
+    flushPendingIds();
     stopIfNeeded(store);
   }
 
@@ -144,6 +218,15 @@ public class IdempotentMessageValidator extends AbstractComponent
   }
 
   private boolean accept(CoreEvent event) {
+    if (event != null && filter != null) {
+      try {
+        return acceptWithFilter(getIdForEvent(event), getValueForEvent(event));
+      } catch (MuleException e) {
+        LOGGER.warn("Could not retrieve Id or Value for event: " + e.getMessage());
+        return false;
+      }
+    }
+
     if (event != null && isNewMessage(event)) {
       try {
         String id = getIdForEvent(event);
@@ -169,6 +252,164 @@ public class IdempotentMessageValidator extends AbstractComponent
     }
   }
 
+  private boolean acceptWithFilter(String id, String value) {
+    BloomFilter currentFilter = null;
+    ReentrantLock lock = idLocks[(id.hashCode() & Integer.MAX_VALUE) % ID_LOCKS];
+    lock.lock();
+    try {
+      currentFilter = filter;
+      if (currentFilter == null) {
+        // Stopped since the event got here, there are no pending IDs to check anymore
+        return !store.contains(id) && storeId(id, value);
+      }
+
+      boolean definitelyNew = currentFilter.put(id);
+      BloomFilter rebuilt = nextFilter;
+      if (rebuilt != null) {
+        rebuilt.put(id);
+      }
+
+      if (definitelyNew) {
+        filterHits.increment();
+      } else {
+        filterMisses.increment();
+        if (pendingIds.containsKey(id) || store.contains(id)) {
+          return false;
+        }
+        filterFalsePositives.increment();
+      }
+      return persist(id, value);
+    } catch (ObjectStoreNotAvailableException e) {
+      LOGGER.error("ObjectStore not available: " + e.getMessage());
+      return false;
+    } catch (ObjectStoreException e) {
+      LOGGER.warn("ObjectStore exception: " + e.getMessage());
+      return false;
+    } finally {
+      lock.unlock();
+      Scheduler scheduler = persistenceScheduler;
+      if (currentFilter != null && currentFilter.isSaturated() && scheduler != null
+          && rebuildingFilter.compareAndSet(false, true)) {
+        scheduler.execute(() -> {
+          try {
+            rebuildFilter();
+          } catch (ObjectStoreException e) {
+            LOGGER.warn("Could not rebuild the IDs filter: " + e.getMessage());
+          } finally {
+            rebuildingFilter.set(false);
+          }
+        });
+      }
+    }
+  }
+
+  private boolean persist(String id, String value) throws ObjectStoreException {
+    Scheduler scheduler = persistenceScheduler;
+    if (persistenceBatchSize <= 1 || scheduler == null) {
+      return storeId(id, value);
+    }
+
+    pendingIds.put(id, value);
+    // A single flush is queued at a time, so the IDs accepted while it waits or runs make up the next batch
+    if (pendingIds.size() >= persistenceBatchSize && flushScheduled.compareAndSet(false, true)) {
+      scheduler.execute(() -> {
+        try {
+          flushPendingIds();
+        } finally {
+          flushScheduled.set(false);
+        }
+      });
+    }
+    return true;
+  }
+
+  private boolean storeId(String id, String value) throws ObjectStoreException {
+    try {
+      store.store(id, value);
+      return true;
+    } catch (ObjectAlreadyExistsException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Writes the IDs pending at the time it is called as a batch. IDs accepted meanwhile are left for the next one.
+   */
+  private synchronized void flushPendingIds() {
+    if (pendingIds.isEmpty()) {
+      return;
+    }
+
+    Map<String, String> batch = new HashMap<>(pendingIds);
+    List<String> storedIds = new ArrayList<>(batch.size());
+    for (Entry<String, String> pending : batch.entrySet()) {
+      try {
+        store.store(pending.getKey(), pending.getValue());
+      } catch (ObjectAlreadyExistsException e) {
+        // Already there, nothing to do
+      } catch (ObjectStoreException e) {
+        LOGGER.warn("Could not store ID " + pending.getKey() + ", will retry: " + e.getMessage());
+        continue;
+      }
+      storedIds.add(pending.getKey());
+    }
+    // Only forget about the pending IDs once they can be found in the store
+    storedIds.forEach(id -> pendingIds.remove(id, batch.get(id)));
+  }
+
+  /**
+   * Builds a new filter with the IDs in the store and swaps it with the current one. The IDs accepted while this runs are added
+   * to both the current and the new filters.
+   */
+  private void rebuildFilter() throws ObjectStoreException {
+    BloomFilter currentFilter = filter;
+    long expectedIds = max(filterExpectedIds, currentFilter == null ? 0 : 2 * currentFilter.getInsertions());
+    BloomFilter rebuilt = new BloomFilter(expectedIds, filterFalsePositiveRate);
+
+    lockAllIds();
+    try {
+      nextFilter = rebuilt;
+    } finally {
+      unlockAllIds();
+    }
+
+    try {
+      // Pending IDs go to the store before being removed, so those have to be read first in order not to miss any
+      pendingIds.keySet().forEach(rebuilt::put);
+      store.allKeys().forEach(rebuilt::put);
+    } catch (ObjectStoreException e) {
+      nextFilter = null;
+      throw e;
+    }
+
+    lockAllIds();
+    try {
+      // The filter is dropped when stopped, which a rebuild in progress must not undo
+      if (filter == currentFilter) {
+        filter = rebuilt;
+      }
+      nextFilter = null;
+    } finally {
+      unlockAllIds();
+    }
+  }
+
+  private void lockAllIds() {
+    for (ReentrantLock lock : idLocks) {
+      lock.lock();
+    }
+  }
+
+  private void unlockAllIds() {
+    for (int i = ID_LOCKS - 1; i >= 0; --i) {
+      idLocks[i].unlock();
+    }
+  }
+
+  private boolean isFilterEnabled() {
+    return filterFalsePositiveRate > 0;
+  }
+
   @Override
   public final CoreEvent process(CoreEvent event) throws MuleException {
     if (accept(event)) {
@@ -210,4 +451,47 @@ public class IdempotentMessageValidator extends AbstractComponent
   public void setPrivateObjectStore(ObjectStore<String> privateStore) {
     this.privateStore = privateStore;
   }
+
+  /**
+   * @param filterFalsePositiveRate the probability, between {@code 0} and {@code 1}, of the in-memory filter not being able to
+   *        tell a new ID apart from an already seen one, in which case the store is looked up. {@code 0} disables the filter.
+   */
+  public void setFilterFalsePositiveRate(double filterFalsePositiveRate) {
+    this.filterFalsePositiveRate = filterFalsePositiveRate;
+  }
+
+  /**
+   * @param filterExpectedIds the amount of IDs the in-memory filter is initially sized for.
+   */
+  public void setFilterExpectedIds(int filterExpectedIds) {
+    this.filterExpectedIds = filterExpectedIds;
+  }
+
+  /**
+   * @param persistenceBatchSize the amount of accepted IDs to write to the store together. Only used along with the filter.
+   */
+  public void setPersistenceBatchSize(int persistenceBatchSize) {
+    this.persistenceBatchSize = persistenceBatchSize;
+  }
+
+  /**
+   * @return the amount of IDs accepted without looking up the store.
+   */
+  public long getFilterHits() {
+    return filterHits.sum();
+  }
+
+  /**
+   * @return the amount of IDs that had to be looked up in the store because the filter might have seen them.
+   */
+  public long getFilterMisses() {
+    return filterMisses.sum();
+  }
+
+  /**
+   * @return the amount of IDs that were looked up in the store and turned out to be new.
+   */
+  public long getFilterFalsePositives() {
+    return filterFalsePositives.sum();
+  }
 }
@@ -49,13 +49,15 @@ public class MessageChunkAggregator extends AbstractAggregator {
        */
       @Override
       public CoreEvent aggregateEvents(EventGroup events) throws AggregationException {
-        PrivilegedEvent[] collectedEvents;
+        // The events are read once, the stored ones may have to be deserialized
+        PrivilegedEvent[] arrivedEvents;
         try {
-          collectedEvents = events.toArray(false);
+          arrivedEvents = events.toArray();
         } catch (ObjectStoreException e) {
           throw new AggregationException(events, MessageChunkAggregator.this, e);
         }
-        CoreEvent firstEvent = collectedEvents[0];
+        CoreEvent firstEvent = arrivedEvents[0];
+        PrivilegedEvent[] collectedEvents = arrivedEvents.clone();
         Arrays.sort(collectedEvents, eventComparator);
         ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
 
@@ -75,7 +77,7 @@ public class MessageChunkAggregator extends AbstractAggregator {
 
           // Use last event, that hasn't been completed yet, for continued processing.
           return PrivilegedEvent.builder(collectedEvents[collectedEvents.length - 1]).message(builder.build())
-              .session(getMergedSession(events.toArray())).build();
+              .session(getMergedSession(arrivedEvents)).build();
         } catch (Exception e) {
           throw new AggregationException(events, MessageChunkAggregator.this, e);
         } finally {
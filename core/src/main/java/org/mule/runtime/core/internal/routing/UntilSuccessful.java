@@ -6,9 +6,16 @@
  */
 package org.mule.runtime.core.internal.routing;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.round;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.transaction.TransactionCoordination.isTransactionActive;
 import static org.mule.runtime.core.api.util.ExceptionUtils.getMessagingExceptionCause;
 import static org.mule.runtime.core.internal.component.ComponentUtils.getFromAnnotatedObject;
 import static org.mule.runtime.core.internal.processor.strategy.DirectProcessingStrategyFactory.DIRECT_PROCESSING_STRATEGY_INSTANCE;
@@ -16,12 +23,18 @@ import static org.mule.runtime.core.privileged.processor.MessageProcessors.getPr
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.newChain;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processWithChildContext;
+import static org.slf4j.LoggerFactory.getLogger;
 import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.error;
 
 import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.api.store.ObjectStoreManager;
+import org.mule.runtime.api.store.ObjectStoreSettings;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.AbstractMuleObjectOwner;
@@ -30,13 +43,19 @@ import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
 import org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.processor.Scope;
 import org.mule.runtime.core.privileged.processor.chain.MessageProcessorChain;
 
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -47,9 +66,14 @@ import reactor.core.publisher.Mono;
 /**
  * UntilSuccessful attempts to route a message to the message processor it contains. Routing is considered successful if no
  * exception has been raised and, optionally, if the response matches an expression.
+ * <p>
+ * When an {@link ObjectStore} is configured, or any of exponential backoff, jitter or a cap on in-flight retries is set up,
+ * events waiting for a retry are offloaded to an {@link UntilSuccessfulRetryQueue} instead of being kept by the retry policy.
  */
 public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
 
+  private static final Logger LOGGER = getLogger(UntilSuccessful.class);
+
   private static final String UNTIL_SUCCESSFUL_MSG_PREFIX =
       "'until-successful' retries exhausted. Last exception message was: %s";
   private static final long DEFAULT_MILLIS_BETWEEN_RETRIES = 60 * 1000;
@@ -58,15 +82,27 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
   @Inject
   private ConfigurationComponentLocator componentLocator;
 
+  @Inject
+  private TimeoutService timeoutService;
+
   private int maxRetries = DEFAULT_RETRIES;
   private Long millisBetweenRetries = DEFAULT_MILLIS_BETWEEN_RETRIES;
   private MessageProcessorChain nestedChain;
   private Predicate<CoreEvent> shouldRetry;
   private SimpleRetryPolicyTemplate policyTemplate;
   private Scheduler timer;
+  private Scheduler retryQueueScheduler;
   private ProcessingStrategy processingStrategy;
   private List<Processor> processors;
 
+  private double backoffMultiplier = 1.0;
+  private long maxMillisBetweenRetries = -1;
+  private double jitterFactor = 0.0;
+  private int maxInFlightRetries = -1;
+  private ObjectStore<CoreEvent> objectStore;
+  private String createdObjectStoreName;
+  private UntilSuccessfulRetryQueue retryQueue;
+
   @Override
   public void initialise() throws InitialisationException {
     if (processors == null) {
@@ -79,6 +115,14 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     policyTemplate =
         new SimpleRetryPolicyTemplate(millisBetweenRetries, maxRetries);
     shouldRetry = event -> event.getError().isPresent();
+    if (isRetryQueueEnabled()) {
+      if (objectStore == null) {
+        objectStore = createRetryObjectStore();
+      }
+      initialiseIfNeeded(objectStore, true, muleContext);
+      retryQueueScheduler = muleContext.getSchedulerService().ioScheduler();
+      retryQueue = new UntilSuccessfulRetryQueue(objectStore, timeoutService, retryQueueScheduler, maxInFlightRetries);
+    }
     Object rootContainer = getFromAnnotatedObject(componentLocator, this).orElse(null);
     if (rootContainer instanceof FlowConstruct) {
       processingStrategy = ((FlowConstruct) rootContainer).getProcessingStrategy();
@@ -87,10 +131,38 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     }
   }
 
+  private boolean isRetryQueueEnabled() {
+    return objectStore != null || backoffMultiplier != 1.0 || jitterFactor > 0 || maxInFlightRetries > 0;
+  }
+
+  private ObjectStore<CoreEvent> createRetryObjectStore() {
+    // Not persistent, so any payload can wait for a retry, streams included, without being serialized
+    createdObjectStoreName = getLocation().getLocation() + "." + getClass().getName();
+    return getObjectStoreManager().createObjectStore(createdObjectStoreName,
+                                                     ObjectStoreSettings.builder().persistent(false).build());
+  }
+
+  private ObjectStoreManager getObjectStoreManager() {
+    return ((MuleContextWithRegistries) muleContext).getRegistry().get(OBJECT_STORE_MANAGER);
+  }
+
   @Override
   public void dispose() {
     super.dispose();
     timer.stop();
+    if (retryQueueScheduler != null) {
+      retryQueueScheduler.stop();
+      retryQueueScheduler = null;
+    }
+    if (createdObjectStoreName != null) {
+      try {
+        getObjectStoreManager().disposeStore(createdObjectStoreName);
+      } catch (ObjectStoreException e) {
+        LOGGER.debug("Exception disposing of retry store", e);
+      }
+      objectStore = null;
+      createdObjectStoreName = null;
+    }
   }
 
   @Override
@@ -101,13 +173,66 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
   @Override
   public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
     return from(publisher)
-        .flatMap(event -> Mono.from(processWithChildContext(event,
-                                                            scheduleRoute(p -> Mono.from(p).transform(nestedChain)),
-                                                            ofNullable(getLocation())))
-            .transform(p -> policyTemplate.applyPolicy(p, getRetryPredicate(), e -> {
+        .flatMap(event -> retryQueue != null && !isTransactionActive()
+            ? processWithRetryQueue(event)
+            : route(event).transform(p -> policyTemplate.applyPolicy(p, getRetryPredicate(), e -> {
             }, getThrowableFunction(event), timer)));
   }
 
+  private Mono<CoreEvent> route(CoreEvent event) {
+    return Mono.from(processWithChildContext(event, scheduleRoute(p -> Mono.from(p).transform(nestedChain)),
+                                             ofNullable(getLocation())));
+  }
+
+  private Mono<CoreEvent> processWithRetryQueue(CoreEvent event) {
+    // Only the key of the queued event is referenced while waiting for a retry, the reference to the original event is
+    // dropped as soon as it is offloaded to the retry queue.
+    AtomicReference<CoreEvent> pending = new AtomicReference<>(event);
+    return retryQueue.reserveSlot()
+        .then(Mono.defer(() -> route(pending.get())
+            .onErrorResume(e -> {
+              CoreEvent original = pending.getAndSet(null);
+              if (maxRetries <= 0 || !getRetryPredicate().test(e)) {
+                return error(getThrowableFunction(original).apply(e));
+              }
+              return retryQueue.offer(original)
+                  .onErrorMap(ObjectStoreException.class,
+                              storeError -> new MessagingException(createStaticMessage("Could not queue the event for a retry"),
+                                                                   original, storeError, this))
+                  .flatMap(key -> retry(key, 1));
+            })
+            .doFinally(signal -> retryQueue.releaseSlot())));
+  }
+
+  private Mono<CoreEvent> retry(String key, int retryNumber) {
+    return retryQueue.poll(key, getDelayForRetry(retryNumber))
+        .flatMap(this::route)
+        .flatMap(result -> retryQueue.remove(key).thenReturn(result))
+        .onErrorResume(e -> {
+          if (retryNumber < maxRetries && getRetryPredicate().test(e)) {
+            return retry(key, retryNumber + 1);
+          }
+          return retryQueue.remove(key).<CoreEvent>flatMap(original -> error(getThrowableFunction(original).apply(e)));
+        });
+  }
+
+  /**
+   * Calculates the time to wait before the given retry, applying the configured exponential backoff and jitter.
+   *
+   * @param retryNumber the number of the retry to perform, starting at {@code 1}.
+   * @return the milliseconds to wait before the retry.
+   */
+  long getDelayForRetry(int retryNumber) {
+    double delay = millisBetweenRetries * pow(backoffMultiplier, retryNumber - 1);
+    if (maxMillisBetweenRetries > 0) {
+      delay = min(delay, maxMillisBetweenRetries);
+    }
+    if (jitterFactor > 0) {
+      delay += delay * jitterFactor * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    }
+    return max(0, round(delay));
+  }
+
   private Predicate<Throwable> getRetryPredicate() {
     return e -> (e instanceof MessagingException && shouldRetry.test(((MessagingException) e).getEvent()));
   }
@@ -165,6 +290,66 @@ public class UntilSuccessful extends AbstractMuleObjectOwner implements Scope {
     this.processors = processors;
   }
 
+  /**
+   * @return the factor by which the time between retries is multiplied after each retry. Default value is 1 (no backoff).
+   */
+  public double getBackoffMultiplier() {
+    return backoffMultiplier;
+  }
+
+  /**
+   * @param backoffMultiplier the factor by which the time between retries is multiplied after each retry.
+   */
+  public void setBackoffMultiplier(double backoffMultiplier) {
+    this.backoffMultiplier = backoffMultiplier;
+  }
+
+  /**
+   * @param maxMillisBetweenRetries the upper limit for the time between retries when backoff is applied. A non positive value
+   *        means no limit.
+   */
+  public void setMaxMillisBetweenRetries(long maxMillisBetweenRetries) {
+    this.maxMillisBetweenRetries = maxMillisBetweenRetries;
+  }
+
+  /**
+   * @param jitterFactor the fraction, between 0 and 1, of the time between retries that is randomly added or subtracted to
+   *        avoid retries of many events happening at the same time.
+   */
+  public void setJitterFactor(double jitterFactor) {
+    this.jitterFactor = jitterFactor;
+  }
+
+  /**
+   * @param maxInFlightRetries the maximum amount of events that may be waiting for a retry at the same time. Each event takes a
+   *        slot from its first attempt until it is done with, and new events are held until a slot frees up. A non positive
+   *        value means no limit.
+   */
+  public void setMaxInFlightRetries(int maxInFlightRetries) {
+    this.maxInFlightRetries = maxInFlightRetries;
+  }
+
+  /**
+   * @param objectStore the {@link ObjectStore} where events waiting for a retry are kept.
+   */
+  public void setObjectStore(ObjectStore<CoreEvent> objectStore) {
+    this.objectStore = objectStore;
+  }
+
+  /**
+   * @return the amount of events currently waiting for a retry, or {@code 0} if the retry queue is not enabled.
+   */
+  public int getRetryQueueDepth() {
+    return retryQueue != null ? retryQueue.getDepth() : 0;
+  }
+
+  /**
+   * @return the histogram of time spent by events in the retry queue, or {@code null} if the retry queue is not enabled.
+   */
+  public LatencyHistogram getRetryQueueLatency() {
+    return retryQueue != null ? retryQueue.getQueueLatency() : null;
+  }
+
   @Override
   protected List<Object> getOwnedObjects() {
     return singletonList(nestedChain);
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing;
+
+import static java.lang.System.currentTimeMillis;
+import static java.time.Duration.ofMillis;
+import static org.mule.runtime.core.api.util.UUID.getUUID;
+import static reactor.core.publisher.Mono.empty;
+import static reactor.core.publisher.Mono.fromCallable;
+import static reactor.core.scheduler.Schedulers.fromExecutor;
+
+import org.mule.runtime.api.event.EventContext;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.store.ObjectStore;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram;
+import org.mule.runtime.core.internal.time.TimeoutService;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Holds the events that are waiting for a retry of an {@link UntilSuccessful} scope.
+ * <p>
+ * While waiting, events are kept in an {@link ObjectStore} and only referenced by key. Their {@link EventContext}s are kept
+ * apart, so an event read back from a store that serialized it is still attached to the context its caller waits on. Such a
+ * store can only hold events whose payloads are serializable, which excludes streams. The amount of events that may end up
+ * waiting for a retry may be capped: each event reserves a slot before its first attempt and releases it once it is done with,
+ * so when all the slots are taken new events are held back until one frees up, propagating back-pressure to the caller.
+ *
+ * @since 4.2
+ */
+public class UntilSuccessfulRetryQueue {
+
+  private final ObjectStore<CoreEvent> store;
+  private final TimeoutService timeoutService;
+  private final reactor.core.scheduler.Scheduler storeScheduler;
+  private final int maxInFlightRetries;
+
+  private final AtomicInteger depth = new AtomicInteger();
+  private final AtomicInteger reservedSlots = new AtomicInteger();
+  private final Queue<CapacityWaiter> capacityWaiters = new ConcurrentLinkedQueue<>();
+  private final Map<String, EventContext> contexts = new ConcurrentHashMap<>();
+  private final Map<String, Long> enqueueTimes = new ConcurrentHashMap<>();
+  private final LatencyHistogram queueLatency = new LatencyHistogram();
+
+  /**
+   * Creates a new retry queue.
+   *
+   * @param store the store where waiting events are kept.
+   * @param timeoutService the service used to wait for the next retry.
+   * @param ioScheduler the scheduler where the {@code store} is accessed, since it may block.
+   * @param maxInFlightRetries the maximum amount of queued events, or a non positive number for no limit.
+   */
+  public UntilSuccessfulRetryQueue(ObjectStore<CoreEvent> store, TimeoutService timeoutService, Scheduler ioScheduler,
+                                   int maxInFlightRetries) {
+    this.store = store;
+    this.timeoutService = timeoutService;
+    this.storeScheduler = fromExecutor(ioScheduler);
+    this.maxInFlightRetries = maxInFlightRetries;
+  }
+
+  /**
+   * Reserves a slot for an event that may need to be retried. The slot must be given back with {@link #releaseSlot()} once the
+   * event is done with, whether it had to be retried or not.
+   *
+   * @return a {@link Mono} that completes once a slot is reserved.
+   */
+  public Mono<Void> reserveSlot() {
+    if (tryReserveSlot()) {
+      return empty();
+    }
+    return Mono.create(sink -> {
+      CapacityWaiter waiter = new CapacityWaiter(sink);
+      sink.onCancel(() -> {
+        if (waiter.settle()) {
+          capacityWaiters.remove(waiter);
+        } else {
+          // Cancelled after being handed a slot, which won't be released by the caller
+          releaseSlot();
+        }
+      });
+      capacityWaiters.offer(waiter);
+      // A slot may have been released before this waiter was queued
+      releaseWaiters();
+    });
+  }
+
+  /**
+   * Gives back a slot reserved with {@link #reserveSlot()}, handing it to the next held back event, if any.
+   */
+  public void releaseSlot() {
+    reservedSlots.decrementAndGet();
+    releaseWaiters();
+  }
+
+  /**
+   * Puts an event in this queue.
+   *
+   * @param event the event to keep until its next retry.
+   * @return a {@link Mono} with the key that identifies the event in this queue.
+   */
+  public Mono<String> offer(CoreEvent event) {
+    return fromCallable(() -> {
+      String key = getUUID();
+      store.store(key, event);
+      contexts.put(key, event.getContext());
+      depth.incrementAndGet();
+      enqueueTimes.put(key, currentTimeMillis());
+      return key;
+    }).subscribeOn(storeScheduler);
+  }
+
+  /**
+   * Waits for {@code delayMillis} and then fetches the queued event with the given {@code key}, leaving it in the queue.
+   *
+   * @param key the key returned by {@link #offer(CoreEvent)}.
+   * @param delayMillis the time to wait before emitting the event.
+   * @return a {@link Mono} with the queued event.
+   */
+  public Mono<CoreEvent> poll(String key, long delayMillis) {
+    // The timeout service only hands off to the IO scheduler, where the store is accessed
+    return timeoutService.delay(ofMillis(delayMillis))
+        .then(fromCallable(() -> attach(key, store.retrieve(key))).subscribeOn(storeScheduler));
+  }
+
+  /**
+   * Removes an event from this queue once it doesn't need to be retried anymore.
+   *
+   * @param key the key returned by {@link #offer(CoreEvent)}.
+   * @return a {@link Mono} with the removed event.
+   */
+  public Mono<CoreEvent> remove(String key) {
+    return fromCallable(() -> {
+      try {
+        return attach(key, store.remove(key));
+      } finally {
+        contexts.remove(key);
+        Long enqueueTime = enqueueTimes.remove(key);
+        if (enqueueTime != null) {
+          queueLatency.record(currentTimeMillis() - enqueueTime);
+        }
+        depth.decrementAndGet();
+      }
+    }).subscribeOn(storeScheduler);
+  }
+
+  private CoreEvent attach(String key, CoreEvent event) {
+    EventContext context = contexts.get(key);
+    return context == null || event.getContext() == context ? event : CoreEvent.builder(context, event).build();
+  }
+
+  private boolean tryReserveSlot() {
+    while (true) {
+      int reserved = reservedSlots.get();
+      if (maxInFlightRetries > 0 && reserved >= maxInFlightRetries) {
+        return false;
+      }
+      if (reservedSlots.compareAndSet(reserved, reserved + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void releaseWaiters() {
+    while (!capacityWaiters.isEmpty() && tryReserveSlot()) {
+      CapacityWaiter waiter = capacityWaiters.poll();
+      if (waiter == null) {
+        // Another thread took the last waiter, so the slot reserved for it is not needed
+        reservedSlots.decrementAndGet();
+        return;
+      }
+      if (waiter.settle()) {
+        waiter.sink.success();
+      } else {
+        // Cancelled while being polled, the slot goes to the next one
+        reservedSlots.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * @return the amount of events currently waiting for a retry.
+   */
+  public int getDepth() {
+    return depth.get();
+  }
+
+  /**
+   * @return the amount of slots currently reserved.
+   */
+  public int getReservedSlots() {
+    return reservedSlots.get();
+  }
+
+  /**
+   * @return the amount of events held back because all the slots are reserved.
+   */
+  public int getWaitingForCapacity() {
+    return capacityWaiters.size();
+  }
+
+  /**
+   * @return the histogram of the time, in milliseconds, events spent in this queue until they were successfully processed or
+   *         their retries got exhausted.
+   */
+  public LatencyHistogram getQueueLatency() {
+    return queueLatency;
+  }
+
+  /**
+   * An event held back until a slot frees up. It is settled either by being handed a slot or by being cancelled, whichever
+   * happens first.
+   */
+  private static final class CapacityWaiter {
+
+    private final MonoSink<Void> sink;
+    private final AtomicBoolean settled = new AtomicBoolean();
+
+    private CapacityWaiter(MonoSink<Void> sink) {
+      this.sink = sink;
+    }
+
+    private boolean settle() {
+      return settled.compareAndSet(false, true);
+    }
+  }
+}
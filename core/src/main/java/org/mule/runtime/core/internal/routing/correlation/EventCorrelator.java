@@ -14,6 +14,7 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.notification.RoutingNotification.CORRELATION_TIMEOUT;
 import static org.mule.runtime.api.notification.RoutingNotification.MISSED_AGGREGATION_GROUP_EVENT;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_TIMEOUT_SERVICE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.correlationTimedOut;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
 import static org.mule.runtime.core.api.message.GroupCorrelation.NOT_SET;
@@ -43,6 +44,8 @@ import org.mule.runtime.core.api.util.StringMessageUtils;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.routing.EventGroup;
+import org.mule.runtime.core.internal.time.Timeout;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
 import org.mule.runtime.core.privileged.routing.RoutingException;
 import org.mule.runtime.core.privileged.store.DeserializationPostInitialisable;
@@ -55,6 +58,9 @@ import org.slf4j.LoggerFactory;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 public class EventCorrelator implements Startable, Stoppable {
 
@@ -67,6 +73,12 @@ public class EventCorrelator implements Startable, Stoppable {
 
   private static final long DELAY_TIME = 10;
 
+  /**
+   * When groups are expired through the {@link TimeoutService}, the store still has to be scanned every now and then to expire
+   * groups that were created before this correlator started (i.e.: from a persistent store).
+   */
+  private static final long FALLBACK_DELAY_TIME = 1000;
+
   protected final Object groupsLock = new Object();
 
   // @GuardedBy groupsLock
@@ -90,9 +102,12 @@ public class EventCorrelator implements Startable, Stoppable {
    */
   private PartitionableObjectStore correlatorStore = null;
   private String storePrefix;
+  private EventGroupLogFactory eventGroupLogFactory;
 
   private Scheduler scheduler;
   private ExpiringGroupMonitoringRunnable expiringGroupRunnable;
+  private volatile TimeoutService timeoutService;
+  private final Map<String, Timeout> groupTimeouts = new ConcurrentHashMap<>();
   private final String name;
 
   private final FlowConstruct flowConstruct;
@@ -180,8 +195,9 @@ public class EventCorrelator implements Startable, Stoppable {
         // ..apparently not, so create a new one & add it
         try {
           EventGroup eventGroup = callback.createEventGroup(event, groupId);
-          eventGroup.initEventsStore(correlatorStore);
+          initEventsStorage(eventGroup);
           group = this.addEventGroup(eventGroup);
+          scheduleGroupExpiry(groupId, getTimeout());
         } catch (ObjectStoreException e) {
           throw new RoutingException(timeoutMessageProcessor, e);
         }
@@ -242,13 +258,21 @@ public class EventCorrelator implements Startable, Stoppable {
           throw new ObjectStoreException(e);
         }
       }
-      eventGroup.initEventsStore(correlatorStore);
+      initEventsStorage(eventGroup);
       return eventGroup;
     } catch (ObjectDoesNotExistException e) {
       return null;
     }
   }
 
+  private void initEventsStorage(EventGroup eventGroup) throws ObjectStoreException {
+    if (eventGroupLogFactory != null) {
+      eventGroup.initEventsLog(eventGroupLogFactory);
+    } else {
+      eventGroup.initEventsStore(correlatorStore);
+    }
+  }
+
   protected EventGroup addEventGroup(EventGroup group) throws ObjectStoreException {
     try {
       correlatorStore.store((String) group.getGroupId(), group, getEventGroupsPartitionKey());
@@ -266,6 +290,10 @@ public class EventCorrelator implements Startable, Stoppable {
         addProcessedGroup(groupId);
       }
     }
+    Timeout groupTimeout = groupTimeouts.remove(groupId);
+    if (groupTimeout != null) {
+      groupTimeout.cancel();
+    }
   }
 
   protected void addProcessedGroup(Object id) throws ObjectStoreException {
@@ -292,6 +320,14 @@ public class EventCorrelator implements Startable, Stoppable {
     return timeout;
   }
 
+  /**
+   * @param eventGroupLogFactory the factory of the logs where the events of each group are kept, or {@code null} to store each
+   *        event as a separate entry of the correlator store.
+   */
+  public void setEventGroupLogFactory(EventGroupLogFactory eventGroupLogFactory) {
+    this.eventGroupLogFactory = eventGroupLogFactory;
+  }
+
   public void setTimeout(long timeout) {
     this.timeout = timeout;
   }
@@ -354,10 +390,12 @@ public class EventCorrelator implements Startable, Stoppable {
   public void start() throws MuleException {
     logger.info("Starting event correlator: " + name);
     if (timeout != 0) {
+      timeoutService = ((MuleContextWithRegistries) muleContext).getRegistry().lookupObject(OBJECT_TIMEOUT_SERVICE);
       scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig().withName(name)
           .withMaxConcurrentTasks(1).withShutdownTimeout(0, MILLISECONDS));
       expiringGroupRunnable = new ExpiringGroupMonitoringRunnable();
-      scheduler.scheduleWithFixedDelay(expiringGroupRunnable, 0, DELAY_TIME, MILLISECONDS);
+      scheduler.scheduleWithFixedDelay(expiringGroupRunnable, 0, timeoutService != null ? FALLBACK_DELAY_TIME : DELAY_TIME,
+                                       MILLISECONDS);
     }
   }
 
@@ -371,6 +409,64 @@ public class EventCorrelator implements Startable, Stoppable {
       expiringGroupRunnable.dispose();
       expiringGroupRunnable = null;
     }
+    groupTimeouts.values().forEach(Timeout::cancel);
+    groupTimeouts.clear();
+    timeoutService = null;
+  }
+
+  /**
+   * Schedules the expiry of a single group in the {@link TimeoutService}, so it is expired right after its timeout elapses
+   * instead of waiting for the next scan of the store.
+   * <p>
+   * The actual expiry is run in the {@link #scheduler} of this correlator, so it is never run concurrently with the scan.
+   */
+  private void scheduleGroupExpiry(String groupId, long delay) {
+    final TimeoutService timeoutService = this.timeoutService;
+    if (timeoutService == null || getTimeout() <= 0) {
+      return;
+    }
+    groupTimeouts.computeIfAbsent(groupId, id -> timeoutService.schedule(() -> {
+      groupTimeouts.remove(id);
+      try {
+        scheduler.execute(() -> expireGroup(id));
+      } catch (RejectedExecutionException e) {
+        // The correlator is stopping, the group will be expired on the next start
+      }
+    }, delay, MILLISECONDS));
+  }
+
+  private void expireGroup(String groupId) {
+    if (!muleContext.isPrimaryPollingInstance()) {
+      return;
+    }
+
+    EventGroup group;
+    try {
+      group = getEventGroup(groupId);
+    } catch (ObjectStoreException e) {
+      logger.warn("expiry failed dues to ObjectStoreException " + e);
+      return;
+    }
+
+    if (group != null) {
+      // The wheel and the system clock may drift a few millis apart
+      long remaining = group.getCreated() + getTimeout() - currentTimeMillis();
+      if (remaining >= 0) {
+        scheduleGroupExpiry(groupId, remaining + 1);
+      } else {
+        expireGroup(group);
+      }
+    }
+  }
+
+  private void expireGroup(EventGroup group) {
+    try {
+      handleGroupExpiry(group);
+    } catch (MessagingException e) {
+      flowConstruct.getExceptionListener().handleException(e, e.getEvent());
+    } catch (Exception e) {
+      muleContext.getExceptionListener().handleException(e);
+    }
   }
 
   private final class ExpiringGroupMonitoringRunnable implements Runnable, Expirable, Disposable {
@@ -423,13 +519,7 @@ public class EventCorrelator implements Startable, Stoppable {
         logger.warn("expiry failed dues to ObjectStoreException " + e);
       }
       for (final EventGroup group : expired) {
-        try {
-          handleGroupExpiry(group);
-        } catch (MessagingException e) {
-          flowConstruct.getExceptionListener().handleException(e, e.getEvent());
-        } catch (Exception e) {
-          muleContext.getExceptionListener().handleException(e);
-        }
+        expireGroup(group);
       }
     }
 
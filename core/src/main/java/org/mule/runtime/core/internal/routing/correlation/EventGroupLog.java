@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.correlation;
+
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.internal.routing.EventGroup;
+
+import java.util.List;
+
+/**
+ * Append-only storage for the events of a single {@link EventGroup}.
+ * <p>
+ * Events are read back in the order they were appended, so there is no need to keep track of the arrival order or to sort them,
+ * and the size of the log is tracked as events are appended instead of listing the stored events.
+ *
+ * @since 4.2
+ */
+public interface EventGroupLog {
+
+  /**
+   * Appends an event at the end of this log.
+   *
+   * @param event the event to append.
+   * @throws ObjectStoreException if the event could not be stored.
+   */
+  void append(CoreEvent event) throws ObjectStoreException;
+
+  /**
+   * @return the amount of events in this log.
+   */
+  int size();
+
+  /**
+   * Reads all the events in this log at once.
+   *
+   * @return the events in this log, in the order they were appended.
+   * @throws ObjectStoreException if the events could not be read.
+   */
+  List<CoreEvent> readAll() throws ObjectStoreException;
+
+  /**
+   * Removes all the events from this log and releases its resources.
+   *
+   * @throws ObjectStoreException if the events could not be removed.
+   */
+  void clear() throws ObjectStoreException;
+}
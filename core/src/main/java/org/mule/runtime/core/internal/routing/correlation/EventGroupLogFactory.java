@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.correlation;
+
+import org.mule.runtime.api.store.ObjectStoreException;
+
+/**
+ * Provides the {@link EventGroupLog}s where an {@link EventCorrelator} keeps the events of its groups, as an alternative to
+ * storing each event as a separate entry of an object store.
+ *
+ * @since 4.2
+ */
+public interface EventGroupLogFactory {
+
+  /**
+   * Opens the log with the given key, creating it if it doesn't exist. Opening the same key again returns a log with the same
+   * events until it is {@link EventGroupLog#clear() cleared}.
+   *
+   * @param key the key that identifies the log.
+   * @return the log for the given key.
+   * @throws ObjectStoreException if the log could not be opened.
+   */
+  EventGroupLog open(String key) throws ObjectStoreException;
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.correlation;
+
+import static java.lang.Integer.toHexString;
+import static java.lang.Math.min;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.serialization.SerializationProtocol;
+import org.mule.runtime.api.store.ObjectStoreException;
+import org.mule.runtime.core.api.event.CoreEvent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link EventGroupLogFactory} that keeps the events of each group in an append-only file.
+ * <p>
+ * Each record of the file is the length of a serialized event followed by its bytes. Events are appended without reading the
+ * file, and are only read back, all at once, when the group is aggregated. A record left incomplete by a crash is discarded when
+ * the log is opened again.
+ *
+ * @since 4.2
+ */
+public class FileEventGroupLogFactory implements EventGroupLogFactory, Disposable {
+
+  private static final Logger LOGGER = getLogger(FileEventGroupLogFactory.class);
+
+  private static final int MAX_FILE_NAME_PREFIX = 100;
+
+  private final File directory;
+  private final SerializationProtocol serializationProtocol;
+  private final Map<String, FileEventGroupLog> logs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new factory.
+   *
+   * @param directory the directory where the log files are created.
+   * @param serializationProtocol the protocol used to write the events to the log files.
+   */
+  public FileEventGroupLogFactory(File directory, SerializationProtocol serializationProtocol) {
+    this.directory = directory;
+    this.serializationProtocol = serializationProtocol;
+  }
+
+  @Override
+  public EventGroupLog open(String key) throws ObjectStoreException {
+    FileEventGroupLog log = logs.get(key);
+    if (log != null) {
+      return log;
+    }
+
+    // The log is only published once recovered, otherwise events appended meanwhile would be counted twice
+    synchronized (logs) {
+      log = logs.get(key);
+      if (log != null) {
+        return log;
+      }
+
+      if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+        throw new ObjectStoreException(createStaticMessage("Could not create directory " + directory.getAbsolutePath()));
+      }
+      log = new FileEventGroupLog(key, new File(directory, toFileName(key)));
+      log.recover();
+      logs.put(key, log);
+      return log;
+    }
+  }
+
+  private String toFileName(String key) {
+    String sanitized = key.replaceAll("[^a-zA-Z0-9._-]", "_");
+    return sanitized.substring(0, min(sanitized.length(), MAX_FILE_NAME_PREFIX)) + "-" + toHexString(key.hashCode()) + ".log";
+  }
+
+  @Override
+  public void dispose() {
+    for (FileEventGroupLog log : logs.values()) {
+      log.close();
+    }
+    logs.clear();
+  }
+
+  private final class FileEventGroupLog implements EventGroupLog {
+
+    private final String key;
+    private final File file;
+    private DataOutputStream output;
+    private int size;
+
+    private FileEventGroupLog(String key, File file) {
+      this.key = key;
+      this.file = file;
+    }
+
+    /**
+     * Counts the records of an already existing file, discarding an incomplete last record.
+     */
+    private synchronized void recover() throws ObjectStoreException {
+      if (!file.exists()) {
+        return;
+      }
+
+      long validLength = 0;
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        while (true) {
+          int length = input.readInt();
+          if (input.skipBytes(length) < length) {
+            break;
+          }
+          validLength += Integer.BYTES + length;
+          ++size;
+        }
+      } catch (EOFException e) {
+        // End of the valid records
+      } catch (IOException e) {
+        throw new ObjectStoreException(e);
+      }
+
+      if (validLength < file.length()) {
+        LOGGER.warn("Discarding incomplete record at the end of " + file.getAbsolutePath());
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+          randomAccessFile.setLength(validLength);
+        } catch (IOException e) {
+          throw new ObjectStoreException(e);
+        }
+      }
+    }
+
+    @Override
+    public synchronized void append(CoreEvent event) throws ObjectStoreException {
+      byte[] serialized = serializationProtocol.serialize(event);
+      try {
+        if (output == null) {
+          output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        }
+        output.writeInt(serialized.length);
+        output.write(serialized);
+        output.flush();
+      } catch (IOException e) {
+        throw new ObjectStoreException(e);
+      }
+      ++size;
+    }
+
+    @Override
+    public synchronized int size() {
+      return size;
+    }
+
+    @Override
+    public synchronized List<CoreEvent> readAll() throws ObjectStoreException {
+      List<CoreEvent> events = new ArrayList<>(size);
+      if (size == 0) {
+        return events;
+      }
+
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+        for (int i = 0; i < size; ++i) {
+          byte[] serialized = new byte[input.readInt()];
+          input.readFully(serialized);
+          events.add(serializationProtocol.deserialize(serialized));
+        }
+      } catch (IOException e) {
+        throw new ObjectStoreException(e);
+      }
+      return events;
+    }
+
+    @Override
+    public synchronized void clear() throws ObjectStoreException {
+      close();
+      size = 0;
+      logs.remove(key, this);
+      if (file.exists() && !file.delete()) {
+        throw new ObjectStoreException(createStaticMessage("Could not delete " + file.getAbsolutePath()));
+      }
+    }
+
+    private synchronized void close() {
+      if (output != null) {
+        try {
+          output.close();
+        } catch (IOException e) {
+          LOGGER.debug("Could not close " + file.getAbsolutePath(), e);
+        }
+        output = null;
+      }
+    }
+  }
+}
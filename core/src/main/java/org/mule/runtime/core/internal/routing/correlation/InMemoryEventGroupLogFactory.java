@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.routing.correlation;
+
+import org.mule.runtime.core.api.event.CoreEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link EventGroupLogFactory} that keeps the events of each group in a list in memory.
+ *
+ * @since 4.2
+ */
+public class InMemoryEventGroupLogFactory implements EventGroupLogFactory {
+
+  private final Map<String, InMemoryEventGroupLog> logs = new ConcurrentHashMap<>();
+
+  @Override
+  public EventGroupLog open(String key) {
+    return logs.computeIfAbsent(key, InMemoryEventGroupLog::new);
+  }
+
+  private final class InMemoryEventGroupLog implements EventGroupLog {
+
+    private final String key;
+    private final List<CoreEvent> events = new ArrayList<>();
+
+    private InMemoryEventGroupLog(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public synchronized void append(CoreEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public synchronized int size() {
+      return events.size();
+    }
+
+    @Override
+    public synchronized List<CoreEvent> readAll() {
+      return new ArrayList<>(events);
+    }
+
+    @Override
+    public synchronized void clear() {
+      events.clear();
+      logs.remove(key, this);
+    }
+  }
+}
@@ -18,6 +18,7 @@ import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Mono.defer;
 import static reactor.core.publisher.Mono.error;
 import static reactor.core.publisher.Mono.just;
+import static reactor.core.publisher.Mono.never;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -36,7 +37,6 @@ import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.CollectionDataType;
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
-import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.message.ErrorBuilder;
@@ -46,12 +46,12 @@ import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategy.RoutingPair;
 import org.mule.runtime.core.internal.routing.ForkJoinStrategyFactory;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.routing.CompositeRoutingException;
 import org.mule.runtime.core.privileged.routing.RoutingResult;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 /**
  * Abstract {@link ForkJoinStrategy} that provides the base behavior for strategies that will
@@ -70,14 +70,13 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
 
   @Override
   public ForkJoinStrategy createForkJoinStrategy(ProcessingStrategy processingStrategy, int maxConcurrency, boolean delayErrors,
-                                                 long timeout, Scheduler timeoutScheduler, ErrorType timeoutErrorType) {
-    reactor.core.scheduler.Scheduler reactorTimeoutScheduler = Schedulers.fromExecutorService(timeoutScheduler);
+                                                 long timeout, TimeoutService timeoutService, ErrorType timeoutErrorType) {
     return (original, routingPairs) -> {
       final AtomicInteger count = new AtomicInteger();
       final CoreEvent.Builder resultBuilder = builder(original);
       return from(routingPairs)
           .map(addSequence(count))
-          .flatMapSequential(processRoutePair(processingStrategy, maxConcurrency, delayErrors, timeout, reactorTimeoutScheduler,
+          .flatMapSequential(processRoutePair(processingStrategy, maxConcurrency, delayErrors, timeout, timeoutService,
                                               timeoutErrorType),
                              maxConcurrency)
           .collectList()
@@ -110,13 +109,16 @@ public abstract class AbstractForkJoinStrategyFactory implements ForkJoinStrateg
   private Function<RoutingPair, Publisher<? extends CoreEvent>> processRoutePair(ProcessingStrategy processingStrategy,
                                                                                  int maxConcurrency,
                                                                                  boolean delayErrors, long timeout,
-                                                                                 reactor.core.scheduler.Scheduler timeoutScheduler,
+                                                                                 TimeoutService timeoutService,
                                                                                  ErrorType timeoutErrorType) {
 
     return pair -> {
-      ReactiveProcessor route = publisher -> from(publisher)
-          .transform(pair.getRoute())
-          .timeout(ofMillis(timeout), onTimeout(processingStrategy, delayErrors, timeoutErrorType, pair), timeoutScheduler);
+      ReactiveProcessor route = timeout == Long.MAX_VALUE
+          ? pair.getRoute()
+          : publisher -> from(publisher)
+              .transform(pair.getRoute())
+              .timeout(timeoutService.delay(ofMillis(timeout)), next -> never(),
+                       onTimeout(processingStrategy, delayErrors, timeoutErrorType, pair));
       return from(processWithChildContext(pair.getEvent(),
                                           applyProcessingStrategy(processingStrategy, route, maxConcurrency), empty()))
                                               .onErrorResume(MessagingException.class,
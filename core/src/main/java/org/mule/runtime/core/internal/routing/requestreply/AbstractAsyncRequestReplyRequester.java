@@ -12,6 +12,7 @@ import static org.mule.runtime.api.notification.RoutingNotification.ASYNC_REPLY_
 import static org.mule.runtime.api.notification.RoutingNotification.MISSED_ASYNC_REPLY;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_SESSION_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_STORE_MANAGER;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_TIMEOUT_SERVICE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.responseTimedOutWaitingForId;
 import static org.mule.runtime.core.api.processor.ReactiveProcessor.ProcessingType.BLOCKING;
 import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
@@ -41,6 +42,8 @@ import org.mule.runtime.core.api.util.ObjectUtils;
 import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.message.InternalMessage;
 import org.mule.runtime.core.internal.registry.MuleRegistry;
+import org.mule.runtime.core.internal.time.Timeout;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.event.PrivilegedEvent;
 import org.mule.runtime.core.privileged.processor.AbstractInterceptingMessageProcessorBase;
 import org.mule.runtime.core.privileged.registry.RegistrationException;
@@ -54,6 +57,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 
 public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterceptingMessageProcessorBase
     implements RequestReplyRequesterMessageProcessor, Initialisable, Startable, Stoppable, Disposable {
@@ -62,6 +66,7 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
   private static final long UNCLAIMED_TIME_TO_LIVE = 60000;
   private static final long UNCLAIMED_INTERVAL = 60000;
   private static final String NAME_TEMPLATE = "%s.%s.%s.asyncReplies";
+  private static final long MONITORING_INTERVAL = 100;
 
   protected String name;
 
@@ -70,6 +75,9 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
   protected MessageSource replyMessageSource;
   private final Processor internalAsyncReplyMessageProcessor = new InternalAsyncReplyMessageProcessor();
   private Scheduler scheduler;
+  private TimeoutService timeoutService;
+  private volatile Timeout replyMonitoringTimeout;
+  private volatile boolean monitoring;
   private NotificationDispatcher notificationFirer;
   private AsyncReplyMonitoringRunnable replyRunnable;
   protected final Map<String, RequestReplyLatch> locks = new ConcurrentHashMap<>();
@@ -157,21 +165,62 @@ public abstract class AbstractAsyncRequestReplyRequester extends AbstractInterce
     } catch (RegistrationException e) {
       throw new InitialisationException(e, this);
     }
+    timeoutService = registry.lookupObject(OBJECT_TIMEOUT_SERVICE);
   }
 
   @Override
   public void start() throws MuleException {
-    scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig().withName(name)
-        .withMaxConcurrentTasks(1)
-        .withShutdownTimeout(0, MILLISECONDS));
     replyRunnable = new AsyncReplyMonitoringRunnable();
-    scheduler.scheduleWithFixedDelay(replyRunnable, 0, 100, MILLISECONDS);
+    if (timeoutService != null) {
+      // Avoid having a dedicated thread per requester just to poll the store
+      scheduler = muleContext.getSchedulerService().ioScheduler();
+      monitoring = true;
+      scheduleReplyMonitoring();
+    } else {
+      scheduler = muleContext.getSchedulerService().customScheduler(muleContext.getSchedulerBaseConfig().withName(name)
+          .withMaxConcurrentTasks(1)
+          .withShutdownTimeout(0, MILLISECONDS));
+      scheduler.scheduleWithFixedDelay(replyRunnable, 0, MONITORING_INTERVAL, MILLISECONDS);
+    }
+  }
+
+  private void scheduleReplyMonitoring() {
+    // The store is polled in the IO scheduler, since the timeout service runs its tasks in cpu-light threads
+    replyMonitoringTimeout = timeoutService.schedule(() -> {
+      if (!monitoring) {
+        return;
+      }
+      try {
+        scheduler.execute(this::monitorReplies);
+      } catch (RejectedExecutionException e) {
+        if (monitoring) {
+          logger.warn("Could not poll the store for replies", e);
+          scheduleReplyMonitoring();
+        }
+      }
+    }, MONITORING_INTERVAL, MILLISECONDS);
+  }
+
+  private void monitorReplies() {
+    try {
+      replyRunnable.run();
+    } finally {
+      if (monitoring) {
+        scheduleReplyMonitoring();
+      }
+    }
   }
 
   @Override
   public void stop() throws MuleException {
+    monitoring = false;
+    if (replyMonitoringTimeout != null) {
+      replyMonitoringTimeout.cancel();
+      replyMonitoringTimeout = null;
+    }
     if (scheduler != null) {
       scheduler.stop();
+      scheduler = null;
     }
   }
 
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.security;
 
+import static javax.crypto.Cipher.DECRYPT_MODE;
+import static javax.crypto.Cipher.ENCRYPT_MODE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToCreate;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.objectIsNull;
 
@@ -17,19 +19,28 @@ import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.GeneralSecurityException;
+import java.security.Key;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.KeySpec;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
 import javax.crypto.SecretKey;
 
 /**
  * A JCE based encryption strategy. It also provides base64 encoding of encrypted/decrypted data by setting the base64encoding
  * attribute.
+ * <p>
+ * {@link Cipher}s are not thread safe, so each encryption or decryption borrows one from a pool of initialised ciphers and
+ * returns it when done. When the streaming attribute is set, the streams passed to this strategy are encrypted and decrypted as
+ * they are read instead of being loaded in memory first.
  */
 public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncryptionStrategy {
 
@@ -47,6 +58,11 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   protected boolean base64Encoding = true;
 
+  protected boolean streaming = false;
+
+  private final Queue<Cipher> encryptCiphers = new ConcurrentLinkedQueue<>();
+  private final Queue<Cipher> decryptCiphers = new ConcurrentLinkedQueue<>();
+
   @Override
   public void initialise() throws InitialisationException {
     if (algorithm == null) {
@@ -59,30 +75,61 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
     try {
       secretKey = getSecretKey();
+      encryptCiphers.clear();
+      decryptCiphers.clear();
       createAndInitCiphers();
     } catch (Exception e) {
       throw new InitialisationException(failedToCreate("encryption ciphers"), e, this);
     }
+
+    if (encryptCipher != null) {
+      encryptCiphers.add(encryptCipher);
+    }
+    if (decryptCipher != null) {
+      decryptCiphers.add(decryptCipher);
+    }
   }
 
   protected void createAndInitCiphers() throws GeneralSecurityException {
-    encryptCipher = Cipher.getInstance(getAlgorithm());
-    decryptCipher = Cipher.getInstance(getAlgorithm());
+    encryptCipher = createCipher(ENCRYPT_MODE);
+    decryptCipher = createCipher(DECRYPT_MODE);
+  }
+
+  /**
+   * Creates a new cipher for this strategy's algorithm and key.
+   *
+   * @param mode either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+   * @return an initialised cipher
+   * @throws GeneralSecurityException if the cipher can't be created
+   */
+  protected Cipher createCipher(int mode) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(getAlgorithm());
 
     AlgorithmParameterSpec paramSpec = createAlgorithmParameterSpec();
     if (paramSpec != null) {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, paramSpec);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, paramSpec);
+      cipher.init(mode, getCipherKey(), paramSpec);
     } else {
-      encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey);
-      decryptCipher.init(Cipher.DECRYPT_MODE, secretKey);
+      cipher.init(mode, getCipherKey());
     }
+    return cipher;
+  }
+
+  /**
+   * @return the key to initialise the ciphers with
+   */
+  protected Key getCipherKey() {
+    return secretKey;
   }
 
   protected abstract SecretKey getSecretKey() throws GeneralSecurityException;
 
   @Override
   public InputStream encrypt(InputStream data, Object info) throws CryptoFailureException {
+    if (streaming) {
+      InputStream encrypted = new PooledCipherInputStream(new BufferedInputStream(data), ENCRYPT_MODE);
+      return base64Encoding ? new Base64.InputStream(new BufferedInputStream(encrypted), Base64.ENCODE) : encrypted;
+    }
+
     try {
       return new ByteArrayInputStream(this.encrypt(IOUtils.toByteArray(data), info));
     } catch (IOException e) {
@@ -92,6 +139,11 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
 
   @Override
   public InputStream decrypt(InputStream data, Object info) throws CryptoFailureException {
+    if (streaming) {
+      InputStream encrypted = base64Encoding ? new Base64.InputStream(new BufferedInputStream(data), Base64.DECODE) : data;
+      return new PooledCipherInputStream(new BufferedInputStream(encrypted), DECRYPT_MODE);
+    }
+
     try {
       return new ByteArrayInputStream(this.decrypt(IOUtils.toByteArray(data), info));
     } catch (IOException e) {
@@ -102,7 +154,7 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
   @Override
   public byte[] encrypt(byte[] data, Object info) throws CryptoFailureException {
     try {
-      byte[] buf = encryptCipher.doFinal(data);
+      byte[] buf = doFinal(ENCRYPT_MODE, data);
       if (base64Encoding) {
         return Base64.encodeBytes(buf).getBytes();
       } else {
@@ -120,12 +172,33 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
       if (base64Encoding) {
         dec = Base64.decode(new String(data));
       }
-      return decryptCipher.doFinal(dec);
+      return doFinal(DECRYPT_MODE, dec);
     } catch (Exception e) {
       throw new CryptoFailureException(this, e);
     }
   }
 
+  private byte[] doFinal(int mode, byte[] data) throws GeneralSecurityException {
+    Cipher cipher = borrowCipher(mode);
+    // doFinal resets the cipher so it can be reused. If it fails, the cipher is discarded just in case.
+    byte[] result = cipher.doFinal(data);
+    returnCipher(mode, cipher);
+    return result;
+  }
+
+  private Cipher borrowCipher(int mode) throws GeneralSecurityException {
+    Cipher cipher = ciphers(mode).poll();
+    return cipher != null ? cipher : createCipher(mode);
+  }
+
+  private void returnCipher(int mode, Cipher cipher) {
+    ciphers(mode).offer(cipher);
+  }
+
+  private Queue<Cipher> ciphers(int mode) {
+    return mode == ENCRYPT_MODE ? encryptCiphers : decryptCiphers;
+  }
+
   public String getAlgorithm() {
     return algorithm;
   }
@@ -149,8 +222,87 @@ public abstract class AbstractJCEEncryptionStrategy extends AbstractNamedEncrypt
     this.base64Encoding = base64Encoding;
   }
 
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * @param streaming whether streams are encrypted and decrypted as they are read, instead of being loaded in memory first
+   */
+  public void setStreaming(boolean streaming) {
+    this.streaming = streaming;
+  }
+
   protected abstract KeySpec createKeySpec();
 
   protected abstract AlgorithmParameterSpec createAlgorithmParameterSpec();
 
+  /**
+   * Encrypts or decrypts a stream as it is read, with a cipher borrowed from the pool. The cipher is borrowed on the first read
+   * and returned once the stream is closed.
+   */
+  private final class PooledCipherInputStream extends InputStream {
+
+    private final InputStream data;
+    private final int mode;
+    private Cipher cipher;
+    private CipherInputStream delegate;
+    private boolean closed = false;
+
+    private PooledCipherInputStream(InputStream data, int mode) {
+      this.data = data;
+      this.mode = mode;
+    }
+
+    private InputStream delegate() throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      if (delegate == null) {
+        try {
+          cipher = borrowCipher(mode);
+        } catch (GeneralSecurityException e) {
+          throw new IOException(e);
+        }
+        delegate = new CipherInputStream(data, cipher);
+      }
+      return delegate;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return delegate().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      return delegate().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      return delegate().skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+      return delegate().available();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (delegate == null) {
+        data.close();
+        return;
+      }
+
+      // Closing the cipher stream finishes the operation, which resets the cipher
+      delegate.close();
+      returnCipher(mode, cipher);
+    }
+  }
 }
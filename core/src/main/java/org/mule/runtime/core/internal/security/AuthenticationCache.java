@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.security;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.api.security.Authentication;
+import org.mule.runtime.api.security.Credentials;
+import org.mule.runtime.core.api.security.SecurityProvider;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the outcome of the authentications performed by the {@link SecurityProvider}s of a {@link DefaultMuleSecurityManager},
+ * so that repeated requests with the same credentials don't hit the provider each time.
+ * <p>
+ * Entries are keyed by a salted SHA-256 hash of the provider name, the type of the authentication, its principal and its
+ * credentials. Only authentications whose credentials are a {@link String}, a {@code char[]}, a {@code byte[]} or
+ * {@link Credentials} are cached.
+ * <p>
+ * No credentials are kept in memory by the cache: only the principal and the properties of a successful authentication are,
+ * and each cacheable request gets its own {@link Authentication} with them and without credentials, whether it is resolved
+ * from the cache or by the provider, so callers see the same result either way.
+ * <p>
+ * Failed authentications may be cached as well, for a usually shorter time, so that repeated attempts with wrong credentials
+ * don't reach the provider. Only the fact that the authentication was rejected is kept, not the failure itself. Both kinds of
+ * entries for a principal may be discarded with {@link #invalidate(Object)}, for instance when its password changes or its
+ * account is locked.
+ *
+ * @since 4.2
+ */
+public final class AuthenticationCache {
+
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int SALT_LENGTH = 16;
+
+  private final Cache<String, Entry<CachedAuthentication>> authenticated;
+  private final Cache<String, Entry<Void>> rejected;
+  private final byte[] salt = new byte[SALT_LENGTH];
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder negativeHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache that doesn't keep failed authentications.
+   *
+   * @param ttl the milliseconds a successful authentication is kept for. Must be greater than 0.
+   * @param maxSize the maximum amount of successful authentications kept.
+   */
+  public AuthenticationCache(long ttl, int maxSize) {
+    this(ttl, 0, maxSize);
+  }
+
+  /**
+   * Creates a new cache.
+   *
+   * @param ttl the milliseconds a successful authentication is kept for. Must be greater than 0.
+   * @param negativeTtl the milliseconds a failed authentication is kept for, or 0 to not keep them.
+   * @param maxSize the maximum amount of successful authentications kept, and of failed ones.
+   */
+  public AuthenticationCache(long ttl, long negativeTtl, int maxSize) {
+    checkArgument(ttl > 0, "ttl must be greater than 0");
+    checkArgument(negativeTtl >= 0, "negativeTtl must not be negative");
+    checkArgument(maxSize > 0, "maxSize must be greater than 0");
+
+    authenticated = CacheBuilder.newBuilder().expireAfterWrite(ttl, MILLISECONDS).maximumSize(maxSize).build();
+    rejected = negativeTtl > 0
+        ? CacheBuilder.newBuilder().expireAfterWrite(negativeTtl, MILLISECONDS).maximumSize(maxSize).build()
+        : null;
+    new SecureRandom().nextBytes(salt);
+  }
+
+  /**
+   * @param provider the provider that would authenticate the request.
+   * @param authentication the authentication request.
+   * @return the key of the outcome of the authentication of the request by the provider, or {@code null} if it can't be cached.
+   */
+  String keyFor(SecurityProvider provider, Authentication authentication) {
+    byte[] credentials = toBytes(authentication.getCredentials());
+    if (credentials == null) {
+      return null;
+    }
+
+    MessageDigest digest = newDigest();
+    digest.update(salt);
+    update(digest, provider.getName());
+    update(digest, authentication.getClass().getName());
+    update(digest, Objects.toString(authentication.getPrincipal()));
+    digest.update(credentials);
+    Arrays.fill(credentials, (byte) 0);
+    return Base64.getEncoder().encodeToString(digest.digest());
+  }
+
+  /**
+   * @param key the key returned by {@link #keyFor(SecurityProvider, Authentication)}.
+   * @return a copy without credentials of the cached successful authentication, or {@code null} if there is none.
+   */
+  Authentication getAuthenticated(String key) {
+    Entry<CachedAuthentication> entry = authenticated.getIfPresent(key);
+    if (entry != null) {
+      hits.increment();
+      return entry.value.copy();
+    }
+    return null;
+  }
+
+  /**
+   * Must be called after {@link #getAuthenticated(String)} returned {@code null} for the same key.
+   *
+   * @param key the key returned by {@link #keyFor(SecurityProvider, Authentication)}.
+   * @return whether there is a cached failed authentication.
+   */
+  boolean isRejected(String key) {
+    Entry<Void> entry = rejected != null ? rejected.getIfPresent(key) : null;
+    if (entry != null) {
+      negativeHits.increment();
+      return true;
+    }
+    misses.increment();
+    return false;
+  }
+
+  /**
+   * @param key the key returned by {@link #keyFor(SecurityProvider, Authentication)}.
+   * @param authentication the authentication request.
+   * @param result the authentication returned by the provider.
+   * @return a copy without credentials of the result, as {@link #getAuthenticated(String)} returns on later requests.
+   */
+  Authentication putAuthenticated(String key, Authentication authentication, Authentication result) {
+    CachedAuthentication cachedAuthentication = new CachedAuthentication(result.getPrincipal(), result.getProperties());
+    authenticated.put(key, new Entry<>(authentication.getPrincipal(), cachedAuthentication));
+    return cachedAuthentication.copy();
+  }
+
+  void putRejected(String key, Authentication authentication) {
+    if (rejected != null) {
+      rejected.put(key, new Entry<>(authentication.getPrincipal(), null));
+    }
+  }
+
+  /**
+   * Discards the successful and failed authentications of the given principal.
+   *
+   * @param principal the principal of the authentications to discard.
+   */
+  public void invalidate(Object principal) {
+    authenticated.asMap().values().removeIf(entry -> Objects.equals(entry.principal, principal));
+    if (rejected != null) {
+      rejected.asMap().values().removeIf(entry -> Objects.equals(entry.principal, principal));
+    }
+  }
+
+  /**
+   * Discards all the successful and failed authentications.
+   */
+  public void invalidateAll() {
+    authenticated.invalidateAll();
+    if (rejected != null) {
+      rejected.invalidateAll();
+    }
+  }
+
+  /**
+   * @return the amount of authentications resolved with a cached successful authentication.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the amount of authentications resolved with a cached failed authentication.
+   */
+  public long getNegativeHits() {
+    return negativeHits.sum();
+  }
+
+  /**
+   * @return the amount of cacheable authentications that had to be performed by the provider.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private static byte[] toBytes(Object credentials) {
+    if (credentials instanceof byte[]) {
+      return ((byte[]) credentials).clone();
+    } else if (credentials instanceof char[]) {
+      return encode((char[]) credentials);
+    } else if (credentials instanceof String) {
+      return ((String) credentials).getBytes(UTF_8);
+    } else if (credentials instanceof Credentials) {
+      Credentials userCredentials = (Credentials) credentials;
+      byte[] username = Objects.toString(userCredentials.getUsername()).getBytes(UTF_8);
+      byte[] password = encode(userCredentials.getPassword() != null ? userCredentials.getPassword() : new char[0]);
+      // The username length avoids different splits of the same characters producing the same bytes
+      byte[] bytes = ByteBuffer.allocate(4 + username.length + password.length).putInt(username.length).put(username)
+          .put(password).array();
+      Arrays.fill(password, (byte) 0);
+      return bytes;
+    }
+    return null;
+  }
+
+  private static byte[] encode(char[] chars) {
+    ByteBuffer buffer = UTF_8.encode(CharBuffer.wrap(chars));
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    if (buffer.hasArray()) {
+      Arrays.fill(buffer.array(), (byte) 0);
+    }
+    return bytes;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    byte[] bytes = value.getBytes(UTF_8);
+    digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The outcome of a successful authentication, without its credentials.
+   */
+  private static final class CachedAuthentication implements Authentication {
+
+    private static final long serialVersionUID = -3092418527436172208L;
+
+    private final Object principal;
+    private final Map<String, Object> properties;
+
+    private CachedAuthentication(Object principal, Map<String, Object> properties) {
+      this.principal = principal;
+      this.properties = properties != null ? new HashMap<>(properties) : new HashMap<>();
+    }
+
+    private CachedAuthentication copy() {
+      // Each request gets its own properties, as they may be modified
+      return new CachedAuthentication(principal, properties);
+    }
+
+    @Override
+    public Object getCredentials() {
+      return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+      return principal;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+      return properties;
+    }
+
+    @Override
+    public Authentication setProperties(Map<String, Object> properties) {
+      return new CachedAuthentication(principal, properties);
+    }
+  }
+
+  private static final class Entry<T> {
+
+    private final Object principal;
+    private final T value;
+
+    private Entry(Object principal, T value) {
+      this.principal = principal;
+      this.value = value;
+    }
+  }
+}
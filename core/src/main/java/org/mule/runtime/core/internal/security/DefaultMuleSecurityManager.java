@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.security;
 
 import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.core.api.config.i18n.CoreMessages.authFailedForUser;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.authorizationAttemptFailed;
 
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -48,6 +49,7 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
 
   private Map<String, SecurityProvider> providers = new ConcurrentHashMap<>();
   private Map<String, EncryptionStrategy> cryptoStrategies = new ConcurrentHashMap<>();
+  private volatile AuthenticationCache authenticationCache;
 
   public DefaultMuleSecurityManager() {
     super();
@@ -77,15 +79,38 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
           LOGGER.debug("Authentication attempt using " + provider.getClass().getName());
         }
 
+        AuthenticationCache cache = authenticationCache;
+        String cacheKey = cache != null ? cache.keyFor(provider, authentication) : null;
         Authentication result = null;
-        try {
-          result = provider.authenticate(authentication);
-        } catch (Exception e) {
-          if (!iter.hasNext()) {
-            throw new UnauthorisedException(authorizationAttemptFailed(), e);
+        Exception failure = null;
+        if (cacheKey != null) {
+          result = cache.getAuthenticated(cacheKey);
+          if (result == null && cache.isRejected(cacheKey)) {
+            failure = new UnauthorisedException(authFailedForUser(authentication.getPrincipal()));
           }
         }
 
+        if (result == null && failure == null) {
+          try {
+            result = provider.authenticate(authentication);
+            if (result != null && cacheKey != null) {
+              result = cache.putAuthenticated(cacheKey, authentication, result);
+            }
+          } catch (SecurityException e) {
+            // Only rejections are cached, other failures may not happen on a retry
+            if (cacheKey != null) {
+              cache.putRejected(cacheKey, authentication);
+            }
+            failure = e;
+          } catch (Exception e) {
+            failure = e;
+          }
+        }
+
+        if (failure != null && !iter.hasNext()) {
+          throw new UnauthorisedException(authorizationAttemptFailed(), failure);
+        }
+
         if (result != null) {
           return result;
         }
@@ -122,7 +147,13 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
    */
   @Override
   public SecurityProvider removeProvider(String name) {
-    return providers.remove(name);
+    SecurityProvider removed = providers.remove(name);
+    AuthenticationCache cache = authenticationCache;
+    if (removed != null && cache != null) {
+      // A provider added later with the same name must not get the outcomes of this one
+      cache.invalidateAll();
+    }
+    return removed;
   }
 
   /**
@@ -144,6 +175,25 @@ public class DefaultMuleSecurityManager extends AbstractComponent implements Sec
     }
   }
 
+  /**
+   * Sets the cache for the outcome of the authentications performed by the providers of this manager.
+   *
+   * @param authenticationCache the cache to use, or {@code null} to authenticate every request with the providers.
+   * @since 4.2
+   */
+  public void setAuthenticationCache(AuthenticationCache authenticationCache) {
+    this.authenticationCache = authenticationCache;
+  }
+
+  /**
+   * @return the cache for the outcome of the authentications performed by the providers of this manager, or {@code null} if
+   *         there is none.
+   * @since 4.2
+   */
+  public AuthenticationCache getAuthenticationCache() {
+    return authenticationCache;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -6,12 +6,22 @@
  */
 package org.mule.runtime.core.internal.source.scheduler;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.mule.runtime.api.message.Message.of;
 import static org.mule.runtime.api.notification.ConnectorMessageNotification.MESSAGE_RECEIVED;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_TIMEOUT_SERVICE;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.failedToScheduleWork;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.mule.runtime.core.internal.component.ComponentUtils.getFromAnnotatedObjectOrFail;
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.CATCH_UP;
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.SKIP;
 import static org.mule.runtime.core.internal.util.rx.Operators.requestUnbounded;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.setCurrentEvent;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -35,9 +45,13 @@ import org.mule.runtime.core.api.context.notification.NotificationHelper;
 import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.source.MessageSource;
+import org.mule.runtime.core.api.source.scheduler.FixedFrequencyScheduler;
 import org.mule.runtime.core.api.source.scheduler.PeriodicScheduler;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.message.InternalEvent;
+import org.mule.runtime.core.internal.time.Timeout;
+import org.mule.runtime.core.internal.time.TimeoutService;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
 import org.slf4j.Logger;
@@ -54,6 +68,13 @@ import java.util.concurrent.ScheduledFuture;
  * {@link org.mule.runtime.core.internal.registry.MuleRegistry} interface, this way users can manipulate poll from outside mule
  * server.
  * </p>
+ * <p>
+ * Fixed frequency schedules are driven by the application's shared {@link TimeoutService}, so hundreds of sources don't need a
+ * scheduled task each, and the delay between when each run was due and when it actually started is tracked in the
+ * {@link SchedulerSourceStatistics}. The start of the schedule may be shifted by a random {@link #setMaxJitter(long) jitter} so
+ * sources with the same frequency don't fire all at once, and the runs that are due while the source can't execute them are
+ * handled according to its {@link OverrunPolicy}.
+ * </p>
  */
 public class DefaultSchedulerMessageSource extends AbstractComponent
     implements MessageSource, SchedulerMessageSource, MuleContextAware, Initialisable, Disposable {
@@ -63,14 +84,22 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
   private final PeriodicScheduler scheduler;
   private final NotificationHelper notificationHelper;
   private final boolean disallowConcurrentExecution;
+  private final SchedulerSourceStatistics statistics = new SchedulerSourceStatistics();
+
+  private OverrunPolicy overrunPolicy = SKIP;
+  private long maxJitter;
 
   private Scheduler pollingExecutor;
+  private TimeoutService timeoutService;
   private ScheduledFuture<?> schedulingJob;
+  private FixedRateTimer fixedRateTimer;
   private Processor listener;
   private FlowConstruct flowConstruct;
   private MuleContext muleContext;
   private boolean started;
   private volatile boolean executing = false;
+  // Runs waiting for the current one to finish, guarded by this
+  private long pendingRuns;
 
   /**
    * @param muleContext application's context
@@ -91,9 +120,17 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
       return;
     }
     try {
-      // The initialization phase if handled by the scheduler
-      schedulingJob =
-          withContextClassLoader(muleContext.getExecutionClassLoader(), () -> scheduler.schedule(pollingExecutor, () -> run()));
+      long jitter = resolveJitter();
+      if (scheduler instanceof FixedFrequencyScheduler && timeoutService != null) {
+        FixedFrequencyScheduler fixedFrequency = (FixedFrequencyScheduler) scheduler;
+        fixedRateTimer = new FixedRateTimer(fixedFrequency.getTimeUnit().toNanos(fixedFrequency.getFrequency()));
+        fixedRateTimer.start(fixedFrequency.getTimeUnit().toNanos(fixedFrequency.getStartDelay()) + MILLISECONDS.toNanos(jitter));
+      } else {
+        Runnable job = jitter == 0 ? () -> run(1) : () -> delay(() -> run(1), jitter);
+        // The initialization phase if handled by the scheduler
+        schedulingJob =
+            withContextClassLoader(muleContext.getExecutionClassLoader(), () -> scheduler.schedule(pollingExecutor, job));
+      }
       this.started = true;
     } catch (Exception ex) {
       this.stop();
@@ -111,12 +148,35 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
       schedulingJob.cancel(false);
       schedulingJob = null;
     }
+    if (fixedRateTimer != null) {
+      fixedRateTimer.cancel();
+      fixedRateTimer = null;
+    }
+    pendingRuns = 0;
     this.started = false;
   }
 
+  private long resolveJitter() {
+    long bound = maxJitter;
+    if (scheduler instanceof FixedFrequencyScheduler) {
+      // Shifting the start by more than a period is the same as shifting it by less
+      FixedFrequencyScheduler fixedFrequency = (FixedFrequencyScheduler) scheduler;
+      bound = min(bound, fixedFrequency.getTimeUnit().toMillis(fixedFrequency.getFrequency()));
+    }
+    return bound > 0 ? current().nextLong(bound + 1) : 0;
+  }
+
+  private void delay(Runnable task, long millis) {
+    if (timeoutService != null) {
+      timeoutService.schedule(() -> withContextClassLoader(muleContext.getExecutionClassLoader(), task), millis, MILLISECONDS);
+    } else {
+      pollingExecutor.schedule(task, millis, MILLISECONDS);
+    }
+  }
+
   @Override
   public void trigger() {
-    pollingExecutor.execute(() -> withContextClassLoader(muleContext.getExecutionClassLoader(), () -> poll()));
+    pollingExecutor.execute(() -> withContextClassLoader(muleContext.getExecutionClassLoader(), () -> poll(1)));
   }
 
   @Override
@@ -129,42 +189,92 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
     return scheduler;
   }
 
+  /**
+   * @return the statistics of the runs of this source.
+   */
+  public SchedulerSourceStatistics getStatistics() {
+    return statistics;
+  }
+
   /**
    * Checks whether polling should take place on this instance.
+   *
+   * @param dueRuns the amount of runs that are due, more than one if the timer fired late.
    */
-  private final void run() {
+  private final void run(long dueRuns) {
     // Make sure we start with a clean state.
     setCurrentEvent(null);
 
     if (muleContext.isPrimaryPollingInstance()) {
-      poll();
+      poll(dueRuns);
     }
   }
 
   /**
    * Triggers the forced execution of the polling message processor ignoring the configured scheduler.
+   *
+   * @param dueRuns the amount of runs that are due.
    */
-  private void poll() {
-    boolean execute = false;
+  private void poll(long dueRuns) {
+    long runs;
+    long skipped;
+    boolean running;
     synchronized (this) {
-      if (disallowConcurrentExecution && executing) {
-        execute = false;
+      running = disallowConcurrentExecution && executing;
+      if (running) {
+        long pendingBefore = pendingRuns;
+        pendingRuns = overrunPolicy.pending(pendingRuns, dueRuns);
+        runs = 0;
+        skipped = dueRuns - (pendingRuns - pendingBefore);
+      } else if (disallowConcurrentExecution) {
+        executing = true;
+        pendingRuns = overrunPolicy.pending(0, dueRuns - 1);
+        runs = 1;
+        skipped = dueRuns - 1 - pendingRuns;
       } else {
-        execute = true;
         executing = true;
+        runs = overrunPolicy == CATCH_UP ? dueRuns : 1;
+        skipped = dueRuns - runs;
       }
     }
 
-    if (execute) {
-      Message request = of(null);
-      pollWith(request);
-    } else {
+    if (skipped > 0) {
+      statistics.runsSkipped(skipped);
+    }
+    if (running && skipped > 0) {
       LOGGER.info("Flow '{}' is already running and 'disallowConcurrentExecution' is set to 'true'. Execution skipped.",
                   flowConstruct.getRootContainerLocation().getGlobalName());
     }
+
+    for (long i = 0; i < runs; ++i) {
+      Message request = of(null);
+      pollWith(request);
+    }
+  }
+
+  private void runFinished() {
+    boolean runPending;
+    synchronized (this) {
+      runPending = started && pendingRuns > 0;
+      if (runPending) {
+        // Keep executing, so no other run starts before the pending one
+        --pendingRuns;
+      } else {
+        pendingRuns = 0;
+        executing = false;
+      }
+    }
+
+    if (runPending) {
+      pollingExecutor.execute(() -> withContextClassLoader(muleContext.getExecutionClassLoader(), () -> {
+        setCurrentEvent(null);
+        pollWith(of(null));
+      }));
+    }
   }
 
   private void pollWith(final Message request) {
+    statistics.runExecuted();
     try {
       just(request)
           .map(message -> InternalEvent.builder(create(flowConstruct, getLocation())).message(request)
@@ -176,11 +286,7 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
           .doOnError(MessagingException.class,
                      me -> ((BaseEventContext) me.getEvent().getContext()).error(me))
           .doOnSuccess(result -> ((BaseEventContext) result.getContext()).success())
-          .doFinally(s -> {
-            synchronized (DefaultSchedulerMessageSource.this) {
-              executing = false;
-            }
-          })
+          .doFinally(s -> runFinished())
           .subscribe(requestUnbounded());
     } catch (Exception e) {
       muleContext.getExceptionListener().handleException(e);
@@ -200,6 +306,9 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
   @Override
   public void initialise() throws InitialisationException {
     this.flowConstruct = getFromAnnotatedObjectOrFail(muleContext.getConfigurationComponentLocator(), this);
+    if (muleContext instanceof MuleContextWithRegistries) {
+      timeoutService = ((MuleContextWithRegistries) muleContext).getRegistry().lookupObject(OBJECT_TIMEOUT_SERVICE);
+    }
     createScheduler();
   }
 
@@ -230,4 +339,74 @@ public class DefaultSchedulerMessageSource extends AbstractComponent
     this.listener = listener;
   }
 
+  /**
+   * @param overrunPolicy what to do with the runs that are due while this source can't execute them.
+   */
+  public void setOverrunPolicy(OverrunPolicy overrunPolicy) {
+    this.overrunPolicy = overrunPolicy;
+  }
+
+  /**
+   * @param maxJitter the maximum amount of milliseconds, chosen at random on each start, to delay the schedule by. For fixed
+   *        frequency schedules it is bounded by the frequency.
+   */
+  public void setMaxJitter(long maxJitter) {
+    checkArgument(maxJitter >= 0, "maxJitter must not be negative");
+    this.maxJitter = maxJitter;
+  }
+
+  /**
+   * Fires the runs of a fixed frequency schedule from the shared {@link TimeoutService}, rescheduling itself each time.
+   * <p>
+   * The next run is always computed from when the previous one was due, not from when it fired, so the schedule doesn't drift.
+   * When the timer fires later than a whole period, the runs in between are handed to the {@link OverrunPolicy} as well.
+   */
+  private final class FixedRateTimer implements Runnable {
+
+    private final long periodNanos;
+    // Only accessed before scheduling the next run, so consecutive runs never race on it
+    private long nextRunNanos;
+    private volatile Timeout timeout;
+    private volatile boolean cancelled;
+
+    private FixedRateTimer(long periodNanos) {
+      this.periodNanos = periodNanos;
+    }
+
+    private void start(long initialDelayNanos) {
+      nextRunNanos = nanoTime() + initialDelayNanos;
+      scheduleNext();
+    }
+
+    private void scheduleNext() {
+      timeout = timeoutService.schedule(this, max(0, nextRunNanos - nanoTime()), NANOSECONDS);
+      if (cancelled) {
+        timeout.cancel();
+      }
+    }
+
+    @Override
+    public void run() {
+      if (cancelled) {
+        return;
+      }
+
+      long lag = nanoTime() - nextRunNanos;
+      long missedRuns = lag / periodNanos;
+      nextRunNanos += (missedRuns + 1) * periodNanos;
+      scheduleNext();
+
+      statistics.lag(max(0, lag));
+      withContextClassLoader(muleContext.getExecutionClassLoader(), () -> DefaultSchedulerMessageSource.this.run(missedRuns + 1));
+    }
+
+    private void cancel() {
+      cancelled = true;
+      Timeout current = timeout;
+      if (current != null) {
+        current.cancel();
+      }
+    }
+  }
+
 }
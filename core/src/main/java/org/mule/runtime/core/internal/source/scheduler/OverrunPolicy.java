@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.source.scheduler;
+
+import static java.lang.Math.min;
+
+/**
+ * What a {@link DefaultSchedulerMessageSource} does with the runs that are due while it can't execute them, either because the
+ * previous run is still executing and concurrent execution is disallowed, or because the timer fired late.
+ *
+ * @since 4.2
+ */
+public enum OverrunPolicy {
+
+  /**
+   * The runs are skipped.
+   */
+  SKIP {
+
+    @Override
+    long pending(long pending, long due) {
+      return pending;
+    }
+  },
+
+  /**
+   * The runs are coalesced into a single one, executed as soon as possible.
+   */
+  COALESCE {
+
+    @Override
+    long pending(long pending, long due) {
+      return min(1, pending + due);
+    }
+  },
+
+  /**
+   * Every run is executed, one after the other, as soon as possible.
+   */
+  CATCH_UP {
+
+    @Override
+    long pending(long pending, long due) {
+      return pending + due;
+    }
+  };
+
+  /**
+   * @param pending the amount of runs already waiting to be executed.
+   * @param due the amount of runs that can't be executed now.
+   * @return the amount of runs waiting to be executed after adding the ones that are due.
+   */
+  abstract long pending(long pending, long due);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.source.scheduler;
+
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram;
+import org.mule.runtime.core.internal.management.stats.LatencyHistogram.Snapshot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the runs of a {@link DefaultSchedulerMessageSource}.
+ *
+ * @since 4.2
+ */
+public class SchedulerSourceStatistics {
+
+  private final LongAdder executedRuns = new LongAdder();
+  private final LongAdder skippedRuns = new LongAdder();
+  private final LatencyHistogram lag = new LatencyHistogram();
+
+  void runExecuted() {
+    executedRuns.increment();
+  }
+
+  void runsSkipped(long runs) {
+    skippedRuns.add(runs);
+  }
+
+  void lag(long nanos) {
+    lag.record(nanos);
+  }
+
+  /**
+   * @return the amount of runs executed.
+   */
+  public long getExecutedRuns() {
+    return executedRuns.sum();
+  }
+
+  /**
+   * @return the amount of runs that were skipped according to the {@link OverrunPolicy} of the source.
+   */
+  public long getSkippedRuns() {
+    return skippedRuns.sum();
+  }
+
+  /**
+   * @return the distribution of the time, in nanoseconds, between when each run was due and when the timer actually fired.
+   *         Only available for the fixed frequency schedules driven by the shared timer.
+   */
+  public Snapshot getLag() {
+    return lag.snapshot();
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.time;
+
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link TimeoutService} backed by a hashed timing wheel.
+ * <p>
+ * The wheel is an array of buckets, each one spanning a tick of time. Scheduling a timeout just enqueues it, and cancelling it
+ * just flips its state, so both operations are {@code O(1)} and never contend on a lock. A single thread advances the wheel
+ * once per tick, moving newly scheduled timeouts to their bucket and dispatching the expired ones to the cpu-light scheduler.
+ * Timeouts further away than a full turn of the wheel are kept in their bucket with a count of the remaining turns.
+ * <p>
+ * The wheel thread is only started when the first timeout is scheduled.
+ *
+ * @since 4.2
+ */
+public class HashedWheelTimeoutService implements TimeoutService, MuleContextAware, Disposable {
+
+  private static final Logger LOGGER = getLogger(HashedWheelTimeoutService.class);
+
+  public static final long DEFAULT_TICK_MILLIS = 10;
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+
+  private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger activeTimeouts = new AtomicInteger();
+
+  private MuleContext muleContext;
+  private Scheduler wheelScheduler;
+  private Scheduler dispatchScheduler;
+
+  private volatile long startTime;
+  private volatile boolean started;
+  private volatile boolean disposed;
+
+  public HashedWheelTimeoutService() {
+    this(DEFAULT_TICK_MILLIS, MILLISECONDS, DEFAULT_WHEEL_SIZE);
+  }
+
+  /**
+   * Creates a new timeout service.
+   *
+   * @param tickDuration the span of time covered by each bucket of the wheel, which is also the precision of the timeouts.
+   * @param unit the unit of {@code tickDuration}.
+   * @param wheelSize the amount of buckets in the wheel. Will be rounded up to a power of two.
+   */
+  public HashedWheelTimeoutService(long tickDuration, TimeUnit unit, int wheelSize) {
+    checkArgument(tickDuration > 0, "tickDuration must be greater than zero");
+    checkArgument(wheelSize > 0 && wheelSize <= 1 << 30, "wheelSize must be between 1 and 2^30");
+
+    this.tickNanos = unit.toNanos(tickDuration);
+    int normalizedSize = highestOneBit(wheelSize) == wheelSize ? wheelSize : highestOneBit(wheelSize) << 1;
+    this.wheel = new Bucket[normalizedSize];
+    for (int i = 0; i < normalizedSize; ++i) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = normalizedSize - 1;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext muleContext) {
+    this.muleContext = muleContext;
+  }
+
+  @Override
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    requireNonNull(task, "task cannot be null");
+    startIfNeeded();
+
+    long delayNanos = max(0, unit.toNanos(delay));
+    long elapsedNanos = nanoTime() - startTime;
+    // Clamped, so very long delays do not overflow
+    long deadline = delayNanos > Long.MAX_VALUE - elapsedNanos ? Long.MAX_VALUE : elapsedNanos + delayNanos;
+
+    WheelTimeout timeout = new WheelTimeout(task, deadline);
+    activeTimeouts.incrementAndGet();
+    pendingTimeouts.add(timeout);
+    return timeout;
+  }
+
+  /**
+   * @return the amount of timeouts that have been scheduled and have neither expired nor been cancelled yet.
+   */
+  public int getActiveTimeouts() {
+    return activeTimeouts.get();
+  }
+
+  private void startIfNeeded() {
+    if (!started) {
+      synchronized (this) {
+        if (disposed) {
+          throw new IllegalStateException("TimeoutService already disposed");
+        }
+        if (!started) {
+          startTime = nanoTime();
+          wheelScheduler = muleContext.getSchedulerService()
+              .customScheduler(muleContext.getSchedulerBaseConfig().withName("timeout.wheel").withMaxConcurrentTasks(1)
+                  .withShutdownTimeout(0, MILLISECONDS));
+          dispatchScheduler = muleContext.getSchedulerService().cpuLightScheduler();
+          wheelScheduler.submit(new Worker());
+          started = true;
+        }
+      }
+    }
+  }
+
+  @Override
+  public synchronized void dispose() {
+    disposed = true;
+    if (started) {
+      wheelScheduler.stop();
+      dispatchScheduler.stop();
+      started = false;
+    }
+    pendingTimeouts.clear();
+    cancelledTimeouts.clear();
+    for (Bucket bucket : wheel) {
+      bucket.clear();
+    }
+  }
+
+  private void dispatch(WheelTimeout timeout) {
+    activeTimeouts.decrementAndGet();
+    try {
+      dispatchScheduler.execute(timeout.task);
+    } catch (RejectedExecutionException e) {
+      if (!disposed) {
+        LOGGER.warn("Could not dispatch expired timeout task", e);
+      }
+    }
+  }
+
+  private final class Worker implements Runnable {
+
+    private long tick;
+
+    @Override
+    public void run() {
+      while (!disposed && !currentThread().isInterrupted()) {
+        long deadline = waitForNextTick();
+        if (deadline < 0) {
+          return;
+        }
+        processCancelledTimeouts();
+        transferPendingTimeouts();
+        wheel[(int) (tick & mask)].expireTimeouts();
+        ++tick;
+      }
+    }
+
+    private long waitForNextTick() {
+      long deadline = tickNanos * (tick + 1);
+      while (true) {
+        long sleepNanos = deadline - (nanoTime() - startTime);
+        if (sleepNanos <= 0) {
+          return deadline;
+        }
+        try {
+          NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+          currentThread().interrupt();
+          return -1;
+        }
+      }
+    }
+
+    private void transferPendingTimeouts() {
+      for (int i = 0; i < MAX_TRANSFERS_PER_TICK; ++i) {
+        WheelTimeout timeout = pendingTimeouts.poll();
+        if (timeout == null) {
+          return;
+        }
+        if (timeout.isCancelled()) {
+          continue;
+        }
+
+        long calculatedTick = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (calculatedTick - tick) / wheel.length;
+        // Timeouts already in the past are expired in the current tick
+        long targetTick = max(calculatedTick, tick);
+        wheel[(int) (targetTick & mask)].add(timeout);
+      }
+    }
+
+    private void processCancelledTimeouts() {
+      WheelTimeout timeout;
+      while ((timeout = cancelledTimeouts.poll()) != null) {
+        if (timeout.bucket != null) {
+          timeout.bucket.remove(timeout);
+        }
+      }
+    }
+  }
+
+  /**
+   * Doubly linked list of timeouts. Only accessed by the wheel thread.
+   */
+  private final class Bucket {
+
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    private void add(WheelTimeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    private void expireTimeouts() {
+      WheelTimeout timeout = head;
+      while (timeout != null) {
+        WheelTimeout next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          timeout.expire();
+        } else if (timeout.isCancelled()) {
+          remove(timeout);
+        } else {
+          --timeout.remainingRounds;
+        }
+        timeout = next;
+      }
+    }
+
+    private void remove(WheelTimeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      if (timeout == head) {
+        head = timeout.next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+    }
+
+    private void clear() {
+      head = tail = null;
+    }
+  }
+
+  private final class WheelTimeout implements Timeout {
+
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+    // Only accessed by the wheel thread
+    private long remainingRounds;
+    private Bucket bucket;
+    private WheelTimeout next;
+    private WheelTimeout prev;
+
+    private WheelTimeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+        return false;
+      }
+      activeTimeouts.decrementAndGet();
+      cancelledTimeouts.add(this);
+      return true;
+    }
+
+    private void expire() {
+      if (state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+        dispatch(this);
+      }
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return state.get() == ST_CANCELLED;
+    }
+
+    @Override
+    public boolean isExpired() {
+      return state.get() == ST_EXPIRED;
+    }
+  }
+}
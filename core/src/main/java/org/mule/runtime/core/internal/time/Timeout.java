@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.time;
+
+/**
+ * Handle to a task scheduled through a {@link TimeoutService}.
+ *
+ * @since 4.2
+ */
+public interface Timeout {
+
+  /**
+   * Cancels the associated task, if it has not been run yet.
+   *
+   * @return {@code true} if the task was cancelled by this call, {@code false} if it had already expired or been cancelled.
+   */
+  boolean cancel();
+
+  /**
+   * @return whether the associated task has been dispatched for execution.
+   */
+  boolean isExpired();
+
+  /**
+   * @return whether the associated task has been cancelled.
+   */
+  boolean isCancelled();
+}
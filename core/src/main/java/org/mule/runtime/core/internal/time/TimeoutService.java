@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.time;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Schedules the execution of tasks after a given delay, optimized for the case of a large amount of timeouts that are usually
+ * cancelled before they expire.
+ * <p>
+ * Implementations provide constant time scheduling and cancellation, and may trade precision for it: tasks are guaranteed not to
+ * run before their delay elapses, but may run some time after.
+ *
+ * @since 4.2
+ */
+public interface TimeoutService {
+
+  /**
+   * Schedules the given {@code task} to be run once the given delay elapses.
+   * <p>
+   * The task is not run in the thread that keeps track of the timeouts, but in a cpu-light one, so it must not block. Tasks that
+   * need to perform blocking work, such as accessing an object store, must hand it off to an IO scheduler.
+   *
+   * @param task the task to run when the timeout expires.
+   * @param delay the time to wait before running the task.
+   * @param unit the unit of {@code delay}.
+   * @return a {@link Timeout} that allows to cancel the task.
+   */
+  Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+  /**
+   * Creates a {@link Mono} that emits {@code 0} once the given duration elapses since it is subscribed. Cancelling the
+   * subscription cancels the underlying {@link Timeout}.
+   *
+   * @param duration the time to wait before emitting.
+   * @return a {@link Mono} backed by this service.
+   */
+  default Mono<Long> delay(Duration duration) {
+    return Mono.create(sink -> {
+      Timeout timeout = schedule(() -> sink.success(0L), duration.toMillis(), MILLISECONDS);
+      sink.onCancel(() -> timeout.cancel());
+    });
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.CURSOR_STREAM_PROVIDER;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.transformer.AbstractTransformer;
+import org.mule.runtime.core.api.transformer.TransformerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Base for the transformers that encode content to, or decode it from, a binary-to-text encoding without loading streams into
+ * memory.
+ * <p>
+ * Encoders take binary content and return a stream of the media type of the encoding, and decoders take the encoded content and
+ * return a binary stream. Byte arrays are transformed at once, while streams are transformed as they are read.
+ * <p>
+ * These transformers are not discoverable, since their source and result types are the same as the ones of the plain stream
+ * conversions. They are registered with a name instead, and {@link CodecTransformerResolver} only resolves them for
+ * transformations from or to the media type of their encoding.
+ *
+ * @since 4.2
+ */
+public abstract class AbstractStreamingCodecTransformer extends AbstractTransformer {
+
+  /**
+   * @param name the name the transformer is registered with.
+   * @param encodedMediaType the media type of the encoded content.
+   * @param encode whether this transformer encodes or decodes.
+   */
+  protected AbstractStreamingCodecTransformer(String name, MediaType encodedMediaType, boolean encode) {
+    setName(name);
+    if (encode) {
+      registerSourceType(BYTE_ARRAY);
+      registerSourceType(INPUT_STREAM);
+      registerSourceType(CURSOR_STREAM_PROVIDER);
+      setReturnDataType(DataType.builder(INPUT_STREAM).mediaType(encodedMediaType).build());
+    } else {
+      registerSourceType(BYTE_ARRAY);
+      registerSourceType(STRING);
+      registerSourceType(INPUT_STREAM);
+      registerSourceType(CURSOR_STREAM_PROVIDER);
+      setReturnDataType(INPUT_STREAM);
+    }
+  }
+
+  /**
+   * Encodes or decodes the given content at once.
+   *
+   * @param content the content to transform.
+   * @return the transformed content.
+   * @throws IOException if the content is not valid for the encoding.
+   */
+  protected abstract byte[] transform(byte[] content) throws IOException;
+
+  /**
+   * @param content the content to transform.
+   * @return a stream that encodes or decodes the given content as it is read.
+   */
+  protected abstract InputStream transform(InputStream content);
+
+  @Override
+  protected Object doTransform(Object src, Charset encoding) throws TransformerException {
+    try {
+      if (src instanceof byte[]) {
+        return new ByteArrayInputStream(transform((byte[]) src));
+      } else if (src instanceof String) {
+        return new ByteArrayInputStream(transform(((String) src).getBytes(encoding)));
+      } else if (src instanceof CursorStreamProvider) {
+        return transform(((CursorStreamProvider) src).openCursor());
+      } else {
+        return transform((InputStream) src);
+      }
+    } catch (IOException e) {
+      throw new TransformerException(this, e);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import static java.util.Arrays.copyOf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+
+/**
+ * Encodes the content of a stream to Base64, or decodes it from Base64, as it is read.
+ * <p>
+ * Chunks are encoded and decoded with the codecs of the JDK. The encoded content has no line breaks, and line breaks and other
+ * whitespace are ignored when decoding.
+ *
+ * @since 4.2
+ */
+final class Base64CodecInputStream extends CodecInputStream {
+
+  private static final Base64.Encoder ENCODER = Base64.getEncoder();
+  private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+  private final boolean encode;
+
+  /**
+   * @param in the stream to encode or decode.
+   * @param encode whether to encode or decode the stream.
+   */
+  Base64CodecInputStream(InputStream in, boolean encode) {
+    super(in, encode ? CHUNK_SIZE / 3 * 4 : CHUNK_SIZE / 4 * 3);
+    this.encode = encode;
+  }
+
+  @Override
+  protected int process(byte[] input, int length, boolean last, byte[] output) throws IOException {
+    // The JDK codecs work on whole arrays, so only the last chunk has to be copied
+    byte[] chunk = length == input.length ? input : copyOf(input, length);
+    try {
+      return encode ? ENCODER.encode(chunk, output) : DECODER.decode(chunk, output);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid Base64 content", e);
+    }
+  }
+
+  @Override
+  protected int filter(byte[] buffer, int offset, int length) {
+    return encode ? length : skipWhitespace(buffer, offset, length);
+  }
+
+  static byte[] encode(byte[] input) {
+    return ENCODER.encode(input);
+  }
+
+  static byte[] decode(byte[] input) throws IOException {
+    byte[] filtered = input.clone();
+    int length = skipWhitespace(filtered, 0, filtered.length);
+    try {
+      return DECODER.decode(copyOf(filtered, length));
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid Base64 content", e);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import org.mule.runtime.api.metadata.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Encodes binary content to Base64, streaming the content of streams as it is read.
+ *
+ * @see Base64Decoder
+ * @since 4.2
+ */
+public class Base64Encoder extends AbstractStreamingCodecTransformer {
+
+  /**
+   * The name this transformer is registered with.
+   */
+  public static final String NAME = "_muleBase64Encoder";
+
+  /**
+   * The media type of Base64 encoded content.
+   */
+  public static final MediaType BASE64 = MediaType.create("application", "base64");
+
+  public Base64Encoder() {
+    super(NAME, BASE64, true);
+  }
+
+  @Override
+  protected byte[] transform(byte[] content) throws IOException {
+    return Base64CodecInputStream.encode(content);
+  }
+
+  @Override
+  protected InputStream transform(InputStream content) {
+    return new Base64CodecInputStream(content, true);
+  }
+}
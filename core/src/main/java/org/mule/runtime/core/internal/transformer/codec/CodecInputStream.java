@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Base for the streams that encode or decode the content of another stream as it is read, with fixed size buffers.
+ * <p>
+ * The content is read in chunks of {@link #CHUNK_SIZE} bytes, which is a multiple of the size of the units of all the supported
+ * encodings, so that only the last chunk may hold a partial unit.
+ *
+ * @since 4.2
+ */
+abstract class CodecInputStream extends InputStream {
+
+  static final int CHUNK_SIZE = 6 * 1024;
+
+  private final InputStream in;
+  private final byte[] input = new byte[CHUNK_SIZE];
+  private final byte[] output;
+  private int position;
+  private int limit;
+  private boolean finished;
+
+  /**
+   * @param in the stream to encode or decode.
+   * @param outputSize the maximum amount of bytes {@link #process(byte[], int, boolean, byte[])} produces for a chunk.
+   */
+  CodecInputStream(InputStream in, int outputSize) {
+    this.in = in;
+    this.output = new byte[outputSize];
+  }
+
+  /**
+   * Encodes or decodes a chunk.
+   *
+   * @param input the chunk.
+   * @param length the length of the chunk. Always {@link #CHUNK_SIZE} unless it is the last one.
+   * @param last whether this is the last chunk of the stream.
+   * @param output where to write the result to.
+   * @return the amount of bytes written to {@code output}.
+   * @throws IOException if the chunk is not valid for the encoding.
+   */
+  protected abstract int process(byte[] input, int length, boolean last, byte[] output) throws IOException;
+
+  /**
+   * Discards the bytes that are not part of the content, such as line breaks, from the bytes just read.
+   *
+   * @param buffer the buffer the bytes were read into.
+   * @param offset the position of the first byte read.
+   * @param length the amount of bytes read.
+   * @return the amount of bytes kept, which are moved to the start of the given range.
+   */
+  protected int filter(byte[] buffer, int offset, int length) {
+    return length;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    return output[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    if (len == 0) {
+      return 0;
+    }
+    if (position == limit && !fill()) {
+      return -1;
+    }
+
+    int read = Math.min(len, limit - position);
+    System.arraycopy(output, position, b, off, read);
+    position += read;
+    return read;
+  }
+
+  @Override
+  public int available() {
+    return limit - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private boolean fill() throws IOException {
+    // A chunk may produce no output at all, such as a chunk of line breaks when decoding
+    while (!finished) {
+      int length = 0;
+      while (length < CHUNK_SIZE && !finished) {
+        int read = in.read(input, length, CHUNK_SIZE - length);
+        if (read < 0) {
+          finished = true;
+        } else {
+          length += filter(input, length, read);
+        }
+      }
+
+      position = 0;
+      limit = process(input, length, finished, output);
+      if (limit > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static int skipWhitespace(byte[] buffer, int offset, int length) {
+    int kept = offset;
+    for (int i = offset; i < offset + length; ++i) {
+      byte b = buffer[i];
+      if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+        buffer[kept++] = b;
+      }
+    }
+    return kept - offset;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import static org.mule.runtime.core.internal.transformer.codec.Base64Encoder.BASE64;
+import static org.mule.runtime.core.internal.transformer.codec.HexEncoder.HEX;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.registry.TransformerResolver;
+
+import java.io.InputStream;
+
+/**
+ * Resolves the {@link AbstractStreamingCodecTransformer codec transformers} for transformations that involve encoded content.
+ * <p>
+ * An encoder is resolved when the result has the media type of its encoding and the source does not, and a decoder is resolved
+ * when it is the source which has that media type. Transformations that do not involve those media types are left to the other
+ * resolvers, since the codecs share their source and result types with the plain stream conversions.
+ *
+ * @since 4.2
+ */
+public class CodecTransformerResolver implements TransformerResolver, MuleContextAware {
+
+  private MuleContext muleContext;
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    this.muleContext = context;
+  }
+
+  @Override
+  public Transformer resolve(DataType source, DataType result) {
+    if (!result.getType().isAssignableFrom(InputStream.class)) {
+      return null;
+    }
+
+    if (isEncoded(result, BASE64) && !isEncoded(source, BASE64)) {
+      return lookupIfSupported(Base64Encoder.NAME, source);
+    } else if (isEncoded(result, HEX) && !isEncoded(source, HEX)) {
+      return lookupIfSupported(HexEncoder.NAME, source);
+    } else if (isEncoded(source, BASE64) && !isEncoded(result, BASE64)) {
+      return lookupIfSupported(Base64Decoder.NAME, source);
+    } else if (isEncoded(source, HEX) && !isEncoded(result, HEX)) {
+      return lookupIfSupported(HexDecoder.NAME, source);
+    }
+    return null;
+  }
+
+  @Override
+  public void transformerChange(Transformer transformer, RegistryAction registryAction) {
+    // Codecs are looked up by name, there is nothing to update
+  }
+
+  private Transformer lookupIfSupported(String name, DataType source) {
+    Transformer transformer = ((MuleContextWithRegistries) muleContext).getRegistry().lookupTransformer(name);
+    return transformer != null && transformer.isSourceDataTypeSupported(source) ? transformer : null;
+  }
+
+  private static boolean isEncoded(DataType dataType, MediaType encoding) {
+    MediaType mediaType = dataType.getMediaType();
+    return mediaType != null && encoding.getPrimaryType().equalsIgnoreCase(mediaType.getPrimaryType())
+        && encoding.getSubType().equalsIgnoreCase(mediaType.getSubType());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Encodes the content of a stream to hexadecimal, or decodes it from hexadecimal, as it is read.
+ * <p>
+ * The encoded content is lower case, and both cases and whitespace between the bytes are accepted when decoding.
+ *
+ * @since 4.2
+ */
+final class HexCodecInputStream extends CodecInputStream {
+
+  private static final byte[] DIGITS = "0123456789abcdef".getBytes();
+
+  private final boolean encode;
+
+  /**
+   * @param in the stream to encode or decode.
+   * @param encode whether to encode or decode the stream.
+   */
+  HexCodecInputStream(InputStream in, boolean encode) {
+    super(in, encode ? CHUNK_SIZE * 2 : CHUNK_SIZE / 2);
+    this.encode = encode;
+  }
+
+  @Override
+  protected int process(byte[] input, int length, boolean last, byte[] output) throws IOException {
+    return encode ? encode(input, length, output) : decode(input, length, output);
+  }
+
+  @Override
+  protected int filter(byte[] buffer, int offset, int length) {
+    return encode ? length : skipWhitespace(buffer, offset, length);
+  }
+
+  static byte[] encode(byte[] input) {
+    byte[] output = new byte[input.length * 2];
+    encode(input, input.length, output);
+    return output;
+  }
+
+  static byte[] decode(byte[] input) throws IOException {
+    byte[] filtered = input.clone();
+    int length = skipWhitespace(filtered, 0, filtered.length);
+    byte[] output = new byte[length / 2];
+    decode(filtered, length, output);
+    return output;
+  }
+
+  private static int encode(byte[] input, int length, byte[] output) {
+    for (int i = 0; i < length; ++i) {
+      output[2 * i] = DIGITS[(input[i] >> 4) & 0xF];
+      output[2 * i + 1] = DIGITS[input[i] & 0xF];
+    }
+    return length * 2;
+  }
+
+  private static int decode(byte[] input, int length, byte[] output) throws IOException {
+    if (length % 2 != 0) {
+      throw new IOException("Hexadecimal content has an odd number of digits");
+    }
+    for (int i = 0; i < length; i += 2) {
+      output[i / 2] = (byte) (digit(input[i]) << 4 | digit(input[i + 1]));
+    }
+    return length / 2;
+  }
+
+  private static int digit(byte b) throws IOException {
+    int digit = Character.digit(b, 16);
+    if (digit < 0) {
+      throw new IOException("Invalid hexadecimal digit: " + (char) b);
+    }
+    return digit;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import static org.mule.runtime.core.internal.transformer.codec.HexEncoder.HEX;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes hexadecimal encoded content, streaming the content of streams as it is read.
+ *
+ * @see HexEncoder
+ * @since 4.2
+ */
+public class HexDecoder extends AbstractStreamingCodecTransformer {
+
+  /**
+   * The name this transformer is registered with.
+   */
+  public static final String NAME = "_muleHexDecoder";
+
+  public HexDecoder() {
+    super(NAME, HEX, false);
+  }
+
+  @Override
+  protected byte[] transform(byte[] content) throws IOException {
+    return HexCodecInputStream.decode(content);
+  }
+
+  @Override
+  protected InputStream transform(InputStream content) {
+    return new HexCodecInputStream(content, false);
+  }
+}
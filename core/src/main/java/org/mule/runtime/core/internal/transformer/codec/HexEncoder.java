@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.codec;
+
+import org.mule.runtime.api.metadata.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Encodes binary content to hexadecimal, streaming the content of streams as it is read.
+ *
+ * @see HexDecoder
+ * @since 4.2
+ */
+public class HexEncoder extends AbstractStreamingCodecTransformer {
+
+  /**
+   * The name this transformer is registered with.
+   */
+  public static final String NAME = "_muleHexEncoder";
+
+  /**
+   * The media type of hexadecimal encoded content.
+   */
+  public static final MediaType HEX = MediaType.create("application", "hex");
+
+  public HexEncoder() {
+    super(NAME, HEX, true);
+  }
+
+  @Override
+  protected byte[] transform(byte[] content) throws IOException {
+    return HexCodecInputStream.encode(content);
+  }
+
+  @Override
+  protected InputStream transform(InputStream content) {
+    return new HexCodecInputStream(content, true);
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.System.arraycopy;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.copyOfRange;
+import static java.util.zip.Deflater.SYNC_FLUSH;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Implements an input stream for compressing input data in the GZIP compression format, compressing blocks of the input
+ * concurrently.
+ * <p>
+ * The input is split in blocks of a fixed size, which are deflated by the given {@link Executor} while the compressed data of the
+ * previous blocks is read. Each block is deflated using the end of the previous block as its dictionary and ends with a sync
+ * flush, so the concatenation of all of them is a single deflate stream and the result is a standard GZIP member, readable by
+ * any GZIP implementation.
+ * <p>
+ * At most a fixed amount of blocks are read ahead, which bounds the memory used by the stream. When the block to read next hasn't
+ * been taken by the executor yet, or the executor rejects it, it is deflated by the thread reading the stream.
+ */
+public class ParallelGZIPCompressorInputStream extends InputStream {
+
+  // GZIP header magic number.
+  private final static int GZIP_MAGIC = 0x8b1f;
+
+  // GZIP member header, same as the one of GZIPCompressorInputStream.
+  private final static byte[] HEADER = {(byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+  // Trailer length in bytes.
+  private final static int TRAILER_LENGTH = 8;
+
+  // Max distance of the back references of the deflate format.
+  private final static int DICTIONARY_SIZE = 32 * 1024;
+
+  private final InputStream in;
+  private final Executor executor;
+  private final int blockSize;
+  private final int maxInFlightBlocks;
+  private final int level;
+
+  private final Deque<FutureTask<byte[]>> inFlightBlocks = new ArrayDeque<>();
+  private final CRC32 crc = new CRC32();
+  private long totalIn = 0;
+  private byte[] dictionary;
+  private boolean inputFinished = false;
+  private boolean trailerWritten = false;
+  private boolean closed = false;
+
+  // Compressed data being read.
+  private byte[] current = HEADER;
+  private int position = 0;
+
+  /**
+   * Creates a new {@link ParallelGZIPCompressorInputStream} from an uncompressed {@link InputStream}.
+   *
+   * @param in The uncompressed {@link InputStream}.
+   * @param executor The executor to deflate the blocks on.
+   * @param blockSize The size of the blocks the input is split in.
+   * @param maxInFlightBlocks The maximum amount of blocks read ahead.
+   * @param level The compression level, as in {@link Deflater#setLevel(int)}.
+   */
+  public ParallelGZIPCompressorInputStream(InputStream in, Executor executor, int blockSize, int maxInFlightBlocks, int level) {
+    checkArgument(blockSize > 0, "blockSize must be greater than 0");
+    checkArgument(maxInFlightBlocks > 0, "maxInFlightBlocks must be greater than 0");
+    this.in = in;
+    this.executor = executor;
+    this.blockSize = blockSize;
+    this.maxInFlightBlocks = maxInFlightBlocks;
+    this.level = level;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] b = new byte[1];
+    return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte b[], int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (len == 0) {
+      return 0;
+    }
+
+    while (position >= current.length) {
+      if (!nextChunk()) {
+        return -1;
+      }
+    }
+
+    int count = Math.min(len, current.length - position);
+    arraycopy(current, position, b, off, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (FutureTask<byte[]> block : inFlightBlocks) {
+      block.cancel(false);
+    }
+    inFlightBlocks.clear();
+    in.close();
+  }
+
+  private boolean nextChunk() throws IOException {
+    readAhead();
+
+    FutureTask<byte[]> block = inFlightBlocks.poll();
+    if (block == null) {
+      if (trailerWritten) {
+        return false;
+      }
+      current = trailer();
+      trailerWritten = true;
+    } else {
+      // Deflate the block here unless the executor already took it
+      block.run();
+      current = getCompressed(block);
+    }
+    position = 0;
+    return true;
+  }
+
+  private void readAhead() throws IOException {
+    while (!inputFinished && inFlightBlocks.size() < maxInFlightBlocks) {
+      byte[] block = new byte[blockSize];
+      int length = readBlock(block);
+      if (length == 0) {
+        // An empty final block terminates the deflate stream
+        inputFinished = true;
+        submit(block, 0, null, true);
+      } else {
+        crc.update(block, 0, length);
+        totalIn += length;
+        submit(block, length, dictionary, false);
+        dictionary = copyOfRange(block, Math.max(0, length - DICTIONARY_SIZE), length);
+      }
+    }
+  }
+
+  private int readBlock(byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int count = in.read(block, length, block.length - length);
+      if (count == -1) {
+        break;
+      }
+      length += count;
+    }
+    return length;
+  }
+
+  private void submit(byte[] block, int length, byte[] blockDictionary, boolean last) {
+    FutureTask<byte[]> task = new FutureTask<>(() -> deflate(block, length, blockDictionary, last));
+    inFlightBlocks.add(task);
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException e) {
+      // It will be run by the reading thread
+    }
+  }
+
+  private byte[] deflate(byte[] block, int length, byte[] blockDictionary, boolean last) {
+    Deflater deflater = new Deflater(level, true);
+    try {
+      if (blockDictionary != null) {
+        deflater.setDictionary(blockDictionary);
+      }
+      deflater.setInput(block, 0, length);
+
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+      byte[] buffer = new byte[Math.max(512, Math.min(length, 64 * 1024))];
+      if (last) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+      } else {
+        // Sync flush so the block ends at a byte boundary and the next one can be appended
+        int count;
+        do {
+          count = deflater.deflate(buffer, 0, buffer.length, SYNC_FLUSH);
+          compressed.write(buffer, 0, count);
+        } while (count == buffer.length);
+      }
+      return compressed.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private byte[] getCompressed(FutureTask<byte[]> block) throws IOException {
+    try {
+      return block.get();
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing");
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  private byte[] trailer() {
+    byte[] trailer = new byte[TRAILER_LENGTH];
+    writeInt((int) crc.getValue(), trailer, 0); // CRC-32 of uncompr. data
+    writeInt((int) totalIn, trailer, 4); // Number of uncompr. bytes, modulo 2^32
+    return trailer;
+  }
+
+  /**
+   * Writes integer in Intel byte order to a byte array, starting at a given offset.
+   */
+  private void writeInt(int i, byte[] buf, int offset) {
+    buf[offset] = (byte) (i & 0xff);
+    buf[offset + 1] = (byte) ((i >> 8) & 0xff);
+    buf[offset + 2] = (byte) ((i >> 16) & 0xff);
+    buf[offset + 3] = (byte) ((i >> 24) & 0xff);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Space efficient probabilistic set of strings.
+ * <p>
+ * {@link #mightContain(String)} never returns {@code false} for a value that was {@link #put(String) put}, but may return
+ * {@code true} for a value that was not, with a probability close to the configured false positive rate as long as no more than
+ * the expected amount of values are put.
+ * <p>
+ * This class is thread safe and lock-free.
+ *
+ * @since 4.2
+ */
+public final class BloomFilter {
+
+  private static final double LN2 = log(2);
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final long expectedInsertions;
+  private final LongAdder insertions = new LongAdder();
+
+  /**
+   * Creates a new filter.
+   *
+   * @param expectedInsertions the amount of values expected to be put in this filter.
+   * @param falsePositiveRate the desired probability of {@link #mightContain(String)} returning {@code true} for a value that
+   *        was not put, once {@code expectedInsertions} values have been put.
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    checkArgument(expectedInsertions > 0, "expectedInsertions must be greater than zero");
+    checkArgument(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be between 0 and 1");
+
+    long words = max(1, (long) ceil(-expectedInsertions * log(falsePositiveRate) / (LN2 * LN2) / Long.SIZE));
+    checkArgument(words <= Integer.MAX_VALUE, "filter too big, use a lower expectedInsertions or a higher falsePositiveRate");
+    this.bits = new AtomicLongArray((int) words);
+    this.bitCount = words * Long.SIZE;
+    this.hashCount = (int) max(1, round((double) bitCount / expectedInsertions * LN2));
+    this.expectedInsertions = expectedInsertions;
+  }
+
+  /**
+   * Adds a value to this filter.
+   *
+   * @param value the value to add.
+   * @return {@code true} if the value was definitely not in this filter before this call, {@code false} if it might have been.
+   */
+  public boolean put(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1);
+    boolean changed = false;
+    for (int i = 0; i < hashCount; ++i) {
+      changed |= setBit(index(hash1, hash2, i));
+    }
+    if (changed) {
+      insertions.increment();
+    }
+    return changed;
+  }
+
+  /**
+   * @param value the value to check.
+   * @return {@code false} if the value was definitely never put in this filter, {@code true} if it might have been.
+   */
+  public boolean mightContain(String value) {
+    long hash1 = hash(value);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashCount; ++i) {
+      long index = index(hash1, hash2, i);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the amount of distinct values put in this filter. May be slightly lower than the actual amount due to false
+   *         positives.
+   */
+  public long getInsertions() {
+    return insertions.sum();
+  }
+
+  /**
+   * @return whether more values than the expected amount have been put in this filter, so the false positive rate is higher than
+   *         the configured one.
+   */
+  public boolean isSaturated() {
+    return getInsertions() > expectedInsertions;
+  }
+
+  private boolean setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = bits.get(word);
+      if ((current & mask) != 0) {
+        return false;
+      }
+    } while (!bits.compareAndSet(word, current, current | mask));
+    return true;
+  }
+
+  private long index(long hash1, long hash2, int i) {
+    long combined = hash1 + i * hash2;
+    return (combined & Long.MAX_VALUE) % bitCount;
+  }
+
+  private static long hash(String value) {
+    // 64 bit FNV-1a
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < value.length(); ++i) {
+      hash ^= value.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long hash) {
+    // Finalizer of MurmurHash3
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
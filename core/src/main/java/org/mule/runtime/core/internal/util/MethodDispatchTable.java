@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes {@link Method}s through {@link MethodHandle}s instead of {@link Method#invoke(Object, Object...)}, for the invocation
+ * handlers of proxies that delegate every call to another object.
+ * <p>
+ * The handle of each method is created once and adapted to take the target and the arguments array of the proxy invocation as
+ * they are, so invoking it doesn't go through the access checks and argument wrapping of reflection. Methods that are not
+ * accessible through a public lookup, such as public methods of non-public classes, are still invoked reflectively.
+ * <p>
+ * Exceptions thrown by the invoked method are thrown as they are, not wrapped in an {@link InvocationTargetException}.
+ *
+ * @since 4.2
+ */
+public final class MethodDispatchTable {
+
+  private static final MethodType GENERIC_INVOCATION = methodType(Object.class, Object.class, Object[].class);
+  private static final MethodHandle REFLECTIVE_INVOCATION;
+
+  static {
+    try {
+      REFLECTIVE_INVOCATION = lookup().findStatic(MethodDispatchTable.class, "invokeReflectively",
+                                                  methodType(Object.class, Method.class, Object.class, Object[].class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Map<Method, MethodHandle> handles = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new table with the handles of the public methods of the given types already created.
+   *
+   * @param types the types whose methods will be invoked, typically the interfaces implemented by a proxy.
+   */
+  public MethodDispatchTable(Class<?>... types) {
+    for (Class<?> type : types) {
+      for (Method method : type.getMethods()) {
+        handles.computeIfAbsent(method, MethodDispatchTable::createHandle);
+      }
+    }
+  }
+
+  /**
+   * Invokes the given method.
+   *
+   * @param method the method to invoke
+   * @param target the object to invoke the method on
+   * @param args the arguments of the invocation, may be {@code null} if the method has no parameters
+   * @return the value returned by the method, {@code null} if it is {@code void}
+   * @throws Throwable the exception thrown by the method
+   */
+  public Object invoke(Method method, Object target, Object[] args) throws Throwable {
+    MethodHandle handle = handles.get(method);
+    if (handle == null) {
+      handle = handles.computeIfAbsent(method, MethodDispatchTable::createHandle);
+    }
+    return handle.invokeExact(target, args);
+  }
+
+  private static MethodHandle createHandle(Method method) {
+    if (!isStatic(method.getModifiers())) {
+      try {
+        return publicLookup().unreflect(method).asFixedArity()
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(GENERIC_INVOCATION);
+      } catch (IllegalAccessException e) {
+        // Fall back to reflection
+      }
+    }
+    return REFLECTIVE_INVOCATION.bindTo(method);
+  }
+
+  private static Object invokeReflectively(Method method, Object target, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
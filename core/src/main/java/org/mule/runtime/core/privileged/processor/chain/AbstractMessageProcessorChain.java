@@ -19,6 +19,9 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.StreamingUtils.updateEventForStreaming;
 import static org.mule.runtime.core.api.util.StringUtils.isBlank;
 import static org.mule.runtime.core.internal.context.DefaultMuleContext.currentMuleContext;
+import static org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase.ERROR;
+import static org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase.POST_INVOKE;
+import static org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase.PRE_INVOKE;
 import static org.mule.runtime.core.privileged.event.PrivilegedEvent.setCurrentEvent;
 import static org.mule.runtime.core.privileged.processor.MessageProcessors.processToApply;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -32,15 +35,21 @@ import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.notification.MessageProcessorNotification;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.notification.FlowTraceManager;
 import org.mule.runtime.core.api.context.notification.ServerNotificationManager;
 import org.mule.runtime.core.api.event.CoreEvent;
+import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.processor.strategy.ProcessingStrategy;
 import org.mule.runtime.core.api.rx.Exceptions;
 import org.mule.runtime.core.api.streaming.StreamingManager;
+import org.mule.runtime.core.internal.context.notification.MessageProcessingFlowTraceManager;
+import org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder;
+import org.mule.runtime.core.internal.context.notification.SampledFlowTraceRecorder.Phase;
 import org.mule.runtime.core.internal.exception.MessagingException;
 import org.mule.runtime.core.internal.interception.ProcessorInterceptorManager;
+import org.mule.runtime.core.internal.management.stats.InFlightLatencyRecorder;
 import org.mule.runtime.core.internal.processor.chain.InterceptedReactiveProcessor;
 import org.mule.runtime.core.internal.processor.interceptor.ReactiveAroundInterceptorAdapter;
 import org.mule.runtime.core.internal.processor.interceptor.ReactiveInterceptorAdapter;
@@ -57,7 +66,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -99,6 +110,8 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private final List<Processor> processors;
   private ProcessingStrategy processingStrategy;
   private List<ReactiveInterceptorAdapter> additionalInterceptors = new LinkedList<>();
+  private final Map<Processor, InFlightLatencyRecorder> latencyRecorders = new ConcurrentHashMap<>();
+  private SampledFlowTraceRecorder sampledFlowTraceRecorder;
 
   @Inject
   private ProcessorInterceptorManager processorInterceptorManager;
@@ -174,6 +187,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
         // Give priority to failed event from reactor over MessagingException event.
         BaseEventContext context = (BaseEventContext) (event != null ? event.getContext()
             : ((MessagingException) throwable).getEvent().getContext());
+        latencyError(processor, context);
         errorNotification(processor).andThen(e -> context.error(e))
             .accept(resolveMessagingException(processor).apply((MessagingException) throwable));
       } else {
@@ -182,6 +196,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
           throw new IllegalStateException(UNEXPECTED_ERROR_HANDLER_STATE_MESSAGE);
         } else {
           BaseEventContext context = ((BaseEventContext) event.getContext());
+          latencyError(processor, context);
           errorNotification(processor).andThen(e -> context.error(e))
               .accept(resolveException(processor, event, throwable));
         }
@@ -247,9 +262,39 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
         })
         .cast(CoreEvent.class));
 
+    // #5 Measure the latency of the processor, including the time waiting for the processing strategy. Only done if statistics
+    // are enabled when the chain is built.
+    interceptors.add((processor, next) -> {
+      InFlightLatencyRecorder latencyRecorder = getLatencyRecorder(processor);
+      if (latencyRecorder == null) {
+        return next;
+      }
+      return stream -> from(stream)
+          .doOnNext(event -> latencyRecorder.start(event.getContext()))
+          .transform(next)
+          .doOnNext(result -> latencyRecorder.success(result.getContext()));
+    });
+
     return interceptors;
   }
 
+  private InFlightLatencyRecorder getLatencyRecorder(Processor processor) {
+    AllStatistics statistics = muleContext != null ? muleContext.getStatistics() : null;
+    if (statistics == null || !statistics.isEnabled() || !(processor instanceof Component)
+        || ((Component) processor).getLocation() == null) {
+      return null;
+    }
+    return latencyRecorders.computeIfAbsent(processor, p -> new InFlightLatencyRecorder(statistics, statistics
+        .getProcessorLatencyStatistics(((Component) p).getLocation().getLocation())));
+  }
+
+  private void latencyError(Processor processor, BaseEventContext context) {
+    InFlightLatencyRecorder latencyRecorder = latencyRecorders.get(processor);
+    if (latencyRecorder != null) {
+      latencyRecorder.error(context);
+    }
+  }
+
   private Function<? super Publisher<CoreEvent>, ? extends Publisher<CoreEvent>> doOnNextOrErrorWithContext(Consumer<Context> contextConsumer) {
     return lift((scannable, subscriber) -> new CoreSubscriber<CoreEvent>() {
 
@@ -305,6 +350,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private Consumer<PrivilegedEvent> preNotification(Processor processor) {
     return event -> {
       if (event.isNotificationsEnabled()) {
+        recordSampledFlowTrace(event, processor, PRE_INVOKE);
         fireNotification(muleContext.getNotificationManager(), event, processor, null,
                          MESSAGE_PROCESSOR_PRE_INVOKE);
       }
@@ -314,6 +360,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
   private Consumer<PrivilegedEvent> postNotification(Processor processor) {
     return event -> {
       if (event.isNotificationsEnabled()) {
+        recordSampledFlowTrace(event, processor, POST_INVOKE);
         fireNotification(muleContext.getNotificationManager(), event, processor, null,
                          MESSAGE_PROCESSOR_POST_INVOKE);
 
@@ -325,6 +372,7 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     return exception -> {
       if (exception instanceof MessagingException
           && ((PrivilegedEvent) ((MessagingException) exception).getEvent()).isNotificationsEnabled()) {
+        recordSampledFlowTrace(((MessagingException) exception).getEvent(), processor, ERROR);
         fireNotification(muleContext.getNotificationManager(), ((MessagingException) exception).getEvent(), processor,
                          (MessagingException) exception,
                          MESSAGE_PROCESSOR_POST_INVOKE);
@@ -332,6 +380,12 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
     };
   }
 
+  private void recordSampledFlowTrace(CoreEvent event, Processor processor, Phase phase) {
+    if (sampledFlowTraceRecorder != null && processor instanceof Component && ((Component) processor).getLocation() != null) {
+      sampledFlowTraceRecorder.record(event, (Component) processor, phase);
+    }
+  }
+
   private void fireNotification(ServerNotificationManager serverNotificationManager, CoreEvent event, Processor processor,
                                 MessagingException exceptionThrown, int action) {
     if (serverNotificationManager != null
@@ -414,6 +468,11 @@ abstract class AbstractMessageProcessorChain extends AbstractExecutableComponent
       additionalInterceptors.add(0, reactiveInterceptorAdapter);
     });
 
+    FlowTraceManager flowTraceManager = muleContext.getFlowTraceManager();
+    if (flowTraceManager instanceof MessageProcessingFlowTraceManager) {
+      sampledFlowTraceRecorder = ((MessageProcessingFlowTraceManager) flowTraceManager).getSampledRecorder();
+    }
+
     initialiseIfNeeded(getMessageProcessorsForLifecycle(), muleContext);
   }
 
@@ -7,25 +7,45 @@
 package org.mule.runtime.module.artifact.api.classloader;
 
 import static java.lang.Boolean.valueOf;
+import static java.lang.Integer.getInteger;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.jar.Attributes.Name.CLASS_PATH;
+import static org.apache.commons.lang3.ClassUtils.getPackageName;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.config.MuleProperties.MULE_LOG_VERBOSE_CLASSLOADING;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.api.annotation.NoInstantiate;
 import org.mule.runtime.core.api.util.ClassUtils;
 import org.mule.runtime.module.artifact.api.classloader.exception.CompositeClassNotFoundException;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLStreamHandler;
 import java.net.URLStreamHandlerFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import sun.misc.CompoundEnumeration;
@@ -36,6 +56,16 @@ import sun.net.www.protocol.jar.Handler;
  * <p/>
  * By using a {@link ClassLoaderLookupPolicy} this classLoader can use parent-first, parent-only or child-first classloading
  * lookup mode per package.
+ * <p/>
+ * Lookups of classes that don't exist are common, since many frameworks probe for optional classes, and each one walks every
+ * class loader of the {@link LookupStrategy}. To make them cheaper, the local lookup is skipped for classes in packages that
+ * none of the jars or directories of this class loader contain, according to an index built on the first lookup, and the
+ * classes not found are kept in a bounded cache, so looking them up again doesn't walk the class loaders at all. A new exception
+ * is thrown on each lookup, composing the ones gathered the first time. Only lookups that delegate exclusively to other
+ * {@link FineGrainedControlClassLoader}s, and through them to the system class loader, are cached, since those are the only
+ * delegates that can be checked for classes defined later. An entry is discarded when one of them defines the class afterwards,
+ * as happens with generated classes, and the whole cache is cleared when the class loaders of a region change. It may be
+ * disabled by setting {@link #NEGATIVE_LOOKUP_CACHE_SIZE_PROPERTY} to {@code 0}.
  */
 @NoInstantiate
 public class FineGrainedControlClassLoader extends URLClassLoader
@@ -47,9 +77,27 @@ public class FineGrainedControlClassLoader extends URLClassLoader
 
   private static final Logger LOGGER = getLogger(FineGrainedControlClassLoader.class);
 
+  /**
+   * System property to set the amount of classes not found that each class loader remembers.
+   */
+  public static final String NEGATIVE_LOOKUP_CACHE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "classloader.negativeLookupCacheSize";
+
+  private static final int NEGATIVE_LOOKUP_CACHE_SIZE = getInteger(NEGATIVE_LOOKUP_CACHE_SIZE_PROPERTY, 1024);
+  private static final String CLASS_FILE_SUFFIX = ".class";
+
   private final ClassLoaderLookupPolicy lookupPolicy;
   private final boolean verboseLogging;
 
+  // The exceptions of each class loader where a class was not found, by class name
+  private final Map<String, List<ClassNotFoundException>> negativeLookupCache = new ConcurrentHashMap<>();
+  private final Object localPackagesLock = new Object();
+  // null until built, empty if the local classes can't be indexed
+  private volatile Optional<Set<String>> localPackages;
+
+  private final LongAdder classesNotFound = new LongAdder();
+  private final LongAdder negativeLookupCacheHits = new LongAdder();
+  private final LongAdder localLookupsSkipped = new LongAdder();
+
   public FineGrainedControlClassLoader(URL[] urls, ClassLoader parent, ClassLoaderLookupPolicy lookupPolicy) {
     super(urls, parent, new NonCachingURLStreamHandlerFactory());
     checkArgument(lookupPolicy != null, "Lookup policy cannot be null");
@@ -78,13 +126,30 @@ public class FineGrainedControlClassLoader extends URLClassLoader
       logLoadingClass(name, lookupStrategy, "Loading class '%s' with '%s' on '%s'", this);
     }
 
+    List<ClassNotFoundException> cachedExceptions = negativeLookupCache.get(name);
+    if (cachedExceptions != null) {
+      if (!isLoadedByDelegate(name, lookupStrategy)) {
+        negativeLookupCacheHits.increment();
+        classesNotFound.increment();
+        throw new CompositeClassNotFoundException(name, lookupStrategy, cachedExceptions);
+      }
+      negativeLookupCache.remove(name, cachedExceptions);
+    }
+
     // Gather information about the exceptions in each of the searched class loaders to provide
     // troubleshooting information in case of throwing a ClassNotFoundException.
 
     List<ClassNotFoundException> exceptions = new ArrayList<>();
+    int skippedLocalLookup = -1;
     for (ClassLoader classLoader : lookupStrategy.getClassLoaders(this)) {
       try {
         if (classLoader == this) {
+          if (!mayFindLocalClass(name)) {
+            // The exception is only created if no other class loader finds the class
+            localLookupsSkipped.increment();
+            skippedLocalLookup = exceptions.size();
+            continue;
+          }
           result = findLocalClass(name);
           break;
         } else {
@@ -97,7 +162,16 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     }
 
     if (result == null) {
-      throw new CompositeClassNotFoundException(name, lookupStrategy, exceptions);
+      if (skippedLocalLookup >= 0) {
+        exceptions.add(skippedLocalLookup, new ClassNotFoundException(format("No class in package '%s' on %s",
+                                                                             getPackageName(name), this)));
+      }
+      classesNotFound.increment();
+      CompositeClassNotFoundException exception = new CompositeClassNotFoundException(name, lookupStrategy, exceptions);
+      if (isCacheable(name, lookupStrategy)) {
+        cacheNotFound(name, exception.getExceptions());
+      }
+      throw exception;
     }
 
     if (verboseLogging) {
@@ -132,6 +206,202 @@ public class FineGrainedControlClassLoader extends URLClassLoader
     }
   }
 
+  private boolean isLoadedByDelegate(String name, LookupStrategy lookupStrategy) {
+    for (ClassLoader classLoader : lookupStrategy.getClassLoaders(this)) {
+      if (classLoader != this && classLoader instanceof FineGrainedControlClassLoader) {
+        FineGrainedControlClassLoader delegate = (FineGrainedControlClassLoader) classLoader;
+        if (delegate.findLoadedClass(name) != null) {
+          return true;
+        }
+        LookupStrategy delegateLookupStrategy = delegate.lookupPolicy.getClassLookupStrategy(name);
+        if (delegateLookupStrategy != null && delegate.isLoadedByDelegate(name, delegateLookupStrategy)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if every class loader the lookup delegates to, directly or through other
+   *         {@link FineGrainedControlClassLoader}s, is either one of them or the system class loader or its ancestors, whose
+   *         classes don't change.
+   */
+  private boolean isCacheable(String name, LookupStrategy lookupStrategy) {
+    for (ClassLoader classLoader : lookupStrategy.getClassLoaders(this)) {
+      if (classLoader == this || isSystemClassLoader(classLoader)) {
+        continue;
+      }
+      if (!(classLoader instanceof FineGrainedControlClassLoader)) {
+        return false;
+      }
+      FineGrainedControlClassLoader delegate = (FineGrainedControlClassLoader) classLoader;
+      LookupStrategy delegateLookupStrategy = delegate.lookupPolicy.getClassLookupStrategy(name);
+      if (delegateLookupStrategy == null || !delegate.isCacheable(name, delegateLookupStrategy)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSystemClassLoader(ClassLoader classLoader) {
+    if (classLoader == null) {
+      return true;
+    }
+    ClassLoader systemClassLoader = getSystemClassLoader();
+    while (systemClassLoader != null) {
+      if (classLoader == systemClassLoader) {
+        return true;
+      }
+      systemClassLoader = systemClassLoader.getParent();
+    }
+    return false;
+  }
+
+  private void cacheNotFound(String name, List<ClassNotFoundException> exceptions) {
+    if (NEGATIVE_LOOKUP_CACHE_SIZE <= 0) {
+      return;
+    }
+    if (negativeLookupCache.size() >= NEGATIVE_LOOKUP_CACHE_SIZE) {
+      // Start over rather than tracking usage, misses are usually clustered in time anyway
+      negativeLookupCache.clear();
+    }
+    negativeLookupCache.put(name, exceptions);
+  }
+
+  /**
+   * Forgets the classes that were not found, so they are looked up again. Must be called when the class loaders this one
+   * delegates to may find classes they previously didn't.
+   */
+  public void clearNegativeLookupCache() {
+    negativeLookupCache.clear();
+  }
+
+  /**
+   * Checks whether the class may be found by {@link #findLocalClass(String)}, without actually looking it up.
+   * <p/>
+   * Subclasses that change how local classes are found must override this method accordingly.
+   *
+   * @param name the name of the class to look up
+   * @return false if {@link #findLocalClass(String)} certainly won't find the class, true otherwise.
+   */
+  protected boolean mayFindLocalClass(String name) {
+    Optional<Set<String>> packages = localPackages;
+    if (packages == null) {
+      synchronized (localPackagesLock) {
+        packages = localPackages;
+        if (packages == null) {
+          packages = indexLocalPackages();
+          localPackages = packages;
+        }
+      }
+    }
+
+    return !packages.isPresent() || packages.get().contains(getPackageName(name));
+  }
+
+  private Optional<Set<String>> indexLocalPackages() {
+    if (overridesLocalLookup()) {
+      return empty();
+    }
+
+    Set<String> packages = new HashSet<>();
+    for (URL url : getURLs()) {
+      if (!"file".equals(url.getProtocol())) {
+        return empty();
+      }
+
+      try {
+        File file = new File(url.toURI());
+        if (file.isDirectory()) {
+          indexDirectory(file.toPath(), packages);
+        } else if (file.isFile() && !indexJar(file, packages)) {
+          return empty();
+        }
+      } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(format("Unable to index the packages of '%s', all classes will be looked up on %s", url, this), e);
+        }
+        return empty();
+      }
+    }
+
+    return of(unmodifiableSet(packages));
+  }
+
+  private boolean overridesLocalLookup() {
+    for (Class<?> type = getClass(); type != FineGrainedControlClassLoader.class; type = type.getSuperclass()) {
+      for (String method : new String[] {"findLocalClass", "findClass"}) {
+        try {
+          type.getDeclaredMethod(method, String.class);
+          return true;
+        } catch (NoSuchMethodException e) {
+          // Not overridden on this level
+        }
+      }
+    }
+    return false;
+  }
+
+  private void indexDirectory(Path directory, Set<String> packages) throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.filter(file -> file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX))
+          .forEach(file -> packages.add(packageOf(directory.relativize(file).toString().replace(File.separatorChar, '/'))));
+    }
+  }
+
+  /**
+   * @return false if the jar references other jars in its manifest, which are not indexed.
+   */
+  private boolean indexJar(File file, Set<String> packages) throws IOException {
+    try (JarFile jar = new JarFile(file)) {
+      Manifest manifest = jar.getManifest();
+      if (manifest != null && manifest.getMainAttributes().getValue(CLASS_PATH) != null) {
+        return false;
+      }
+
+      jar.stream().map(entry -> entry.getName()).filter(entry -> entry.endsWith(CLASS_FILE_SUFFIX))
+          .forEach(entry -> packages.add(packageOf(entry)));
+      return true;
+    }
+  }
+
+  private static String packageOf(String classFile) {
+    int lastSeparator = classFile.lastIndexOf('/');
+    return lastSeparator < 0 ? "" : classFile.substring(0, lastSeparator).replace('/', '.');
+  }
+
+  @Override
+  protected void addURL(URL url) {
+    super.addURL(url);
+    synchronized (localPackagesLock) {
+      localPackages = null;
+    }
+    clearNegativeLookupCache();
+  }
+
+  /**
+   * @return the amount of lookups of classes that were not found, including the ones answered from the negative lookup cache.
+   */
+  public long getClassesNotFound() {
+    return classesNotFound.sum();
+  }
+
+  /**
+   * @return the amount of lookups of classes that were not found which were answered from the negative lookup cache.
+   */
+  public long getNegativeLookupCacheHits() {
+    return negativeLookupCacheHits.sum();
+  }
+
+  /**
+   * @return the amount of times the local lookup was skipped because no local jar or directory contains the package of the
+   *         class.
+   */
+  public long getLocalLookupsSkipped() {
+    return localLookupsSkipped.sum();
+  }
+
   protected Class<?> findParentClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
     if (classLoader != null) {
       return classLoader.loadClass(name);
@@ -183,6 +453,7 @@ public class FineGrainedControlClassLoader extends URLClassLoader
    */
   @Override
   public void dispose() {
+    clearNegativeLookupCache();
     try {
       // Java 7 added support for closing a URLClassLoader, it will close any resources opened by this classloader
       close();
@@ -132,11 +132,28 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
 
         classLoaders.add(artifactClassLoader);
       }
+
+      clearNegativeLookupCaches();
     } finally {
       innerStateWriteLock.unlock();
     }
   }
 
+  /**
+   * Classes that were not found by the members of the region may now be found through the region.
+   */
+  private void clearNegativeLookupCaches() {
+    clearNegativeLookupCache();
+    clearNegativeLookupCache(ownerClassLoader);
+    registeredClassLoaders.forEach(member -> clearNegativeLookupCache(member.unfilteredClassLoader));
+  }
+
+  private void clearNegativeLookupCache(ArtifactClassLoader artifactClassLoader) {
+    if (artifactClassLoader != null && artifactClassLoader.getClassLoader() instanceof FineGrainedControlClassLoader) {
+      ((FineGrainedControlClassLoader) artifactClassLoader.getClassLoader()).clearNegativeLookupCache();
+    }
+  }
+
   static String illegalPackageMappingError(String p, LookupStrategy packageLookupStrategy) {
     return format("Attempt to map package '%s' which was already defined on the region lookup policy with '%s'",
                   p, packageLookupStrategy.getClass().getName());
@@ -190,6 +207,7 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
       }
 
       registeredClassLoaders.remove(index);
+      clearNegativeLookupCache();
 
       return true;
     } finally {
@@ -197,6 +215,19 @@ public class RegionClassLoader extends MuleDeployableArtifactClassLoader {
     }
   }
 
+  /**
+   * Only the classes in the packages exported by the members of the region are found locally.
+   */
+  @Override
+  protected boolean mayFindLocalClass(String name) {
+    innerStateReadLock.lock();
+    try {
+      return packageMapping.containsKey(getPackageName(name));
+    } finally {
+      innerStateReadLock.unlock();
+    }
+  }
+
   @Override
   public Class<?> findLocalClass(String name) throws ClassNotFoundException {
     innerStateReadLock.lock();
@@ -8,18 +8,24 @@ package org.mule.runtime.module.artifact.api.classloader;
 
 import static java.lang.System.lineSeparator;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.module.artifact.api.classloader.ChildFirstLookupStrategy.CHILD_FIRST;
 import static org.mule.runtime.module.artifact.api.classloader.ParentFirstLookupStrategy.PARENT_FIRST;
 import static org.mule.runtime.module.artifact.api.classloader.ParentOnlyLookupStrategy.PARENT_ONLY;
 import static org.mule.tck.junit4.matcher.FunctionExpressionMatcher.expressionMatches;
 import org.mule.runtime.core.api.util.ClassUtils;
+import org.mule.runtime.core.api.util.IOUtils;
 import org.mule.runtime.module.artifact.api.classloader.ClassLoaderLookupPolicy;
 import org.mule.runtime.module.artifact.api.classloader.FineGrainedControlClassLoader;
 import org.mule.runtime.module.artifact.api.classloader.exception.CompositeClassNotFoundException;
@@ -174,6 +180,120 @@ public class FineGrainedControlClassLoaderTestCase extends AbstractMuleTestCase
     invokeTestClassMethod(ext);
   }
 
+  @Test
+  public void classNotFoundIsCached() throws Exception {
+    final ClassLoaderLookupPolicy parentLookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(parentLookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(CHILD_FIRST);
+    FineGrainedControlClassLoader parent = new FineGrainedControlClassLoader(new URL[0], null, parentLookupPolicy);
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    CompositeClassNotFoundException notFound = null;
+    for (int i = 0; i < 2; ++i) {
+      try {
+        ext.loadClass(TEST_CLASS_NAME);
+        fail("Class should not be found");
+      } catch (CompositeClassNotFoundException e) {
+        if (notFound != null) {
+          assertThat(e, not(sameInstance(notFound)));
+          assertThat(e.getExceptions(), contains(sameInstance(notFound.getExceptions().get(0))));
+        }
+        notFound = e;
+      }
+    }
+
+    assertThat(parent.getClassesNotFound(), is(1L));
+    assertThat(ext.getClassesNotFound(), is(2L));
+    assertThat(ext.getNegativeLookupCacheHits(), is(1L));
+
+    ext.clearNegativeLookupCache();
+    try {
+      ext.loadClass(TEST_CLASS_NAME);
+      fail("Class should not be found");
+    } catch (CompositeClassNotFoundException e) {
+      assertThat(parent.getNegativeLookupCacheHits(), is(1L));
+    }
+  }
+
+  @Test
+  public void classNotFoundByOtherClassLoaderIsNotCached() throws Exception {
+    ClassLoader parent = mock(ClassLoader.class);
+    final ClassNotFoundException thrownException = new ClassNotFoundException("ERROR");
+    when(parent.loadClass(TEST_CLASS_NAME)).thenThrow(thrownException);
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(PARENT_ONLY);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    for (int i = 0; i < 2; ++i) {
+      try {
+        ext.loadClass(TEST_CLASS_NAME);
+        fail("Class should not be found");
+      } catch (CompositeClassNotFoundException e) {
+        assertThat(e.getExceptions(), contains(sameInstance(thrownException)));
+      }
+    }
+
+    verify(parent, times(2)).loadClass(TEST_CLASS_NAME);
+    assertThat(ext.getNegativeLookupCacheHits(), is(0L));
+  }
+
+  @Test
+  public void classDefinedByDelegateIsNotCached() throws Exception {
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(TEST_CLASS_NAME)).thenReturn(CHILD_FIRST);
+    FineGrainedControlClassLoader parent = new FineGrainedControlClassLoader(new URL[0], null, lookupPolicy);
+    FineGrainedControlClassLoader ext = new FineGrainedControlClassLoader(new URL[0], parent, lookupPolicy);
+
+    try {
+      ext.loadClass(TEST_CLASS_NAME);
+      fail("Class should not be found");
+    } catch (CompositeClassNotFoundException e) {
+      // Expected
+    }
+
+    // Defines the class the way generated classes are defined, bypassing the lookup
+    byte[] classBytes;
+    try (URLClassLoader classBytesLoader = new URLClassLoader(new URL[] {getParentResource()}, null)) {
+      classBytes = IOUtils.toByteArray(classBytesLoader.getResourceAsStream(TEST_CLASS_NAME.replace('.', '/') + ".class"));
+    }
+    Method defineClass = ClassLoader.class.getDeclaredMethod("defineClass", String.class, byte[].class, int.class, int.class);
+    defineClass.setAccessible(true);
+    Class<?> definedClass = (Class<?>) defineClass.invoke(parent, TEST_CLASS_NAME, classBytes, 0, classBytes.length);
+
+    assertThat(ext.loadClass(TEST_CLASS_NAME), sameInstance(definedClass));
+    assertThat(ext.getNegativeLookupCacheHits(), is(0L));
+  }
+
+  @Test
+  public void localLookupSkippedForNotIndexedPackage() throws Exception {
+    final String otherClassName = "otherpackage.MyClass";
+    ClassLoader parent = mock(ClassLoader.class);
+    final ClassNotFoundException thrownException = new ClassNotFoundException("ERROR");
+    when(parent.loadClass(otherClassName)).thenThrow(thrownException);
+
+    final ClassLoaderLookupPolicy lookupPolicy = mock(ClassLoaderLookupPolicy.class);
+    when(lookupPolicy.getClassLookupStrategy(otherClassName)).thenReturn(CHILD_FIRST);
+
+    FineGrainedControlClassLoader ext =
+        new FineGrainedControlClassLoader(new URL[] {getChildFileResource()}, parent, lookupPolicy);
+
+    try {
+      ext.loadClass(otherClassName);
+      fail("Class should not be found");
+    } catch (CompositeClassNotFoundException e) {
+      assertThat(e.getExceptions(), contains(hasMessage(startsWith("No class in package 'otherpackage'")),
+                                             sameInstance(thrownException)));
+    }
+    assertThat(ext.getLocalLookupsSkipped(), is(1L));
+  }
+
   protected FineGrainedControlClassLoader buildFineGrainedControlClassLoader(ClassLoader parent,
                                                                              final ClassLoaderLookupPolicy lookupPolicy) {
     return new FineGrainedControlClassLoader(new URL[0], parent, lookupPolicy) {
@@ -10,9 +10,11 @@ import static java.lang.reflect.Proxy.getInvocationHandler;
 import static java.lang.reflect.Proxy.isProxyClass;
 import static java.util.Arrays.asList;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.core.api.util.ClassUtils.findImplementedInterfaces;
+
+import org.mule.runtime.core.internal.util.MethodDispatchTable;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.LinkedList;
@@ -22,12 +24,17 @@ import java.util.List;
  * Extends {@link InvocationHandler} to provide and expose metadata about the inner object implementation.
  * <p>
  * This allows for nested object {@link Proxy}ies to work as expected.
+ * <p>
+ * Whether the proxied object is a nested proxy is resolved on creation, and the methods of the interfaces it implements are
+ * invoked through a {@link MethodDispatchTable}, so the calls delegated to it don't go through reflection.
  * 
  * @since 4.0
  */
 public abstract class MetadataInvocationHandler<T> implements InvocationHandler {
 
   private final T innerObject;
+  private final MetadataInvocationHandler<?> nestedHandler;
+  private final MethodDispatchTable dispatchTable;
 
   /**
    * Creates a new proxy for the provided instance of type T.
@@ -37,14 +44,21 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
   protected MetadataInvocationHandler(T innerObject) {
     checkArgument(innerObject != null, "object cannot be null");
     this.innerObject = innerObject;
+    if (isProxyClass(innerObject.getClass()) && getInvocationHandler(innerObject) instanceof MetadataInvocationHandler) {
+      this.nestedHandler = (MetadataInvocationHandler<?>) getInvocationHandler(innerObject);
+      this.dispatchTable = null;
+    } else {
+      this.nestedHandler = null;
+      this.dispatchTable = new MethodDispatchTable(findImplementedInterfaces(innerObject.getClass()));
+    }
   }
 
   /**
    * @return the methods declared in the implementation of the proxied object.
    */
   protected Method[] getImplementationDeclaredMethods() {
-    if (isNestedProxy()) {
-      return ((MetadataInvocationHandler) getInvocationHandler(getProxiedObject())).getImplementationDeclaredMethods();
+    if (nestedHandler != null) {
+      return nestedHandler.getImplementationDeclaredMethods();
     } else {
       List<Method> methods = new LinkedList<>();
       Class<?> clazz = getProxiedObject().getClass();
@@ -63,16 +77,12 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
    * See {@link InvocationHandler#invoke(Object, Method, Object[])}
    */
   protected Object doInvoke(Object proxy, Method method, Object[] args) throws Throwable {
-    if (isNestedProxy()) {
-      return getInvocationHandler(getProxiedObject()).invoke(getProxiedObject(), method, args);
+    if (nestedHandler != null) {
+      return nestedHandler.invoke(getProxiedObject(), method, args);
     } else {
-      try {
-        return method.invoke(getProxiedObject(), args);
-      } catch (InvocationTargetException ite) {
-        // Unwrap target exception to ensure InvocationTargetException (in case of unchecked exceptions) or
-        // UndeclaredThrowableException (in case of checked exceptions) is not thrown by inner object instead of target exception.
-        throw ite.getTargetException();
-      }
+      // The target exception is thrown as is, to ensure InvocationTargetException (in case of unchecked exceptions) or
+      // UndeclaredThrowableException (in case of checked exceptions) is not thrown by inner object instead of target exception.
+      return dispatchTable.invoke(method, getProxiedObject(), args);
     }
   }
 
@@ -82,9 +92,4 @@ public abstract class MetadataInvocationHandler<T> implements InvocationHandler
   protected T getProxiedObject() {
     return innerObject;
   }
-
-  private boolean isNestedProxy() {
-    return isProxyClass(getProxiedObject().getClass())
-        && getInvocationHandler(getProxiedObject()) instanceof MetadataInvocationHandler;
-  }
 }
@@ -9,7 +9,6 @@ package org.mule.runtime.module.deployment.impl.internal.artifact;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toSet;
-import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
 import org.mule.runtime.api.deployment.meta.MulePluginModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.util.Pair;
@@ -67,12 +66,12 @@ public class ExtensionModelDiscoverer {
       extensions.addAll(parentArtifactExtensions);
       final ArtifactPluginDescriptor artifactPluginDescriptor = artifactPlugin.getFirst();
       Optional<LoaderDescriber> loaderDescriber = artifactPluginDescriptor.getExtensionModelDescriptorProperty();
-      ClassLoader artifactClassloader = artifactPlugin.getSecond().getClassLoader();
+      ArtifactClassLoader artifactClassloader = artifactPlugin.getSecond();
       String artifactName = artifactPluginDescriptor.getName();
       ExtensionModel extension = loaderDescriber
           .map(describer -> discoverExtensionThroughJsonDescriber(loaderRepository, describer,
-                                                                  extensions, artifactClassloader,
-                                                                  artifactName))
+                                                                  extensions, artifactPluginDescriptor,
+                                                                  artifactClassloader, artifactName))
           .orElse(null);
       if (extension != null) {
         descriptorsWithExtensions.add(new Pair<>(artifactPluginDescriptor, extension));
@@ -105,16 +104,19 @@ public class ExtensionModelDiscoverer {
    * @param loaderDescriber a descriptor that contains parametrization to construct an {@link ExtensionModel}
    * @param extensions with the previously generated {@link ExtensionModel}s that will be used to generate the current
    *        {@link ExtensionModel} and store it in {@code extensions} once generated.
-   * @param artifactClassloader the loaded artifact {@link ClassLoader} to find the required resources.
+   * @param artifactPluginDescriptor the descriptor of the artifact being loaded.
+   * @param artifactClassloader the loaded artifact {@link ArtifactClassLoader} to find the required resources.
    * @param artifactName the name of the artifact being loaded.
    * @throws IllegalArgumentException there is no {@link ExtensionModelLoader} for the ID in the {@link MulePluginModel}.
    */
   private ExtensionModel discoverExtensionThroughJsonDescriber(ExtensionModelLoaderRepository extensionModelLoaderRepository,
                                                                LoaderDescriber loaderDescriber, Set<ExtensionModel> extensions,
-                                                               ClassLoader artifactClassloader, String artifactName) {
+                                                               ArtifactPluginDescriptor artifactPluginDescriptor,
+                                                               ArtifactClassLoader artifactClassloader, String artifactName) {
     ExtensionModelLoader loader = extensionModelLoaderRepository.getExtensionModelLoader(loaderDescriber)
         .orElseThrow(() -> new IllegalArgumentException(format("The identifier '%s' does not match with the describers available "
             + "to generate an ExtensionModel (working with the plugin '%s')", loaderDescriber.getId(), artifactName)));
-    return loader.loadExtensionModel(artifactClassloader, getDefault(extensions), loaderDescriber.getAttributes());
+    return extensionModelLoaderRepository.loadExtensionModel(loader, loaderDescriber, artifactPluginDescriptor,
+                                                             artifactClassloader, extensions);
   }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.plugin;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toSet;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDependency;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the {@link ExtensionModel}s loaded for plugins, so a plugin is introspected only once even if the extension models of
+ * the artifacts that use it are discovered several times, as happens when many policies are applied to the same application.
+ * <p>
+ * Entries are keyed by the class loader of the plugin, its coordinates and a checksum of the content of the plugin and its
+ * dependencies, so a plugin whose content changed without a version change, such as a SNAPSHOT one, is introspected again. A
+ * model references the classes of the class loader it was loaded with, so it is only handed to users of that same class loader,
+ * and it is discarded when that class loader is disposed.
+ * <p>
+ * A model is loaded only once even if it is requested concurrently, and the load happens outside of any lock of the cache.
+ *
+ * @since 4.2
+ */
+public class ExtensionModelCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExtensionModelCache.class);
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+  private final Map<List<Object>, CompletableFuture<ExtensionModel>> models = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Returns the {@link ExtensionModel} previously loaded for the given plugin with the same content, loader, attributes and
+   * dependencies, or loads it if there is none.
+   *
+   * @param pluginDescriptor the descriptor of the plugin.
+   * @param pluginClassLoader the class loader of the plugin.
+   * @param loaderId the identifier of the loader used for the plugin.
+   * @param attributes the attributes passed to the loader.
+   * @param dependencies the extensions available to the plugin when its model is loaded.
+   * @param loader loads the model if it is not in the cache.
+   * @return the {@link ExtensionModel} of the plugin.
+   */
+  public ExtensionModel get(ArtifactPluginDescriptor pluginDescriptor, ArtifactClassLoader pluginClassLoader, String loaderId,
+                            Map<String, Object> attributes, Set<ExtensionModel> dependencies,
+                            Supplier<ExtensionModel> loader) {
+    String checksum;
+    try {
+      checksum = checksum(pluginDescriptor);
+    } catch (IOException | URISyntaxException e) {
+      LOGGER.warn("Could not compute the checksum of plugin '" + pluginDescriptor.getName()
+          + "', its extension model will not be cached", e);
+      misses.incrementAndGet();
+      return loader.get();
+    }
+
+    // ArtifactClassLoaders are compared by identity, so no model is shared between different class loaders
+    List<Object> key = asList(pluginClassLoader, coordinates(pluginDescriptor.getBundleDescriptor()), checksum, loaderId,
+                              new HashMap<>(attributes),
+                              dependencies.stream().map(dependency -> dependency.getName() + ":" + dependency.getVersion())
+                                  .collect(toSet()));
+
+    CompletableFuture<ExtensionModel> loading = new CompletableFuture<>();
+    CompletableFuture<ExtensionModel> cached = models.putIfAbsent(key, loading);
+    if (cached != null) {
+      hits.incrementAndGet();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Reusing extension model of plugin '{}'", pluginDescriptor.getName());
+      }
+      return await(cached);
+    }
+
+    misses.incrementAndGet();
+    try {
+      ExtensionModel extensionModel = loader.get();
+      pluginClassLoader.addShutdownListener(() -> models.remove(key, loading));
+      loading.complete(extensionModel);
+      return extensionModel;
+    } catch (RuntimeException | Error e) {
+      // Not kept, so the next request for the plugin tries to load it again
+      models.remove(key, loading);
+      loading.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private ExtensionModel await(CompletableFuture<ExtensionModel> loading) {
+    try {
+      return loading.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static String coordinates(BundleDescriptor descriptor) {
+    return descriptor.getGroupId() + ":" + descriptor.getArtifactId() + ":" + descriptor.getVersion()
+        + descriptor.getClassifier().map(classifier -> ":" + classifier).orElse("");
+  }
+
+  private static String checksum(ArtifactPluginDescriptor pluginDescriptor) throws IOException, URISyntaxException {
+    // Sorted, so the checksum doesn't depend on the order the files are declared in
+    Set<File> files = new TreeSet<>();
+    for (URL url : pluginDescriptor.getClassLoaderModel().getUrls()) {
+      if ("file".equals(url.getProtocol())) {
+        files.add(new File(url.toURI()));
+      }
+    }
+    for (BundleDependency dependency : pluginDescriptor.getClassLoaderModel().getDependencies()) {
+      if (dependency.getBundleUri() != null && "file".equals(dependency.getBundleUri().getScheme())) {
+        files.add(new File(dependency.getBundleUri()));
+      }
+    }
+
+    MessageDigest digest = newDigest();
+    for (File file : files) {
+      digest.update(file.getName().getBytes(UTF_8));
+      if (file.isDirectory()) {
+        updateWithDirectory(digest, file.toPath());
+      } else if (file.isFile()) {
+        updateWithArchive(digest, file);
+      }
+    }
+    return Base64.getEncoder().encodeToString(digest.digest());
+  }
+
+  private static void updateWithArchive(MessageDigest digest, File file) throws IOException {
+    // The checksum and size of each entry identify the content without having to inflate it
+    ByteBuffer entryData = ByteBuffer.allocate(2 * Long.BYTES);
+    try (ZipFile zip = new ZipFile(file)) {
+      for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+        ZipEntry entry = entries.nextElement();
+        digest.update(entry.getName().getBytes(UTF_8));
+        entryData.clear();
+        entryData.putLong(entry.getCrc()).putLong(entry.getSize());
+        digest.update(entryData.array());
+      }
+    }
+  }
+
+  private static void updateWithDirectory(MessageDigest digest, Path directory) throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (Stream<Path> walk = Files.walk(directory)) {
+      walk.filter(Files::isRegularFile).sorted().forEach(files::add);
+    }
+
+    byte[] buffer = new byte[8192];
+    for (Path file : files) {
+      digest.update(directory.relativize(file).toString().getBytes(UTF_8));
+      try (InputStream content = new DigestInputStream(Files.newInputStream(file), digest)) {
+        while (content.read(buffer) != -1) {
+          // The content is added to the digest as it is read
+        }
+      }
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * @return the amount of times a model was found in this cache.
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the amount of times a model was not found in this cache and had to be loaded.
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Discards all the cached models.
+   */
+  public void clear() {
+    models.clear();
+  }
+}
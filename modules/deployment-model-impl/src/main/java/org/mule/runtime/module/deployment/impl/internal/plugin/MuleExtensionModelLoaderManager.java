@@ -15,11 +15,14 @@ import static java.util.Optional.of;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkNotNull;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.core.api.registry.SpiServiceRegistry;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
@@ -28,6 +31,7 @@ import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderMan
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -45,6 +49,7 @@ public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderMana
 
   private final ArtifactClassLoader containerClassLoader;
   private final Map<String, ExtensionModelLoader> extensionModelLoaders = newHashMap();
+  private final ExtensionModelCache extensionModelCache = new ExtensionModelCache();
 
   /**
    * Creates an instance of the manager.
@@ -105,6 +110,7 @@ public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderMana
   @Override
   public void stop() throws MuleException {
     extensionModelLoaders.clear();
+    extensionModelCache.clear();
   }
 
   @Override
@@ -113,6 +119,16 @@ public class MuleExtensionModelLoaderManager implements ExtensionModelLoaderMana
         : empty();
   }
 
+  @Override
+  public ExtensionModel loadExtensionModel(ExtensionModelLoader loader, LoaderDescriber loaderDescriber,
+                                           ArtifactPluginDescriptor pluginDescriptor, ArtifactClassLoader pluginClassLoader,
+                                           Set<ExtensionModel> dependencies) {
+    return extensionModelCache.get(pluginDescriptor, pluginClassLoader, loader.getId(), loaderDescriber.getAttributes(),
+                                   dependencies,
+                                   () -> loader.loadExtensionModel(pluginClassLoader.getClassLoader(), getDefault(dependencies),
+                                                                   loaderDescriber.getAttributes()));
+  }
+
   private String printExtensionModelLoaderIDs() {
     return extensionModelLoaders.keySet().stream().collect(joining(", "));
   }
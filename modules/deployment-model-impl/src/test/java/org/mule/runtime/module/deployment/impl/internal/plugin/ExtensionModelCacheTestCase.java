@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.plugin;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.api.classloader.ShutdownListener;
+import org.mule.runtime.module.artifact.api.descriptor.BundleDescriptor;
+import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModel.ClassLoaderModelBuilder;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class ExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String LOADER_ID = "java";
+
+  @Rule
+  public TemporaryFolder pluginFolder = new TemporaryFolder();
+
+  private final ExtensionModelCache cache = new ExtensionModelCache();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final Supplier<ExtensionModel> loader = () -> {
+    loads.incrementAndGet();
+    return mock(ExtensionModel.class);
+  };
+
+  private File pluginClass;
+  private ArtifactPluginDescriptor pluginDescriptor;
+
+  @Before
+  public void before() throws Exception {
+    pluginClass = pluginFolder.newFile("Extension.class");
+    Files.write(pluginClass.toPath(), "original".getBytes(UTF_8));
+
+    pluginDescriptor = new ArtifactPluginDescriptor("plugin");
+    pluginDescriptor.setBundleDescriptor(new BundleDescriptor.Builder().setGroupId("org.mule.tests").setArtifactId("plugin")
+        .setVersion("1.0.0-SNAPSHOT").build());
+    pluginDescriptor.setClassLoaderModel(new ClassLoaderModelBuilder().containing(pluginFolder.getRoot().toURI().toURL())
+        .build());
+  }
+
+  @Test
+  public void samePluginContentReusesModel() {
+    ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+
+    ExtensionModel extensionModel = cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    assertThat(cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader),
+               is(sameInstance(extensionModel)));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test
+  public void differentClassLoaderLoadsModel() {
+    ExtensionModel extensionModel =
+        cache.get(pluginDescriptor, mock(ArtifactClassLoader.class), LOADER_ID, emptyMap(), emptySet(), loader);
+    assertThat(cache.get(pluginDescriptor, mock(ArtifactClassLoader.class), LOADER_ID, emptyMap(), emptySet(), loader),
+               is(not(sameInstance(extensionModel))));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void changedPluginContentLoadsModel() throws Exception {
+    ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    Files.write(pluginClass.toPath(), "modified".getBytes(UTF_8));
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void differentAttributesLoadsModel() {
+    ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, singletonMap("type", "org.foo.Extension"), emptySet(), loader);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void disposedClassLoaderIsEvicted() {
+    ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+
+    ArgumentCaptor<ShutdownListener> shutdownListener = ArgumentCaptor.forClass(ShutdownListener.class);
+    verify(pluginClassLoader).addShutdownListener(shutdownListener.capture());
+    shutdownListener.getValue().execute();
+
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void failedLoadIsNotCached() {
+    try {
+      cache.get(pluginDescriptor, mock(ArtifactClassLoader.class), LOADER_ID, emptyMap(), emptySet(), () -> {
+        throw new IllegalStateException("Expected");
+      });
+      fail("Expected the load to fail");
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+
+    ArtifactClassLoader pluginClassLoader = mock(ArtifactClassLoader.class);
+    cache.get(pluginDescriptor, pluginClassLoader, LOADER_ID, emptyMap(), emptySet(), loader);
+    assertThat(loads.get(), is(1));
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.channels.Channels.newChannel;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.util.FileUtils.deleteTree;
+import static org.mule.runtime.core.api.util.FileUtils.newFile;
+import static org.mule.runtime.core.api.util.FileUtils.verifyZipFilePaths;
+
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Explodes artifact archives, extracting their entries in parallel.
+ * <p>
+ * Along with the extracted entries, a manifest is written with a checksum of the content of the archive and the size and last
+ * modification time of each extracted file. An archive is not exploded again in a directory whose manifest has the same checksum
+ * and whose files were not modified since, so redeploying an identical archive doesn't need to extract it. The checksum is
+ * computed from the name, modification time, compression method, sizes and CRC of each entry in the central directory of the
+ * archive, so the archive is not read to compute it.
+ *
+ * @since 4.2
+ */
+final class ArtifactArchiveExploder {
+
+  static final String EXPLODE_PARALLELISM_PROPERTY = SYSTEM_PROPERTY_PREFIX + "deployment.explodeParallelism";
+  static final String CHECKSUM_MANIFEST = ".mule-archive-checksum";
+
+  private static final int DEFAULT_MAX_PARALLELISM = 8;
+  private static final int BUFFER_SIZE = 256 * 1024;
+  private static final String CHECKSUM_ALGORITHM = "SHA-256";
+  private static final String FIELD_SEPARATOR = "\t";
+
+  private final int parallelism;
+
+  ArtifactArchiveExploder() {
+    this(getInteger(EXPLODE_PARALLELISM_PROPERTY, min(getRuntime().availableProcessors(), DEFAULT_MAX_PARALLELISM)));
+  }
+
+  /**
+   * @param parallelism the maximum amount of entries extracted at the same time.
+   */
+  ArtifactArchiveExploder(int parallelism) {
+    this.parallelism = max(parallelism, 1);
+  }
+
+  /**
+   * Explodes an archive, unless the given directory already holds the content of an identical archive.
+   *
+   * @param archive the archive to explode.
+   * @param directory the directory to explode the archive to. Any previous content is deleted if the archive has to be exploded.
+   * @return {@code true} if the archive was exploded, {@code false} if the directory already held its content.
+   * @throws IOException if the archive is not valid or it could not be exploded.
+   */
+  boolean explode(File archive, File directory) throws IOException {
+    try (ZipFile zip = new ZipFile(archive)) {
+      verifyZipFilePaths(zip);
+
+      String checksum = checksum(zip);
+      if (isExploded(directory, checksum)) {
+        return false;
+      }
+
+      if (directory.exists() && !deleteTree(directory)) {
+        throw new IOException("Cannot delete existing folder " + directory);
+      }
+      List<ZipEntry> files = createDirectories(zip, directory);
+      extract(zip, files, directory);
+      // Written last, so an interrupted extraction is never taken as complete
+      writeManifest(directory, checksum, files);
+      return true;
+    }
+  }
+
+  private List<ZipEntry> createDirectories(ZipFile zip, File directory) throws IOException {
+    if (!directory.mkdirs() && !directory.isDirectory()) {
+      throw new IOException("Could not create directory: " + directory);
+    }
+
+    List<ZipEntry> files = new ArrayList<>();
+    for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+      ZipEntry entry = entries.nextElement();
+      File file = newFile(directory, entry.getName());
+      File entryDirectory = entry.isDirectory() ? file : file.getParentFile();
+      if (!entryDirectory.mkdirs() && !entryDirectory.isDirectory()) {
+        throw new IOException("Could not create directory: " + entryDirectory);
+      }
+      if (!entry.isDirectory()) {
+        files.add(entry);
+      }
+    }
+    return files;
+  }
+
+  private void extract(ZipFile zip, List<ZipEntry> files, File directory) throws IOException {
+    int workers = min(parallelism, files.size());
+    if (workers <= 1) {
+      extract(zip, files, directory, allocateDirect(BUFFER_SIZE));
+      return;
+    }
+
+    ExecutorService executor = newFixedThreadPool(workers, new NamedThreadFactory("artifact-explode"));
+    try {
+      List<Future<?>> futures = new ArrayList<>(workers);
+      for (List<ZipEntry> partition : partition(files, workers)) {
+        futures.add(executor.submit(() -> {
+          extract(zip, partition, directory, allocateDirect(BUFFER_SIZE));
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while exploding " + zip.getName());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Splits the files in partitions of about the same total size, starting with the biggest ones.
+   */
+  private static List<List<ZipEntry>> partition(List<ZipEntry> files, int partitions) {
+    List<ZipEntry> sorted = new ArrayList<>(files);
+    sorted.sort(comparingLong(ArtifactArchiveExploder::size).reversed());
+
+    List<List<ZipEntry>> result = new ArrayList<>(partitions);
+    long[] partitionSizes = new long[partitions];
+    for (int i = 0; i < partitions; ++i) {
+      result.add(new ArrayList<>());
+    }
+    for (ZipEntry entry : sorted) {
+      int smallest = 0;
+      for (int i = 1; i < partitions; ++i) {
+        if (partitionSizes[i] < partitionSizes[smallest]) {
+          smallest = i;
+        }
+      }
+      result.get(smallest).add(entry);
+      partitionSizes[smallest] += size(entry);
+    }
+    return result;
+  }
+
+  private static long size(ZipEntry entry) {
+    return max(entry.getSize(), 0);
+  }
+
+  private static void extract(ZipFile zip, List<ZipEntry> files, File directory, ByteBuffer buffer) throws IOException {
+    for (ZipEntry entry : files) {
+      File file = newFile(directory, entry.getName());
+      try (ReadableByteChannel in = newChannel(zip.getInputStream(entry));
+          FileChannel out = FileChannel.open(file.toPath(), CREATE, TRUNCATE_EXISTING, WRITE)) {
+        buffer.clear();
+        while (in.read(buffer) >= 0 || buffer.position() > 0) {
+          buffer.flip();
+          out.write(buffer);
+          buffer.compact();
+        }
+      }
+    }
+  }
+
+  private static String checksum(ZipFile zip) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    ByteBuffer entryData = ByteBuffer.allocate(2 * Integer.BYTES + 4 * Long.BYTES);
+    for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+      ZipEntry entry = entries.nextElement();
+      byte[] name = entry.getName().getBytes(UTF_8);
+      entryData.clear();
+      // The length of the name keeps the fields of consecutive entries from being taken for one another
+      entryData.putInt(name.length).putLong(entry.getTime()).putLong(entry.getCrc()).putLong(entry.getSize())
+          .putLong(entry.getCompressedSize()).putInt(entry.getMethod());
+      digest.update(entryData.array());
+      digest.update(name);
+    }
+    return Base64.getEncoder().encodeToString(digest.digest());
+  }
+
+  private static boolean isExploded(File directory, String checksum) {
+    File manifest = new File(directory, CHECKSUM_MANIFEST);
+    if (!manifest.isFile()) {
+      return false;
+    }
+
+    try {
+      List<String> lines = Files.readAllLines(manifest.toPath(), UTF_8);
+      if (lines.isEmpty() || !lines.get(0).equals(checksum)) {
+        return false;
+      }
+      for (String line : lines.subList(1, lines.size())) {
+        String[] fields = line.split(FIELD_SEPARATOR, 3);
+        File file = new File(directory, fields[2]);
+        if (!file.isFile() || file.length() != Long.parseLong(fields[0]) || file.lastModified() != Long.parseLong(fields[1])) {
+          return false;
+        }
+      }
+      return true;
+    } catch (IOException | RuntimeException e) {
+      // A manifest that can't be read is just not trusted
+      return false;
+    }
+  }
+
+  private static void writeManifest(File directory, String checksum, List<ZipEntry> files) throws IOException {
+    List<String> lines = new ArrayList<>(files.size() + 1);
+    lines.add(checksum);
+    for (ZipEntry entry : files) {
+      File file = newFile(directory, entry.getName());
+      lines.add(file.length() + FIELD_SEPARATOR + file.lastModified() + FIELD_SEPARATOR + entry.getName());
+    }
+    Files.write(new File(directory, CHECKSUM_MANIFEST).toPath(), lines, UTF_8);
+  }
+}
@@ -15,7 +15,6 @@ import static org.mule.runtime.core.api.util.FileUtils.deleteTree;
 import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
 import org.mule.runtime.api.i18n.I18nMessageFactory;
 import org.mule.runtime.container.api.MuleFoldersUtil;
-import org.mule.runtime.core.api.util.FileUtils;
 import org.mule.runtime.deployment.model.api.DeploymentException;
 import org.mule.runtime.deployment.model.api.DeploymentInitException;
 
@@ -29,6 +28,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Installer for mule artifacts inside the mule container directories.
+ * <p>
+ * Archives are exploded by an {@link ArtifactArchiveExploder}, which skips the extraction when the artifact directory already
+ * holds the content of an identical archive.
  */
 public class ArtifactArchiveInstaller {
 
@@ -38,6 +40,7 @@ public class ArtifactArchiveInstaller {
   private static final Logger logger = LoggerFactory.getLogger(ArtifactArchiveInstaller.class);
 
   private final File artifactParentDir;
+  private final ArtifactArchiveExploder exploder = new ArtifactArchiveExploder();
 
   public ArtifactArchiveInstaller(File artifactParentDir) {
     this.artifactParentDir = artifactParentDir;
@@ -77,15 +80,13 @@ public class ArtifactArchiveInstaller {
       artifactName = getBaseName(fullPath);
       artifactDir = new File(artifactParentDir, artifactName);
 
-      // Removes previous deployed artifact
-      if (artifactDir.exists() && !deleteTree(artifactDir)) {
-        throw new IOException("Cannot delete existing folder " + artifactDir);
-      }
-
       // normalize the full path + protocol to make unzip happy
       final File source = artifactFile;
 
-      FileUtils.unzip(source, artifactDir);
+      // Removes the previous deployed artifact, unless it was exploded from an identical archive
+      if (!exploder.explode(source, artifactDir) && logger.isInfoEnabled()) {
+        logger.info("Artifact archive already exploded in " + artifactDir + ", skipping extraction");
+      }
       if ("file".equals(artifactUri.getScheme())
           && toFile(artifactUri.toURL()).getAbsolutePath().startsWith(artifactParentDir.getAbsolutePath())) {
         deleteQuietly(source);
@@ -114,9 +115,22 @@ public class ArtifactArchiveInstaller {
    * @param artifactName name of the artifact to be uninstalled.
    */
   void uninstallArtifact(final String artifactName) {
+    uninstallArtifact(artifactName, false);
+  }
+
+  /**
+   * Uninstalls an artifact from the Mule container installation.
+   *
+   * @param artifactName name of the artifact to be uninstalled.
+   * @param keepExplodedArtifact whether to keep the artifact folder, so that installing an identical archive again doesn't need
+   *        to explode it.
+   */
+  void uninstallArtifact(final String artifactName, boolean keepExplodedArtifact) {
     try {
-      final File artifactDir = new File(artifactParentDir, artifactName);
-      deleteDirectory(artifactDir);
+      if (!keepExplodedArtifact) {
+        final File artifactDir = new File(artifactParentDir, artifactName);
+        deleteDirectory(artifactDir);
+      }
       // remove a marker, harmless, but a tidy artifact dir is always better :)
       File marker = getArtifactAnchorFile(artifactName);
       marker.delete();
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.lang.System.nanoTime;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
+import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.ZIP_FILE_SUFFIX;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.ARTIFACT_ANCHOR_SUFFIX;
+
+import org.mule.runtime.deployment.model.api.DeployableArtifactDescriptor;
+import org.mule.runtime.module.artifact.api.Artifact;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches the deployment directories and the directories holding the resources of the deployed artifacts, so that
+ * {@link DeploymentDirectoryWatcher} only looks for changes when the file system notifies something changed, and only rechecks
+ * the artifacts whose files changed.
+ *
+ * @since 4.2
+ */
+final class ArtifactChangesWatcher implements Closeable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactChangesWatcher.class);
+
+  private final WatchService watchService;
+  private final Map<WatchKey, Path> deploymentDirs = new HashMap<>();
+  private final Map<Path, WatchKey> artifactDirKeys = new HashMap<>();
+  private final Map<Path, Set<String>> artifactsByDir = new HashMap<>();
+
+  /**
+   * @param deploymentDirs the directories where artifacts are deployed.
+   * @throws IOException if the file system can't be watched.
+   */
+  ArtifactChangesWatcher(File... deploymentDirs) throws IOException {
+    watchService = FileSystems.getDefault().newWatchService();
+    try {
+      for (File deploymentDir : deploymentDirs) {
+        Path path = deploymentDir.toPath();
+        this.deploymentDirs.put(register(path), path);
+      }
+    } catch (IOException e) {
+      watchService.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Starts watching the directories of the resources of the given artifact.
+   *
+   * @param artifact the deployed artifact.
+   */
+  synchronized void watch(Artifact<?> artifact) {
+    for (Path dir : resourceDirs(artifact)) {
+      if (deploymentDirs.containsValue(dir)) {
+        // Already watched, and registering it again would share its key
+        continue;
+      }
+      if (!artifactDirKeys.containsKey(dir)) {
+        try {
+          artifactDirKeys.put(dir, register(dir));
+        } catch (IOException e) {
+          // The fallback check will still look for changes in it
+          LOGGER.warn("Could not watch directory '{}' of artifact '{}' for changes", dir, artifact.getArtifactName(), e);
+          continue;
+        }
+      }
+      artifactsByDir.computeIfAbsent(dir, key -> new HashSet<>()).add(artifact.getArtifactName());
+    }
+  }
+
+  /**
+   * Stops watching the directories of the resources of the given artifact that no other artifact uses.
+   *
+   * @param artifact the undeployed artifact.
+   */
+  synchronized void unwatch(Artifact<?> artifact) {
+    for (Path dir : resourceDirs(artifact)) {
+      Set<String> artifactNames = artifactsByDir.get(dir);
+      if (artifactNames != null && artifactNames.remove(artifact.getArtifactName()) && artifactNames.isEmpty()) {
+        artifactsByDir.remove(dir);
+        artifactDirKeys.remove(dir).cancel();
+      }
+    }
+  }
+
+  /**
+   * Waits for changes in the watched directories. Once a change is notified, keeps collecting changes until none is notified for
+   * {@code debounceMs}, so that copying an artifact or editing several of its files is handled at once.
+   *
+   * @param timeoutMs the maximum milliseconds to wait for a change.
+   * @param debounceMs the milliseconds without changes to wait for before returning the ones collected.
+   * @return the names of the artifacts whose files changed, or {@code null} if no change was notified in time or if the file
+   *         system dropped notifications, so that all the artifacts have to be checked.
+   * @throws InterruptedException if interrupted while waiting.
+   * @throws java.nio.file.ClosedWatchServiceException if this watcher is {@link #close() closed}.
+   */
+  Set<String> awaitChanges(long timeoutMs, long debounceMs) throws InterruptedException {
+    WatchKey key = watchService.poll(timeoutMs, MILLISECONDS);
+    if (key == null) {
+      return null;
+    }
+
+    Set<String> changedArtifacts = new HashSet<>();
+    boolean overflow = false;
+    // Keeps collecting until it is quiet, but not for so long that constant writes postpone the check forever
+    long deadline = nanoTime() + MILLISECONDS.toNanos(timeoutMs);
+    while (key != null) {
+      overflow |= collect(key, changedArtifacts);
+      key = nanoTime() - deadline < 0 ? watchService.poll(debounceMs, MILLISECONDS) : null;
+    }
+    return overflow ? null : changedArtifacts;
+  }
+
+  private boolean collect(WatchKey key, Set<String> changedArtifacts) {
+    boolean overflow = false;
+    Path deploymentDir;
+    Set<String> dirArtifacts;
+    synchronized (this) {
+      deploymentDir = deploymentDirs.get(key);
+      dirArtifacts = deploymentDir == null ? artifactsByDir.get(key.watchable()) : null;
+      if (dirArtifacts != null) {
+        changedArtifacts.addAll(dirArtifacts);
+      }
+    }
+
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        overflow = true;
+      } else if (deploymentDir != null) {
+        // Artifacts replaced in the deployment directories have to be rechecked too
+        changedArtifacts.add(artifactName(event.context().toString()));
+      }
+    }
+    key.reset();
+    return overflow;
+  }
+
+  private static String artifactName(String fileName) {
+    return removeEnd(removeEnd(removeEnd(fileName, ARTIFACT_ANCHOR_SUFFIX), JAR_FILE_SUFFIX), ZIP_FILE_SUFFIX);
+  }
+
+  private static Set<Path> resourceDirs(Artifact<?> artifact) {
+    Set<Path> dirs = new HashSet<>();
+    for (File resourceFile : artifact.getResourceFiles()) {
+      File dir = resourceFile.getAbsoluteFile().getParentFile();
+      if (dir != null) {
+        dirs.add(dir.toPath());
+      }
+    }
+    if (artifact.getDescriptor() instanceof DeployableArtifactDescriptor) {
+      File artifactLocation = ((DeployableArtifactDescriptor) artifact.getDescriptor()).getArtifactLocation();
+      if (artifactLocation != null) {
+        dirs.add(artifactLocation.getAbsoluteFile().toPath());
+      }
+    }
+    return dirs;
+  }
+
+  private WatchKey register(Path dir) throws IOException {
+    return dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+  }
+
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+}
@@ -107,6 +107,10 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
 
   @Override
   public void undeployArtifact(String artifactId) {
+    undeployArtifact(artifactId, false);
+  }
+
+  private void undeployArtifact(String artifactId, boolean keepExplodedArtifact) {
     ZombieArtifact zombieArtifact = artifactZombieMap.get(artifactId);
     if ((zombieArtifact != null)) {
       if (zombieArtifact.exists()) {
@@ -118,7 +122,7 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
     }
 
     T artifact = (T) find(artifacts, new BeanPropertyValueEqualsPredicate(ARTIFACT_NAME_PROPERTY, artifactId));
-    undeploy(artifact);
+    undeployArtifact(artifact, true, keepExplodedArtifact);
   }
 
   @Override
@@ -217,7 +221,8 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
       if (isRedeploy) {
         deploymentListener.onRedeploymentStart(artifactName);
         deploymentTemplate.preRedeploy(artifact);
-        undeployArtifact(artifactName);
+        // The exploded artifact is kept, as installing the new archive only explodes it again if its content changed
+        undeployArtifact(artifactName, true);
       }
 
       T deployedArtifact = deployPackagedArtifact(artifactUri, deploymentProperties);
@@ -319,21 +324,17 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
   }
 
   private void undeployArtifactWithoutRemovingData(T artifact) {
-    undeployArtifact(artifact, false);
-  }
-
-  private void undeploy(T artifact) {
-    this.undeployArtifact(artifact, true);
+    undeployArtifact(artifact, false, false);
   }
 
-  private void undeployArtifact(T artifact, boolean removeData) {
+  private void undeployArtifact(T artifact, boolean removeData, boolean keepExplodedArtifact) {
     logRequestToUndeployArtifact(artifact);
     try {
       deploymentListener.onUndeploymentStart(artifact.getArtifactName());
 
       artifacts.remove(artifact);
       deployer.undeploy(artifact);
-      artifactArchiveInstaller.uninstallArtifact(artifact.getArtifactName());
+      artifactArchiveInstaller.uninstallArtifact(artifact.getArtifactName(), keepExplodedArtifact);
       if (removeData) {
         final File dataFolder = getAppDataFolder(artifact.getDescriptor().getDataFolderName());
         try {
@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.module.deployment.internal;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
 import static java.util.Arrays.sort;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -42,6 +44,8 @@ import org.mule.runtime.module.deployment.internal.util.ObservableList;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -49,6 +53,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -68,16 +73,26 @@ import org.slf4j.LoggerFactory;
  * It will deploy the applications at the container startup process. It will periodically scan the artifact directories in order
  * to process new deployments, remove artifacts that were previously deployed but the anchor file was removed and redeploy those
  * applications which configuration has changed.
+ * <p/>
+ * When {@value #WATCH_CHANGES_PROPERTY} is set, the deployment directories and the resources of the deployed artifacts are
+ * watched through the file system instead, so they are only scanned when something changes in them, and only the artifacts whose
+ * files changed are checked for redeployment. Everything is still scanned every
+ * {@value #FALLBACK_CHANGE_CHECK_INTERVAL_PROPERTY} milliseconds, in case the file system misses a change.
  */
 public class DeploymentDirectoryWatcher implements Runnable {
 
   public static final String ARTIFACT_ANCHOR_SUFFIX = "-anchor.txt";
   public static final String CHANGE_CHECK_INTERVAL_PROPERTY = "mule.launcher.changeCheckInterval";
+  public static final String WATCH_CHANGES_PROPERTY = "mule.launcher.watchChanges";
+  public static final String FALLBACK_CHANGE_CHECK_INTERVAL_PROPERTY = "mule.launcher.fallbackChangeCheckInterval";
+  public static final String CHANGES_DEBOUNCE_PROPERTY = "mule.launcher.changesDebounce";
   public static final IOFileFilter JAR_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(JAR_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
   public static final IOFileFilter ZIP_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(ZIP_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
   protected static final int DEFAULT_CHANGES_CHECK_INTERVAL_MS = 5000;
+  protected static final int DEFAULT_FALLBACK_CHANGES_CHECK_INTERVAL_MS = 60000;
+  protected static final int DEFAULT_CHANGES_DEBOUNCE_MS = 500;
 
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -93,6 +108,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
   private final File appsDir;
   private final File domainsDir;
   private ScheduledExecutorService artifactDirMonitorTimer;
+  private volatile ArtifactChangesWatcher changesWatcher;
 
   protected volatile boolean dirty;
 
@@ -213,24 +229,82 @@ public class DeploymentDirectoryWatcher implements Runnable {
   }
 
   private static int getChangesCheckIntervalMs() {
+    return getIntervalMs(CHANGE_CHECK_INTERVAL_PROPERTY, DEFAULT_CHANGES_CHECK_INTERVAL_MS);
+  }
+
+  private static int getIntervalMs(String property, int defaultValue) {
     try {
-      String value = System.getProperty(CHANGE_CHECK_INTERVAL_PROPERTY);
+      String value = System.getProperty(property);
       return Integer.parseInt(value);
     } catch (NumberFormatException e) {
-      return DEFAULT_CHANGES_CHECK_INTERVAL_MS;
+      return defaultValue;
     }
   }
 
   private void scheduleChangeMonitor() {
-    final int reloadIntervalMs = getChangesCheckIntervalMs();
     // TODO MULE-12337 migrate this to an scheduler
     artifactDirMonitorTimer = newSingleThreadScheduledExecutor(new ArtifactDeployerMonitorThreadFactory());
 
+    if (getBoolean(WATCH_CHANGES_PROPERTY) && startChangesWatcher()) {
+      final int fallbackIntervalMs =
+          getIntervalMs(FALLBACK_CHANGE_CHECK_INTERVAL_PROPERTY, DEFAULT_FALLBACK_CHANGES_CHECK_INTERVAL_MS);
+      final int debounceMs = getIntervalMs(CHANGES_DEBOUNCE_PROPERTY, DEFAULT_CHANGES_DEBOUNCE_MS);
+      artifactDirMonitorTimer.execute(() -> watchChanges(fallbackIntervalMs, debounceMs));
+
+      log(miniSplash(format("Mule is up and kicking (watching for changes, every %dms otherwise)", fallbackIntervalMs)));
+      return;
+    }
+
+    final int reloadIntervalMs = getChangesCheckIntervalMs();
     artifactDirMonitorTimer.scheduleWithFixedDelay(this, reloadIntervalMs, reloadIntervalMs, MILLISECONDS);
 
     log(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
   }
 
+  private boolean startChangesWatcher() {
+    try {
+      changesWatcher = new ArtifactChangesWatcher(domainsDir, appsDir);
+    } catch (IOException e) {
+      logger.warn("Could not watch the deployment directories for changes, they will be checked periodically instead", e);
+      return false;
+    }
+
+    // Called with the deployment lock held, so no artifact is deployed or undeployed meanwhile
+    domains.forEach(changesWatcher::watch);
+    applications.forEach(changesWatcher::watch);
+    PropertyChangeListener watchedArtifactsListener = e -> {
+      if (e instanceof ElementAddedEvent) {
+        changesWatcher.watch((Artifact<?>) e.getNewValue());
+      } else if (e instanceof ElementRemovedEvent) {
+        changesWatcher.unwatch((Artifact<?>) e.getNewValue());
+      }
+    };
+    domains.addPropertyChangeListener(watchedArtifactsListener);
+    applications.addPropertyChangeListener(watchedArtifactsListener);
+    return true;
+  }
+
+  private void watchChanges(long fallbackIntervalMs, long debounceMs) {
+    try {
+      while (!artifactDirMonitorTimer.isShutdown()) {
+        Set<String> changedArtifacts = changesWatcher.awaitChanges(fallbackIntervalMs, debounceMs);
+        if (logger.isDebugEnabled()) {
+          logger.debug(changedArtifacts == null ? "No changes notified, checking all the artifacts"
+              : "Changes notified for artifacts " + changedArtifacts);
+        }
+
+        while (!checkForChanges(changedArtifacts)) {
+          // Another deployment operation is in progress, check once it is done so the changes are not missed
+          Thread.sleep(debounceMs);
+        }
+        // A failed check flags the thread as interrupted, which must not stop watching
+        Thread.interrupted();
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Stopped
+    }
+  }
+
   protected void deployPackedApps(String[] zips) {
     for (String zip : zips) {
       try {
@@ -262,6 +336,16 @@ public class DeploymentDirectoryWatcher implements Runnable {
   // deploy exploded apps
   @Override
   public void run() {
+    checkForChanges(null);
+  }
+
+  /**
+   * Runs a deployment cycle.
+   *
+   * @param modifiedArtifacts the names of the artifacts to check for redeployment, or {@code null} to check all of them.
+   * @return {@code false} if the cycle was skipped because another deployment operation was in progress.
+   */
+  private boolean checkForChanges(Set<String> modifiedArtifacts) {
     try {
       if (logger.isDebugEnabled()) {
         logger.debug("Checking for changes...");
@@ -273,7 +357,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
           logger.debug("Another deployment operation in progress, will skip this cycle. Owner thread: "
               + ((DebuggableReentrantLock) deploymentLock).getOwner());
         }
-        return;
+        return false;
       }
 
       undeployRemovedApps();
@@ -287,7 +371,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
 
       final String[] domainZips = domainsDir.list(JAR_ARTIFACT_FILTER);
 
-      redeployModifiedDomains();
+      redeployModifiedDomains(modifiedArtifacts);
 
       deployPackedDomains(domainZips);
 
@@ -298,7 +382,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
 
       deployExplodedDomains(domains);
 
-      redeployModifiedApplications();
+      redeployModifiedApplications(modifiedArtifacts);
 
       // list new apps
       String[] apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
@@ -317,13 +401,14 @@ public class DeploymentDirectoryWatcher implements Runnable {
       deployExplodedApps(apps);
     } catch (Exception e) {
       // preserve the flag for the thread
-      Thread.currentThread().interrupt();
+      currentThread().interrupt();
     } finally {
       if (deploymentLock.isHeldByCurrentThread()) {
         deploymentLock.unlock();
       }
       dirty = false;
     }
+    return true;
   }
 
   private void deployDomainBundles() {
@@ -452,18 +537,20 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return appNames.toArray(new String[appNames.size()]);
   }
 
-  private void redeployModifiedDomains() {
-    Collection redeployableDomains = getArtifactsToRedeploy(domains);
+  private void redeployModifiedDomains(Set<String> modifiedArtifacts) {
+    Collection redeployableDomains = getArtifactsToRedeploy(domains, modifiedArtifacts);
     redeployModifiedArtifacts(redeployableDomains, domainTimestampListener, domainArchiveDeployer);
   }
 
-  private void redeployModifiedApplications() {
-    Collection redeployableApplications = getArtifactsToRedeploy(applications);
+  private void redeployModifiedApplications(Set<String> modifiedArtifacts) {
+    Collection redeployableApplications = getArtifactsToRedeploy(applications, modifiedArtifacts);
     redeployModifiedArtifacts(redeployableApplications, applicationTimestampListener, applicationArchiveDeployer);
   }
 
-  private <T extends DeployableArtifact> Collection getArtifactsToRedeploy(Collection<T> collection) {
-    return select(collection, object -> ((DeployableArtifact) object).getDescriptor().isRedeploymentEnabled());
+  private <T extends DeployableArtifact> Collection getArtifactsToRedeploy(Collection<T> collection,
+                                                                         Set<String> modifiedArtifacts) {
+    return select(collection, object -> ((DeployableArtifact) object).getDescriptor().isRedeploymentEnabled()
+        && (modifiedArtifacts == null || modifiedArtifacts.contains(((DeployableArtifact) object).getArtifactName())));
   }
 
   private <T extends Artifact> void redeployModifiedArtifacts(Collection<T> artifacts,
@@ -485,6 +572,14 @@ public class DeploymentDirectoryWatcher implements Runnable {
   private void stopAppDirMonitorTimer() {
     if (artifactDirMonitorTimer != null) {
       artifactDirMonitorTimer.shutdown();
+      if (changesWatcher != null) {
+        try {
+          // Wakes up the thread waiting for changes
+          changesWatcher.close();
+        } catch (IOException e) {
+          logger.warn("Error closing the watcher of the deployment directories", e);
+        }
+      }
       try {
         artifactDirMonitorTimer.awaitTermination(getChangesCheckIntervalMs(), MILLISECONDS);
       } catch (InterruptedException e) {
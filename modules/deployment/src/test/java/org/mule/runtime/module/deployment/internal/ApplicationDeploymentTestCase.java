@@ -347,6 +347,30 @@ public class ApplicationDeploymentTestCase extends AbstractDeploymentTestCase {
     assertApplicationFiles(emptyAppFileBuilder.getId(), new String[] {"empty-config.xml"});
   }
 
+  @Test
+  public void keepsAppFolderOnRedeployOfIdenticalZip() throws Exception {
+    startDeployment();
+
+    addPackedAppFromBuilder(emptyAppFileBuilder);
+
+    assertApplicationDeploymentSuccess(applicationDeploymentListener, emptyAppFileBuilder.getId());
+
+    // Not part of the archive, so it is only kept if the archive is not exploded again
+    File appFolder = new File(appsDir, emptyAppFileBuilder.getId());
+    File marker = new File(appFolder, "marker.txt");
+    assertTrue(marker.createNewFile());
+
+    reset(applicationDeploymentListener);
+
+    addPackedAppFromBuilder(emptyAppFileBuilder);
+
+    assertApplicationRedeploymentSuccess(emptyAppFileBuilder.getId());
+    assertThat(marker.exists(), is(true));
+
+    deploymentService.undeploy(emptyAppFileBuilder.getId());
+    assertThat(appFolder.exists(), is(false));
+  }
+
   @Test
   public void removesPreviousAppFolderOnStart() throws Exception {
     addExplodedAppFromBuilder(emptyAppFileBuilder);
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.readFileToString;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@SmallTest
+@RunWith(Parameterized.class)
+public class ArtifactArchiveExploderTestCase extends AbstractMuleTestCase {
+
+  @Parameters(name = "parallelism: {0}")
+  public static Collection<Object[]> parameters() {
+    return Arrays.asList(new Object[][] {{1}, {4}});
+  }
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ArtifactArchiveExploder exploder;
+  private final Map<String, String> entries = new LinkedHashMap<>();
+  private File artifactDir;
+
+  public ArtifactArchiveExploderTestCase(int parallelism) {
+    exploder = new ArtifactArchiveExploder(parallelism);
+  }
+
+  @Before
+  public void before() throws Exception {
+    artifactDir = new File(temporaryFolder.getRoot(), "app");
+    entries.put("mule-artifact.json", "{}");
+    entries.put("mule-config.xml", "<mule/>");
+    entries.put("lib/", null);
+    for (int i = 0; i < 10; ++i) {
+      entries.put("repository/lib" + i + ".jar", String.valueOf(i));
+    }
+  }
+
+  @Test
+  public void explodesArchive() throws Exception {
+    assertThat(exploder.explode(archive("app.jar"), artifactDir), is(true));
+    assertExploded();
+    assertThat(new File(artifactDir, "lib").isDirectory(), is(true));
+  }
+
+  @Test
+  public void skipsIdenticalArchive() throws Exception {
+    exploder.explode(archive("app.jar"), artifactDir);
+    assertThat(exploder.explode(archive("other.jar"), artifactDir), is(false));
+    assertExploded();
+  }
+
+  @Test
+  public void explodesChangedArchive() throws Exception {
+    exploder.explode(archive("app.jar"), artifactDir);
+    entries.remove("mule-config.xml");
+    entries.put("mule-artifact.json", "{\"name\": \"app\"}");
+
+    assertThat(exploder.explode(archive("other.jar"), artifactDir), is(true));
+    assertExploded();
+    assertThat(new File(artifactDir, "mule-config.xml").exists(), is(false));
+  }
+
+  @Test
+  public void explodesArchiveWithOtherEntryTimes() throws Exception {
+    exploder.explode(archive("app.jar"), artifactDir);
+
+    // Same names, sizes and CRCs, only the times of the entries differ
+    assertThat(exploder.explode(archive("other.jar", 0), artifactDir), is(true));
+    assertExploded();
+  }
+
+  @Test
+  public void explodesOverModifiedFiles() throws Exception {
+    exploder.explode(archive("app.jar"), artifactDir);
+    writeStringToFile(new File(artifactDir, "repository/lib3.jar"), "modified", UTF_8);
+
+    assertThat(exploder.explode(archive("app.jar"), artifactDir), is(true));
+    assertExploded();
+  }
+
+  @Test
+  public void explodesOverDeletedFiles() throws Exception {
+    exploder.explode(archive("app.jar"), artifactDir);
+    new File(artifactDir, "repository/lib3.jar").delete();
+
+    assertThat(exploder.explode(archive("app.jar"), artifactDir), is(true));
+    assertExploded();
+  }
+
+  private void assertExploded() throws IOException {
+    for (Map.Entry<String, String> entry : entries.entrySet()) {
+      if (entry.getValue() != null) {
+        assertThat(readFileToString(new File(artifactDir, entry.getKey()), UTF_8), is(entry.getValue()));
+      }
+    }
+  }
+
+  private File archive(String name) throws IOException {
+    return archive(name, -1);
+  }
+
+  private File archive(String name, long entryTime) throws IOException {
+    File archive = new File(temporaryFolder.getRoot(), name);
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        ZipEntry zipEntry = new ZipEntry(entry.getKey());
+        if (entryTime >= 0) {
+          zipEntry.setTime(entryTime);
+        }
+        out.putNextEntry(zipEntry);
+        if (entry.getValue() != null) {
+          out.write(entry.getValue().getBytes(UTF_8));
+        }
+        out.closeEntry();
+      }
+    }
+    return archive;
+  }
+}
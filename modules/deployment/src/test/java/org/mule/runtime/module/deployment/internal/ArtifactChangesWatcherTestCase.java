@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.writeStringToFile;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.deployment.model.api.application.Application;
+import org.mule.runtime.deployment.model.api.application.ApplicationDescriptor;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ArtifactChangesWatcherTestCase extends AbstractMuleTestCase {
+
+  private static final long TIMEOUT_MS = 10000;
+  private static final long DEBOUNCE_MS = 100;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File appsDir;
+  private File appDir;
+  private File configFile;
+  private Application application;
+  private ArtifactChangesWatcher watcher;
+
+  @Before
+  public void before() throws Exception {
+    appsDir = temporaryFolder.newFolder("apps");
+    appDir = new File(appsDir, "app");
+    configFile = new File(appDir, "mule-config.xml");
+    writeStringToFile(configFile, "<mule/>", UTF_8);
+
+    ApplicationDescriptor descriptor = new ApplicationDescriptor("app");
+    descriptor.setArtifactLocation(appDir);
+    application = mock(Application.class);
+    when(application.getArtifactName()).thenReturn("app");
+    when(application.getDescriptor()).thenReturn(descriptor);
+    when(application.getResourceFiles()).thenReturn(new File[] {configFile});
+
+    watcher = new ArtifactChangesWatcher(appsDir);
+  }
+
+  @After
+  public void after() throws Exception {
+    watcher.close();
+  }
+
+  @Test
+  public void noChanges() throws Exception {
+    watcher.watch(application);
+    assertThat(watcher.awaitChanges(DEBOUNCE_MS, DEBOUNCE_MS), nullValue());
+  }
+
+  @Test
+  public void changedResource() throws Exception {
+    watcher.watch(application);
+    writeStringToFile(configFile, "<mule></mule>", UTF_8);
+
+    assertThat(watcher.awaitChanges(TIMEOUT_MS, DEBOUNCE_MS), contains("app"));
+  }
+
+  @Test
+  public void unwatchedResource() throws Exception {
+    watcher.watch(application);
+    watcher.unwatch(application);
+    writeStringToFile(configFile, "<mule></mule>", UTF_8);
+
+    assertThat(watcher.awaitChanges(DEBOUNCE_MS, DEBOUNCE_MS), nullValue());
+  }
+
+  @Test
+  public void addedArtifact() throws Exception {
+    writeStringToFile(new File(appsDir, "other.jar"), "", UTF_8);
+
+    Set<String> changedArtifacts = watcher.awaitChanges(TIMEOUT_MS, DEBOUNCE_MS);
+    assertThat(changedArtifacts, hasItem("other"));
+  }
+}
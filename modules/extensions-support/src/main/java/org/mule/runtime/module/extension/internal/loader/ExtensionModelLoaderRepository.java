@@ -7,10 +7,16 @@
 
 package org.mule.runtime.module.extension.internal.loader;
 
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.deployment.model.api.plugin.LoaderDescriber;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Provides access to the {@link ExtensionModelLoader} available in the container.
@@ -27,4 +33,23 @@ public interface ExtensionModelLoaderRepository {
    */
   Optional<ExtensionModelLoader> getExtensionModelLoader(LoaderDescriber loaderDescriber);
 
+  /**
+   * Loads the {@link ExtensionModel} of a plugin. Implementations may return a model previously loaded for a plugin with the
+   * same coordinates and content instead of introspecting the plugin again.
+   *
+   * @param loader the {@link ExtensionModelLoader} for the {@code loaderDescriber}.
+   * @param loaderDescriber {@link LoaderDescriber} with the attributes for the loader.
+   * @param pluginDescriptor the descriptor of the plugin.
+   * @param pluginClassLoader the class loader of the plugin.
+   * @param dependencies the previously loaded {@link ExtensionModel}s available to the plugin.
+   * @return the {@link ExtensionModel} of the plugin.
+   * @since 4.2
+   */
+  default ExtensionModel loadExtensionModel(ExtensionModelLoader loader, LoaderDescriber loaderDescriber,
+                                            ArtifactPluginDescriptor pluginDescriptor, ArtifactClassLoader pluginClassLoader,
+                                            Set<ExtensionModel> dependencies) {
+    return loader.loadExtensionModel(pluginClassLoader.getClassLoader(), getDefault(dependencies),
+                                     loaderDescriber.getAttributes());
+  }
+
 }
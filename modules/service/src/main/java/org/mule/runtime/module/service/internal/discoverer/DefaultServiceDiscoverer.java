@@ -22,7 +22,7 @@ import java.util.List;
 /**
  * Default implementation of {@link ServiceDiscoverer}
  */
-public class DefaultServiceDiscoverer implements ServiceDiscoverer {
+public class DefaultServiceDiscoverer implements DependencyAwareServiceDiscoverer {
 
   private final ServiceResolver serviceResolver;
   private final ServiceProviderDiscoverer serviceProviderDiscoverer;
@@ -49,4 +49,10 @@ public class DefaultServiceDiscoverer implements ServiceDiscoverer {
     final List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders = serviceProviderDiscoverer.discover();
     return serviceResolver.resolveServices(serviceProviders);
   }
+
+  @Override
+  public List<ResolvedService> discoverServicesWithDependencies() throws ServiceResolutionError {
+    final List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders = serviceProviderDiscoverer.discover();
+    return serviceResolver.resolveServicesWithDependencies(serviceProviders);
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.service.internal.discoverer;
+
+import org.mule.runtime.module.service.api.discoverer.ServiceDiscoverer;
+import org.mule.runtime.module.service.api.discoverer.ServiceResolutionError;
+
+import java.util.List;
+
+/**
+ * Discovers the available services along with the dependencies among them, so the ones that don't depend on each other can be
+ * started concurrently.
+ *
+ * @since 4.2
+ */
+public interface DependencyAwareServiceDiscoverer extends ServiceDiscoverer {
+
+  /**
+   * Discover services.
+   *
+   * @return a non null list of the services available in the container with their dependencies, sorted as in
+   *         {@link #discoverServices()}.
+   * @throws ServiceResolutionError when a service cannot be properly resolved during the discovery process.
+   */
+  List<ResolvedService> discoverServicesWithDependencies() throws ServiceResolutionError;
+}
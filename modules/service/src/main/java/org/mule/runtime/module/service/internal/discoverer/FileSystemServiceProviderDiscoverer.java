@@ -7,8 +7,11 @@
 
 package org.mule.runtime.module.service.internal.discoverer;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
 import static java.util.Optional.empty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.commons.io.FilenameUtils.getBaseName;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
@@ -16,11 +19,13 @@ import static org.mule.runtime.container.api.MuleFoldersUtil.getServicesFolder;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getServicesTempFolder;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.mule.runtime.core.api.util.FileUtils.unzip;
+import static org.mule.runtime.module.service.internal.manager.MuleServiceManager.getStartupParallelism;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.service.ServiceProvider;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.container.api.MuleFoldersUtil;
 import org.mule.runtime.core.api.util.ClassUtils;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoaderFactory;
 import org.mule.runtime.module.artifact.api.descriptor.ClassLoaderModelLoader;
@@ -30,11 +35,16 @@ import org.mule.runtime.module.service.api.discoverer.ServiceProviderDiscoverer;
 import org.mule.runtime.module.service.api.discoverer.ServiceResolutionError;
 import org.mule.runtime.module.service.internal.artifact.ServiceDescriptor;
 import org.mule.runtime.module.service.internal.artifact.ServiceDescriptorFactory;
+import org.mule.runtime.module.service.internal.manager.MuleServiceManager;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.io.filefilter.SuffixFileFilter;
 
@@ -69,49 +79,78 @@ public class FileSystemServiceProviderDiscoverer implements ServiceProviderDisco
     this.artifactDescriptorValidatorBuilder = artifactDescriptorValidatorBuilder;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Service JAR files are expanded and their class loaders created concurrently, up to
+   * {@link MuleServiceManager#getStartupParallelism()} at a time. The returned providers keep the order of the JAR files.
+   */
   @Override
   public List<Pair<ArtifactClassLoader, ServiceProvider>> discover() throws ServiceResolutionError {
     final ServiceDescriptorFactory serviceDescriptorFactory =
         new ServiceDescriptorFactory(descriptorLoaderRepository, artifactDescriptorValidatorBuilder);
 
-    final List<ServiceDescriptor> serviceDescriptors = new LinkedList<>();
+    final String[] serviceFiles = getServicesFolder().list(new SuffixFileFilter(".jar"));
+    final List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders = new LinkedList<>();
+    if (serviceFiles.length == 0) {
+      return serviceProviders;
+    }
 
-    serviceDescriptors.addAll(getServiceDescriptors(serviceDescriptorFactory));
+    final ExecutorService executor = newFixedThreadPool(min(getStartupParallelism(), serviceFiles.length),
+                                                        new NamedThreadFactory("services-discovery"));
+    try {
+      final List<Future<Pair<ArtifactClassLoader, ServiceProvider>>> serviceProviderCreations = new ArrayList<>();
+      for (String serviceFile : serviceFiles) {
+        serviceProviderCreations.add(executor.submit(() -> createServiceProvider(serviceFile, serviceDescriptorFactory)));
+      }
 
-    return createServiceProviders(serviceDescriptors, serviceClassLoaderFactory);
+      for (Future<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviderCreation : serviceProviderCreations) {
+        serviceProviders.add(getServiceProvider(serviceProviderCreation));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return serviceProviders;
   }
 
-  private List<ServiceDescriptor> getServiceDescriptors(ServiceDescriptorFactory serviceDescriptorFactory)
+  private Pair<ArtifactClassLoader, ServiceProvider> createServiceProvider(String serviceFile,
+                                                                           ServiceDescriptorFactory serviceDescriptorFactory)
       throws ServiceResolutionError {
-    List<ServiceDescriptor> foundServices = new LinkedList<>();
-    for (String serviceFile : getServicesFolder().list(new SuffixFileFilter(".jar"))) {
-      final File tempFolder = new File(getServicesTempFolder(), getBaseName(serviceFile));
-      try {
-        unzip(new File(getServicesFolder(), serviceFile), tempFolder);
-      } catch (IOException e) {
-        throw new ServiceResolutionError("Error processing service JAR file", e);
-      }
-
-      final ServiceDescriptor serviceDescriptor = serviceDescriptorFactory.create(tempFolder, empty());
-      foundServices.add(serviceDescriptor);
+    final File tempFolder = new File(getServicesTempFolder(), getBaseName(serviceFile));
+    try {
+      unzip(new File(getServicesFolder(), serviceFile), tempFolder);
+    } catch (IOException e) {
+      throw new ServiceResolutionError("Error processing service JAR file", e);
     }
-    return foundServices;
+
+    final ServiceDescriptor serviceDescriptor = serviceDescriptorFactory.create(tempFolder, empty());
+    final ArtifactClassLoader serviceClassLoader =
+        serviceClassLoaderFactory.create(getServiceArtifactId(serviceDescriptor), serviceDescriptor,
+                                         apiClassLoader.getClassLoader(), apiClassLoader.getClassLoaderLookupPolicy());
+    final ServiceProvider serviceProvider =
+        instantiateServiceProvider(serviceClassLoader.getClassLoader(), serviceDescriptor.getServiceProviderClassName());
+
+    return new Pair<>(serviceClassLoader, serviceProvider);
   }
 
-  private List<Pair<ArtifactClassLoader, ServiceProvider>> createServiceProviders(List<ServiceDescriptor> serviceDescriptors,
-                                                                                  ArtifactClassLoaderFactory<ServiceDescriptor> serviceClassLoaderFactory)
+  private Pair<ArtifactClassLoader, ServiceProvider> getServiceProvider(Future<Pair<ArtifactClassLoader, ServiceProvider>> task)
       throws ServiceResolutionError {
-    List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders = new LinkedList<>();
-    for (ServiceDescriptor serviceDescriptor : serviceDescriptors) {
-      final ArtifactClassLoader serviceClassLoader =
-          serviceClassLoaderFactory.create(getServiceArtifactId(serviceDescriptor), serviceDescriptor,
-                                           apiClassLoader.getClassLoader(), apiClassLoader.getClassLoaderLookupPolicy());
-      final ServiceProvider serviceProvider =
-          instantiateServiceProvider(serviceClassLoader.getClassLoader(), serviceDescriptor.getServiceProviderClassName());
-
-      serviceProviders.add(new Pair<>(serviceClassLoader, serviceProvider));
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new ServiceResolutionError("Interrupted while discovering services", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof ServiceResolutionError) {
+        throw (ServiceResolutionError) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ServiceResolutionError("Error discovering services", cause);
     }
-    return serviceProviders;
   }
 
   private String getServiceArtifactId(ServiceDescriptor serviceDescriptor) {
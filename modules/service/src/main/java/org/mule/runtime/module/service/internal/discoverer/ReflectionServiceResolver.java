@@ -19,6 +19,7 @@ import org.mule.runtime.module.service.api.discoverer.ServiceResolutionError;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -36,6 +37,8 @@ import java.util.Set;
  * startup of the container.
  * <p/>
  * In case of a missing dependency, the resolution will fail and the container should not start.
+ * <p/>
+ * The services each resolved service depends on are the ones that were injected into its service provider.
  */
 public class ReflectionServiceResolver implements ServiceResolver {
 
@@ -54,10 +57,21 @@ public class ReflectionServiceResolver implements ServiceResolver {
   @Override
   public List<Pair<ArtifactClassLoader, Service>> resolveServices(List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders)
       throws ServiceResolutionError {
+    List<Pair<ArtifactClassLoader, Service>> servicePairs = new ArrayList<>();
+    for (ResolvedService resolvedService : resolveServicesWithDependencies(serviceProviders)) {
+      servicePairs.add(new Pair<>(resolvedService.getArtifactClassLoader(), resolvedService.getService()));
+    }
+    return servicePairs;
+  }
+
+  @Override
+  public List<ResolvedService> resolveServicesWithDependencies(List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders)
+      throws ServiceResolutionError {
     List<DependencyAwareServiceProvider> dependencyAwareServiceProviders =
         createDependencyAwareServiceProviders(serviceProviders);
 
     Map<Class<? extends Service>, Pair<ArtifactClassLoader, ServiceDefinition>> registeredServices = new LinkedHashMap<>();
+    Map<Class<? extends Service>, List<Service>> registeredServicesDependencies = new HashMap<>();
     List<DependencyAwareServiceProvider> unresolvedServiceProviders = new LinkedList<>(dependencyAwareServiceProviders);
     List<DependencyAwareServiceProvider> resolvedServiceProviders = new LinkedList<>();
 
@@ -73,9 +87,11 @@ public class ReflectionServiceResolver implements ServiceResolver {
             registeredServices.values().stream().map(pair -> pair.getSecond()).collect(toList());
         if (isResolvedService(dependencyAwareServiceProvider, serviceDefinitions)) {
           serviceProviderResolutionHelper.injectInstance(dependencyAwareServiceProvider.serviceProvider, serviceDefinitions);
+          List<Service> dependencies = findDependencies(dependencyAwareServiceProvider.dependencies, serviceDefinitions);
           for (ServiceDefinition serviceDefinition : dependencyAwareServiceProvider.providedServices()) {
             registeredServices.put(serviceDefinition.getServiceClass(),
                                    new Pair<>(dependencyAwareServiceProvider.getArtifactClassLoader(), serviceDefinition));
+            registeredServicesDependencies.put(serviceDefinition.getServiceClass(), dependencies);
           }
 
           resolvedServiceProviders.add(dependencyAwareServiceProvider);
@@ -99,11 +115,26 @@ public class ReflectionServiceResolver implements ServiceResolver {
       throw new ServiceResolutionError("Unable to resolve core service dependencies. Missing some of: " + dependencies);
     }
 
-    List<Pair<ArtifactClassLoader, Service>> servicePairs = new ArrayList<>();
+    List<ResolvedService> resolvedServices = new ArrayList<>();
     for (Pair<ArtifactClassLoader, ServiceDefinition> pair : registeredServices.values()) {
-      servicePairs.add(new Pair<>(pair.getFirst(), pair.getSecond().getService()));
+      ServiceDefinition serviceDefinition = pair.getSecond();
+      resolvedServices.add(new ResolvedService(pair.getFirst(), serviceDefinition.getService(),
+                                               registeredServicesDependencies.get(serviceDefinition.getServiceClass())));
     }
-    return servicePairs;
+    return resolvedServices;
+  }
+
+  private List<Service> findDependencies(List<Class<? extends Service>> dependencies,
+                                         Collection<ServiceDefinition> resolvedServices) {
+    List<Service> result = new ArrayList<>();
+    for (Class dependency : dependencies) {
+      for (ServiceDefinition registeredService : resolvedServices) {
+        if (registeredService.getServiceClass().isAssignableFrom(dependency)) {
+          result.add(registeredService.getService());
+        }
+      }
+    }
+    return result;
   }
 
   private List<DependencyAwareServiceProvider> createDependencyAwareServiceProviders(List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders) {
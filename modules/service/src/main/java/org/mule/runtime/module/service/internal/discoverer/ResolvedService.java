@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.service.internal.discoverer;
+
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.api.service.Service;
+import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
+
+import java.util.List;
+
+/**
+ * A {@link Service} resolved by a {@link ServiceResolver}, along with the services it depends on.
+ *
+ * @since 4.2
+ */
+public final class ResolvedService {
+
+  private final ArtifactClassLoader artifactClassLoader;
+  private final Service service;
+  private final List<Service> dependencies;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param artifactClassLoader the class loader of the service. Non null.
+   * @param service the resolved service. Non null.
+   * @param dependencies the services the resolved service depends on. Non null.
+   */
+  public ResolvedService(ArtifactClassLoader artifactClassLoader, Service service, List<Service> dependencies) {
+    this.artifactClassLoader = artifactClassLoader;
+    this.service = service;
+    this.dependencies = unmodifiableList(dependencies);
+  }
+
+  public ArtifactClassLoader getArtifactClassLoader() {
+    return artifactClassLoader;
+  }
+
+  public Service getService() {
+    return service;
+  }
+
+  /**
+   * @return the services that have to be started before the resolved service.
+   */
+  public List<Service> getDependencies() {
+    return dependencies;
+  }
+}
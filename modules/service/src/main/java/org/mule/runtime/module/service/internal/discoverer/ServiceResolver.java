@@ -14,6 +14,7 @@ import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.service.api.discoverer.ServiceResolutionError;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,4 +32,25 @@ public interface ServiceResolver {
    */
   List<Pair<ArtifactClassLoader, Service>> resolveServices(List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders)
       throws ServiceResolutionError;
+
+  /**
+   * Resolves the services instances provided by the given service providers, along with the services each of them depends on.
+   * <p>
+   * The default implementation doesn't know the actual dependencies, so each service depends on all the services located before
+   * it.
+   *
+   * @param serviceProviders service providers to be resolved. Non null.
+   * @return the resolved services, sorted as in {@link #resolveServices(List)}.
+   * @throws ServiceResolutionError
+   */
+  default List<ResolvedService> resolveServicesWithDependencies(List<Pair<ArtifactClassLoader, ServiceProvider>> serviceProviders)
+      throws ServiceResolutionError {
+    List<ResolvedService> resolvedServices = new ArrayList<>();
+    List<Service> previousServices = new ArrayList<>();
+    for (Pair<ArtifactClassLoader, Service> pair : resolveServices(serviceProviders)) {
+      resolvedServices.add(new ResolvedService(pair.getFirst(), pair.getSecond(), new ArrayList<>(previousServices)));
+      previousServices.add(pair.getSecond());
+    }
+    return resolvedServices;
+  }
 }
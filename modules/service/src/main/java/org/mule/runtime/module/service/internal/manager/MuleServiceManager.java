@@ -7,11 +7,21 @@
 
 package org.mule.runtime.module.service.internal.manager;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.System.currentTimeMillis;
 import static java.lang.Thread.currentThread;
+import static java.util.Collections.synchronizedMap;
 import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.container.api.MuleFoldersUtil.getServicesFolder;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.internal.logging.LogUtil.log;
 import static org.mule.runtime.module.service.internal.manager.LifecycleFilterServiceProxy.createLifecycleFilterServiceProxy;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -22,29 +32,49 @@ import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.service.Service;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.core.api.lifecycle.StartException;
-import org.mule.runtime.core.internal.logging.LogUtil;
-import org.mule.runtime.core.internal.util.splash.SplashScreen;
+import org.mule.runtime.core.api.util.concurrent.NamedThreadFactory;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.service.api.discoverer.ServiceDiscoverer;
+import org.mule.runtime.module.service.api.discoverer.ServiceResolutionError;
 import org.mule.runtime.module.service.api.manager.ServiceManager;
+import org.mule.runtime.module.service.internal.discoverer.DependencyAwareServiceDiscoverer;
+import org.mule.runtime.module.service.internal.discoverer.ResolvedService;
 
 import org.slf4j.Logger;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Service manager to use in the Mule container.
+ * <p>
+ * Services are started concurrently on a bounded pool, each one as soon as the services it depends on are started. When the
+ * {@link ServiceDiscoverer} doesn't provide the dependencies among the services, each service is started after the ones
+ * discovered before it. Services are stopped one at a time, in the reverse order of their discovery.
  */
 public class MuleServiceManager implements ServiceManager {
 
+  /**
+   * The maximum amount of services to start concurrently, and of service class loaders to create concurrently. Defaults to the
+   * amount of available processors.
+   */
+  public static final String SERVICES_STARTUP_PARALLELISM_PROPERTY = SYSTEM_PROPERTY_PREFIX + "services.startup.parallelism";
+
   private static final Logger logger = getLogger(MuleServiceManager.class);
 
   private final ServiceDiscoverer serviceDiscoverer;
+  private final int startupParallelism;
   private List<Pair<ArtifactClassLoader, Service>> registeredServices = new ArrayList<>();
   private List<Service> wrappedServices;
-  private List<Service> startedServices = new ArrayList<>();
+  private final Set<Service> startedServices = newKeySet();
 
   /**
    * Creates a new instance.
@@ -52,8 +82,28 @@ public class MuleServiceManager implements ServiceManager {
    * @param serviceDiscoverer container service discoverer. Non null.
    */
   public MuleServiceManager(ServiceDiscoverer serviceDiscoverer) {
+    this(serviceDiscoverer, getStartupParallelism());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param serviceDiscoverer container service discoverer. Non null.
+   * @param startupParallelism the maximum amount of services to start concurrently. Greater than 0.
+   */
+  public MuleServiceManager(ServiceDiscoverer serviceDiscoverer, int startupParallelism) {
     checkArgument(serviceDiscoverer != null, "serviceDiscoverer cannot be null");
+    checkArgument(startupParallelism > 0, "startupParallelism must be greater than 0");
     this.serviceDiscoverer = serviceDiscoverer;
+    this.startupParallelism = startupParallelism;
+  }
+
+  /**
+   * @return the maximum amount of services to start concurrently, as configured by
+   *         {@value #SERVICES_STARTUP_PARALLELISM_PROPERTY}.
+   */
+  public static int getStartupParallelism() {
+    return max(1, getInteger(SERVICES_STARTUP_PARALLELISM_PROPERTY, getRuntime().availableProcessors()));
   }
 
   @Override
@@ -64,15 +114,33 @@ public class MuleServiceManager implements ServiceManager {
     }
 
     try {
-      registeredServices = serviceDiscoverer.discoverServices();
+      List<ResolvedService> resolvedServices = discoverServices();
+      registeredServices = new ArrayList<>(resolvedServices.size());
+      for (ResolvedService resolvedService : resolvedServices) {
+        registeredServices.add(new Pair<>(resolvedService.getArtifactClassLoader(), resolvedService.getService()));
+      }
       wrappedServices = wrapServices(registeredServices);
 
-      startServices();
+      startServices(resolvedServices);
     } catch (Exception e) {
       throw new StartException(e, this);
     }
   }
 
+  private List<ResolvedService> discoverServices() throws ServiceResolutionError {
+    if (serviceDiscoverer instanceof DependencyAwareServiceDiscoverer) {
+      return ((DependencyAwareServiceDiscoverer) serviceDiscoverer).discoverServicesWithDependencies();
+    }
+
+    List<ResolvedService> resolvedServices = new ArrayList<>();
+    List<Service> previousServices = new ArrayList<>();
+    for (Pair<ArtifactClassLoader, Service> pair : serviceDiscoverer.discoverServices()) {
+      resolvedServices.add(new ResolvedService(pair.getFirst(), pair.getSecond(), new ArrayList<>(previousServices)));
+      previousServices.add(pair.getSecond());
+    }
+    return resolvedServices;
+  }
+
   private List<Service> wrapServices(List<Pair<ArtifactClassLoader, Service>> registeredServices) {
     final List<Service> result = new ArrayList<>(registeredServices.size());
     for (Pair<ArtifactClassLoader, Service> pair : registeredServices) {
@@ -83,25 +151,97 @@ public class MuleServiceManager implements ServiceManager {
     return unmodifiableList(result);
   }
 
-  private void startServices() throws MuleException {
-    for (Pair<ArtifactClassLoader, Service> pair : registeredServices) {
-      Service service = pair.getSecond();
-      if (service instanceof Startable) {
-        ClassLoader originalContextClassLoader = currentThread().getContextClassLoader();
+  private void startServices(List<ResolvedService> resolvedServices) throws Exception {
+    long startTime = currentTimeMillis();
+    Map<Service, Long> startupTimes = synchronizedMap(new IdentityHashMap<>());
+    Map<Service, CompletableFuture<Void>> startups = new LinkedHashMap<>();
+
+    ExecutorService executor = newFixedThreadPool(startupParallelism, new NamedThreadFactory("services-startup"));
+    try {
+      for (ResolvedService resolvedService : resolvedServices) {
+        Service service = resolvedService.getService();
+        CompletableFuture<Void> startup;
+        if (service instanceof Startable) {
+          startup = allOf(dependenciesStartups(resolvedService, startups))
+              .thenRunAsync(() -> startupTimes.put(service, startService(service)), executor);
+        } else {
+          // Services depending on this one still have to wait for the services it depends on
+          startup = allOf(dependenciesStartups(resolvedService, startups));
+        }
+        startups.put(service, startup);
+      }
+
+      // Wait for every startup to finish, even if some have failed, so no service is still starting when this returns
+      allOf(startups.values().toArray(new CompletableFuture[0])).handle((result, error) -> null).join();
+    } finally {
+      executor.shutdown();
+    }
+
+    for (CompletableFuture<Void> startup : startups.values()) {
+      if (startup.isCompletedExceptionally()) {
         try {
-          currentThread().setContextClassLoader(service.getClass().getClassLoader());
-          ((Startable) service).start();
+          startup.join();
+        } catch (CompletionException e) {
+          throw unwrap(e);
+        }
+      }
+    }
+
+    logStartup(resolvedServices, startupTimes, currentTimeMillis() - startTime);
+  }
 
-          startedServices.add(service);
+  private CompletableFuture<?>[] dependenciesStartups(ResolvedService resolvedService,
+                                                      Map<Service, CompletableFuture<Void>> startups) {
+    List<CompletableFuture<Void>> dependenciesStartups = new ArrayList<>();
+    for (Service dependency : resolvedService.getDependencies()) {
+      dependenciesStartups.add(startups.getOrDefault(dependency, completedFuture(null)));
+    }
+    return dependenciesStartups.toArray(new CompletableFuture[0]);
+  }
 
-          if (isNotEmpty(service.getSplashMessage())) {
-            log(new ServiceSplashScreen(service).toString());
-          }
-        } finally {
-          currentThread().setContextClassLoader(originalContextClassLoader);
+  private long startService(Service service) {
+    long startTime = currentTimeMillis();
+    ClassLoader originalContextClassLoader = currentThread().getContextClassLoader();
+    try {
+      currentThread().setContextClassLoader(service.getClass().getClassLoader());
+      ((Startable) service).start();
+
+      startedServices.add(service);
+    } catch (MuleException e) {
+      throw new CompletionException(e);
+    } finally {
+      currentThread().setContextClassLoader(originalContextClassLoader);
+    }
+    return currentTimeMillis() - startTime;
+  }
+
+  private Exception unwrap(CompletionException e) {
+    Throwable cause = e;
+    while (cause instanceof CompletionException && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return (Exception) cause;
+  }
+
+  private void logStartup(List<ResolvedService> resolvedServices, Map<Service, Long> startupTimes, long elapsedTime) {
+    Map<Service, Long> orderedStartupTimes = new LinkedHashMap<>();
+    for (ResolvedService resolvedService : resolvedServices) {
+      Service service = resolvedService.getService();
+      if (startupTimes.containsKey(service)) {
+        orderedStartupTimes.put(service, startupTimes.get(service));
+
+        if (isNotEmpty(service.getSplashMessage())) {
+          log(new ServiceSplashScreen(service).toString());
         }
       }
     }
+
+    if (!orderedStartupTimes.isEmpty()) {
+      log(new ServicesStartupSplashScreen(orderedStartupTimes, elapsedTime).toString());
+    }
   }
 
   @Override
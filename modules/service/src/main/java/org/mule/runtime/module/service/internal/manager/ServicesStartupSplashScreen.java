@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.service.internal.manager;
+
+import static java.lang.String.format;
+
+import org.mule.runtime.api.service.Service;
+import org.mule.runtime.core.internal.util.splash.SplashScreen;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Splash screen reporting how long it took to start each {@link Service} of the container.
+ *
+ * @since 4.2
+ */
+final class ServicesStartupSplashScreen extends SplashScreen {
+
+  ServicesStartupSplashScreen(Map<Service, Long> startupTimes, long elapsedTime) {
+    header.add(format("Started %d services in %d ms", startupTimes.size(), elapsedTime));
+
+    Map<String, String> items = new LinkedHashMap<>();
+    startupTimes.forEach((service, startupTime) -> items.put(service.getName(), format("%d ms", startupTime)));
+    listItems(items, "Startup time per service:");
+  }
+}
@@ -7,11 +7,15 @@
 
 package org.mule.runtime.module.service.internal.manager;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -25,6 +29,8 @@ import org.mule.runtime.api.service.Service;
 import org.mule.runtime.api.util.Pair;
 import org.mule.runtime.module.artifact.api.classloader.ArtifactClassLoader;
 import org.mule.runtime.module.service.api.discoverer.ServiceDiscoverer;
+import org.mule.runtime.module.service.internal.discoverer.DependencyAwareServiceDiscoverer;
+import org.mule.runtime.module.service.internal.discoverer.ResolvedService;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 
 import org.junit.Test;
@@ -33,6 +39,7 @@ import org.mockito.InOrder;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 public class MuleServiceManagerTestCase extends AbstractMuleTestCase {
 
@@ -72,6 +79,44 @@ public class MuleServiceManagerTestCase extends AbstractMuleTestCase {
     inOrder.verify((StartableService) service2.getSecond()).start();
   }
 
+  @Test
+  public void startsIndependentServicesConcurrently() throws Exception {
+    StartableService service1 = mock(StartableService.class);
+    StartableService service2 = mock(StartableService.class);
+    StartableService dependantService = mock(StartableService.class);
+
+    // Neither service finishes starting until both have begun to
+    CountDownLatch startingServices = new CountDownLatch(2);
+    doAnswer(invocation -> {
+      startingServices.countDown();
+      assertThat(startingServices.await(5, SECONDS), is(true));
+      return null;
+    }).when(service1).start();
+    doAnswer(invocation -> {
+      startingServices.countDown();
+      assertThat(startingServices.await(5, SECONDS), is(true));
+      return null;
+    }).when(service2).start();
+
+    final DependencyAwareServiceDiscoverer serviceDiscoverer = mock(DependencyAwareServiceDiscoverer.class);
+    when(serviceDiscoverer.discoverServicesWithDependencies())
+        .thenReturn(asList(new ResolvedService(mock(ArtifactClassLoader.class), service1, emptyList()),
+                           new ResolvedService(mock(ArtifactClassLoader.class), service2, emptyList()),
+                           new ResolvedService(mock(ArtifactClassLoader.class), dependantService,
+                                               asList(service1, service2))));
+
+    final MuleServiceManager muleServiceManager = new MuleServiceManager(serviceDiscoverer, 2);
+    muleServiceManager.start();
+
+    InOrder inOrder = inOrder(service1, dependantService);
+    inOrder.verify(service1).start();
+    inOrder.verify(dependantService).start();
+    inOrder = inOrder(service2, dependantService);
+    inOrder.verify(service2).start();
+    inOrder.verify(dependantService).start();
+    assertThat(muleServiceManager.getServices().size(), equalTo(3));
+  }
+
   @Test
   public void stopsOnlyStoppableServices() throws Exception {
     final ServiceDiscoverer serviceDiscoverer = mock(ServiceDiscoverer.class);
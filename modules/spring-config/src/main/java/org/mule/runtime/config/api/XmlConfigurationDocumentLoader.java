@@ -25,6 +25,7 @@ import java.util.Set;
 
 import org.springframework.beans.factory.xml.DelegatingEntityResolver;
 import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXParseException;
@@ -125,13 +126,28 @@ public final class XmlConfigurationDocumentLoader {
    * @see {@link DefaultXmlLoggerErrorHandler#getErrors()}
    */
   public Document loadDocument(Set<ExtensionModel> extensions, String filename, InputStream inputStream) {
+    return loadDocument(validationMode == VALIDATION_XSD ? new ModuleDelegatingEntityResolver(extensions)
+        : new DelegatingEntityResolver(currentThread().getContextClassLoader()), filename, inputStream);
+  }
+
+  /**
+   * Creates a {@link Document} from an {@link InputStream} with the required configuration of a mule configuration file parsing,
+   * resolving the schemas it references through the given {@link EntityResolver}.
+   *
+   * @param entityResolver resolves the schemas referenced by the current {@code inputStream}.
+   * @param filename name of the file to display a better error messages (if there are any). Non null.
+   * @param inputStream the input stream with the XML configuration content.
+   * @return a new {@link Document} object with the provided content.
+   * @throws MuleRuntimeException if an error occurs in {@link org.springframework.beans.factory.xml.DocumentLoader} factory, or
+   *         if the current {@code filename} contains 1 or more errors.
+   * @since 4.2
+   */
+  public Document loadDocument(EntityResolver entityResolver, String filename, InputStream inputStream) {
     final XmlGathererErrorHandler errorHandler = createXmlGathererErrorHandler();
     Document document;
     try {
       document = new MuleDocumentLoader()
-          .loadDocument(new InputSource(inputStream),
-                        validationMode == VALIDATION_XSD ? new ModuleDelegatingEntityResolver(extensions)
-                            : new DelegatingEntityResolver(currentThread().getContextClassLoader()),
+          .loadDocument(new InputSource(inputStream), entityResolver,
                         errorHandler == null ? new DefaultHandler() : errorHandler,
                         validationMode, true);
     } catch (Exception e) {
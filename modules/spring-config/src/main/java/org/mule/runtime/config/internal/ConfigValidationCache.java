@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.config.api.XmlConfigurationDocumentLoader.noValidationDocumentLoader;
+import static org.mule.runtime.config.api.XmlConfigurationDocumentLoader.schemaValidatingDocumentLoader;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.config.api.XmlConfigurationDocumentLoader;
+import org.mule.runtime.core.api.config.MuleManifest;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Remembers, in a directory that outlives the artifact, which configuration files have already passed the XML schema
+ * validation, so the errors of the validation are not gathered again when the artifact is redeployed or restarted without
+ * changes.
+ * <p>
+ * The key of each entry is a hash of the content of the file, the name and version of every extension available to the artifact
+ * and the version of the runtime. Each entry records a hash of every schema resolved while validating the file, whatever its
+ * source (the runtime, an extension, or the artifact itself). An entry is only used if those schemas still resolve to the same
+ * content, in which case the file is parsed without validation, as when XML validations are disabled. Otherwise the file is
+ * validated again. The hash of each schema is only computed once per cache. Placeholders are resolved after validation, so the
+ * configuration properties are not part of the key.
+ *
+ * @since 4.2
+ */
+public class ConfigValidationCache {
+
+  private static final Logger LOGGER = getLogger(ConfigValidationCache.class);
+  private static final String SCHEMA_SEPARATOR = " ";
+
+  private final File directory;
+  private final XmlConfigurationDocumentLoader validatingDocumentLoader = schemaValidatingDocumentLoader();
+  private final XmlConfigurationDocumentLoader nonValidatingDocumentLoader = noValidationDocumentLoader();
+  private final Map<String, String> schemaHashes = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Creates a new cache.
+   *
+   * @param directory where to keep the entries of the cache.
+   */
+  public ConfigValidationCache(File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Parses a configuration file, gathering its validation errors only if it did not pass the validation before with the same
+   * schemas.
+   *
+   * @param extensions the extensions available to the artifact the file belongs to.
+   * @param fileName the name of the file.
+   * @param content the content of the file.
+   * @return the parsed document.
+   * @throws MuleRuntimeException if the file has validation errors.
+   */
+  public Document loadDocument(Set<ExtensionModel> extensions, String fileName, byte[] content) {
+    String key = getKey(content, extensions);
+    Optional<Map<String, String>> validatedSchemas = getValidatedSchemas(key);
+    if (validatedSchemas.isPresent()) {
+      EntityResolver entityResolver = new ModuleDelegatingEntityResolver(extensions);
+      if (getSchemas(entityResolver, validatedSchemas.get().keySet()).equals(validatedSchemas.get())) {
+        hits.incrementAndGet();
+        return nonValidatingDocumentLoader.loadDocument(entityResolver, fileName, new ByteArrayInputStream(content));
+      }
+      LOGGER.debug("The schemas used by configuration file '{}' changed since it was validated", fileName);
+    }
+
+    misses.incrementAndGet();
+    SchemaRecordingEntityResolver entityResolver =
+        new SchemaRecordingEntityResolver(new ModuleDelegatingEntityResolver(extensions));
+    Document document = validatingDocumentLoader.loadDocument(entityResolver, fileName, new ByteArrayInputStream(content));
+    schemaHashes.putAll(entityResolver.getSchemas());
+    markValidated(key, entityResolver.getSchemas());
+    return document;
+  }
+
+  private Map<String, String> getSchemas(EntityResolver entityResolver, Set<String> systemIds) {
+    Map<String, String> schemas = new TreeMap<>();
+    for (String systemId : systemIds) {
+      String hash = schemaHashes.get(systemId);
+      if (hash == null) {
+        SchemaRecordingEntityResolver schemaResolver = new SchemaRecordingEntityResolver(entityResolver);
+        try {
+          schemaResolver.resolveEntity(null, systemId);
+        } catch (SAXException | IOException e) {
+          LOGGER.debug("Could not resolve schema " + systemId, e);
+        }
+        hash = schemaResolver.getSchemas().get(systemId);
+        if (hash == null) {
+          continue;
+        }
+        schemaHashes.put(systemId, hash);
+      }
+      schemas.put(systemId, hash);
+    }
+    return schemas;
+  }
+
+  /**
+   * @param content the content of a configuration file.
+   * @param extensions the extensions available to the artifact the file belongs to.
+   * @return the key of the file in this cache.
+   */
+  public String getKey(byte[] content, Set<ExtensionModel> extensions) {
+    MessageDigest digest = newDigest();
+    digest.update(content);
+    Set<String> extensionVersions = new TreeSet<>();
+    for (ExtensionModel extension : extensions) {
+      extensionVersions.add(extension.getName() + ":" + extension.getVersion());
+    }
+    for (String extensionVersion : extensionVersions) {
+      digest.update(extensionVersion.getBytes(UTF_8));
+    }
+    String runtimeVersion = MuleManifest.getProductVersion();
+    if (runtimeVersion != null) {
+      digest.update(runtimeVersion.getBytes(UTF_8));
+    }
+    return toHex(digest.digest());
+  }
+
+  /**
+   * @param key the key of a configuration file, as returned by {@link #getKey(byte[], Set)}.
+   * @return the hash of each schema, by system id, resolved when the file was validated, or {@link Optional#empty()} if it was
+   *         not validated.
+   */
+  public Optional<Map<String, String>> getValidatedSchemas(String key) {
+    File entry = new File(directory, key);
+    if (!entry.exists()) {
+      return Optional.empty();
+    }
+
+    try {
+      Map<String, String> schemas = new TreeMap<>();
+      for (String line : Files.readAllLines(entry.toPath(), UTF_8)) {
+        int separator = line.indexOf(SCHEMA_SEPARATOR);
+        if (separator > 0) {
+          schemas.put(line.substring(separator + 1), line.substring(0, separator));
+        }
+      }
+      return Optional.of(schemas);
+    } catch (IOException e) {
+      LOGGER.warn("Could not read configuration validation cache entry " + entry.getAbsolutePath(), e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Records that a configuration file passed the validation. Failing to do so is not an error, it just means the file will be
+   * validated again the next time.
+   *
+   * @param key the key of the file, as returned by {@link #getKey(byte[], Set)}.
+   * @param schemas the hash of each schema, by system id, resolved when the file was validated.
+   */
+  public void markValidated(String key, Map<String, String> schemas) {
+    List<String> lines = new ArrayList<>();
+    schemas.forEach((systemId, hash) -> lines.add(hash + SCHEMA_SEPARATOR + systemId));
+    try {
+      if (directory.exists() || directory.mkdirs()) {
+        Files.write(new File(directory, key).toPath(), lines, UTF_8);
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not write configuration validation cache entry in " + directory.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * @return the amount of configuration files whose validation errors were not gathered.
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the amount of configuration files that had to be validated.
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
+  }
+
+  /**
+   * {@link EntityResolver} that keeps a hash of the content of every schema it resolves.
+   */
+  private static final class SchemaRecordingEntityResolver implements EntityResolver {
+
+    private final EntityResolver delegate;
+    private final SortedMap<String, String> schemas = new TreeMap<>();
+
+    private SchemaRecordingEntityResolver(EntityResolver delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public InputSource resolveEntity(String publicId, String systemId) throws SAXException, IOException {
+      InputSource inputSource = delegate.resolveEntity(publicId, systemId);
+      if (inputSource == null || systemId == null) {
+        return inputSource;
+      }
+
+      byte[] schema;
+      if (inputSource.getByteStream() != null) {
+        schema = IOUtils.toByteArray(inputSource.getByteStream());
+      } else if (inputSource.getCharacterStream() != null) {
+        schema = IOUtils.toString(inputSource.getCharacterStream()).getBytes(UTF_8);
+        inputSource.setCharacterStream(null);
+        inputSource.setEncoding(UTF_8.name());
+      } else {
+        // Resolved by the parser itself from the system id, which is expected not to change
+        schemas.put(systemId, String.valueOf(inputSource.getSystemId()));
+        return inputSource;
+      }
+
+      schemas.put(systemId, toHex(newDigest().digest(schema)));
+      inputSource.setByteStream(new ByteArrayInputStream(schema));
+      return inputSource;
+    }
+
+    private Map<String, String> getSchemas() {
+      return schemas;
+    }
+  }
+}
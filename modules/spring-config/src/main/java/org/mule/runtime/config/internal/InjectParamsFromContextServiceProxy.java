@@ -12,6 +12,7 @@ import static java.lang.reflect.Modifier.isPublic;
 import static java.lang.reflect.Proxy.newProxyInstance;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.deepEquals;
+import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.core.api.util.ClassUtils.findImplementedInterfaces;
 
@@ -28,12 +29,19 @@ import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
 /**
  * Proxies a {@link Service} instance to automatically {@link Inject} parameters for invocations of implementation methods.
+ * <p>
+ * The implementation method to invoke for each method of the service is resolved on its first invocation and reused afterwards.
+ * Methods without an injectable implementation are only resolved again while an implementation that could be injectable exists
+ * but the registry doesn't have the objects to inject in it yet.
  *
  * @since 4.0
  */
@@ -45,6 +53,7 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
       "No object found in the registry for parameter '%s' of method '%s' in service '%s'";
 
   private final Registry registry;
+  private final Map<Method, Optional<Method>> injectableMethods = new ConcurrentHashMap<>();
 
   /**
    * Creates a new proxy for the provided service instance.
@@ -60,15 +69,17 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    Method injectable = resolveInjectableMethod(method);
+    Optional<Method> cachedInjectable = injectableMethods.get(method);
+    Method injectable = cachedInjectable != null ? cachedInjectable.orElse(null) : resolveAndCacheInjectableMethod(method);
 
     if (injectable == null) {
       return doInvoke(proxy, method, args);
     } else {
       final List<Object> augmentedArgs = args == null ? new ArrayList<>() : new ArrayList<>(asList(args));
 
-      for (int i = method.getParameters().length; i < injectable.getParameters().length; ++i) {
-        final Parameter parameter = injectable.getParameters()[i];
+      final Parameter[] parameters = injectable.getParameters();
+      for (int i = method.getParameterCount(); i < parameters.length; ++i) {
+        final Parameter parameter = parameters[i];
         Object arg;
         if (parameter.isAnnotationPresent(Named.class)) {
           arg = registry.lookupByName(parameter.getAnnotation(Named.class).value())
@@ -86,14 +97,36 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
     }
   }
 
+  private Method resolveAndCacheInjectableMethod(Method method) {
+    Method injectable = resolveInjectableMethod(method);
+    if (injectable != null || !hasInjectableCandidates(method)) {
+      injectableMethods.put(method, ofNullable(injectable));
+    }
+    return injectable;
+  }
+
+  private boolean hasInjectableCandidates(Method method) {
+    for (Method serviceImplMethod : getImplementationDeclaredMethods()) {
+      if (isInjectableCandidate(method, serviceImplMethod)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isInjectableCandidate(Method method, Method serviceImplMethod) {
+    return isPublic(serviceImplMethod.getModifiers())
+        && serviceImplMethod.getName().equals(method.getName())
+        && serviceImplMethod.getAnnotationsByType(Inject.class).length > 0
+        && equivalentParams(method.getParameters(), serviceImplMethod.getParameters());
+  }
+
   private Method resolveInjectableMethod(Method method) {
     Method candidate = null;
 
     for (Method serviceImplMethod : getImplementationDeclaredMethods()) {
-      if (isPublic(serviceImplMethod.getModifiers())
-          && serviceImplMethod.getName().equals(method.getName())
-          && serviceImplMethod.getAnnotationsByType(Inject.class).length > 0
-          && equivalentParams(method.getParameters(), serviceImplMethod.getParameters())) {
+      if (isInjectableCandidate(method, serviceImplMethod)
+          && injectableParams(method.getParameters(), serviceImplMethod.getParameters())) {
         if (candidate != null
             && !(candidate.getName().equals(serviceImplMethod.getName())
                 && deepEquals(candidate.getParameterTypes(), serviceImplMethod.getParameterTypes()))) {
@@ -107,6 +140,10 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
   }
 
   private boolean equivalentParams(Parameter[] invocationParams, Parameter[] serviceImplParams) {
+    if (serviceImplParams.length < invocationParams.length) {
+      return false;
+    }
+
     int i = 0;
     for (Parameter invocationParam : invocationParams) {
       if (!serviceImplParams[i].getType().equals(invocationParam.getType())) {
@@ -115,8 +152,12 @@ public class InjectParamsFromContextServiceProxy extends MetadataInvocationHandl
       ++i;
     }
 
+    return true;
+  }
+
+  private boolean injectableParams(Parameter[] invocationParams, Parameter[] serviceImplParams) {
     // Check that the remaining parameters are injectable
-    for (int j = i; j < serviceImplParams.length; ++j) {
+    for (int j = invocationParams.length; j < serviceImplParams.length; ++j) {
       if (!serviceImplParams[j].isAnnotationPresent(Named.class)
           && registry.lookupAllByType(serviceImplParams[j].getType()).isEmpty()) {
         return false;
@@ -6,13 +6,17 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Boolean.parseBoolean;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.mule.runtime.api.component.AbstractComponent.ROOT_CONTAINER_NAME_KEY;
@@ -22,17 +26,22 @@ import static org.mule.runtime.api.util.Preconditions.checkState;
 import static org.mule.runtime.config.api.XmlConfigurationDocumentLoader.noValidationDocumentLoader;
 import static org.mule.runtime.config.api.XmlConfigurationDocumentLoader.schemaValidatingDocumentLoader;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.CONFIGURATION_IDENTIFIER;
+import static org.mule.runtime.config.api.dsl.CoreDslConstants.FLOW_IDENTIFIER;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.IMPORT_ELEMENT;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.MULE_DOMAIN_IDENTIFIER;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.MULE_EE_DOMAIN_IDENTIFIER;
 import static org.mule.runtime.config.api.dsl.CoreDslConstants.MULE_IDENTIFIER;
 import static org.mule.runtime.config.internal.dsl.spring.BeanDefinitionFactory.SPRING_SINGLETON_OBJECT;
+import static org.mule.runtime.config.internal.dsl.spring.ComponentModelHelper.isMessageSource;
 import static org.mule.runtime.config.internal.dsl.spring.ComponentModelHelper.updateAnnotationValue;
 import static org.mule.runtime.config.internal.parsers.generic.AutoIdUtils.uniqueValue;
 import static org.mule.runtime.config.internal.util.ComponentBuildingDefinitionUtils.registerComponentBuildingDefinitions;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_INIT_DEPLOYMENT_PROPERTY;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_REGISTRY;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.APP;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.DOMAIN;
 import static org.mule.runtime.core.api.config.bootstrap.ArtifactType.POLICY;
@@ -71,6 +80,7 @@ import org.mule.runtime.config.internal.model.ApplicationModel;
 import org.mule.runtime.config.internal.model.ComponentModel;
 import org.mule.runtime.config.internal.processor.ComponentLocatorCreatePostProcessor;
 import org.mule.runtime.config.internal.processor.DiscardedOptionalBeanPostProcessor;
+import org.mule.runtime.config.internal.processor.LazyFlowLifecyclePostProcessor;
 import org.mule.runtime.config.internal.processor.LifecycleStatePostProcessor;
 import org.mule.runtime.config.internal.processor.MuleInjectorProcessor;
 import org.mule.runtime.config.internal.processor.PostRegistrationActionsPostProcessor;
@@ -91,14 +101,18 @@ import org.mule.runtime.core.internal.registry.TransformerResolver;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -135,12 +149,24 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
 
   public static final String INNER_BEAN_PREFIX = "(inner bean)";
 
+  /**
+   * System property that enables skipping the XML schema validation of configuration files that already passed it in a previous
+   * deployment of the artifact. See {@link ConfigValidationCache}.
+   */
+  public static final String CONFIG_VALIDATION_CACHE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "config.validationCache";
+  private static final String CONFIG_VALIDATION_CACHE_FOLDER = "config-validation-cache";
+
+  private final boolean lazyFlows;
+  private final Set<String> lazyFlowNames = new LinkedHashSet<>();
+  private LazyFlowLifecyclePostProcessor lazyFlowLifecyclePostProcessor;
+
   protected final ComponentBuildingDefinitionRegistry componentBuildingDefinitionRegistry =
       new ComponentBuildingDefinitionRegistry();
   private final OptionalObjectsController optionalObjectsController;
   private final Map<String, String> artifactProperties;
   private final ArtifactDeclaration artifactDeclaration;
   private final XmlConfigurationDocumentLoader xmlConfigurationDocumentLoader;
+  private final ConfigValidationCache configValidationCache;
   private final Optional<ConfigurationProperties> parentConfigurationProperties;
   private final DefaultRegistry serviceDiscoverer;
   private final ConfigurationDependencyResolver dependencyResolver;
@@ -159,6 +185,11 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     } catch (NoSuchBeanDefinitionException e) {
       return false;
     }
+  }, () -> getDeferredFlowNames(), flowName -> {
+    // Components within a flow being created may look for it before it is complete
+    if (!getBeanFactory().isCurrentlyInCreation(flowName)) {
+      getBean(flowName);
+    }
   });
   protected List<ConfigurableObjectProvider> objectProviders = new ArrayList<>();
 
@@ -198,9 +229,14 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     this.optionalObjectsController = optionalObjectsController;
     this.artifactProperties = artifactProperties;
     this.artifactType = artifactType;
+    this.lazyFlows = isLazyFlowsEnabled(muleContext, artifactProperties, artifactType);
     this.artifactDeclaration = artifactDeclaration;
     this.parentConfigurationProperties = parentConfigurationProperties;
     this.xmlConfigurationDocumentLoader = disableXmlValidations ? noValidationDocumentLoader() : schemaValidatingDocumentLoader();
+    this.configValidationCache = !disableXmlValidations && getBoolean(CONFIG_VALIDATION_CACHE_PROPERTY)
+        ? new ConfigValidationCache(new File(muleContext.getConfiguration().getWorkingDirectory(),
+                                             CONFIG_VALIDATION_CACHE_FOLDER))
+        : null;
     this.serviceDiscoverer = new DefaultRegistry(muleContext);
 
     registerComponentBuildingDefinitions(serviceRegistry, MuleArtifactContext.class.getClassLoader(),
@@ -226,6 +262,17 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     this.dependencyResolver = new ConfigurationDependencyResolver(applicationModel, componentBuildingDefinitionRegistry);
   }
 
+  private static boolean isLazyFlowsEnabled(MuleContext muleContext, Map<String, String> artifactProperties,
+                                            ArtifactType artifactType) {
+    // Lazy init contexts already create every component on demand
+    if (!artifactType.equals(APP) || parseBoolean(artifactProperties.get(MULE_LAZY_INIT_DEPLOYMENT_PROPERTY))) {
+      return false;
+    }
+    Properties deploymentProperties = muleContext.getDeploymentProperties();
+    return deploymentProperties != null
+        && parseBoolean(deploymentProperties.getProperty(MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY));
+  }
+
   private static Optional<Set<ExtensionModel>> getExtensionModels(ExtensionManager extensionManager) {
     return ofNullable(extensionManager == null ? null
         : extensionManager.getExtensions());
@@ -250,7 +297,15 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
 
   private void createApplicationModel() {
     try {
+      long startTime = nanoTime();
       ArtifactConfig artifactConfig = resolveArtifactConfig();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Parsed configuration of '{}' in {} ms{}", muleContext.getConfiguration().getId(),
+                     NANOSECONDS.toMillis(nanoTime() - startTime),
+                     configValidationCache == null ? ""
+                         : format(" (validation cache hits: %d, misses: %d)", configValidationCache.getHits(),
+                                  configValidationCache.getMisses()));
+      }
       Set<ExtensionModel> extensions =
           muleContext.getExtensionManager() != null ? muleContext.getExtensionManager().getExtensions() : emptySet();
       ResourceProvider externalResourceProvider = new ClassLoaderResourceProvider(muleContext.getExecutionClassLoader());
@@ -293,11 +348,10 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
         .filter(fileNameInputStreamPair -> !alreadyResolvedConfigFiles.stream()
             .anyMatch(configFile -> configFile.getFilename().equals(fileNameInputStreamPair.getFirst())))
         .forEach(fileNameInputStreamPair -> {
-          Document document =
-              xmlConfigurationDocumentLoader.loadDocument(muleContext.getExtensionManager() == null ? emptySet()
-                  : muleContext.getExtensionManager().getExtensions(),
-                                                          fileNameInputStreamPair.getFirst(),
-                                                          fileNameInputStreamPair.getSecond());
+          Document document = loadDocument(muleContext.getExtensionManager() == null ? emptySet()
+              : muleContext.getExtensionManager().getExtensions(),
+                                           fileNameInputStreamPair.getFirst(),
+                                           fileNameInputStreamPair.getSecond());
           ConfigLine mainConfigLine = xmlApplicationParser.parse(document.getDocumentElement()).get();
           ConfigFile configFile = new ConfigFile(fileNameInputStreamPair.getFirst(), asList(mainConfigLine));
           resolvedConfigFilesBuilder.add(configFile);
@@ -350,6 +404,14 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     return recursivelyResolveConfigFiles(newConfigFilesToResolved, resolvedConfigFilesBuilder.build());
   }
 
+  private Document loadDocument(Set<ExtensionModel> extensions, String fileName, InputStream inputStream) {
+    if (configValidationCache == null) {
+      return xmlConfigurationDocumentLoader.loadDocument(extensions, fileName, inputStream);
+    }
+
+    return configValidationCache.loadDocument(extensions, fileName, IOUtils.toByteArray(inputStream));
+  }
+
   @Override
   protected void prepareBeanFactory(ConfigurableListableBeanFactory beanFactory) {
     super.prepareBeanFactory(beanFactory);
@@ -366,6 +428,10 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
                                                                  (DefaultListableBeanFactory) beanFactory),
                           new LifecycleStatePostProcessor(muleContext.getLifecycleManager().getState()),
                           new ComponentLocatorCreatePostProcessor(componentLocator));
+    if (lazyFlows) {
+      lazyFlowLifecyclePostProcessor = new LazyFlowLifecyclePostProcessor(muleContext, lazyFlowNames);
+      addBeanPostProcessors(beanFactory, lazyFlowLifecyclePostProcessor);
+    }
 
     beanFactory.registerSingleton(OBJECT_MULE_CONTEXT, muleContext);
 
@@ -503,6 +569,10 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
                                                  nameAttribute = uniqueValue(resolvedSpringComponentModel.getBeanDefinition()
                                                      .getBeanClassName());
                                                }
+                                               if (lazyFlows && isLazyFlow(resolvedComponentModel)) {
+                                                 resolvedSpringComponentModel.getBeanDefinition().setLazyInit(true);
+                                                 lazyFlowNames.add(nameAttribute);
+                                               }
                                                registry.registerBeanDefinition(nameAttribute,
                                                                                resolvedSpringComponentModel.getBeanDefinition());
                                                postProcessBeanDefinition(componentModel, registry, nameAttribute);
@@ -542,6 +612,33 @@ public class MuleArtifactContext extends AbstractRefreshableConfigApplicationCon
     return createdComponentModels;
   }
 
+  /**
+   * Flows without a message source only run when referenced, so their creation may be deferred until then.
+   */
+  private static boolean isLazyFlow(ComponentModel componentModel) {
+    return FLOW_IDENTIFIER.equals(componentModel.getIdentifier())
+        && componentModel.getInnerComponents().stream().noneMatch(innerComponent -> isMessageSource(innerComponent));
+  }
+
+  @Override
+  protected void finishRefresh() {
+    super.finishRefresh();
+    if (lazyFlows) {
+      Set<String> deferredFlowNames = getDeferredFlowNames();
+      LOGGER.info("Deferred the creation of {} of {} flows without a source until their first reference: {}",
+                  deferredFlowNames.size(), lazyFlowNames.size(), new TreeSet<>(deferredFlowNames));
+    }
+  }
+
+  /**
+   * @return the names of the flows which creation was deferred until their first reference and have not been created yet. Only
+   *         populated when the application is deployed with
+   *         {@link org.mule.runtime.core.api.config.MuleDeploymentProperties#MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY}.
+   */
+  public Set<String> getDeferredFlowNames() {
+    return lazyFlowLifecyclePostProcessor != null ? lazyFlowLifecyclePostProcessor.getPendingFlowNames() : emptySet();
+  }
+
   /**
    * @return a resolver for dependencies between configuration objects
    */
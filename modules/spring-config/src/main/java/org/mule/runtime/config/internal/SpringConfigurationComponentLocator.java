@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.internal;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
@@ -19,14 +20,15 @@ import org.mule.runtime.api.component.location.ConfigurationComponentLocator;
 import org.mule.runtime.api.component.location.Location;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Spring implementation of {@link ConfigurationComponentLocator}.
@@ -36,11 +38,32 @@ import java.util.function.Function;
 public class SpringConfigurationComponentLocator implements ConfigurationComponentLocator {
 
   private final Function<String, Boolean> isTemplateLocationFunction;
-  private final Map<String, Component> componentsMap = new HashMap<>();
+  private final Supplier<Set<String>> deferredComponentNamesSupplier;
+  private final Consumer<String> deferredComponentInitializer;
+  // Lazily created flows are added while the artifact is running
+  private final Map<String, Component> componentsMap = new ConcurrentHashMap<>();
   private final Set<ComponentLocation> componentLocations = new HashSet<>();
 
   public SpringConfigurationComponentLocator(Function<String, Boolean> isTemplateComponentFunction) {
+    this(isTemplateComponentFunction, () -> emptySet(), name -> {
+    });
+  }
+
+  /**
+   * Creates a locator that creates the global components which creation was deferred when they are looked for.
+   *
+   * @param isTemplateComponentFunction whether the global component with a given name is a template.
+   * @param deferredComponentNamesSupplier the names of the global components which creation was deferred and have not been
+   *        created yet.
+   * @param deferredComponentInitializer creates the deferred global component with a given name, which is expected to be added
+   *        to this locator when created.
+   */
+  public SpringConfigurationComponentLocator(Function<String, Boolean> isTemplateComponentFunction,
+                                             Supplier<Set<String>> deferredComponentNamesSupplier,
+                                             Consumer<String> deferredComponentInitializer) {
     this.isTemplateLocationFunction = memoize(isTemplateComponentFunction, new ConcurrentHashMap<>());
+    this.deferredComponentNamesSupplier = deferredComponentNamesSupplier;
+    this.deferredComponentInitializer = deferredComponentInitializer;
   }
 
   /**
@@ -81,7 +104,12 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
     if (isTemplateLocationFunction.apply(location.getGlobalName())) {
       return empty();
     }
-    return ofNullable(componentsMap.get(location.toString()));
+    Component component = componentsMap.get(location.toString());
+    if (component == null && deferredComponentNamesSupplier.get().contains(location.getGlobalName())) {
+      deferredComponentInitializer.accept(location.getGlobalName());
+      component = componentsMap.get(location.toString());
+    }
+    return ofNullable(component);
   }
 
   /**
@@ -89,6 +117,8 @@ public class SpringConfigurationComponentLocator implements ConfigurationCompone
    */
   @Override
   public List<Component> find(ComponentIdentifier componentIdentifier) {
+    // The components within a deferred global component are not known until it is created
+    new ArrayList<>(deferredComponentNamesSupplier.get()).forEach(deferredComponentInitializer);
     return componentsMap.values().stream()
         .filter(component -> component.getLocation().getComponentIdentifier().getIdentifier().equals(componentIdentifier))
         .collect(toList());
@@ -171,6 +171,7 @@ import org.mule.runtime.core.internal.security.SecretKeyEncryptionStrategy;
 import org.mule.runtime.core.internal.security.UsernamePasswordAuthenticationFilter;
 import org.mule.runtime.core.internal.security.filter.MuleEncryptionEndpointSecurityFilter;
 import org.mule.runtime.core.internal.source.scheduler.DefaultSchedulerMessageSource;
+import org.mule.runtime.core.internal.source.scheduler.OverrunPolicy;
 import org.mule.runtime.core.internal.transformer.codec.XmlEntityDecoder;
 import org.mule.runtime.core.internal.transformer.codec.XmlEntityEncoder;
 import org.mule.runtime.core.internal.transformer.compression.GZipCompressTransformer;
@@ -466,6 +467,11 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
             .withSetterParameterDefinition("maxRetries", fromSimpleParameter("maxRetries").withDefaultValue(5).build())
             .withSetterParameterDefinition("millisBetweenRetries",
                                            fromSimpleParameter("millisBetweenRetries").withDefaultValue(60000).build())
+            .withSetterParameterDefinition("backoffMultiplier", fromSimpleParameter("backoffMultiplier").build())
+            .withSetterParameterDefinition("maxMillisBetweenRetries", fromSimpleParameter("maxMillisBetweenRetries").build())
+            .withSetterParameterDefinition("jitterFactor", fromSimpleParameter("jitterFactor").build())
+            .withSetterParameterDefinition("maxInFlightRetries", fromSimpleParameter("maxInFlightRetries").build())
+            .withSetterParameterDefinition("objectStore", fromSimpleReferenceParameter("objectStore").build())
             .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
             .build());
     componentBuildingDefinitions.add(baseDefinition.withIdentifier(FOREACH).withTypeDefinition(fromType(Foreach.class))
@@ -513,6 +519,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("eventGroupsObjectStore",
                                        fromSimpleReferenceParameter("event-groups-object-store").build())
         .withSetterParameterDefinition("persistentStores", fromSimpleParameter("persistentStores").build())
+        .withSetterParameterDefinition("appendLogStorage", fromSimpleParameter("appendLogStorage").build())
         .withSetterParameterDefinition("storePrefix", fromSimpleParameter("storePrefix").build());
 
     componentBuildingDefinitions.add(baseAggregatorDefinition.withIdentifier("message-chunk-aggregator")
@@ -545,6 +552,10 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withObjectFactoryType(SchedulingMessageSourceFactoryBean.class)
         .withSetterParameterDefinition("disallowConcurrentExecution",
                                        fromSimpleParameter("disallowConcurrentExecution").withDefaultValue(true).build())
+        .withSetterParameterDefinition("maxJitter", fromSimpleParameter("maxJitter").build())
+        .withSetterParameterDefinition("overrunPolicy",
+                                       fromSimpleParameter("overrunPolicy", value -> OverrunPolicy.valueOf((String) value))
+                                           .build())
         .withSetterParameterDefinition("scheduler", fromChildConfiguration(PeriodicScheduler.class)
             .withWrapperIdentifier(SCHEDULING_STRATEGY_ELEMENT_IDENTIFIER).build())
         .build());
@@ -673,6 +684,10 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("name", fromSimpleParameter("name").build())
         .withSetterParameterDefinition("providers", fromChildCollectionConfiguration(SecurityProvider.class).build())
         .withSetterParameterDefinition("encryptionStrategies", fromChildCollectionConfiguration(EncryptionStrategy.class).build())
+        .withSetterParameterDefinition("authenticationCacheTtl", fromSimpleParameter("authenticationCacheTtl").build())
+        .withSetterParameterDefinition("authenticationCacheNegativeTtl",
+                                       fromSimpleParameter("authenticationCacheNegativeTtl").build())
+        .withSetterParameterDefinition("authenticationCacheMaxSize", fromSimpleParameter("authenticationCacheMaxSize").build())
         .build());
 
     componentBuildingDefinitions.add(baseDefinition.withIdentifier("custom-security-provider")
@@ -692,6 +707,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("name", fromSimpleParameter("name").build())
         .withSetterParameterDefinition("key", fromSimpleParameter("key").build())
         .withSetterParameterDefinition("keyFactory", fromSimpleReferenceParameter("keyFactory-ref").build())
+        .withSetterParameterDefinition("streaming", fromSimpleParameter("streaming").build())
         .build());
 
     componentBuildingDefinitions.add(baseDefinition.withIdentifier("password-encryption-strategy")
@@ -700,6 +716,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("iterationCount", fromSimpleParameter("iterationCount").build())
         .withSetterParameterDefinition("password", fromSimpleParameter("password").build())
         .withSetterParameterDefinition("salt", fromSimpleParameter("salt").build())
+        .withSetterParameterDefinition("streaming", fromSimpleParameter("streaming").build())
         .build());
 
     componentBuildingDefinitions.add(baseDefinition.withIdentifier(REDELIVERY_POLICY_ELEMENT_IDENTIFIER)
@@ -821,7 +838,10 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("throwOnUnaccepted", fromSimpleParameter("throwOnUnaccepted").build())
         .withSetterParameterDefinition("objectStore", fromSimpleReferenceParameter("objectStore").build())
         .withSetterParameterDefinition("unacceptedMessageProcessor", fromSimpleReferenceParameter("onUnaccepted").build())
-        .withSetterParameterDefinition("privateObjectStore", fromChildConfiguration(ValueResolver.class).build());
+        .withSetterParameterDefinition("privateObjectStore", fromChildConfiguration(ValueResolver.class).build())
+        .withSetterParameterDefinition("filterFalsePositiveRate", fromSimpleParameter("filterFalsePositiveRate").build())
+        .withSetterParameterDefinition("filterExpectedIds", fromSimpleParameter("filterExpectedIds").build())
+        .withSetterParameterDefinition("persistenceBatchSize", fromSimpleParameter("persistenceBatchSize").build());
 
     definitions.add(baseIdempotentMessageFilterDefinition
         .withIdentifier("idempotent-message-validator")
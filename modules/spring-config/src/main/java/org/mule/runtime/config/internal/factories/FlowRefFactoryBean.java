@@ -6,8 +6,11 @@
  */
 package org.mule.runtime.config.internal.factories;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.ThreadLocal.withInitial;
 import static java.util.Optional.ofNullable;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
@@ -18,7 +21,7 @@ import static org.mule.runtime.core.privileged.processor.MessageProcessors.proce
 import static org.slf4j.LoggerFactory.getLogger;
 import static reactor.core.publisher.Flux.error;
 import static reactor.core.publisher.Flux.from;
-import static reactor.core.publisher.Flux.just;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.component.AbstractComponent;
 import org.mule.runtime.api.component.Component;
@@ -28,6 +31,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.config.internal.MuleArtifactContext;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.Flow;
@@ -45,6 +49,8 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 
@@ -54,7 +60,9 @@ import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.xml.namespace.QName;
@@ -66,6 +74,17 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
   private static final Logger LOGGER = getLogger(FlowRefFactoryBean.class);
 
+  /**
+   * System property to disable the inlining of the sub-flows referenced by name, so they are executed as a separate processor
+   * with its own child context as the sub-flows referenced by an expression.
+   */
+  public static final String DISABLE_SUB_FLOW_INLINING_PROPERTY = SYSTEM_PROPERTY_PREFIX + "flowRef.disableSubFlowInlining";
+
+  /**
+   * Names of the sub-flows being inlined by the current thread, to detect recursive references while assembling the chains.
+   */
+  private static final ThreadLocal<Set<String>> INLINING_SUB_FLOWS = withInitial(HashSet::new);
+
   private String refName;
   private String target;
   private String targetValue = "#[payload]";
@@ -160,6 +179,35 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
     return (Component) applicationContext.getBean(name);
   }
 
+  /**
+   * @param name the name of the referenced component.
+   * @return whether the referenced component is a flow whose creation was deferred until it's referenced, and that was not
+   *         created yet.
+   */
+  private boolean isDeferredFlow(String name) {
+    if (applicationContext instanceof MuleArtifactContext) {
+      ConfigurableListableBeanFactory beanFactory = ((MuleArtifactContext) applicationContext).getBeanFactory();
+      try {
+        BeanDefinition beanDefinition = beanFactory.getBeanDefinition(name);
+        return beanDefinition.isLazyInit() && !beanDefinition.isPrototype() && !beanFactory.containsSingleton(name);
+      } catch (NoSuchBeanDefinitionException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private boolean referencesFlowDefinition(String name) {
+    if (applicationContext instanceof MuleArtifactContext) {
+      try {
+        return !((MuleArtifactContext) applicationContext).getBeanFactory().getBeanDefinition(name).isPrototype();
+      } catch (NoSuchBeanDefinitionException e) {
+        return false;
+      }
+    }
+    return false;
+  }
+
   @Override
   public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
     this.applicationContext = applicationContext;
@@ -180,6 +228,12 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
     private LoadingCache<String, Processor> cache;
     private boolean isExpression;
 
+    private final Object staticReferencedProcessorLock = new Object();
+    private volatile Processor staticReferencedProcessor;
+    // Not the lock of the static reference, which is held while a deferred flow is created
+    private final Object deferredFlowsSchedulerLock = new Object();
+    private volatile Scheduler deferredFlowsScheduler;
+
     public FlowRefMessageProcessor() {
       this.cache = CacheBuilder.newBuilder()
           .maximumSize(20)
@@ -201,37 +255,135 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
 
     @Override
     public Publisher<CoreEvent> apply(Publisher<CoreEvent> publisher) {
+      // With a target, the output of the sub-flow has to be paired with each incoming event, which inlining can't do without
+      // assembling the sub-flow chain again for every event
+      if (!isExpression && target == null && !getBoolean(DISABLE_SUB_FLOW_INLINING_PROPERTY)) {
+        Set<String> inliningSubFlows = INLINING_SUB_FLOWS.get();
+        // A recursive reference is not inlined, so the recursion is bounded by the events and not by the assembly
+        if (inliningSubFlows.add(refName)) {
+          try {
+            Processor subFlow = resolveInlinableSubFlow();
+            if (subFlow != null) {
+              return inline(publisher, subFlow);
+            }
+          } finally {
+            inliningSubFlows.remove(refName);
+          }
+        }
+      }
+
       return from(publisher).flatMap(event -> {
+        String referencedName;
+        try {
+          referencedName = resolveReferencedName(event);
+        } catch (MuleRuntimeException e) {
+          return error(e);
+        }
+
+        if (!isResolved(referencedName) && isDeferredFlow(referencedName)) {
+          // Creating and starting the flow may block, so it is not done on the thread of the event
+          return Mono.fromCallable(() -> resolveReferencedProcessor(referencedName))
+              .subscribeOn(fromExecutorService(getDeferredFlowsScheduler()))
+              .flatMapMany(referencedProcessor -> processWithReferencedProcessor(event, referencedProcessor));
+        }
+
         Processor referencedProcessor;
         try {
-          referencedProcessor = resolveReferencedProcessor(event);
+          referencedProcessor = resolveReferencedProcessor(referencedName);
         } catch (MuleException e) {
           return error(e);
         }
+        return processWithReferencedProcessor(event, referencedProcessor);
+      });
+    }
 
-        Flux<CoreEvent> flux;
-        if (referencedProcessor instanceof Flow) {
-          flux = from(processWithChildContext(event, referencedProcessor,
-                                              ofNullable(FlowRefFactoryBean.this.getLocation()),
-                                              ((Flow) referencedProcessor).getExceptionListener()));
-        } else {
-          flux = from(processWithChildContext(event, referencedProcessor,
-                                              ofNullable(FlowRefFactoryBean.this.getLocation())));
+    private Flux<CoreEvent> processWithReferencedProcessor(CoreEvent event, Processor referencedProcessor) {
+      Flux<CoreEvent> flux;
+      if (referencedProcessor instanceof Flow) {
+        flux = from(processWithChildContext(event, referencedProcessor,
+                                            ofNullable(FlowRefFactoryBean.this.getLocation()),
+                                            ((Flow) referencedProcessor).getExceptionListener()));
+      } else {
+        flux = from(processWithChildContext(event, referencedProcessor,
+                                            ofNullable(FlowRefFactoryBean.this.getLocation())));
+      }
+      return flux.map(outputToTarget(event, target, targetValue, expressionManager));
+    }
+
+    private Scheduler getDeferredFlowsScheduler() {
+      Scheduler scheduler = deferredFlowsScheduler;
+      if (scheduler == null) {
+        synchronized (deferredFlowsSchedulerLock) {
+          scheduler = deferredFlowsScheduler;
+          if (scheduler == null) {
+            scheduler = muleContext.getSchedulerService()
+                .ioScheduler(muleContext.getSchedulerBaseConfig().withName("flowRef.deferredFlows"));
+            deferredFlowsScheduler = scheduler;
+          }
         }
-        return flux.map(outputToTarget(event, target, targetValue, expressionManager));
-      });
+      }
+      return scheduler;
+    }
+
+    /**
+     * Assembles the chain of a sub-flow referenced by name right into the caller's stream, the same way routers do with their
+     * routes, so events go through it without resolving the reference nor creating a child context. The sub-flow chain still
+     * pushes its element into the {@link org.mule.runtime.api.event.FlowCallStack} and its processors keep their locations.
+     */
+    private Publisher<CoreEvent> inline(Publisher<CoreEvent> publisher, Processor subFlow) {
+      return from(publisher).transform(subFlow);
+    }
+
+    private Processor resolveInlinableSubFlow() {
+      if (referencesFlowDefinition(refName)) {
+        // Flows are not inlined, and resolving one here would create it if its creation was deferred until it's referenced
+        return null;
+      }
+
+      Processor referencedProcessor;
+      try {
+        referencedProcessor = resolveStaticReferencedProcessor();
+      } catch (MuleException | MuleRuntimeException e) {
+        // Not inlined, so the error is reported for each event as it is for references that can't be inlined
+        LOGGER.debug("Could not resolve '{}' to inline it", refName, e);
+        return null;
+      }
+      return referencedProcessor instanceof Flow ? null : referencedProcessor;
+    }
+
+    private Processor resolveStaticReferencedProcessor() throws MuleException {
+      Processor referencedProcessor = staticReferencedProcessor;
+      if (referencedProcessor == null) {
+        synchronized (staticReferencedProcessorLock) {
+          referencedProcessor = staticReferencedProcessor;
+          if (referencedProcessor == null) {
+            referencedProcessor = getReferencedFlow(refName, this);
+            staticReferencedProcessor = referencedProcessor;
+          }
+        }
+      }
+      return referencedProcessor;
     }
 
     protected Processor resolveReferencedProcessor(CoreEvent event) throws MuleException {
-      String flowName;
-      if (isExpression) {
-        flowName = expressionManager.parse(refName, event, getLocation());
-      } else {
-        flowName = refName;
+      return resolveReferencedProcessor(resolveReferencedName(event));
+    }
+
+    private String resolveReferencedName(CoreEvent event) {
+      return isExpression ? expressionManager.parse(refName, event, getLocation()) : refName;
+    }
+
+    private boolean isResolved(String name) {
+      return isExpression ? cache.getIfPresent(name) != null : staticReferencedProcessor != null;
+    }
+
+    private Processor resolveReferencedProcessor(String name) throws MuleException {
+      if (!isExpression) {
+        return resolveStaticReferencedProcessor();
       }
 
       try {
-        return cache.getUnchecked(flowName);
+        return cache.getUnchecked(name);
 
       } catch (UncheckedExecutionException e) {
         if (e.getCause() instanceof MuleRuntimeException) {
@@ -256,6 +408,16 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
           stopIfNeeded(p);
         }
       }
+      Processor referencedProcessor = staticReferencedProcessor;
+      if (referencedProcessor != null && !(referencedProcessor instanceof Flow)) {
+        stopIfNeeded(referencedProcessor);
+      }
+      synchronized (deferredFlowsSchedulerLock) {
+        if (deferredFlowsScheduler != null) {
+          deferredFlowsScheduler.stop();
+          deferredFlowsScheduler = null;
+        }
+      }
     }
 
     @Override
@@ -265,6 +427,11 @@ public class FlowRefFactoryBean extends AbstractComponentFactory<Processor> impl
           disposeIfNeeded(p, LOGGER);
         }
       }
+      Processor referencedProcessor = staticReferencedProcessor;
+      if (referencedProcessor != null && !(referencedProcessor instanceof Flow)) {
+        disposeIfNeeded(referencedProcessor, LOGGER);
+      }
+      staticReferencedProcessor = null;
       cache.invalidateAll();
       cache.cleanUp();
     }
@@ -6,11 +6,14 @@
  */
 package org.mule.runtime.config.internal.factories;
 
+import static org.mule.runtime.core.internal.source.scheduler.OverrunPolicy.SKIP;
+
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.source.scheduler.FixedFrequencyScheduler;
 import org.mule.runtime.core.api.source.scheduler.PeriodicScheduler;
 import org.mule.runtime.core.internal.source.scheduler.DefaultSchedulerMessageSource;
+import org.mule.runtime.core.internal.source.scheduler.OverrunPolicy;
 import org.mule.runtime.dsl.api.component.AbstractComponentFactory;
 
 public class SchedulingMessageSourceFactoryBean extends AbstractComponentFactory<DefaultSchedulerMessageSource>
@@ -19,6 +22,8 @@ public class SchedulingMessageSourceFactoryBean extends AbstractComponentFactory
   private static final long DEFAULT_FREQUENCY = 1000l;
   protected PeriodicScheduler scheduler;
   private boolean disallowConcurrentExecution;
+  private long maxJitter;
+  private OverrunPolicy overrunPolicy = SKIP;
   private MuleContext muleContext;
 
   private FixedFrequencyScheduler defaultScheduler() {
@@ -35,13 +40,25 @@ public class SchedulingMessageSourceFactoryBean extends AbstractComponentFactory
   @Override
   public DefaultSchedulerMessageSource doGetObject() throws Exception {
     scheduler = scheduler == null ? defaultScheduler() : scheduler;
-    return new DefaultSchedulerMessageSource(muleContext, scheduler, disallowConcurrentExecution);
+    DefaultSchedulerMessageSource messageSource =
+        new DefaultSchedulerMessageSource(muleContext, scheduler, disallowConcurrentExecution);
+    messageSource.setMaxJitter(maxJitter);
+    messageSource.setOverrunPolicy(overrunPolicy);
+    return messageSource;
   }
 
   public void setDisallowConcurrentExecution(boolean disallowConcurrentExecution) {
     this.disallowConcurrentExecution = disallowConcurrentExecution;
   }
 
+  public void setMaxJitter(long maxJitter) {
+    this.maxJitter = maxJitter;
+  }
+
+  public void setOverrunPolicy(OverrunPolicy overrunPolicy) {
+    this.overrunPolicy = overrunPolicy;
+  }
+
   @Override
   public void setMuleContext(MuleContext context) {
     this.muleContext = context;
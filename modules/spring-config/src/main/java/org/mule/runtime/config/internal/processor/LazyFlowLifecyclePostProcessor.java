@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.processor;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * A {@link BeanPostProcessor} which applies the already completed lifecycle phases to the flows which creation was deferred until
+ * their first reference.
+ * <p>
+ * Spring creates those flows while holding its singleton lock, so the lifecycle is applied just once and no other thread gets the
+ * flow before that. Flows created before the {@link MuleContextWithRegistries} is initialised get their lifecycle from the
+ * registry, as any other component.
+ *
+ * @since 4.2
+ */
+public final class LazyFlowLifecyclePostProcessor implements BeanPostProcessor {
+
+  private static final Logger LOGGER = getLogger(LazyFlowLifecyclePostProcessor.class);
+
+  private final MuleContextWithRegistries muleContext;
+  private final Set<String> pendingFlowNames = newKeySet();
+
+  /**
+   * @param muleContext the context of the artifact the flows belong to.
+   * @param lazyFlowNames the names of the flows which creation was deferred.
+   */
+  public LazyFlowLifecyclePostProcessor(MuleContextWithRegistries muleContext, Collection<String> lazyFlowNames) {
+    this.muleContext = muleContext;
+    this.pendingFlowNames.addAll(lazyFlowNames);
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+    if (!(bean instanceof FlowConstruct) || !pendingFlowNames.contains(beanName)) {
+      return bean;
+    }
+
+    if (muleContext.isInitialised()) {
+      try {
+        muleContext.getRegistry().applyLifecycle(bean);
+      } catch (MuleException e) {
+        // Kept as pending, so the lifecycle is applied if its creation is attempted again
+        throw new MuleRuntimeException(createStaticMessage("Could not apply lifecycle into lazily created flow " + beanName), e);
+      }
+      LOGGER.info("Created flow '{}' on its first reference", beanName);
+    }
+    pendingFlowNames.remove(beanName);
+    return bean;
+  }
+
+  /**
+   * @return the names of the flows which creation was deferred and have not been referenced yet.
+   */
+  public Set<String> getPendingFlowNames() {
+    return unmodifiableSet(pendingFlowNames);
+  }
+}
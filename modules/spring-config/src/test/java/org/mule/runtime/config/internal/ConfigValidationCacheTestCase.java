@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.core.api.util.IOUtils;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+@SmallTest
+public class ConfigValidationCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String CONFIG_FILE = "mule-config.xml";
+  private static final String CORE_SCHEMA = "http://www.mulesoft.org/schema/mule/core/current/mule.xsd";
+  private static final byte[] CONFIG = "<mule><flow name=\"flow\"/></mule>".getBytes(UTF_8);
+  private static final byte[] INVALID_CONFIG = ("<mule xmlns=\"http://www.mulesoft.org/schema/mule/core\""
+      + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+      + " xsi:schemaLocation=\"http://www.mulesoft.org/schema/mule/core " + CORE_SCHEMA + "\">"
+      + "<flow name=\"flow\"><notAProcessor/></flow></mule>").getBytes(UTF_8);
+
+  @Rule
+  public TemporaryFolder cacheFolder = new TemporaryFolder();
+
+  @Test
+  public void validatedOnlyAfterMarked() {
+    ConfigValidationCache cache = new ConfigValidationCache(new File(cacheFolder.getRoot(), "cache"));
+    String key = cache.getKey(CONFIG, emptySet());
+
+    assertThat(cache.getValidatedSchemas(key).isPresent(), is(false));
+    cache.markValidated(key, singletonMap(CORE_SCHEMA, "hash"));
+    assertThat(cache.getValidatedSchemas(key).get(), is(singletonMap(CORE_SCHEMA, "hash")));
+    assertThat(new ConfigValidationCache(new File(cacheFolder.getRoot(), "cache")).getValidatedSchemas(key).isPresent(),
+               is(true));
+  }
+
+  @Test
+  public void keyDependsOnContentAndExtensions() {
+    ConfigValidationCache cache = new ConfigValidationCache(cacheFolder.getRoot());
+    ExtensionModel extension = mock(ExtensionModel.class);
+    when(extension.getName()).thenReturn("HTTP");
+    when(extension.getVersion()).thenReturn("1.0.0");
+    ExtensionModel upgradedExtension = mock(ExtensionModel.class);
+    when(upgradedExtension.getName()).thenReturn("HTTP");
+    when(upgradedExtension.getVersion()).thenReturn("1.1.0");
+
+    String key = cache.getKey(CONFIG, singleton(extension));
+    assertThat(cache.getKey(CONFIG, singleton(extension)), is(key));
+    assertThat(cache.getKey("<mule/>".getBytes(UTF_8), singleton(extension)), is(not(key)));
+    assertThat(cache.getKey(CONFIG, singleton(upgradedExtension)), is(not(key)));
+  }
+
+  @Test
+  public void unchangedSchemasSkipValidation() {
+    ConfigValidationCache cache = new ConfigValidationCache(cacheFolder.getRoot());
+    byte[] config = IOUtils.toByteArray(currentThread().getContextClassLoader().getResourceAsStream(CONFIG_FILE));
+
+    cache.loadDocument(emptySet(), CONFIG_FILE, config);
+    Map<String, String> schemas = cache.getValidatedSchemas(cache.getKey(config, emptySet())).get();
+    assertThat(schemas, hasKey(CORE_SCHEMA));
+
+    Document cached = cache.loadDocument(emptySet(), CONFIG_FILE, config);
+    assertThat(((Element) cached.getElementsByTagName("flow").item(0)).getAttribute("name"), is("service"));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test
+  public void validationIsNotPerformedOnHit() {
+    ConfigValidationCache cache = new ConfigValidationCache(cacheFolder.getRoot());
+    byte[] config = IOUtils.toByteArray(currentThread().getContextClassLoader().getResourceAsStream(CONFIG_FILE));
+    cache.loadDocument(emptySet(), CONFIG_FILE, config);
+    Map<String, String> schemas = cache.getValidatedSchemas(cache.getKey(config, emptySet())).get();
+
+    cache.markValidated(cache.getKey(INVALID_CONFIG, emptySet()), schemas);
+    Document document = cache.loadDocument(emptySet(), "invalid-config.xml", INVALID_CONFIG);
+    assertThat(document.getElementsByTagName("notAProcessor").getLength(), is(1));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(1L));
+  }
+
+  @Test(expected = MuleRuntimeException.class)
+  public void invalidConfigFailsOnMiss() {
+    new ConfigValidationCache(cacheFolder.getRoot()).loadDocument(emptySet(), "invalid-config.xml", INVALID_CONFIG);
+  }
+
+  @Test
+  public void changedSchemasAreValidatedAgain() {
+    ConfigValidationCache cache = new ConfigValidationCache(cacheFolder.getRoot());
+    byte[] config = IOUtils.toByteArray(currentThread().getContextClassLoader().getResourceAsStream(CONFIG_FILE));
+    cache.markValidated(cache.getKey(config, emptySet()), singletonMap(CORE_SCHEMA, "outdated"));
+
+    cache.loadDocument(emptySet(), CONFIG_FILE, config);
+    assertThat(cache.getHits(), is(0L));
+    assertThat(cache.getMisses(), is(1L));
+    assertThat(cache.getValidatedSchemas(cache.getKey(config, emptySet())).get().get(CORE_SCHEMA), is(not("outdated")));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.component.ComponentIdentifier.buildFromStringRepresentation;
+
+import org.mule.runtime.api.component.Component;
+import org.mule.runtime.api.component.ComponentIdentifier;
+import org.mule.runtime.api.component.TypedComponentIdentifier;
+import org.mule.runtime.api.component.location.ComponentLocation;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+@SmallTest
+public class SpringConfigurationComponentLocatorTestCase extends AbstractMuleTestCase {
+
+  private static final ComponentIdentifier FLOW = buildFromStringRepresentation("mule:flow");
+
+  private final Set<String> deferredFlowNames = new HashSet<>();
+  private final Component deferredFlow = component("deferred", FLOW);
+  private final SpringConfigurationComponentLocator locator =
+      new SpringConfigurationComponentLocator(name -> false, () -> deferredFlowNames, name -> {
+        deferredFlowNames.remove(name);
+        addComponent(deferredFlow);
+      });
+
+  @Test
+  public void deferredComponentCreatedWhenFoundByLocation() {
+    deferredFlowNames.add("deferred");
+
+    assertThat(locator.find(Location.builder().globalName("deferred").build()).get(), is(sameInstance(deferredFlow)));
+    assertThat(deferredFlowNames, is(empty()));
+  }
+
+  @Test
+  public void deferredComponentCreatedWhenFoundByIdentifier() {
+    deferredFlowNames.add("deferred");
+
+    assertThat(locator.find(FLOW), contains(deferredFlow));
+    assertThat(deferredFlowNames, is(empty()));
+  }
+
+  @Test
+  public void unknownComponentNotFound() {
+    assertThat(locator.find(Location.builder().globalName("unknown").build()).isPresent(), is(false));
+    assertThat(locator.find(FLOW), is(empty()));
+  }
+
+  private void addComponent(Component component) {
+    locator.addComponent(component);
+  }
+
+  private static Component component(String location, ComponentIdentifier identifier) {
+    TypedComponentIdentifier typedIdentifier = mock(TypedComponentIdentifier.class);
+    when(typedIdentifier.getIdentifier()).thenReturn(identifier);
+    ComponentLocation componentLocation = mock(ComponentLocation.class);
+    when(componentLocation.getLocation()).thenReturn(location);
+    when(componentLocation.getComponentIdentifier()).thenReturn(typedIdentifier);
+    Component component = mock(Component.class);
+    when(component.getLocation()).thenReturn(componentLocation);
+    return component;
+  }
+}
@@ -10,18 +10,22 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.Optional.of;
+import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCause;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -75,6 +79,7 @@ import java.util.List;
 
 import javax.inject.Inject;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @SmallTest
@@ -165,6 +170,54 @@ public class FlowRefFactoryBeanTestCase extends AbstractMuleTestCase {
     verify(targetSubFlowChainBuilder).setProcessingStrategy(callerFlowProcessingStrategy);
   }
 
+  @Test
+  public void staticFlowRefSubFlowResolvedOnAssembly() throws Exception {
+    FlowRefFactoryBean flowRefFactoryBean = createStaticFlowRefFactoryBean(targetSubFlow, targetSubFlowChainBuilder);
+    Processor flowRefProcessor = getFlowRefProcessor(flowRefFactoryBean);
+
+    // The sub-flow is inlined when the caller's chain is assembled, before any event is processed
+    Flux.<CoreEvent>never().transform(flowRefProcessor);
+    verify(applicationContext).getBean(STATIC_REFERENCED_FLOW);
+    verify(targetSubFlowChild).apply(any(Publisher.class));
+
+    // Further events do not resolve the reference again
+    assertSame(result.getMessage(), just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor).block().getMessage());
+    verify(applicationContext).getBean(STATIC_REFERENCED_FLOW);
+
+    disposeIfNeeded(flowRefProcessor, null);
+  }
+
+  @Test
+  public void staticFlowRefSubFlowWithTargetNotInlined() throws Exception {
+    FlowRefFactoryBean flowRefFactoryBean = createStaticFlowRefFactoryBean(targetSubFlow, targetSubFlowChainBuilder);
+    flowRefFactoryBean.setTarget("subFlowResult");
+    Processor flowRefProcessor = getFlowRefProcessor(flowRefFactoryBean);
+
+    Flux.<CoreEvent>never().transform(flowRefProcessor);
+    verify(applicationContext, never()).getBean(STATIC_REFERENCED_FLOW);
+    verify(targetSubFlowChild, never()).apply(any(Publisher.class));
+
+    disposeIfNeeded(flowRefProcessor, null);
+  }
+
+  @Test
+  public void staticFlowRefSubFlowErrorPropagatedToCaller() throws Exception {
+    FlowRefFactoryBean flowRefFactoryBean = createStaticFlowRefFactoryBean(targetSubFlow, targetSubFlowChainBuilder);
+    IllegalStateException subFlowError = new IllegalStateException("sub-flow failed");
+    doReturn(Flux.error(subFlowError)).when(targetSubFlowChild).apply(any(Publisher.class));
+    Processor flowRefProcessor = getFlowRefProcessor(flowRefFactoryBean);
+
+    // Sub-flows have no error handler of their own, so the error must reach the caller's one
+    try {
+      just(newEvent()).cast(CoreEvent.class).transform(flowRefProcessor).block();
+      fail("The sub-flow error should be propagated");
+    } catch (Exception e) {
+      assertThat(getRootCause(e), sameInstance(subFlowError));
+    }
+
+    disposeIfNeeded(flowRefProcessor, null);
+  }
+
   @Test
   public void dynamicFlowRefSubFlow() throws Exception {
     FlowRefFactoryBean flowRefFactoryBean = createDynamicFlowRefFactoryBean(targetSubFlow, targetSubFlowChainBuilder);
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.internal.processor;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.internal.context.MuleContextWithRegistries;
+import org.mule.runtime.core.internal.registry.MuleRegistry;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class LazyFlowLifecyclePostProcessorTestCase extends AbstractMuleTestCase {
+
+  private final MuleContextWithRegistries muleContext = mock(MuleContextWithRegistries.class);
+  private final MuleRegistry registry = mock(MuleRegistry.class);
+  private final FlowConstruct flow = mock(FlowConstruct.class);
+  private LazyFlowLifecyclePostProcessor postProcessor;
+
+  @Before
+  public void before() {
+    when(muleContext.getRegistry()).thenReturn(registry);
+    postProcessor = new LazyFlowLifecyclePostProcessor(muleContext, asList("lazy", "other"));
+  }
+
+  @Test
+  public void lifecycleAppliedWhenCreatedAfterInitialise() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+
+    assertThat(postProcessor.postProcessAfterInitialization(flow, "lazy"), is(sameInstance(flow)));
+    verify(registry).applyLifecycle(flow);
+    assertThat(postProcessor.getPendingFlowNames(), contains("other"));
+  }
+
+  @Test
+  public void lifecycleLeftToRegistryWhenCreatedBeforeInitialise() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(false);
+
+    postProcessor.postProcessAfterInitialization(flow, "lazy");
+    verify(registry, never()).applyLifecycle(any());
+    assertThat(postProcessor.getPendingFlowNames(), contains("other"));
+  }
+
+  @Test
+  public void eagerFlowsNotProcessed() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+
+    postProcessor.postProcessAfterInitialization(flow, "eager");
+    postProcessor.postProcessAfterInitialization(new Object(), "other");
+    verify(registry, never()).applyLifecycle(any());
+    assertThat(postProcessor.getPendingFlowNames(), containsInAnyOrder("lazy", "other"));
+  }
+
+  @Test
+  public void keptPendingWhenLifecycleFails() throws Exception {
+    when(muleContext.isInitialised()).thenReturn(true);
+    doThrow(mock(InitialisationException.class)).when(registry).applyLifecycle(flow);
+
+    try {
+      postProcessor.postProcessAfterInitialization(flow, "lazy");
+      fail("Expected the lifecycle failure to be propagated");
+    } catch (MuleRuntimeException e) {
+      assertThat(postProcessor.getPendingFlowNames().contains("lazy"), is(true));
+    }
+
+    postProcessor.postProcessAfterInitialization(flow, "other");
+    assertThat(postProcessor.getPendingFlowNames(), contains("lazy"));
+  }
+
+  @Test
+  public void allCreated() throws Exception {
+    postProcessor.postProcessAfterInitialization(flow, "lazy");
+    postProcessor.postProcessAfterInitialization(flow, "other");
+    assertThat(postProcessor.getPendingFlowNames(), is(empty()));
+  }
+}
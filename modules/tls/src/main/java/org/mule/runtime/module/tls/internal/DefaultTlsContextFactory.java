@@ -15,17 +15,20 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.tls.TlsContextFactory;
 import org.mule.runtime.api.tls.TlsContextKeyStoreConfiguration;
+import org.mule.runtime.api.time.TimeSupplier;
 import org.mule.runtime.api.tls.TlsContextTrustStoreConfiguration;
 import org.mule.runtime.core.api.util.FileUtils;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.core.internal.secutiry.tls.RestrictedSSLServerSocketFactory;
 import org.mule.runtime.core.internal.secutiry.tls.RestrictedSSLSocketFactory;
+import org.mule.runtime.core.internal.time.LocalTimeSupplier;
 import org.mule.runtime.core.internal.util.ArrayUtils;
 import org.mule.runtime.core.privileged.security.RevocationCheck;
 import org.mule.runtime.core.privileged.security.tls.TlsConfiguration;
 
 import com.google.common.base.Joiner;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
@@ -33,6 +36,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLServerSocketFactory;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
@@ -45,6 +49,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
+ * <p>
+ * The {@link SSLContext} and the socket factories are created once and shared by all the callers, so TLS sessions can be resumed
+ * across connections. If a {@link #setStoreReloadInterval(long) reload interval} is set, the key store and trust store files are
+ * checked for changes at most once per interval and, if they changed, a new {@link TlsConfiguration} and context are created
+ * from them and atomically replace the previous ones, which are still used by the connections already established with them.
  */
 public class DefaultTlsContextFactory extends AbstractComponent implements TlsContextFactory, Initialisable {
 
@@ -53,12 +62,21 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
 
   private String name;
 
-  private final TlsConfiguration tlsConfiguration;
+  private volatile TlsConfiguration tlsConfiguration;
+  private RevocationCheck revocationCheck;
 
   private AtomicBoolean initialized = new AtomicBoolean(false);
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
+  private int sessionCacheSize = -1;
+  private int sessionTimeout = -1;
+  private long storeReloadInterval = 0;
+  private TimeSupplier timeSupplier = new LocalTimeSupplier();
+
+  private final Object sslContextLock = new Object();
+  private volatile CachedSslContext cachedSslContext;
+  private volatile long nextStoreReloadCheck;
 
   public DefaultTlsContextFactory(Map<QName, Object> annotations) {
     tlsConfiguration = new TlsConfiguration(null);
@@ -215,28 +233,159 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
   }
 
   public void setRevocationCheck(RevocationCheck revocationCheck) {
+    this.revocationCheck = revocationCheck;
     tlsConfiguration.setRevocationCheck(revocationCheck);
   }
 
+  public int getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * @param sessionCacheSize the maximum amount of TLS sessions to cache for resumption, {@code 0} for no limit or a negative
+   *        value to use the JVM default.
+   */
+  public void setSessionCacheSize(int sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public int getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * @param sessionTimeout the time in seconds a cached TLS session may be resumed, {@code 0} for no limit or a negative value to
+   *        use the JVM default.
+   */
+  public void setSessionTimeout(int sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
+  public long getStoreReloadInterval() {
+    return storeReloadInterval;
+  }
+
+  /**
+   * @param storeReloadInterval the minimum time in milliseconds between checks for changes in the key store and trust store
+   *        files, or {@code 0} to never reload them.
+   */
+  public void setStoreReloadInterval(long storeReloadInterval) {
+    this.storeReloadInterval = storeReloadInterval;
+  }
+
+  /**
+   * @param timeSupplier the source of the current time in milliseconds, used to decide when the store files are checked.
+   */
+  public void setTimeSupplier(TimeSupplier timeSupplier) {
+    this.timeSupplier = timeSupplier;
+  }
+
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
-    if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
-    } else {
-      sslContext = tlsConfiguration.getSslContext();
-    }
-    return sslContext;
+    return getCachedSslContext().sslContext;
   }
 
   @Override
   public SSLSocketFactory createSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
-    return new RestrictedSSLSocketFactory(createSslContext(), getEnabledCipherSuites(), getEnabledProtocols());
+    return getCachedSslContext().socketFactory;
   }
 
   @Override
   public SSLServerSocketFactory createServerSocketFactory() throws KeyManagementException, NoSuchAlgorithmException {
-    return new RestrictedSSLServerSocketFactory(createSslContext(), getEnabledCipherSuites(), getEnabledProtocols());
+    return getCachedSslContext().serverSocketFactory;
+  }
+
+  private CachedSslContext getCachedSslContext() throws KeyManagementException, NoSuchAlgorithmException {
+    CachedSslContext cached = cachedSslContext;
+    if (cached != null && (storeReloadInterval <= 0 || timeSupplier.get() < nextStoreReloadCheck)) {
+      return cached;
+    }
+
+    synchronized (sslContextLock) {
+      cached = cachedSslContext;
+      if (cached == null) {
+        long keyStoreLastModified = getLastModified(getKeyStorePath());
+        long trustStoreLastModified = getLastModified(getTrustStorePath());
+        cached = new CachedSslContext(buildSslContext(tlsConfiguration), keyStoreLastModified, trustStoreLastModified);
+        cachedSslContext = cached;
+      } else if (timeSupplier.get() >= nextStoreReloadCheck) {
+        cached = reloadIfStoresModified(cached);
+      }
+      nextStoreReloadCheck = timeSupplier.get() + storeReloadInterval;
+      return cached;
+    }
+  }
+
+  private CachedSslContext reloadIfStoresModified(CachedSslContext cached) {
+    long keyStoreLastModified = getLastModified(getKeyStorePath());
+    long trustStoreLastModified = getLastModified(getTrustStorePath());
+    if (keyStoreLastModified == cached.keyStoreLastModified && trustStoreLastModified == cached.trustStoreLastModified) {
+      return cached;
+    }
+
+    try {
+      // The configuration in use is left untouched until the new one is fully initialised
+      TlsConfiguration reloadedConfiguration = copyTlsConfiguration();
+      reloadedConfiguration.initialise(null == getKeyStorePath(), null);
+      CachedSslContext reloaded =
+          new CachedSslContext(buildSslContext(reloadedConfiguration), keyStoreLastModified, trustStoreLastModified);
+      tlsConfiguration = reloadedConfiguration;
+      cachedSslContext = reloaded;
+      logger.info("Reloaded the key store and trust store of TLS context '{}'", name == null ? StringUtils.EMPTY : name);
+      return reloaded;
+    } catch (Exception e) {
+      // The files may still be being written, so they will be checked again after the interval
+      logger.warn(String.format("Could not reload the key store and trust store of TLS context '%s', the current ones will be "
+          + "kept", name == null ? StringUtils.EMPTY : name), e);
+      return cached;
+    }
+  }
+
+  private TlsConfiguration copyTlsConfiguration() throws IOException {
+    TlsConfiguration current = tlsConfiguration;
+    TlsConfiguration copy = new TlsConfiguration(null);
+    copy.setAnnotations(current.getAnnotations());
+    copy.setKeyStore(current.getKeyStore());
+    copy.setKeyStoreType(current.getKeyStoreType());
+    copy.setKeyAlias(current.getKeyAlias());
+    copy.setKeyStorePassword(current.getKeyStorePassword());
+    copy.setKeyPassword(current.getKeyPassword());
+    copy.setKeyManagerAlgorithm(current.getKeyManagerAlgorithm());
+    copy.setTrustStore(current.getTrustStore());
+    copy.setTrustStoreType(current.getTrustStoreType());
+    copy.setTrustStorePassword(current.getTrustStorePassword());
+    copy.setTrustManagerAlgorithm(current.getTrustManagerAlgorithm());
+    copy.setRevocationCheck(revocationCheck);
+    return copy;
+  }
+
+  private long getLastModified(String path) {
+    // Stores loaded from the classpath cannot change, and have a last modification time of 0
+    return path == null ? 0 : new File(path).lastModified();
+  }
+
+  private SSLContext buildSslContext(TlsConfiguration configuration) throws KeyManagementException, NoSuchAlgorithmException {
+    SSLContext sslContext;
+    if (trustStoreInsecure) {
+      sslContext = configuration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+    } else {
+      sslContext = configuration.getSslContext();
+    }
+    configureSessionContext(sslContext.getClientSessionContext());
+    configureSessionContext(sslContext.getServerSessionContext());
+    return sslContext;
+  }
+
+  private void configureSessionContext(SSLSessionContext sessionContext) {
+    if (sessionContext == null) {
+      return;
+    }
+    if (sessionCacheSize >= 0) {
+      sessionContext.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout >= 0) {
+      sessionContext.setSessionTimeout(sessionTimeout);
+    }
   }
 
   @Override
@@ -369,6 +518,24 @@ public class DefaultTlsContextFactory extends AbstractComponent implements TlsCo
     return tlsConfiguration.hashCode();
   }
 
+  private final class CachedSslContext {
+
+    private final SSLContext sslContext;
+    private final SSLSocketFactory socketFactory;
+    private final SSLServerSocketFactory serverSocketFactory;
+    private final long keyStoreLastModified;
+    private final long trustStoreLastModified;
+
+    private CachedSslContext(SSLContext sslContext, long keyStoreLastModified, long trustStoreLastModified) {
+      this.sslContext = sslContext;
+      this.socketFactory = new RestrictedSSLSocketFactory(sslContext, getEnabledCipherSuites(), getEnabledProtocols());
+      this.serverSocketFactory =
+          new RestrictedSSLServerSocketFactory(sslContext, getEnabledCipherSuites(), getEnabledProtocols());
+      this.keyStoreLastModified = keyStoreLastModified;
+      this.trustStoreLastModified = trustStoreLastModified;
+    }
+  }
+
   private static class InsecureTrustManager implements X509TrustManager {
 
     @Override
@@ -26,6 +26,9 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
   private RevocationCheck revocationCheck;
   private String enabledProtocols;
   private String enabledCipherSuites;
+  private int sessionCacheSize = -1;
+  private int sessionTimeout = -1;
+  private long storeReloadInterval = 0;
 
   public void setName(String name) {
     this.name = name;
@@ -51,6 +54,18 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
     this.enabledCipherSuites = enabledCipherSuites;
   }
 
+  public void setSessionCacheSize(int sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public void setSessionTimeout(int sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
+  public void setStoreReloadInterval(long storeReloadInterval) {
+    this.storeReloadInterval = storeReloadInterval;
+  }
+
   @Override
   public DefaultTlsContextFactory doGetObject() throws Exception {
     DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(getAnnotations());
@@ -58,6 +73,9 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractComponentFact
     tlsContextFactory.setName(name);
     tlsContextFactory.setEnabledProtocols(enabledProtocols);
     tlsContextFactory.setEnabledCipherSuites(enabledCipherSuites);
+    tlsContextFactory.setSessionCacheSize(sessionCacheSize);
+    tlsContextFactory.setSessionTimeout(sessionTimeout);
+    tlsContextFactory.setStoreReloadInterval(storeReloadInterval);
 
     if (keyStore != null) {
       tlsContextFactory.setKeyAlias(keyStore.getAlias());
@@ -6,12 +6,15 @@
  */
 package org.mule.test.module.tls;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.emptyMap;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.privileged.security.tls.TlsConfiguration.DEFAULT_SECURITY_MODEL;
@@ -25,7 +28,10 @@ import org.mule.tck.junit4.AbstractMuleTestCase;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
@@ -35,12 +41,16 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
 
   @Rule
   public ExpectedException expectedException = ExpectedException.none();
 
+  @Rule
+  public TemporaryFolder storesFolder = new TemporaryFolder();
+
   @BeforeClass
   public static void createTlsPropertiesFile() throws Exception {
 
@@ -152,4 +162,50 @@ public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
     assertThat(defaultFactory.getDefaultCipherSuites(), arrayContainingInAnyOrder(tls12Factory.getDefaultCipherSuites()));
   }
 
+  @Test
+  public void sslContextIsShared() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setSessionCacheSize(100);
+    tlsContextFactory.setSessionTimeout(60);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+    assertThat(tlsContextFactory.createSocketFactory(), is(sameInstance(tlsContextFactory.createSocketFactory())));
+    assertThat(tlsContextFactory.createServerSocketFactory(), is(sameInstance(tlsContextFactory.createServerSocketFactory())));
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(100));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(60));
+  }
+
+  @Test
+  public void reloadModifiedTrustStore() throws Exception {
+    File trustStore = storesFolder.newFile("trustStore");
+    try (InputStream trustStoreResource = getClass().getClassLoader().getResourceAsStream("trustStore")) {
+      Files.copy(trustStoreResource, trustStore.toPath(), REPLACE_EXISTING);
+    }
+
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory(emptyMap());
+    tlsContextFactory.setTrustStorePath(trustStore.getAbsolutePath());
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.setStoreReloadInterval(1000);
+    AtomicLong currentTime = new AtomicLong();
+    tlsContextFactory.setTimeSupplier(currentTime::get);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    currentTime.addAndGet(1000);
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+
+    assertThat(trustStore.setLastModified(trustStore.lastModified() - 10000), is(true));
+    currentTime.addAndGet(999);
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+
+    currentTime.addAndGet(1);
+    SSLContext reloadedSslContext = tlsContextFactory.createSslContext();
+    assertThat(reloadedSslContext, is(not(sameInstance(sslContext))));
+
+    currentTime.addAndGet(1000);
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(reloadedSslContext)));
+  }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.construct;
+
+import static java.util.Optional.of;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.config.MuleDeploymentProperties.MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY;
+
+import org.mule.functional.junit4.MuleArtifactFunctionalTestCase;
+import org.mule.runtime.api.component.location.Location;
+import org.mule.runtime.core.api.construct.Flow;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.Test;
+
+public class LazyFlowsFlowRefTestCase extends MuleArtifactFunctionalTestCase {
+
+  private static final String DEFERRED_FLOW = "deferredFlow";
+
+  @Override
+  protected String getConfigFile() {
+    return "lazy-flows-flow-ref-config.xml";
+  }
+
+  @Override
+  protected Optional<Properties> getDeploymentProperties() {
+    Properties deploymentProperties = new Properties();
+    deploymentProperties.setProperty(MULE_LAZY_FLOWS_DEPLOYMENT_PROPERTY, "true");
+    return of(deploymentProperties);
+  }
+
+  @Test
+  public void deferredFlowCreatedOnFirstReference() throws Exception {
+    assertThat(isCreated(DEFERRED_FLOW), is(false));
+
+    assertThat(flowRunner("callerFlow").run().getMessage().getPayload().getValue(), is("deferred"));
+
+    assertThat(isCreated(DEFERRED_FLOW), is(true));
+    Flow deferredFlow = registry.<Flow>lookupByName(DEFERRED_FLOW).get();
+    assertThat(deferredFlow.getLifecycleState().isStarted(), is(true));
+  }
+
+  @Test
+  public void deferredFlowReusedOnNextReferences() throws Exception {
+    assertThat(flowRunner("callerFlow").run().getMessage().getPayload().getValue(), is("deferred"));
+    assertThat(flowRunner("callerFlow").run().getMessage().getPayload().getValue(), is("deferred"));
+  }
+
+  @Test
+  public void deferredFlowCreatedWhenLocated() throws Exception {
+    assertThat(isCreated(DEFERRED_FLOW), is(false));
+
+    assertThat(locator.find(Location.builder().globalName(DEFERRED_FLOW).build()).isPresent(), is(true));
+
+    assertThat(isCreated(DEFERRED_FLOW), is(true));
+  }
+
+  /**
+   * Flows register their statistics when built, so this does not create the flow as looking it up in the registry would.
+   */
+  private boolean isCreated(String flowName) {
+    return muleContext.getStatistics().getServiceStatistics().stream().anyMatch(stats -> stats.getName().equals(flowName));
+  }
+}
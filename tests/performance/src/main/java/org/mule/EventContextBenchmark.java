@@ -6,11 +6,14 @@
  */
 package org.mule;
 
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.mule.runtime.core.api.event.EventContextFactory.create;
 import static org.mule.runtime.core.api.exception.NullExceptionHandler.getInstance;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.internal.event.DefaultEventContext.child;
 import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
 import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.registerObject;
 import static reactor.core.publisher.Mono.from;
@@ -26,6 +29,8 @@ import org.mule.runtime.core.api.event.CoreEvent;
 import org.mule.runtime.core.api.util.UUID;
 import org.mule.runtime.core.privileged.event.BaseEventContext;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -42,6 +47,9 @@ import org.openjdk.jmh.annotations.Warmup;
 @OutputTimeUnit(NANOSECONDS)
 public class EventContextBenchmark extends AbstractBenchmark {
 
+  private static final int CHILD_TREE_DEPTH = 3;
+  private static final int CHILD_TREE_FAN_OUT = 4;
+
   private MuleContext muleContext;
   private Flow flow;
   private String id = UUID.getUUID();
@@ -101,4 +109,45 @@ public class EventContextBenchmark extends AbstractBenchmark {
     return new Object[] {result, complete};
   }
 
+  @Benchmark
+  public boolean childContextTreeComplete() {
+    BaseEventContext root = (BaseEventContext) create(flow, CONNECTOR_LOCATION);
+    List<BaseEventContext> contexts = createChildContextTree(root);
+    contexts.forEach(context -> context.success(event));
+    return root.isTerminated();
+  }
+
+  @Benchmark
+  public boolean childContextTreeConcurrentComplete() {
+    BaseEventContext root = (BaseEventContext) create(flow, CONNECTOR_LOCATION);
+    List<BaseEventContext> contexts = createChildContextTree(root);
+    contexts.parallelStream().forEach(context -> {
+      context.onComplete((response, throwable) -> {
+      });
+      context.success(event);
+    });
+    return root.isTerminated();
+  }
+
+  /**
+   * Creates a tree of child contexts, like the ones created by nested routers, and returns all of its contexts with the root
+   * last.
+   */
+  private List<BaseEventContext> createChildContextTree(BaseEventContext root) {
+    List<BaseEventContext> contexts = new ArrayList<>();
+    List<BaseEventContext> level = singletonList(root);
+    for (int depth = 0; depth < CHILD_TREE_DEPTH; ++depth) {
+      List<BaseEventContext> nextLevel = new ArrayList<>();
+      for (BaseEventContext parent : level) {
+        for (int i = 0; i < CHILD_TREE_FAN_OUT; ++i) {
+          nextLevel.add(child(parent, empty()));
+        }
+      }
+      contexts.addAll(0, nextLevel);
+      level = nextLevel;
+    }
+    contexts.add(root);
+    return contexts;
+  }
+
 }
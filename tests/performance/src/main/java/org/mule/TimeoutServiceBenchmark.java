@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_TIMEOUT_SERVICE;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.time.Timeout;
+import org.mule.runtime.core.internal.time.TimeoutService;
+
+import java.util.concurrent.ScheduledFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of scheduling and cancelling a timeout, which is what routers do for every event they time out, using the
+ * {@link TimeoutService} against doing it directly in a {@link Scheduler}.
+ */
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Threads(4)
+@OutputTimeUnit(NANOSECONDS)
+public class TimeoutServiceBenchmark extends AbstractBenchmark {
+
+  private static final Runnable NOOP = () -> {
+  };
+
+  @Param({"100", "60000"})
+  public long delay;
+
+  private MuleContext muleContext;
+  private TimeoutService timeoutService;
+  private Scheduler scheduler;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    timeoutService = lookupObject(muleContext, OBJECT_TIMEOUT_SERVICE);
+    scheduler = muleContext.getSchedulerService().cpuLightScheduler();
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    scheduler.stop();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public boolean timeoutServiceScheduleAndCancel() {
+    Timeout timeout = timeoutService.schedule(NOOP, delay, MILLISECONDS);
+    return timeout.cancel();
+  }
+
+  @Benchmark
+  public boolean schedulerScheduleAndCancel() {
+    ScheduledFuture<?> scheduled = scheduler.schedule(NOOP, delay, MILLISECONDS);
+    return scheduled.cancel(false);
+  }
+}
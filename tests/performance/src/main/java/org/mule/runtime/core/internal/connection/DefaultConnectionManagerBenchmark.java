@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.connection.ConnectionValidationResult.success;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import static org.mule.runtime.core.privileged.registry.LegacyRegistryUtils.lookupObject;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.connection.CachedConnectionProvider;
+import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.api.connection.ConnectionValidationResult;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures obtaining and releasing a connection from the {@link DefaultConnectionManager}, which happens on every execution of
+ * an operation that needs one, from several threads across many bound configs.
+ */
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Threads(8)
+@OutputTimeUnit(NANOSECONDS)
+public class DefaultConnectionManagerBenchmark extends AbstractBenchmark {
+
+  @Param({"1", "100", "1000"})
+  public int configs;
+
+  private MuleContext muleContext;
+  private DefaultConnectionManager connectionManager;
+  private Object[] owners;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    connectionManager = new DefaultConnectionManager(muleContext);
+    connectionManager.initialise();
+    connectionManager.start();
+
+    owners = new Object[configs];
+    for (int i = 0; i < configs; ++i) {
+      owners[i] = new Object();
+      connectionManager.bind(owners[i], new TestConnectionProvider());
+    }
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    connectionManager.stop();
+    connectionManager.dispose();
+    stopIfNeeded(lookupObject(muleContext, SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Object getConnection() throws ConnectionException {
+    Object owner = owners[ThreadLocalRandom.current().nextInt(configs)];
+    ConnectionHandler<Object> connectionHandler = connectionManager.getConnection(owner);
+    Object connection = connectionHandler.getConnection();
+    connectionHandler.release();
+    return connection;
+  }
+
+  private static class TestConnectionProvider implements CachedConnectionProvider<Object> {
+
+    @Override
+    public Object connect() {
+      return new Object();
+    }
+
+    @Override
+    public void disconnect(Object connection) {}
+
+    @Override
+    public ConnectionValidationResult validate(Object connection) {
+      return success();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.nio.charset.Charset.defaultCharset;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.util.compression.ParallelGZipCompression;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares compressing a large stream with the {@link GZipCompressTransformer} using its default strategy and using a
+ * {@link ParallelGZipCompression} on the CPU intensive scheduler.
+ */
+@OutputTimeUnit(MILLISECONDS)
+public class GZipCompressionBenchmark extends AbstractBenchmark {
+
+  @Param({"1", "64"})
+  public int sizeMb;
+
+  private MuleContext muleContext;
+  private Scheduler scheduler;
+  private GZipCompressTransformer transformer;
+  private GZipCompressTransformer parallelTransformer;
+  private byte[] data;
+  private final byte[] buffer = new byte[64 * 1024];
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    scheduler = muleContext.getSchedulerService().cpuIntensiveScheduler();
+
+    transformer = new GZipCompressTransformer();
+    parallelTransformer = new GZipCompressTransformer();
+    parallelTransformer.setStrategy(new ParallelGZipCompression(scheduler));
+
+    // Text-like data, so it compresses like a typical export would
+    Random random = new Random(0);
+    StringBuilder builder = new StringBuilder();
+    while (builder.length() < sizeMb * 1024 * 1024) {
+      builder.append("{\"id\": ").append(random.nextInt(1000000)).append(", \"name\": \"item\"}\n");
+    }
+    data = builder.toString().getBytes();
+  }
+
+  @TearDown
+  public void teardown() throws Exception {
+    scheduler.stop();
+    stopIfNeeded(muleContext.getSchedulerService());
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public long gzip() throws Exception {
+    return consume(transformer);
+  }
+
+  @Benchmark
+  public long parallelGzip() throws Exception {
+    return consume(parallelTransformer);
+  }
+
+  private long consume(GZipCompressTransformer transformer) throws Exception {
+    long compressedLength = 0;
+    try (InputStream compressed = (InputStream) transformer.doTransform(new ByteArrayInputStream(data), defaultCharset())) {
+      int count;
+      while ((count = compressed.read(buffer)) != -1) {
+        compressedLength += count;
+      }
+    }
+    return compressedLength;
+  }
+}
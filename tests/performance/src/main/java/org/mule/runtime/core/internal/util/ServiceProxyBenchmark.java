@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.Thread.currentThread;
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.internal.execution.ClassLoaderInjectorInvocationHandler.createClassLoaderInjectorInvocationHandler;
+
+import org.mule.AbstractBenchmark;
+import org.mule.runtime.container.internal.MetadataInvocationHandler;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures invoking a service through the proxies that wrap it, compared to calling it directly and through a proxy that invokes
+ * it reflectively.
+ */
+@OutputTimeUnit(NANOSECONDS)
+public class ServiceProxyBenchmark extends AbstractBenchmark {
+
+  private Calculator direct;
+  private Calculator reflective;
+  private Calculator metadata;
+  private Calculator classLoaderInjector;
+  private int value;
+
+  @Setup
+  public void setup() {
+    direct = new DefaultCalculator();
+    reflective = proxy((proxy, method, args) -> {
+      try {
+        return method.invoke(direct, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    });
+    metadata = proxy(new MetadataInvocationHandler<Calculator>(direct) {
+
+      @Override
+      public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        return doInvoke(proxy, method, args);
+      }
+    });
+    classLoaderInjector =
+        (Calculator) createClassLoaderInjectorInvocationHandler(direct, currentThread().getContextClassLoader());
+  }
+
+  private Calculator proxy(InvocationHandler handler) {
+    return (Calculator) newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Calculator.class}, handler);
+  }
+
+  @Benchmark
+  public int direct() {
+    return direct.add(value++, 1);
+  }
+
+  @Benchmark
+  public int reflective() {
+    return reflective.add(value++, 1);
+  }
+
+  @Benchmark
+  public int metadataInvocationHandler() {
+    return metadata.add(value++, 1);
+  }
+
+  @Benchmark
+  public int classLoaderInjectorInvocationHandler() {
+    return classLoaderInjector.add(value++, 1);
+  }
+
+  public interface Calculator {
+
+    int add(int a, int b);
+  }
+
+  public static class DefaultCalculator implements Calculator {
+
+    @Override
+    public int add(int a, int b) {
+      return a + b;
+    }
+  }
+}